@@ -9,20 +9,34 @@
  */
 package org.eclipse.hawkbit.artifact;
 
-import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
 import java.nio.file.Files;
-import java.security.DigestInputStream;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.artifact.exception.ArtifactStoreException;
+import org.eclipse.hawkbit.artifact.exception.ArtifactUploadOffsetMismatchException;
 import org.eclipse.hawkbit.artifact.exception.HashNotMatchException;
 import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
 import org.eclipse.hawkbit.artifact.model.StoredArtifactInfo;
@@ -30,55 +44,137 @@ import org.springframework.util.ObjectUtils;
 
 /**
  * Abstract utility class for ArtifactRepository implementations with common functionality, e.g. computation of hashes.
+ * <p/>
+ * The content is read once and written to a temp file while the SHA1, MD5 and SHA-256 hashes are computed in parallel. Then the
+ * temp file is passed to the implementation to be stored under its SHA1 hash.
+ * <p/>
+ * Partial (resumable) uploads are appended to a file per upload (see {@link #getPartialDirectory(String)}), while their hashes are
+ * computed, so they are written once, as the other uploads. The abandoned partial uploads expire after a day.
+ * <p/>
+ * The appends to a partial upload are serialized by a file lock, so that nodes sharing the partial directory can't append at the same
+ * offset - on shared storage this requires a file system which supports locks (e.g. NFSv4).
  */
 @Slf4j
 public abstract class AbstractArtifactStorage implements ArtifactStorage {
 
     private static final String TEMP_FILE_PREFIX = "tmp";
     private static final String TEMP_FILE_SUFFIX = "artifactrepo";
+    private static final int CHUNK_SIZE = 1024 * 1024;
+    // shared by all uploads, the digests are CPU bound, so there is no need of more threads than processors
+    private static final ExecutorService DIGEST_EXECUTOR = Executors.newFixedThreadPool(
+            Math.max(2, Runtime.getRuntime().availableProcessors()), new DigestThreadFactory());
+    private static final String PARTIAL_DIRECTORY = "hawkbit-partial-uploads";
+    private static final Duration PARTIAL_EXPIRY = Duration.ofDays(1);
+    // the upload ids are used as filenames
+    private static final Pattern VALID_UPLOAD_ID = Pattern.compile("[A-Za-z0-9_-]{1,128}");
+
+    private final Map<Path, PartialUpload> partialUploads = new ConcurrentHashMap<>();
 
-    // suppress warning, of not strong enough hashing algorithm, SHA-1 and MD5 is not used security related
-    @SuppressWarnings("squid:S2070")
     @Override
     public StoredArtifactInfo store(
             final String tenant, final InputStream content, final String filename, final String contentType,
             final ArtifactHashes providedHashes) {
-        final MessageDigest mdSHA1;
-        final MessageDigest mdMD5;
-        final MessageDigest mdSHA256;
-        try {
-            mdSHA1 = MessageDigest.getInstance("SHA1");
-            mdMD5 = MessageDigest.getInstance("MD5");
-            mdSHA256 = MessageDigest.getInstance("SHA-256");
-        } catch (final NoSuchAlgorithmException e) {
+        File tempFile = null;
+        try (content) {
+            tempFile = newTempFile(tenant);
+            final Digests digests = new Digests();
+            try (final OutputStream outputStream = new FileOutputStream(tempFile)) {
+                digests.digestAndWrite(content, outputStream);
+            }
+            return store(tenant, tempFile, digests, contentType, providedHashes);
+        } catch (final IOException e) {
             throw new ArtifactStoreException(e.getMessage(), e);
+        } finally {
+            if (!ObjectUtils.isEmpty(tempFile)) {
+                deleteTempFile(tempFile);
+            }
         }
+    }
 
-        File tempFile = null;
-        try (final DigestInputStream inputStream = wrapInDigestInputStream(content, mdSHA1, mdMD5, mdSHA256)) {
-            tempFile = storeTempFile(inputStream);
-            final HexFormat hexFormat = HexFormat.of().withLowerCase();
+    @Override
+    public long appendPartial(final String tenant, final String uploadId, final long offset, final InputStream content) {
+        try (content) {
+            final Path file = getPartialFile(tenant, uploadId);
+            if (offset == 0) {
+                deleteExpiredPartials(file.getParent());
+            }
+            final PartialUpload partial = partialUploads.computeIfAbsent(file, k -> new PartialUpload());
+            // the file lock is held by the JVM, so the threads of this node are serialized by the monitor
+            synchronized (partial) {
+                try (final FileChannel channel = FileChannel.open(
+                        file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                        final FileLock lock = channel.lock()) {
+                    final Digests digests = partial.digests(file, channel);
+                    if (offset != digests.size) {
+                        throw new ArtifactUploadOffsetMismatchException(offset, digests.size);
+                    }
+                    channel.position(offset);
+                    try {
+                        digests.digestAndWrite(content, Channels.newOutputStream(channel));
+                    } finally {
+                        // drops a partially written chunk (if any), so the file has always the digested content
+                        channel.truncate(digests.size);
+                    }
+                    return digests.size;
+                }
+            }
+        } catch (final IOException e) {
+            throw new ArtifactStoreException(e.getMessage(), e);
+        }
+    }
 
-            final String sha1Hash = hexFormat.formatHex(mdSHA1.digest());
-            final String md5Hash = hexFormat.formatHex(mdMD5.digest());
-            final String sha256Hash = hexFormat.formatHex(mdSHA256.digest());
+    @Override
+    public long getPartialSize(final String tenant, final String uploadId) {
+        try {
+            final Path file = getPartialFile(tenant, uploadId);
+            return Files.exists(file) ? Files.size(file) : 0;
+        } catch (final IOException e) {
+            throw new ArtifactStoreException(e.getMessage(), e);
+        }
+    }
 
-            checkHashes(providedHashes, sha1Hash, md5Hash, sha256Hash);
+    @Override
+    public StoredArtifactInfo storePartial(
+            final String tenant, final String uploadId, final String contentType, final ArtifactHashes providedHashes) {
+        final Path file;
+        try {
+            file = getPartialFile(tenant, uploadId);
+        } catch (final IOException e) {
+            throw new ArtifactStoreException(e.getMessage(), e);
+        }
+        final PartialUpload partial = partialUploads.computeIfAbsent(file, k -> new PartialUpload());
+        synchronized (partial) {
+            try {
+                if (!Files.exists(file)) {
+                    throw new ArtifactStoreException("Partial upload " + uploadId + " doesn't exist", null);
+                }
+                final Digests digests;
+                // not locked while stored, since the file is moved then (which could fail for open files, e.g. on Windows)
+                try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                        final FileLock lock = channel.lock()) {
+                    digests = partial.digests(file, channel);
+                }
+                return store(tenant, file.toFile(), digests, contentType, providedHashes);
+            } catch (final IOException e) {
+                throw new ArtifactStoreException(e.getMessage(), e);
+            } finally {
+                partialUploads.remove(file);
+                deleteTempFile(file.toFile());
+            }
+        }
+    }
 
-            final long fileSize = tempFile.length(); // store could change the file
-            final ArtifactHashes hashes = new ArtifactHashes(sha1Hash, md5Hash, sha256Hash);
-            // Check if file with same sha1 hash exists and if so return it
-            // TODO - if exists, shall we check if the file is really the same as bytes or just sha1 hash is the same
-            if (!existsBySha1(tenant, sha1Hash)) {
-                store(sanitizeTenant(tenant), hashes, contentType, tempFile);
+    @Override
+    public void deletePartial(final String tenant, final String uploadId) {
+        try {
+            final Path file = getPartialFile(tenant, uploadId);
+            final PartialUpload partial = partialUploads.computeIfAbsent(file, k -> new PartialUpload());
+            synchronized (partial) {
+                partialUploads.remove(file);
+                deleteTempFile(file.toFile());
             }
-            return new StoredArtifactInfo(contentType, fileSize, hashes);
         } catch (final IOException e) {
             throw new ArtifactStoreException(e.getMessage(), e);
-        } finally {
-            if (!ObjectUtils.isEmpty(tempFile)) {
-                deleteTempFile(tempFile);
-            }
         }
     }
 
@@ -94,13 +190,31 @@ public abstract class AbstractArtifactStorage implements ArtifactStorage {
         }
     }
 
-    protected File storeTempFile(final InputStream content) throws IOException {
-        final File file = createTempFile(false);
-        try (final OutputStream outputstream = new BufferedOutputStream(new FileOutputStream(file))) {
-            content.transferTo(outputstream);
-            outputstream.flush();
-        }
-        return file;
+    /**
+     * Creates the temp file the artifact is written to while its hashes are computed and which is then passed to
+     * {@link #store(String, ArtifactHashes, String, File)}. By default, it is created in the system temp directory. Implementations
+     * could override it in order to create it next to the final location, so that it could be just renamed (e.g. on the same
+     * file system) instead of copied.
+     *
+     * @param tenant the tenant
+     * @return a new empty temp file
+     * @throws IOException if the file couldn't be created
+     */
+    protected File newTempFile(final String tenant) throws IOException {
+        return createTempFile(false);
+    }
+
+    /**
+     * Returns the directory of the partial (resumable) uploads of a tenant. By default, it is a directory in the system temp
+     * directory. Implementations could override it in order to have the partial uploads next to the final location (see
+     * {@link #newTempFile(String)}) and / or on storage shared by all the nodes, so that an upload could be resumed via another node.
+     *
+     * @param tenant the tenant
+     * @return the (existing) directory
+     * @throws IOException if the directory couldn't be created
+     */
+    protected Path getPartialDirectory(final String tenant) throws IOException {
+        return Files.createDirectories(Path.of(System.getProperty("java.io.tmpdir"), PARTIAL_DIRECTORY, sanitizeTenant(tenant)));
     }
 
     protected abstract void store(
@@ -137,6 +251,41 @@ public abstract class AbstractArtifactStorage implements ArtifactStorage {
         }
     }
 
+    // suppress warning, of not strong enough hashing algorithm, SHA-1 and MD5 is not used security related
+    @SuppressWarnings("squid:S2070")
+    private StoredArtifactInfo store(
+            final String tenant, final File file, final Digests digests, final String contentType, final ArtifactHashes providedHashes)
+            throws IOException {
+        final ArtifactHashes hashes = digests.hashes();
+        checkHashes(providedHashes, hashes.sha1(), hashes.md5(), hashes.sha256());
+
+        // Check if file with same sha1 hash exists and if so return it
+        // TODO - if exists, shall we check if the file is really the same as bytes or just sha1 hash is the same
+        if (!existsBySha1(tenant, hashes.sha1())) {
+            store(sanitizeTenant(tenant), hashes, contentType, file);
+        }
+        return new StoredArtifactInfo(contentType, digests.size, hashes);
+    }
+
+    private Path getPartialFile(final String tenant, final String uploadId) throws IOException {
+        if (!VALID_UPLOAD_ID.matcher(uploadId).matches()) {
+            throw new IllegalArgumentException("Invalid upload id: " + uploadId);
+        }
+        return getPartialDirectory(tenant).resolve(uploadId);
+    }
+
+    // the abandoned partial uploads are deleted when a new one is started
+    private void deleteExpiredPartials(final Path directory) throws IOException {
+        final long expiredBefore = System.currentTimeMillis() - PARTIAL_EXPIRY.toMillis();
+        try (final Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> file.toFile().lastModified() < expiredBefore).forEach(file -> {
+                log.debug("Delete expired partial upload {}", file);
+                partialUploads.remove(file);
+                deleteTempFile(file.toFile());
+            });
+        }
+    }
+
     private static void checkHashes(
             final ArtifactHashes providedHashes, final String sha1Hash16, final String md5Hash16, final String sha256Hash16) {
         if (providedHashes == null) {
@@ -161,8 +310,92 @@ public abstract class AbstractArtifactStorage implements ArtifactStorage {
         return providedHashValue != null && !hashValue.equals(providedHashValue);
     }
 
-    private static DigestInputStream wrapInDigestInputStream(final InputStream input,
-            final MessageDigest mdSHA1, final MessageDigest mdMD5, final MessageDigest mdSHA256) {
-        return new DigestInputStream(new DigestInputStream(new DigestInputStream(input, mdSHA256), mdMD5), mdSHA1);
+    // the hashes and the size of the content written so far
+    private static class Digests {
+
+        private final MessageDigest mdSHA1;
+        private final MessageDigest mdMD5;
+        private final MessageDigest mdSHA256;
+        private long size;
+
+        // suppress warning, of not strong enough hashing algorithm, SHA-1 and MD5 is not used security related
+        @SuppressWarnings("squid:S2070")
+        private Digests() {
+            try {
+                mdSHA1 = MessageDigest.getInstance("SHA1");
+                mdMD5 = MessageDigest.getInstance("MD5");
+                mdSHA256 = MessageDigest.getInstance("SHA-256");
+            } catch (final NoSuchAlgorithmException e) {
+                throw new ArtifactStoreException(e.getMessage(), e);
+            }
+        }
+
+        // reads the content once in big chunks and, while the next chunk is read, computes the MD5 and SHA-256 of the previous one in
+        // parallel to the SHA1. The digests of a chunk are always completed before the next chunk is passed to them, so they are
+        // updated in order. Heap arrays are used since the digests work on arrays (direct buffers would be copied again).
+        // A chunk is digested only after it is written, so on failure the size is the one of the written and digested content.
+        private void digestAndWrite(final InputStream content, final OutputStream outputStream) throws IOException {
+            final byte[][] buffers = { new byte[CHUNK_SIZE], new byte[CHUNK_SIZE] };
+            CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+            try {
+                for (int i = 0; ; i++) {
+                    final byte[] buffer = buffers[i & 1];
+                    // the buffer is not used by the pending digests (they use the other one)
+                    final int read = content.readNBytes(buffer, 0, CHUNK_SIZE);
+                    pending.join();
+                    if (read == 0) {
+                        return;
+                    }
+
+                    outputStream.write(buffer, 0, read);
+                    pending = CompletableFuture.allOf(
+                            CompletableFuture.runAsync(() -> mdMD5.update(buffer, 0, read), DIGEST_EXECUTOR),
+                            CompletableFuture.runAsync(() -> mdSHA256.update(buffer, 0, read), DIGEST_EXECUTOR));
+                    mdSHA1.update(buffer, 0, read);
+                    size += read;
+                }
+            } finally {
+                pending.join();
+            }
+        }
+
+        private ArtifactHashes hashes() {
+            final HexFormat hexFormat = HexFormat.of().withLowerCase();
+            return new ArtifactHashes(
+                    hexFormat.formatHex(mdSHA1.digest()), hexFormat.formatHex(mdMD5.digest()), hexFormat.formatHex(mdSHA256.digest()));
+        }
+    }
+
+    // the digests of a partial upload are kept between the appends. They are recomputed (read only) from the file if they don't
+    // match it - e.g. after a restart or if the upload has been resumed via another node
+    private static class PartialUpload {
+
+        private Digests digests;
+
+        // reads via the locked channel, since other handles of the file could be blocked by the lock (e.g. on Windows)
+        private Digests digests(final Path file, final FileChannel channel) throws IOException {
+            final long fileSize = channel.size();
+            if (digests == null || digests.size != fileSize) {
+                log.debug("Compute the digests of partial upload {} ({} bytes)", file, fileSize);
+                digests = new Digests();
+                if (fileSize > 0) {
+                    // the stream is not closed, it would close the channel
+                    digests.digestAndWrite(Channels.newInputStream(channel.position(0)), OutputStream.nullOutputStream());
+                }
+            }
+            return digests;
+        }
+    }
+
+    private static class DigestThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final Thread thread = new Thread(runnable, "artifact-digest-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties for the artifact read cache (see {@link CachingArtifactStorage}).
+ */
+@Data
+@ConfigurationProperties("org.eclipse.hawkbit.artifact.cache")
+public class ArtifactCacheProperties {
+
+    /**
+     * Set to <code>true</code> to cache hot artifacts (off-heap) in front of the artifact storage.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum (off-heap) memory used by the cached artifacts. Note that the direct memory limit of the JVM
+     * (<code>-XX:MaxDirectMemorySize</code>) shall allow it.
+     */
+    private DataSize maxSize = DataSize.ofGigabytes(1);
+
+    /**
+     * Maximum size of a single artifact to be cached, bigger ones are always read from the storage.
+     */
+    private DataSize maxEntrySize = DataSize.ofMegabytes(256);
+
+    /**
+     * Number of reads of an artifact after which it is loaded into the cache. With <code>1</code> every read artifact is cached.
+     */
+    private int admitAfter = 2;
+
+    /**
+     * Time after the last read when an artifact is evicted from the cache.
+     */
+    private Duration expireAfterAccess = Duration.ofHours(1);
+}
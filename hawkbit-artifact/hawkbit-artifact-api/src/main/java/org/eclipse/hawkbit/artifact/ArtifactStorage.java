@@ -16,6 +16,7 @@ import jakarta.validation.constraints.NotNull;
 
 import org.eclipse.hawkbit.artifact.exception.ArtifactBinaryNotFoundException;
 import org.eclipse.hawkbit.artifact.exception.ArtifactStoreException;
+import org.eclipse.hawkbit.artifact.exception.ArtifactUploadOffsetMismatchException;
 import org.eclipse.hawkbit.artifact.exception.HashNotMatchException;
 import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
 import org.eclipse.hawkbit.artifact.model.StoredArtifactInfo;
@@ -42,9 +43,70 @@ public interface ArtifactStorage {
             @NotEmpty String tenant, @NotNull InputStream content, @NotEmpty String filename,
             String contentType, ArtifactHashes hash);
 
+    /**
+     * Appends content to a partial (resumable) upload. The content shall start at the end of the already uploaded content. If reading
+     * the content fails (e.g. a dropped connection) the content received till then is kept, so the upload could be resumed from the
+     * size returned by {@link #getPartialSize(String, String)}. The hashes are computed while the content is written, so it is
+     * written to disk once and not read again on {@link #storePartial(String, String, String, ArtifactHashes)}.
+     *
+     * @param tenant the tenant
+     * @param uploadId the id of the upload, chosen by the caller (e.g. for the target artifact), shall be usable as filename
+     * @param offset the offset of the content, i.e. the size of the already uploaded content
+     * @param content the content to append
+     * @return the size of the uploaded content after appending
+     * @throws UnsupportedOperationException if implementation does not support the operation
+     * @throws ArtifactUploadOffsetMismatchException if the offset doesn't match the size of the already uploaded content
+     * @throws ArtifactStoreException in case reading or storing of the content was not successful
+     */
+    default long appendPartial(@NotEmpty String tenant, @NotEmpty String uploadId, long offset, @NotNull InputStream content) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Returns the size of the already uploaded content of a partial upload.
+     *
+     * @param tenant the tenant
+     * @param uploadId the id of the upload
+     * @return the size of the uploaded content, 0 if there is no such upload
+     * @throws UnsupportedOperationException if implementation does not support the operation
+     */
+    default long getPartialSize(@NotEmpty String tenant, @NotEmpty String uploadId) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Completes a partial upload and stores its content as artifact (as {@link #store(String, InputStream, String, String, ArtifactHashes)}
+     * does). The partial upload is removed, also if the hashes don't match.
+     *
+     * @param tenant the tenant
+     * @param uploadId the id of the upload
+     * @param contentType the content type of the artifact
+     * @param hash the hashes of the artifact to do hash-checks, might be {@code null}
+     * @return the stored artifact
+     * @throws UnsupportedOperationException if implementation does not support the operation
+     * @throws ArtifactStoreException in case storing of the artifact was not successful
+     * @throws HashNotMatchException in case {@code hash} is provided and not matching to the calculated hashes
+     */
+    default StoredArtifactInfo storePartial(@NotEmpty String tenant, @NotEmpty String uploadId, String contentType, ArtifactHashes hash) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Deletes a partial upload, if exists.
+     *
+     * @param tenant the tenant
+     * @param uploadId the id of the upload
+     */
+    default void deletePartial(@NotEmpty String tenant, @NotEmpty String uploadId) {
+        // nothing to delete if partial uploads are not supported
+    }
+
     /**
      * Retrieves a {@link StoredArtifactInfo} from the store by its SHA1 hash. Throws {@link ArtifactBinaryNotFoundException} if not found.
      * The caller is responsible to close the InputStream.
+     * <p/>
+     * Storages that keep the artifacts in local files could return a {@link org.eclipse.hawkbit.artifact.model.FileChannelInputStream},
+     * which allows zero-copy downloads.
      *
      * @param tenant the tenant to store the artifact
      * @param sha1Hash the sha1-hash of the file to lookup.
@@ -0,0 +1,315 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.artifact.exception.ArtifactStoreException;
+import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
+import org.eclipse.hawkbit.artifact.model.FileChannelInputStream;
+import org.eclipse.hawkbit.artifact.model.StoredArtifactInfo;
+
+/**
+ * An {@link ArtifactStorage} that caches hot artifacts of another (any) {@link ArtifactStorage} in off-heap memory, so that
+ * downloads of the same artifacts by many devices (e.g. during a rollout) don't hit the storage (disk, network volume) at all.
+ * <p/>
+ * The cache is bounded by the total size of the cached artifacts. Artifacts are loaded into the cache after they are read
+ * {@link ArtifactCacheProperties#getAdmitAfter()} times and the eviction uses the Caffeine W-TinyLFU policy, so rarely read
+ * artifacts don't push out the hot ones. The streams of the cached artifacts support skipping without reading, i.e. range
+ * requests are served directly from memory.
+ * <p/>
+ * Artifacts are loaded directly into the off-heap buffers - file backed ones (served as {@link FileChannelInputStream}) with
+ * positional channel reads. Artifacts which are not (yet) cached are served by the stream of the storage, so file backed ones keep
+ * the sendfile / channel transfer path on a miss. Artifacts bigger than {@link ArtifactCacheProperties#getMaxEntrySize()} are not
+ * cached. This is found out when the artifact is admitted (for file backed ones by the file size, without reading) and remembered,
+ * so these artifacts are read from the storage once per download - the stream opened by the admission is returned to the caller.
+ * <p/>
+ * Deletes invalidate the cached artifacts. Since artifacts are stored by SHA1 (content), a cached artifact could never be stale,
+ * it could only still be served (until expiry) by other nodes after it has been deleted.
+ * <p/>
+ * Metrics: <code>hawkbit.artifact.cache</code> counter with <code>result</code> tag <code>hit</code> / <code>miss</code> and
+ * <code>hawkbit.artifact.cache.size</code> gauge with the resident bytes.
+ */
+@Slf4j
+public class CachingArtifactStorage implements ArtifactStorage {
+
+    private static final int INITIAL_BUFFER_SIZE = 1024 * 1024;
+
+    private final ArtifactStorage delegate;
+    private final long maxEntrySize;
+    private final int admitAfter;
+
+    private final Cache<Key, ByteBuffer> cache;
+    // read counts of not yet cached artifacts, for the admission
+    private final Cache<Key, AtomicInteger> candidates;
+    // artifacts known to be too big to be cached, so that they are not loaded again on every admission
+    private final Cache<Key, Boolean> uncacheable;
+
+    private final Optional<Counter> hitCounter;
+    private final Optional<Counter> missCounter;
+
+    public CachingArtifactStorage(
+            final ArtifactStorage delegate, final ArtifactCacheProperties properties, final Optional<MeterRegistry> meterRegistry) {
+        this.delegate = delegate;
+        // direct buffers are limited to Integer.MAX_VALUE (and one byte more is read to find out that an artifact is bigger)
+        maxEntrySize = Math.min(properties.getMaxEntrySize().toBytes(), Integer.MAX_VALUE - 1L);
+        admitAfter = Math.max(1, properties.getAdmitAfter());
+
+        cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .<Key, ByteBuffer> weigher((key, buffer) -> buffer.capacity())
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .build();
+        candidates = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .build();
+        uncacheable = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterAccess(properties.getExpireAfterAccess())
+                .build();
+
+        meterRegistry.ifPresent(mReg -> Gauge.builder("hawkbit.artifact.cache.size", cache,
+                        c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                .description("Resident bytes of the cached artifacts")
+                .baseUnit("bytes")
+                .register(mReg));
+        hitCounter = meterRegistry.map(mReg -> mReg.counter("hawkbit.artifact.cache", "result", "hit"));
+        missCounter = meterRegistry.map(mReg -> mReg.counter("hawkbit.artifact.cache", "result", "miss"));
+    }
+
+    @Override
+    public StoredArtifactInfo store(
+            final String tenant, final InputStream content, final String filename, final String contentType, final ArtifactHashes hash) {
+        return delegate.store(tenant, content, filename, contentType, hash);
+    }
+
+    @Override
+    public long appendPartial(final String tenant, final String uploadId, final long offset, final InputStream content) {
+        return delegate.appendPartial(tenant, uploadId, offset, content);
+    }
+
+    @Override
+    public long getPartialSize(final String tenant, final String uploadId) {
+        return delegate.getPartialSize(tenant, uploadId);
+    }
+
+    @Override
+    public StoredArtifactInfo storePartial(
+            final String tenant, final String uploadId, final String contentType, final ArtifactHashes hash) {
+        return delegate.storePartial(tenant, uploadId, contentType, hash);
+    }
+
+    @Override
+    public void deletePartial(final String tenant, final String uploadId) {
+        delegate.deletePartial(tenant, uploadId);
+    }
+
+    @Override
+    public InputStream getBySha1(final String tenant, final String sha1Hash) {
+        final Key key = new Key(tenant.trim().toUpperCase(), sha1Hash);
+        ByteBuffer buffer = cache.getIfPresent(key);
+        final InputStream[] notCached = new InputStream[1];
+        if (buffer == null && uncacheable.getIfPresent(key) == null && admit(key)) {
+            // concurrent reads of the same artifact wait for a single load
+            buffer = cache.get(key, k -> load(k, tenant, sha1Hash, notCached));
+        }
+
+        if (buffer == null) {
+            missCounter.ifPresent(Counter::increment);
+            // the stream opened by a failed load (if done by this thread) is reused - so the artifact is not read twice
+            return notCached[0] == null ? delegate.getBySha1(tenant, sha1Hash) : notCached[0];
+        } else {
+            hitCounter.ifPresent(Counter::increment);
+            // own position per stream, content is shared
+            return new ByteBufferInputStream(buffer.duplicate());
+        }
+    }
+
+    @Override
+    public boolean existsBySha1(final String tenant, final String sha1Hash) {
+        return delegate.existsBySha1(tenant, sha1Hash);
+    }
+
+    @Override
+    public void deleteBySha1(final String tenant, final String sha1Hash) {
+        final Key key = new Key(tenant.trim().toUpperCase(), sha1Hash);
+        cache.invalidate(key);
+        candidates.invalidate(key);
+        uncacheable.invalidate(key);
+        delegate.deleteBySha1(tenant, sha1Hash);
+    }
+
+    @Override
+    public void deleteByTenant(final String tenant) {
+        final String sanitizedTenant = tenant.trim().toUpperCase();
+        cache.asMap().keySet().removeIf(key -> key.tenant().equals(sanitizedTenant));
+        candidates.asMap().keySet().removeIf(key -> key.tenant().equals(sanitizedTenant));
+        uncacheable.asMap().keySet().removeIf(key -> key.tenant().equals(sanitizedTenant));
+        delegate.deleteByTenant(tenant);
+    }
+
+    private boolean admit(final Key key) {
+        if (admitAfter == 1) {
+            return true;
+        }
+        final AtomicInteger reads = candidates.get(key, k -> new AtomicInteger());
+        if (reads.incrementAndGet() >= admitAfter) {
+            candidates.invalidate(key);
+            return true;
+        }
+        return false;
+    }
+
+    // returns null if the artifact is too big to be cached - then nothing is cached, the artifact is marked as uncacheable and the
+    // stream to read it (from the beginning) is returned in notCached
+    private ByteBuffer load(final Key key, final String tenant, final String sha1Hash, final InputStream[] notCached) {
+        final InputStream inputStream = delegate.getBySha1(tenant, sha1Hash);
+        try {
+            if (inputStream instanceof FileChannelInputStream fileChannelInputStream) {
+                final ByteBuffer buffer = read(fileChannelInputStream);
+                if (buffer == null) {
+                    // nothing read yet, the stream keeps the sendfile / channel transfer path
+                    return notCached(key, tenant, sha1Hash, inputStream, notCached);
+                }
+                return cached(tenant, sha1Hash, inputStream, buffer);
+            }
+
+            final ByteBuffer buffer = read(inputStream);
+            if (buffer.remaining() > maxEntrySize) {
+                // the read part is pushed back in front of the rest
+                return notCached(
+                        key, tenant, sha1Hash, new SequenceInputStream(new ByteBufferInputStream(buffer), inputStream), notCached);
+            }
+            return cached(tenant, sha1Hash, inputStream, buffer);
+        } catch (final IOException e) {
+            closeQuietly(inputStream);
+            throw new ArtifactStoreException("Failed to load artifact " + sha1Hash + " into the cache", e);
+        }
+    }
+
+    private ByteBuffer cached(final String tenant, final String sha1Hash, final InputStream inputStream, final ByteBuffer buffer)
+            throws IOException {
+        inputStream.close();
+        log.debug("Artifact {} of tenant {} ({} bytes) loaded into the cache", sha1Hash, tenant, buffer.capacity());
+        return buffer.asReadOnlyBuffer();
+    }
+
+    private ByteBuffer notCached(
+            final Key key, final String tenant, final String sha1Hash, final InputStream inputStream, final InputStream[] notCached) {
+        log.debug("Artifact {} of tenant {} is bigger than {} bytes, not cached", sha1Hash, tenant, maxEntrySize);
+        uncacheable.put(key, Boolean.TRUE);
+        notCached[0] = inputStream;
+        return null;
+    }
+
+    // the size is known, so the file is read directly into a buffer of that size - with positional reads, so the stream is not moved.
+    // Returns null if the file is too big
+    private ByteBuffer read(final FileChannelInputStream inputStream) throws IOException {
+        final FileChannel channel = inputStream.getChannel();
+        final long size = channel.size();
+        if (size > maxEntrySize) {
+            return null;
+        }
+
+        final ByteBuffer buffer = ByteBuffer.allocateDirect((int) size);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, buffer.position()) < 0) {
+                throw new EOFException("Artifact file " + inputStream.getPath() + " is truncated");
+            }
+        }
+        return buffer.flip();
+    }
+
+    // the size is unknown, so the stream is read into a direct buffer which grows (off-heap) until the end of the stream or until it
+    // exceeds the max entry size
+    private ByteBuffer read(final InputStream inputStream) throws IOException {
+        final ReadableByteChannel channel = Channels.newChannel(inputStream);
+        ByteBuffer buffer = ByteBuffer.allocateDirect((int) Math.min(INITIAL_BUFFER_SIZE, maxEntrySize + 1));
+        while (channel.read(buffer) >= 0) {
+            if (!buffer.hasRemaining()) {
+                if (buffer.capacity() > maxEntrySize) {
+                    return buffer.flip();
+                }
+                buffer = ByteBuffer.allocateDirect((int) Math.min(2L * buffer.capacity(), maxEntrySize + 1)).put(buffer.flip());
+            }
+        }
+        buffer.flip();
+        // don't keep the unused capacity
+        return buffer.remaining() == buffer.capacity() ? buffer : ByteBuffer.allocateDirect(buffer.remaining()).put(buffer).flip();
+    }
+
+    private static void closeQuietly(final InputStream inputStream) {
+        try {
+            inputStream.close();
+        } catch (final IOException e) {
+            log.debug("Failed to close artifact stream", e);
+        }
+    }
+
+    private record Key(String tenant, String sha1) {}
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final int read = Math.min(len, buffer.remaining());
+            buffer.get(b, off, read);
+            return read;
+        }
+
+        @Override
+        public long skip(final long n) {
+            if (n <= 0) {
+                return 0;
+            }
+            final int skipped = (int) Math.min(n, buffer.remaining());
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
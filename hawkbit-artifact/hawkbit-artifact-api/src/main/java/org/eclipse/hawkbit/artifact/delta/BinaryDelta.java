@@ -0,0 +1,288 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.delta;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Binary delta (diff) encoding in the style of xdelta / rsync. The source (base) is indexed by a fingerprint of its blocks and the
+ * target is scanned with a rolling hash, so the matches are found at any target offset. Matches are extended in both directions,
+ * so the delta consists of copies of (arbitrary long) source ranges and literal target bytes.
+ * <p/>
+ * Format (big-endian):
+ * <pre>
+ * int magic, byte version, long source size, long target size
+ * ops: COPY (1) varlong source offset, varlong length | ADD (2) varlong length, bytes | END (0)
+ * </pre>
+ * The source size is included, so applying a delta to a wrong base is detected (besides by the hashes of the result).
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BinaryDelta {
+
+    private static final int MAGIC = 0x48424446; // HBDF
+    private static final byte VERSION = 1;
+    private static final byte END = 0;
+    private static final byte COPY = 1;
+    private static final byte ADD = 2;
+
+    private static final int MIN_BLOCK_SIZE = 16;
+    // bounds the source index to 2M blocks (32 MB), for bigger sources the blocks get bigger
+    private static final int MAX_BLOCKS = 2 * 1024 * 1024;
+    private static final int HASH_MULTIPLIER = 0x01000193;
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Encodes the delta from the source to the target. The buffers are read with absolute positions, so they could be shared
+     * (e.g. memory mapped files).
+     *
+     * @param source the source (base) content
+     * @param target the target content
+     * @param delta the stream to write the delta to, not closed
+     * @throws IOException if writing the delta fails
+     */
+    public static void encode(final ByteBuffer source, final ByteBuffer target, final OutputStream delta) throws IOException {
+        final DataOutputStream out = new DataOutputStream(new BufferedOutputStream(delta, COPY_BUFFER_SIZE));
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeLong(source.limit());
+        out.writeLong(target.limit());
+
+        final int sourceSize = source.limit();
+        final int targetSize = target.limit();
+        final int blockSize = blockSize(sourceSize);
+        final SourceIndex index = new SourceIndex(source, blockSize);
+        final int power = power(blockSize);
+
+        int literalStart = 0;
+        int position = 0;
+        int hash = targetSize >= blockSize ? hash(target, 0, blockSize) : 0;
+        while (position + blockSize <= targetSize) {
+            int sourceOffset = index.find(hash);
+            if (sourceOffset >= 0 && equal(source, sourceOffset, target, position, blockSize)) {
+                int targetOffset = position;
+                // extend backwards into the pending literals
+                while (targetOffset > literalStart && sourceOffset > 0 && source.get(sourceOffset - 1) == target.get(targetOffset - 1)) {
+                    targetOffset--;
+                    sourceOffset--;
+                }
+                int length = position - targetOffset + blockSize;
+                // extend forwards
+                while (targetOffset + length < targetSize && sourceOffset + length < sourceSize
+                        && source.get(sourceOffset + length) == target.get(targetOffset + length)) {
+                    length++;
+                }
+
+                writeAdd(out, target, literalStart, targetOffset - literalStart);
+                out.writeByte(COPY);
+                writeVarLong(out, sourceOffset);
+                writeVarLong(out, length);
+
+                position = targetOffset + length;
+                literalStart = position;
+                if (position + blockSize <= targetSize) {
+                    hash = hash(target, position, blockSize);
+                }
+            } else {
+                if (position + blockSize < targetSize) {
+                    hash = (hash - (target.get(position) & 0xFF) * power) * HASH_MULTIPLIER + (target.get(position + blockSize) & 0xFF);
+                }
+                position++;
+            }
+        }
+        writeAdd(out, target, literalStart, targetSize - literalStart);
+        out.writeByte(END);
+        out.flush();
+    }
+
+    /**
+     * Applies a delta to the source and writes the result.
+     *
+     * @param source the source (base) content the delta is encoded for
+     * @param delta the delta
+     * @param target the stream to write the result to, not closed
+     * @return the size of the result
+     * @throws IOException if the delta is invalid, it is not for this source or the reading / writing fails
+     */
+    public static long apply(final ByteBuffer source, final InputStream delta, final OutputStream target) throws IOException {
+        final DataInputStream in = new DataInputStream(delta);
+        if (in.readInt() != MAGIC || in.readByte() != VERSION) {
+            throw new IOException("Not a (supported) delta");
+        }
+        if (in.readLong() != source.limit()) {
+            throw new IOException("The delta is not for this source (size mismatch)");
+        }
+        final long targetSize = in.readLong();
+
+        final byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        long written = 0;
+        for (byte op = in.readByte(); op != END; op = in.readByte()) {
+            if (op == COPY) {
+                final long offset = readVarLong(in);
+                final long length = readVarLong(in);
+                if (offset < 0 || length < 0 || offset + length > source.limit()) {
+                    throw new IOException("Invalid copy range " + offset + " + " + length);
+                }
+                for (long copied = 0; copied < length; ) {
+                    final int chunk = (int) Math.min(buffer.length, length - copied);
+                    source.get((int) (offset + copied), buffer, 0, chunk);
+                    target.write(buffer, 0, chunk);
+                    copied += chunk;
+                }
+                written += length;
+            } else if (op == ADD) {
+                final long length = readVarLong(in);
+                for (long copied = 0; copied < length; ) {
+                    final int chunk = (int) Math.min(buffer.length, length - copied);
+                    in.readFully(buffer, 0, chunk);
+                    target.write(buffer, 0, chunk);
+                    copied += chunk;
+                }
+                written += length;
+            } else {
+                throw new IOException("Invalid delta operation " + op);
+            }
+        }
+        if (written != targetSize) {
+            throw new IOException("Invalid delta, result size " + written + " instead of " + targetSize);
+        }
+        return written;
+    }
+
+    private static int blockSize(final int sourceSize) {
+        int blockSize = MIN_BLOCK_SIZE;
+        while ((long) sourceSize / blockSize > MAX_BLOCKS) {
+            blockSize <<= 1;
+        }
+        return blockSize;
+    }
+
+    // HASH_MULTIPLIER ^ (blockSize - 1), the weight of the byte leaving the window
+    private static int power(final int blockSize) {
+        int power = 1;
+        for (int i = 1; i < blockSize; i++) {
+            power *= HASH_MULTIPLIER;
+        }
+        return power;
+    }
+
+    private static int hash(final ByteBuffer buffer, final int offset, final int length) {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = hash * HASH_MULTIPLIER + (buffer.get(offset + i) & 0xFF);
+        }
+        return hash;
+    }
+
+    private static boolean equal(final ByteBuffer a, final int aOffset, final ByteBuffer b, final int bOffset, final int length) {
+        if (aOffset + length > a.limit()) {
+            return false;
+        }
+        return a.slice(aOffset, length).equals(b.slice(bOffset, length));
+    }
+
+    private static void writeAdd(final DataOutputStream out, final ByteBuffer target, final int offset, final int length)
+            throws IOException {
+        if (length == 0) {
+            return;
+        }
+        out.writeByte(ADD);
+        writeVarLong(out, length);
+        final byte[] buffer = new byte[Math.min(length, COPY_BUFFER_SIZE)];
+        for (int written = 0; written < length; ) {
+            final int chunk = Math.min(buffer.length, length - written);
+            target.get(offset + written, buffer, 0, chunk);
+            out.write(buffer, 0, chunk);
+            written += chunk;
+        }
+    }
+
+    private static void writeVarLong(final DataOutputStream out, final long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.writeByte((int) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    private static long readVarLong(final DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Invalid varlong");
+    }
+
+    // open addressing hash table of the block hashes of the source, keeps the first block per hash
+    private static class SourceIndex {
+
+        private final int[] table; // block index + 1, 0 - empty
+        private final int[] hashes;
+        private final int mask;
+        private final int blockSize;
+
+        private SourceIndex(final ByteBuffer source, final int blockSize) {
+            this.blockSize = blockSize;
+            final int blocks = source.limit() / blockSize;
+            final int capacity = Integer.highestOneBit(Math.max(1, blocks) * 2 - 1) << 1;
+            table = new int[capacity];
+            hashes = new int[capacity];
+            mask = capacity - 1;
+            for (int block = 0; block < blocks; block++) {
+                final int hash = hash(source, block * blockSize, blockSize);
+                int slot = mix(hash) & mask;
+                while (table[slot] != 0) {
+                    if (hashes[slot] == hash) {
+                        break;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                if (table[slot] == 0) {
+                    table[slot] = block + 1;
+                    hashes[slot] = hash;
+                }
+            }
+        }
+
+        // returns the source offset of the block with the given hash or -1
+        private int find(final int hash) {
+            int slot = mix(hash) & mask;
+            while (table[slot] != 0) {
+                if (hashes[slot] == hash) {
+                    return (table[slot] - 1) * blockSize;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        private static int mix(final int hash) {
+            final int h = hash * 0x9E3779B1;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.exception;
+
+import java.io.Serial;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.eclipse.hawkbit.exception.AbstractServerRtException;
+import org.eclipse.hawkbit.exception.SpServerError;
+
+/**
+ * Thrown if the content of a part of a resumable upload is shorter or longer than the declared length of the part.
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public final class ArtifactUploadLengthMismatchException extends AbstractServerRtException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public ArtifactUploadLengthMismatchException(final long length) {
+        super(SpServerError.SP_ARTIFACT_UPLOAD_LENGTH_MISMATCH, "Part content does not match the part length " + length);
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.exception;
+
+import java.io.Serial;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.eclipse.hawkbit.exception.AbstractServerRtException;
+import org.eclipse.hawkbit.exception.SpServerError;
+
+/**
+ * Thrown if a part of a resumable upload doesn't start at the end of the already uploaded content.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public final class ArtifactUploadOffsetMismatchException extends AbstractServerRtException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The size of the already uploaded content, i.e. the offset the upload shall be resumed from.
+     */
+    private final long offset;
+
+    public ArtifactUploadOffsetMismatchException(final long requestedOffset, final long offset) {
+        super(SpServerError.SP_ARTIFACT_UPLOAD_OFFSET_MISMATCH,
+                "Part offset " + requestedOffset + " does not match the uploaded content size " + offset);
+        this.offset = offset;
+    }
+}
@@ -11,6 +11,7 @@ package org.eclipse.hawkbit.artifact.model;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Optional;
 
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -34,6 +35,18 @@ public class ArtifactStream extends InputStream {
         this.sha1Hash = sha1Hash;
     }
 
+    /**
+     * Returns the underlying file stream if the artifact is stored (unencrypted) in a local file, i.e. it could be served
+     * without copying the content through the heap.
+     *
+     * @return the file channel input stream, if the artifact is backed by a local file
+     */
+    public Optional<FileChannelInputStream> getFileChannelInputStream() {
+        return inputStream instanceof FileChannelInputStream fileChannelInputStream
+                ? Optional.of(fileChannelInputStream)
+                : Optional.empty();
+    }
+
     @Override
     public int read() throws IOException {
         return inputStream.read();
@@ -44,6 +57,16 @@ public class ArtifactStream extends InputStream {
         return inputStream.read(b, off, len);
     }
 
+    @Override
+    public long skip(final long n) throws IOException {
+        return inputStream.skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return inputStream.available();
+    }
+
     @Override
     public void close() throws IOException {
         inputStream.close();
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.model;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import lombok.Getter;
+
+/**
+ * An {@link InputStream} of an artifact stored (unencrypted) in a local file. Besides the sequential reading it exposes the file
+ * {@link #getPath() path} and a seekable {@link #getChannel() channel}, so that downloads could be served with positional reads
+ * or by the container (e.g. sendfile) without copying the content through the heap.
+ * <p/>
+ * Note: the positional reads of the channel don't change the position of the stream.
+ */
+public class FileChannelInputStream extends InputStream {
+
+    @Getter
+    private final Path path;
+    @Getter
+    private final FileChannel channel;
+    private final InputStream inputStream;
+
+    public FileChannelInputStream(final Path path) throws IOException {
+        this.path = path;
+        channel = FileChannel.open(path, StandardOpenOption.READ);
+        inputStream = new BufferedInputStream(Channels.newInputStream(channel));
+    }
+
+    @Override
+    public int read() throws IOException {
+        return inputStream.read();
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        return inputStream.read(b, off, len);
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        return inputStream.skip(n);
+    }
+
+    @Override
+    public int available() throws IOException {
+        return inputStream.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // closes the channel too
+        inputStream.close();
+    }
+}
@@ -10,6 +10,7 @@
 package org.eclipse.hawkbit.artifact.urlresolver;
 
 import java.net.URI;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -57,6 +58,21 @@ public interface ArtifactUrlResolver {
      */
     List<ArtifactUrl> getUrls(DownloadDescriptor downloadDescriptor, ApiType api, URI requestUri);
 
+    /**
+     * Returns generated download URLs of the binary delta of an artifact from a base artifact. Resolvers that don't support deltas
+     * (the default) return no URLs, then the deltas are not offered to the devices.
+     *
+     * @param downloadDescriptor data for URL generation, of the (target) artifact
+     * @param baseSha1 the SHA1 hash of the base artifact the delta is to be applied on
+     * @param api given protocol that URL needs to support
+     * @param requestUri of the request that allows the handler to align the generated URL to the original request, might be
+     *         {@code null}
+     * @return the URLs of the delta for the given artifact parameters in a given protocol
+     */
+    default List<ArtifactUrl> getDeltaUrls(DownloadDescriptor downloadDescriptor, String baseSha1, ApiType api, URI requestUri) {
+        return Collections.emptyList();
+    }
+
     /**
      * Container for variables available to the {@link ArtifactUrlResolver}.
      */
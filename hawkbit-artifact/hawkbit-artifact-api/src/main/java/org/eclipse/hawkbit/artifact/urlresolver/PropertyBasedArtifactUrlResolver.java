@@ -38,6 +38,10 @@ import org.springframework.util.StringUtils;
  * Default (MD5SUM files):
  * {protocol}://{hostname}:{port}{contextPath}/{tenant}/controller/v1/{controllerId}/
  * softwaremodules/{softwareModuleId}/artifacts/{artifactFileName}.MD5SUM
+ * <p/>
+ * Default (binary deltas):
+ * {protocol}://{hostname}:{port}{contextPath}/{tenant}/controller/v1/{controllerId}/
+ * softwaremodules/{softwareModuleId}/artifacts/{artifactFileName}.DELTA?base={deltaBaseSHA1}
  */
 public class PropertyBasedArtifactUrlResolver implements ArtifactUrlResolver {
 
@@ -55,8 +59,11 @@ public class PropertyBasedArtifactUrlResolver implements ArtifactUrlResolver {
     private static final String SOFTWARE_MODULE_ID_PLACEHOLDER = "softwareModuleId";
     private static final String ARTIFACT_FILENAME_PLACEHOLDER = "artifactFileName";
     private static final String ARTIFACT_SHA1_PLACEHOLDER = "artifactSHA1";
+    private static final String DELTA_BASE_SHA1_PLACEHOLDER = "deltaBaseSHA1";
     // by default, we download via the controller / DDI API download endpoint
     static final String DEFAULT_URL_PROTOCOL_REF = "{" + PROTOCOL_REQUEST_PLACEHOLDER + "}://{" + HOSTNAME_REQUEST_PLACEHOLDER + "}:{" + PORT_REQUEST_PLACEHOLDER + "}{" + CONTEXT_PATH + "}/{" + TENANT_PLACEHOLDER + "}/controller/v1/{" + CONTROLLER_ID_PLACEHOLDER + "}/softwaremodules/{" + SOFTWARE_MODULE_ID_PLACEHOLDER + "}/artifacts/{" + ARTIFACT_FILENAME_PLACEHOLDER + "}";
+    // the binary delta download via the controller / DDI API download endpoint
+    static final String DEFAULT_DELTA_URL_PROTOCOL_REF = DEFAULT_URL_PROTOCOL_REF + ".DELTA?base={" + DELTA_BASE_SHA1_PLACEHOLDER + "}";
 
     private final PropertyBasedArtifactUrlResolverProperties urlHandlerProperties;
     private final String contextPath;
@@ -80,13 +87,35 @@ public class PropertyBasedArtifactUrlResolver implements ArtifactUrlResolver {
                 .filter(urlProtocol -> urlProtocol.isEnabled() && urlProtocol.getSupports().contains(api))
                 .map(urlProtocol -> new ArtifactUrl(
                         urlProtocol.getProtocol().toUpperCase(), urlProtocol.getRel(),
-                        generateUrl(urlProtocol, downloadDescriptor, requestUri)))
+                        generateUrl(urlProtocol, urlProtocol.getRef(), downloadDescriptor, null, requestUri)))
                 .toList();
     }
 
-    private String generateUrl(final UrlProtocol protocol, final DownloadDescriptor placeholder, final URI requestUri) {
-        final Set<Entry<String, String>> entrySet = getReplaceMap(protocol, placeholder, requestUri).entrySet();
-        String urlPattern = protocol.getRef();
+    @Override
+    public List<ArtifactUrl> getDeltaUrls(
+            final DownloadDescriptor downloadDescriptor, final String baseSha1, final ApiType api, final URI requestUri) {
+        return urlHandlerProperties.getProtocols().values().stream()
+                .filter(urlProtocol -> urlProtocol.isEnabled() && urlProtocol.getSupports().contains(api))
+                .filter(urlProtocol -> getDeltaRef(urlProtocol) != null)
+                .map(urlProtocol -> new ArtifactUrl(
+                        urlProtocol.getProtocol().toUpperCase(), urlProtocol.getRel(),
+                        generateUrl(urlProtocol, getDeltaRef(urlProtocol), downloadDescriptor, baseSha1, requestUri)))
+                .toList();
+    }
+
+    // custom ref patterns (e.g. of a CDN) are not known to serve deltas - they have to be configured explicitly
+    private static String getDeltaRef(final UrlProtocol protocol) {
+        if (protocol.getDeltaRef() != null) {
+            return protocol.getDeltaRef();
+        }
+        return DEFAULT_URL_PROTOCOL_REF.equals(protocol.getRef()) ? DEFAULT_DELTA_URL_PROTOCOL_REF : null;
+    }
+
+    private String generateUrl(
+            final UrlProtocol protocol, final String ref, final DownloadDescriptor placeholder, final String deltaBaseSha1,
+            final URI requestUri) {
+        final Set<Entry<String, String>> entrySet = getReplaceMap(protocol, placeholder, deltaBaseSha1, requestUri).entrySet();
+        String urlPattern = ref;
         for (final Entry<String, String> entry : entrySet) {
             if (List.of(PORT_PLACEHOLDER, PORT_REQUEST_PLACEHOLDER).contains(entry.getKey())) {
                 urlPattern = urlPattern.replace(":{" + entry.getKey() + "}",
@@ -100,7 +129,8 @@ public class PropertyBasedArtifactUrlResolver implements ArtifactUrlResolver {
         return urlPattern;
     }
 
-    private Map<String, String> getReplaceMap(final UrlProtocol protocol, final DownloadDescriptor placeholder, final URI requestUri) {
+    private Map<String, String> getReplaceMap(
+            final UrlProtocol protocol, final DownloadDescriptor placeholder, final String deltaBaseSha1, final URI requestUri) {
         final Map<String, String> replaceMap = new HashMap<>();
 
         replaceMap.put(PROTOCOL_PLACEHOLDER, protocol.getProtocol());
@@ -126,6 +156,7 @@ public class PropertyBasedArtifactUrlResolver implements ArtifactUrlResolver {
         replaceMap.put(SOFTWARE_MODULE_ID_PLACEHOLDER, String.valueOf(placeholder.softwareModuleId()));
         replaceMap.put(ARTIFACT_FILENAME_PLACEHOLDER, URLEncoder.encode(placeholder.filename(), StandardCharsets.UTF_8));
         replaceMap.put(ARTIFACT_SHA1_PLACEHOLDER, placeholder.sha1());
+        replaceMap.put(DELTA_BASE_SHA1_PLACEHOLDER, deltaBaseSha1);
         return replaceMap;
     }
 
@@ -56,6 +56,13 @@ public class PropertyBasedArtifactUrlResolverProperties {
          */
         private String ref = PropertyBasedArtifactUrlResolver.DEFAULT_URL_PROTOCOL_REF;
 
+        /**
+         * Hypermedia ref pattern for the binary deltas of the artifacts. Supports the placeholders of the ref pattern and the SHA1 hash
+         * of the base artifact the delta is for. If not set, the deltas are offered only with the default ref pattern (download via the
+         * DDI API).
+         */
+        private String deltaRef;
+
         /**
          * Protocol name placeholder that can be used in ref pattern.
          */
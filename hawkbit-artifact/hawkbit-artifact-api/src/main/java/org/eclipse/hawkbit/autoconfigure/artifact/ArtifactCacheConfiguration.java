@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.autoconfigure.artifact;
+
+import java.util.Optional;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.hawkbit.artifact.ArtifactCacheProperties;
+import org.eclipse.hawkbit.artifact.ArtifactStorage;
+import org.eclipse.hawkbit.artifact.CachingArtifactStorage;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.lang.NonNull;
+
+/**
+ * Configuration of the artifact read cache - wraps the {@link ArtifactStorage} in a {@link CachingArtifactStorage}.
+ */
+@Configuration
+@ConditionalOnBooleanProperty(prefix = "org.eclipse.hawkbit.artifact.cache", name = "enabled")
+@EnableConfigurationProperties(ArtifactCacheProperties.class)
+public class ArtifactCacheConfiguration {
+
+    @Bean
+    public static BeanPostProcessor cachingArtifactStorageBeanPostProcessor(
+            final ObjectProvider<ArtifactCacheProperties> artifactCacheProperties, final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(@NonNull final Object bean, @NonNull final String beanName)
+                    throws BeansException {
+                if (bean instanceof ArtifactStorage artifactStorage && !(bean instanceof CachingArtifactStorage)) {
+                    return new CachingArtifactStorage(
+                            artifactStorage, artifactCacheProperties.getObject(), Optional.ofNullable(meterRegistry.getIfAvailable()));
+                }
+                return BeanPostProcessor.super.postProcessAfterInitialization(bean, beanName);
+            }
+        };
+    }
+}
@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.hawkbit.artifact.exception.ArtifactBinaryNotFoundException;
+import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
+import org.eclipse.hawkbit.artifact.model.FileChannelInputStream;
+import org.eclipse.hawkbit.artifact.model.StoredArtifactInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Feature: Unit Tests - Artifact Storage<br/>
+ * Story: Artifact read cache
+ */
+class CachingArtifactStorageTest {
+
+    private static final String TENANT = "tenant";
+    private static final byte[] CONTENT = "some artifact content".getBytes(StandardCharsets.UTF_8);
+
+    private final InMemoryArtifactStorage delegate = new InMemoryArtifactStorage();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    /**
+     * Verifies that an artifact is read from the storage until it is admitted and then from the cache.
+     */
+    @Test
+    void cachesArtifactAfterAdmission() throws IOException {
+        final CachingArtifactStorage storage = new CachingArtifactStorage(delegate, new ArtifactCacheProperties(), Optional.of(meterRegistry));
+        delegate.artifacts.put("sha1", CONTENT);
+
+        for (int i = 0; i < 5; i++) {
+            try (final InputStream inputStream = storage.getBySha1(TENANT, "sha1")) {
+                assertThat(inputStream.readAllBytes()).isEqualTo(CONTENT);
+            }
+        }
+
+        // first read from the storage, second loads to the cache - the rest from the cache
+        assertThat(delegate.reads.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("hawkbit.artifact.cache", "result", "hit").count()).isEqualTo(4);
+        assertThat(meterRegistry.counter("hawkbit.artifact.cache", "result", "miss").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("hawkbit.artifact.cache.size").gauge().value()).isEqualTo(CONTENT.length);
+
+        // range reads are served from the cache
+        try (final InputStream inputStream = storage.getBySha1(TENANT, "sha1")) {
+            inputStream.skipNBytes(5);
+            assertThat(inputStream.readNBytes(8)).isEqualTo("artifact".getBytes(StandardCharsets.UTF_8));
+        }
+        assertThat(delegate.reads.get()).isEqualTo(2);
+    }
+
+    /**
+     * Verifies that deleted artifacts are evicted from the cache.
+     */
+    @Test
+    void evictsOnDelete() throws IOException {
+        final ArtifactCacheProperties properties = new ArtifactCacheProperties();
+        properties.setAdmitAfter(1);
+        final CachingArtifactStorage storage = new CachingArtifactStorage(delegate, properties, Optional.empty());
+        delegate.artifacts.put("sha1", CONTENT);
+
+        try (final InputStream inputStream = storage.getBySha1(TENANT, "sha1")) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(CONTENT);
+        }
+        storage.deleteBySha1(TENANT, "sha1");
+
+        assertThat(delegate.artifacts).isEmpty();
+        assertThatExceptionOfType(ArtifactBinaryNotFoundException.class)
+                .isThrownBy(() -> storage.getBySha1(TENANT, "sha1"));
+    }
+
+    /**
+     * Verifies that artifacts bigger than the max entry size are not cached.
+     */
+    @Test
+    void doesNotCacheTooBigArtifacts() throws IOException {
+        final ArtifactCacheProperties properties = new ArtifactCacheProperties();
+        properties.setAdmitAfter(1);
+        properties.setMaxEntrySize(DataSize.ofBytes(CONTENT.length - 1L));
+        final CachingArtifactStorage storage = new CachingArtifactStorage(delegate, properties, Optional.empty());
+        delegate.artifacts.put("sha1", CONTENT);
+
+        for (int i = 0; i < 2; i++) {
+            try (final InputStream inputStream = storage.getBySha1(TENANT, "sha1")) {
+                assertThat(inputStream.readAllBytes()).isEqualTo(CONTENT);
+            }
+        }
+
+        // the stream of the load attempt is returned, then the artifact is known to be too big - a single read per download
+        assertThat(delegate.reads.get()).isEqualTo(2);
+    }
+
+    /**
+     * Verifies that artifacts bigger than the initial load buffer are loaded completely and that the read part of artifacts which
+     * turn out to be too big is served in front of the rest.
+     */
+    @Test
+    void loadsArtifactsBiggerThanInitialBuffer() throws IOException {
+        final byte[] content = new byte[3 * 1024 * 1024 + 17];
+        new Random().nextBytes(content);
+        final ArtifactCacheProperties properties = new ArtifactCacheProperties();
+        properties.setAdmitAfter(1);
+        delegate.artifacts.put("sha1", content);
+
+        final CachingArtifactStorage storage = new CachingArtifactStorage(delegate, properties, Optional.of(meterRegistry));
+        for (int i = 0; i < 2; i++) {
+            try (final InputStream inputStream = storage.getBySha1(TENANT, "sha1")) {
+                assertThat(inputStream.readAllBytes()).isEqualTo(content);
+            }
+        }
+        assertThat(delegate.reads.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("hawkbit.artifact.cache.size").gauge().value()).isEqualTo(content.length);
+
+        properties.setMaxEntrySize(DataSize.ofBytes(2L * 1024 * 1024));
+        final CachingArtifactStorage tooSmallStorage = new CachingArtifactStorage(delegate, properties, Optional.empty());
+        try (final InputStream inputStream = tooSmallStorage.getBySha1(TENANT, "sha1")) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    /**
+     * Verifies that artifacts of file backed storages are cached and that they keep the file channel path until they are cached.
+     */
+    @Test
+    void cachesFileBackedArtifacts(@TempDir final Path tempDir) throws IOException {
+        final CachingArtifactStorage storage = new CachingArtifactStorage(delegate, new ArtifactCacheProperties(), Optional.of(meterRegistry));
+        delegate.files.put("sha1", Files.write(tempDir.resolve("sha1"), CONTENT));
+
+        try (final InputStream inputStream = storage.getBySha1(TENANT, "sha1")) {
+            assertThat(inputStream).isInstanceOf(FileChannelInputStream.class);
+            assertThat(inputStream.readAllBytes()).isEqualTo(CONTENT);
+        }
+        for (int i = 0; i < 3; i++) {
+            try (final InputStream inputStream = storage.getBySha1(TENANT, "sha1")) {
+                assertThat(inputStream).isNotInstanceOf(FileChannelInputStream.class);
+                assertThat(inputStream.readAllBytes()).isEqualTo(CONTENT);
+            }
+        }
+
+        // first read from the storage, second loads to the cache - the rest from the cache
+        assertThat(delegate.reads.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("hawkbit.artifact.cache", "result", "hit").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("hawkbit.artifact.cache", "result", "miss").count()).isEqualTo(1);
+    }
+
+    /**
+     * Verifies that too big file backed artifacts are not cached and keep the file channel path.
+     */
+    @Test
+    void doesNotCacheTooBigFileBackedArtifacts(@TempDir final Path tempDir) throws IOException {
+        final ArtifactCacheProperties properties = new ArtifactCacheProperties();
+        properties.setAdmitAfter(1);
+        properties.setMaxEntrySize(DataSize.ofBytes(CONTENT.length - 1L));
+        final CachingArtifactStorage storage = new CachingArtifactStorage(delegate, properties, Optional.empty());
+        delegate.files.put("sha1", Files.write(tempDir.resolve("sha1"), CONTENT));
+
+        for (int i = 0; i < 2; i++) {
+            try (final InputStream inputStream = storage.getBySha1(TENANT, "sha1")) {
+                assertThat(inputStream).isInstanceOf(FileChannelInputStream.class);
+                assertThat(inputStream.readAllBytes()).isEqualTo(CONTENT);
+            }
+        }
+
+        assertThat(delegate.reads.get()).isEqualTo(2);
+    }
+
+    private static class InMemoryArtifactStorage implements ArtifactStorage {
+
+        private final Map<String, byte[]> artifacts = new HashMap<>();
+        private final Map<String, Path> files = new HashMap<>();
+        private final AtomicInteger reads = new AtomicInteger();
+
+        @Override
+        public StoredArtifactInfo store(
+                final String tenant, final InputStream content, final String filename, final String contentType,
+                final ArtifactHashes hash) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InputStream getBySha1(final String tenant, final String sha1Hash) {
+            reads.incrementAndGet();
+            if (files.containsKey(sha1Hash)) {
+                try {
+                    return new FileChannelInputStream(files.get(sha1Hash));
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+            final byte[] content = artifacts.get(sha1Hash);
+            if (content == null) {
+                throw new ArtifactBinaryNotFoundException(sha1Hash);
+            }
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public boolean existsBySha1(final String tenant, final String sha1Hash) {
+            return artifacts.containsKey(sha1Hash);
+        }
+
+        @Override
+        public void deleteBySha1(final String tenant, final String sha1Hash) {
+            artifacts.remove(sha1Hash);
+        }
+
+        @Override
+        public void deleteByTenant(final String tenant) {
+            artifacts.clear();
+        }
+    }
+}
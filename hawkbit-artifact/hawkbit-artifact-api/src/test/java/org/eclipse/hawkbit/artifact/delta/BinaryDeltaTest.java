@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.delta;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Feature: Unit Tests - Artifact Delta<br/>
+ * Story: Binary delta encoding
+ */
+class BinaryDeltaTest {
+
+    @SuppressWarnings("java:S2245") // used for tests only, no need of secure random
+    private static final Random RND = new Random(7);
+
+    /**
+     * Verifies that a delta between versions with insertions, removals and changes is small and restores the target.
+     */
+    @Test
+    void encodesChangedVersionCompactly() throws IOException {
+        final byte[] source = randomBytes(2 * 1024 * 1024);
+        final byte[] target = concat(
+                Arrays.copyOfRange(source, 0, 300_000),
+                randomBytes(1000), // insertion
+                Arrays.copyOfRange(source, 300_000, 900_000),
+                // removal of 50 000 bytes
+                Arrays.copyOfRange(source, 950_000, 1_500_000),
+                randomBytes(4096), // change
+                Arrays.copyOfRange(source, 1_504_096, source.length));
+
+        final byte[] delta = encode(source, target);
+
+        assertThat(delta.length).isLessThan(8 * 1024);
+        assertThat(apply(source, delta)).isEqualTo(target);
+    }
+
+    /**
+     * Verifies that unrelated, empty and shorter than a block contents are encoded correctly.
+     */
+    @Test
+    void encodesEdgeCases() throws IOException {
+        final byte[] source = randomBytes(100_000);
+        for (final byte[] target : new byte[][] { randomBytes(50_000), new byte[0], randomBytes(5), Arrays.copyOf(source, 10) }) {
+            assertThat(apply(source, encode(source, target))).isEqualTo(target);
+        }
+        final byte[] target = randomBytes(1000);
+        assertThat(apply(new byte[0], encode(new byte[0], target))).isEqualTo(target);
+    }
+
+    /**
+     * Verifies that applying a delta to another source is rejected.
+     */
+    @Test
+    void rejectsWrongSource() throws IOException {
+        final byte[] source = randomBytes(10_000);
+        final byte[] delta = encode(source, randomBytes(10_000));
+
+        assertThatExceptionOfType(IOException.class).isThrownBy(() -> apply(randomBytes(9_999), delta));
+    }
+
+    private static byte[] encode(final byte[] source, final byte[] target) throws IOException {
+        final ByteArrayOutputStream delta = new ByteArrayOutputStream();
+        BinaryDelta.encode(ByteBuffer.wrap(source), ByteBuffer.wrap(target), delta);
+        return delta.toByteArray();
+    }
+
+    private static byte[] apply(final byte[] source, final byte[] delta) throws IOException {
+        final ByteArrayOutputStream target = new ByteArrayOutputStream();
+        BinaryDelta.apply(ByteBuffer.wrap(source), new ByteArrayInputStream(delta), target);
+        return target.toByteArray();
+    }
+
+    private static byte[] concat(final byte[]... parts) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (final byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] randomBytes(final int length) {
+        final byte[] randomBytes = new byte[length];
+        RND.nextBytes(randomBytes);
+        return randomBytes;
+    }
+}
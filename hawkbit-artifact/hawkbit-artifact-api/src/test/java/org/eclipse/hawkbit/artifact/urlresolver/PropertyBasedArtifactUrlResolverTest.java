@@ -67,6 +67,29 @@ class PropertyBasedArtifactUrlResolverTest {
                 .isEqualTo(urlHandlerUnderTest.getUrls(DOWNLOAD_DESCRIPTOR, ArtifactUrlResolver.ApiType.DMF));
     }
 
+    @Test
+    void deltaUrlGeneration() {
+        final String baseSha1 = "9876543210987654321098765432109876543210";
+        properties.getProtocols().put("download-http", new UrlProtocol());
+        final UrlProtocol cdn = new UrlProtocol();
+        cdn.setRel("download-cdn");
+        cdn.setRef("https://cdn.com/{tenant}/{artifactSHA1}?token=abc");
+        properties.getProtocols().put("download-cdn", cdn);
+
+        // custom ref patterns are not known to serve deltas
+        assertThat(urlHandlerUnderTest.getDeltaUrls(DOWNLOAD_DESCRIPTOR, baseSha1, ArtifactUrlResolver.ApiType.DDI, null))
+                .containsExactly(new ArtifactUrl(
+                        "http".toUpperCase(), "download-http",
+                        HTTP_LOCALHOST + TENANT + "/controller/v1/" + CONTROLLER_ID + "/softwaremodules/" + SOFTWARE_MODULE_ID +
+                                "/artifacts/" + FILENAME_ENCODED + ".DELTA?base=" + baseSha1));
+
+        cdn.setDeltaRef("https://cdn.com/{tenant}/{artifactSHA1}/delta/{deltaBaseSHA1}?token=abc");
+        assertThat(urlHandlerUnderTest.getDeltaUrls(DOWNLOAD_DESCRIPTOR, baseSha1, ArtifactUrlResolver.ApiType.DDI, null))
+                .contains(new ArtifactUrl("http".toUpperCase(), "download-cdn",
+                        "https://cdn.com/" + TENANT + "/" + SHA1 + "/delta/" + baseSha1 + "?token=abc"))
+                .hasSize(2);
+    }
+
     @Test
     void urlGenerationWithCustomConfiguration() {
         final UrlProtocol proto = new UrlProtocol();
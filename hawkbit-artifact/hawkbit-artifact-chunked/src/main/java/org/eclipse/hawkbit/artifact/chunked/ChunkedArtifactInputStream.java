@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.chunked;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reassembles an artifact from its chunks. The chunk files are opened lazily, one at a time, and skipping over whole chunks
+ * (e.g. for range requests) doesn't open them at all.
+ */
+class ChunkedArtifactInputStream extends InputStream {
+
+    private final List<ChunkedArtifactStorage.Chunk> chunks;
+    private final Function<String, Path> chunkPath;
+
+    // index of the current chunk
+    private int index;
+    // position in the current chunk
+    private long position;
+    private InputStream current;
+
+    ChunkedArtifactInputStream(final List<ChunkedArtifactStorage.Chunk> chunks, final Function<String, Path> chunkPath) {
+        this.chunks = chunks;
+        this.chunkPath = chunkPath;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final byte[] b = new byte[1];
+        return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        while (index < chunks.size()) {
+            final int length = chunks.get(index).length();
+            if (position < length) {
+                if (current == null) {
+                    current = Files.newInputStream(chunkPath.apply(chunks.get(index).hash()));
+                    current.skipNBytes(position);
+                }
+                final int read = current.read(b, off, (int) Math.min(len, length - position));
+                if (read < 0) {
+                    throw new IOException("Unexpected end of chunk " + chunks.get(index).hash());
+                }
+                position += read;
+                return read;
+            }
+            nextChunk();
+        }
+        return -1;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        long remaining = n;
+        while (remaining > 0 && index < chunks.size()) {
+            final long inChunk = chunks.get(index).length() - position;
+            if (remaining < inChunk) {
+                if (current != null) {
+                    current.skipNBytes(remaining);
+                }
+                position += remaining;
+                remaining = 0;
+            } else {
+                remaining -= inChunk;
+                nextChunk();
+            }
+        }
+        return n - remaining;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+        index = chunks.size();
+    }
+
+    private void nextChunk() throws IOException {
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+        index++;
+        position = 0;
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.chunked;
+
+import java.time.Duration;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration properties for the chunked (deduplicating) artifact repository (see {@link ChunkedArtifactStorage}).
+ */
+@Data
+@ConfigurationProperties("org.eclipse.hawkbit.artifact.chunked")
+public class ChunkedArtifactProperties {
+
+    /**
+     * The base-path of the directory to store the artifact manifests and chunks.
+     */
+    private String path = "./artifactrepo-chunked";
+
+    /**
+     * Minimum size of a chunk (except the last one of an artifact).
+     * <p/>
+     * Note: changing the chunk sizes changes the chunk boundaries, so new artifacts won't share chunks with the already stored ones.
+     */
+    private DataSize minChunkSize = DataSize.ofKilobytes(16);
+
+    /**
+     * Targeted average size of a chunk. Smaller chunks deduplicate better but need more files and bigger manifests.
+     */
+    private DataSize avgChunkSize = DataSize.ofKilobytes(64);
+
+    /**
+     * Maximum size of a chunk.
+     */
+    private DataSize maxChunkSize = DataSize.ofKilobytes(256);
+
+    /**
+     * Unreferenced chunks which are written (or reused) more recently are not deleted, since they could belong to an artifact
+     * which is being stored (e.g. by another node sharing the storage).
+     */
+    private Duration orphanGracePeriod = Duration.ofMinutes(15);
+}
@@ -0,0 +1,321 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.chunked;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.eclipse.hawkbit.artifact.AbstractArtifactStorage;
+import org.eclipse.hawkbit.artifact.ArtifactStorage;
+import org.eclipse.hawkbit.artifact.exception.ArtifactBinaryNotFoundException;
+import org.eclipse.hawkbit.artifact.exception.ArtifactStoreException;
+import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
+
+/**
+ * Implementation of the {@link ArtifactStorage} which splits the artifacts into content-defined chunks (see {@link FastCdcChunker})
+ * and stores every chunk only once per tenant. So, artifacts which differ only partially (e.g. firmware versions) share the most of
+ * their chunks and take only the space of the changed ones.
+ * <p/>
+ * Every artifact is stored as a manifest (named by the SHA1 hash of the artifact) listing its chunks, and every chunk is stored in a
+ * file named by its SHA-256 hash:
+ * <ul>
+ *   <li>{@code /basepath/[tenant]/artifacts/[two digit sha1]/[sha1]}</li>
+ *   <li>{@code /basepath/[tenant]/chunks/[two digit sha256]/[sha256]}</li>
+ * </ul>
+ * The artifacts are reassembled lazily while read. The hashes of the artifacts are the hashes of the whole content as with any
+ * other {@link AbstractArtifactStorage}.
+ * <p/>
+ * Deleting an artifact deletes its manifest and then the chunks which are not referenced by any other manifest of the tenant.
+ */
+@Slf4j
+public class ChunkedArtifactStorage extends AbstractArtifactStorage {
+
+    private static final String ARTIFACTS_DIRECTORY = "artifacts";
+    private static final String CHUNKS_DIRECTORY = "chunks";
+    private static final String TEMP_DIRECTORY = ".tmp";
+
+    private static final int MANIFEST_MAGIC = 0x48424d46; // HBMF
+    private static final int MANIFEST_VERSION = 1;
+    private static final int CHUNK_HASH_LENGTH = 32;
+    private static final HexFormat HEX_FORMAT = HexFormat.of().withLowerCase();
+
+    private final ChunkedArtifactProperties artifactProperties;
+    private final FastCdcChunker chunker;
+    private final Duration orphanGracePeriod;
+    // stores (read) and orphan chunk deletions (write) of a tenant must not overlap
+    private final Map<String, ReadWriteLock> tenantLocks = new ConcurrentHashMap<>();
+
+    public ChunkedArtifactStorage(final ChunkedArtifactProperties artifactProperties) {
+        this.artifactProperties = artifactProperties;
+        chunker = new FastCdcChunker(
+                toInt(artifactProperties.getMinChunkSize().toBytes()),
+                toInt(artifactProperties.getAvgChunkSize().toBytes()),
+                toInt(artifactProperties.getMaxChunkSize().toBytes()));
+        orphanGracePeriod = artifactProperties.getOrphanGracePeriod();
+    }
+
+    @Override
+    public InputStream getBySha1(final String tenant, final String sha1) {
+        return new ChunkedArtifactInputStream(readManifest(tenant, sha1), hash -> getChunkPath(tenant, hash));
+    }
+
+    @Override
+    public boolean existsBySha1(final String tenant, final String sha1) {
+        return Files.exists(getManifestPath(tenant, sha1));
+    }
+
+    @Override
+    public void deleteBySha1(final String tenant, final String sha1) {
+        final Lock lock = tenantLock(tenant).writeLock();
+        lock.lock();
+        try {
+            if (Files.deleteIfExists(getManifestPath(tenant, sha1))) {
+                deleteOrphanedChunks(tenant);
+            }
+        } catch (final IOException e) {
+            log.warn("Failed to delete artifact {} of tenant {}", sha1, tenant, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void deleteByTenant(final String tenant) {
+        final Lock lock = tenantLock(tenant).writeLock();
+        lock.lock();
+        try {
+            FileUtils.deleteQuietly(getTenantPath(tenant).toFile());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected File newTempFile(final String tenant) throws IOException {
+        return Files.createTempFile(createTempDirectory(tenant), "tmp", "artifactrepo").toFile();
+    }
+
+    @Override
+    protected void store(final String tenant, final ArtifactHashes base16Hashes, final String contentType, final File tempFile)
+            throws IOException {
+        final Path manifestPath = getManifestPath(tenant, base16Hashes.sha1());
+        if (Files.exists(manifestPath)) {
+            return;
+        }
+
+        final Lock lock = tenantLock(tenant).readLock();
+        lock.lock();
+        try (final InputStream inputStream = Files.newInputStream(tempFile.toPath())) {
+            final List<Chunk> chunks = storeChunks(tenant, inputStream);
+            writeManifest(tenant, manifestPath, chunks);
+            log.debug("Artifact {} of tenant {} stored in {} chunks", base16Hashes.sha1(), tenant, chunks.size());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // java:S4790 - SHA-256 is used as content address, not security related
+    @SuppressWarnings("java:S4790")
+    private List<Chunk> storeChunks(final String tenant, final InputStream inputStream) throws IOException {
+        final MessageDigest sha256;
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new ArtifactStoreException(e.getMessage(), e);
+        }
+
+        final List<Chunk> chunks = new ArrayList<>();
+        final int maxSize = chunker.getMaxSize();
+        final byte[] buffer = new byte[2 * maxSize];
+        int start = 0;
+        int end = 0;
+        boolean eof = false;
+        while (true) {
+            // keeps at least a max chunk in the buffer (unless at the end), so the chunk boundaries don't depend on the reads
+            if (!eof && end - start < maxSize) {
+                System.arraycopy(buffer, start, buffer, 0, end - start);
+                end -= start;
+                start = 0;
+                final int read = inputStream.readNBytes(buffer, end, buffer.length - end);
+                end += read;
+                eof = end < buffer.length;
+            }
+            if (start == end) {
+                return chunks;
+            }
+
+            final int length = chunker.cut(buffer, start, end - start);
+            sha256.update(buffer, start, length);
+            final String hash = HEX_FORMAT.formatHex(sha256.digest());
+            storeChunk(tenant, hash, buffer, start, length);
+            chunks.add(new Chunk(hash, length));
+            start += length;
+        }
+    }
+
+    private void storeChunk(final String tenant, final String hash, final byte[] buffer, final int offset, final int length)
+            throws IOException {
+        final Path chunkPath = getChunkPath(tenant, hash);
+        if (Files.exists(chunkPath)) {
+            // marks it as recently used, so it is not deleted as orphan until the manifest referencing it is written
+            Files.setLastModifiedTime(chunkPath, FileTime.fromMillis(System.currentTimeMillis()));
+            return;
+        }
+
+        final Path tempFile = Files.createTempFile(createTempDirectory(tenant), "chunk", null);
+        try {
+            try (final OutputStream outputStream = Files.newOutputStream(tempFile)) {
+                outputStream.write(buffer, offset, length);
+            }
+            Files.createDirectories(chunkPath.getParent());
+            // the same chunk could be concurrently stored - the content is the same, so any wins
+            Files.move(tempFile, chunkPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private void writeManifest(final String tenant, final Path manifestPath, final List<Chunk> chunks) throws IOException {
+        final Path tempFile = Files.createTempFile(createTempDirectory(tenant), "manifest", null);
+        try {
+            try (final DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                outputStream.writeInt(MANIFEST_MAGIC);
+                outputStream.writeInt(MANIFEST_VERSION);
+                outputStream.writeInt(chunks.size());
+                for (final Chunk chunk : chunks) {
+                    outputStream.write(HEX_FORMAT.parseHex(chunk.hash()));
+                    outputStream.writeInt(chunk.length());
+                }
+            }
+            Files.createDirectories(manifestPath.getParent());
+            Files.move(tempFile, manifestPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private List<Chunk> readManifest(final String tenant, final String sha1) {
+        try {
+            return readManifest(getManifestPath(tenant, sha1));
+        } catch (final NoSuchFileException e) {
+            throw new ArtifactBinaryNotFoundException(sha1);
+        } catch (final IOException e) {
+            throw new ArtifactStoreException("Failed to read manifest of artifact " + sha1, e);
+        }
+    }
+
+    private static List<Chunk> readManifest(final Path manifestPath) throws IOException {
+        try (final DataInputStream inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(manifestPath)))) {
+            if (inputStream.readInt() != MANIFEST_MAGIC || inputStream.readInt() != MANIFEST_VERSION) {
+                throw new IOException("Unsupported manifest " + manifestPath);
+            }
+            final int count = inputStream.readInt();
+            final List<Chunk> chunks = new ArrayList<>(count);
+            final byte[] hash = new byte[CHUNK_HASH_LENGTH];
+            for (int i = 0; i < count; i++) {
+                inputStream.readFully(hash);
+                chunks.add(new Chunk(HEX_FORMAT.formatHex(hash), inputStream.readInt()));
+            }
+            return chunks;
+        }
+    }
+
+    private void deleteOrphanedChunks(final String tenant) throws IOException {
+        final Path artifactsPath = getTenantPath(tenant).resolve(ARTIFACTS_DIRECTORY);
+        final Path chunksPath = getTenantPath(tenant).resolve(CHUNKS_DIRECTORY);
+        if (!Files.isDirectory(chunksPath)) {
+            return;
+        }
+
+        final Set<String> referenced = new HashSet<>();
+        if (Files.isDirectory(artifactsPath)) {
+            try (final Stream<Path> manifests = Files.walk(artifactsPath)) {
+                for (final Path manifest : (Iterable<Path>) manifests.filter(Files::isRegularFile)::iterator) {
+                    readManifest(manifest).forEach(chunk -> referenced.add(chunk.hash()));
+                }
+            }
+        }
+
+        final long notAfter = System.currentTimeMillis() - orphanGracePeriod.toMillis();
+        int deleted = 0;
+        try (final Stream<Path> chunkFiles = Files.walk(chunksPath)) {
+            for (final Path chunkFile : (Iterable<Path>) chunkFiles.filter(Files::isRegularFile)::iterator) {
+                if (!referenced.contains(chunkFile.getFileName().toString())
+                        && Files.getLastModifiedTime(chunkFile).toMillis() <= notAfter
+                        && Files.deleteIfExists(chunkFile)) {
+                    deleted++;
+                }
+            }
+        }
+        log.debug("Deleted {} orphaned chunks of tenant {}", deleted, tenant);
+    }
+
+    private ReadWriteLock tenantLock(final String tenant) {
+        return tenantLocks.computeIfAbsent(sanitizeTenant(tenant), t -> new ReentrantReadWriteLock());
+    }
+
+    private Path createTempDirectory(final String tenant) throws IOException {
+        return Files.createDirectories(getTenantPath(tenant).resolve(TEMP_DIRECTORY));
+    }
+
+    private Path getTenantPath(final String tenant) {
+        return Paths.get(artifactProperties.getPath(), sanitizeTenant(tenant));
+    }
+
+    private Path getManifestPath(final String tenant, final String sha1) {
+        return getHashPath(tenant, ARTIFACTS_DIRECTORY, sha1);
+    }
+
+    private Path getChunkPath(final String tenant, final String sha256) {
+        return getHashPath(tenant, CHUNKS_DIRECTORY, sha256);
+    }
+
+    private Path getHashPath(final String tenant, final String directory, final String hash) {
+        // ensure that the hash is not a path traversal attack
+        if (hash.length() < 2 || hash.indexOf('/') >= 0 || hash.indexOf('\\') >= 0 || hash.indexOf('.') >= 0) {
+            throw new IllegalArgumentException("Invalid hash: " + hash);
+        }
+        return getTenantPath(tenant).resolve(directory).resolve(hash.substring(hash.length() - 2)).resolve(hash);
+    }
+
+    private static int toInt(final long size) {
+        return (int) Math.min(size, Integer.MAX_VALUE / 2);
+    }
+
+    record Chunk(String hash, int length) {}
+}
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.chunked;
+
+import java.util.Random;
+
+/**
+ * Content-defined chunker following FastCDC (gear rolling hash with normalized chunking). The chunk boundaries depend only on the
+ * content around them, so an insertion or a removal in an artifact changes only the chunks around it, while the rest of the
+ * chunks are the same as the ones of the original artifact.
+ * <p/>
+ * Up to the average size a stricter mask (more bits) is used and after it a looser one, so the chunk sizes concentrate around
+ * the average. The masks test the upper bits of the fingerprint, which depend on the last 64 bytes.
+ */
+class FastCdcChunker {
+
+    // must never change - the chunk boundaries (and the deduplication with the already stored chunks) depend on it
+    private static final long GEAR_SEED = 0x6861776B426974L;
+    private static final long[] GEAR = new long[256];
+
+    static {
+        @SuppressWarnings("java:S2245") // a fixed table is required, not a secure random
+        final Random random = new Random(GEAR_SEED);
+        for (int i = 0; i < GEAR.length; i++) {
+            GEAR[i] = random.nextLong();
+        }
+    }
+
+    private final int minSize;
+    private final int avgSize;
+    private final int maxSize;
+    private final long maskS;
+    private final long maskL;
+
+    FastCdcChunker(final int minSize, final int avgSize, final int maxSize) {
+        if (minSize <= 0 || avgSize <= minSize || maxSize <= avgSize) {
+            throw new IllegalArgumentException(
+                    "Chunk sizes shall be 0 < min < avg < max, but are " + minSize + ", " + avgSize + ", " + maxSize);
+        }
+        this.minSize = minSize;
+        this.avgSize = avgSize;
+        this.maxSize = maxSize;
+        final int bits = 31 - Integer.numberOfLeadingZeros(avgSize);
+        maskS = -1L << (64 - Math.min(bits + 2, 63));
+        maskL = -1L << (64 - Math.max(bits - 2, 1));
+    }
+
+    int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Returns the length of the next chunk starting at the offset.
+     *
+     * @param data the data
+     * @param offset the start of the chunk
+     * @param length the available data from the offset, shall be at least the max size unless it is the end of the content
+     * @return the length of the chunk
+     */
+    int cut(final byte[] data, final int offset, final int length) {
+        if (length <= minSize) {
+            return length;
+        }
+        final int end = Math.min(length, maxSize);
+        final int normal = Math.min(avgSize, end);
+        long fingerprint = 0;
+        int i = minSize;
+        for (; i < normal; i++) {
+            fingerprint = (fingerprint << 1) + GEAR[data[offset + i] & 0xFF];
+            if ((fingerprint & maskS) == 0) {
+                return i + 1;
+            }
+        }
+        for (; i < end; i++) {
+            fingerprint = (fingerprint << 1) + GEAR[data[offset + i] & 0xFF];
+            if ((fingerprint & maskL) == 0) {
+                return i + 1;
+            }
+        }
+        return end;
+    }
+}
@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.autoconfigure.artifact.chunked;
+
+import org.eclipse.hawkbit.artifact.ArtifactStorage;
+import org.eclipse.hawkbit.artifact.chunked.ChunkedArtifactProperties;
+import org.eclipse.hawkbit.artifact.chunked.ChunkedArtifactStorage;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the {@link ChunkedArtifactStorage}. If the file-system storage is on the classpath too, the chunked one takes
+ * precedence.
+ */
+@Configuration
+@AutoConfigureBefore(name = "org.eclipse.hawkbit.autoconfigure.artifact.fs.FileArtifactStorageConfiguration")
+@EnableConfigurationProperties(ChunkedArtifactProperties.class)
+public class ChunkedArtifactStorageConfiguration {
+
+    /**
+     * @param chunkedArtifactProperties the chunked artifact storage properties
+     * @return Chunked (deduplicating) {@link ArtifactStorage} implementation.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public ArtifactStorage artifactStorage(final ChunkedArtifactProperties chunkedArtifactProperties) {
+        return new ChunkedArtifactStorage(chunkedArtifactProperties);
+    }
+}
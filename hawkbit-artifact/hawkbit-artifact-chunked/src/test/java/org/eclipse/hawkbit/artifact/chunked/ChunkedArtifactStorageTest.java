@@ -0,0 +1,179 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.chunked;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.eclipse.hawkbit.artifact.AbstractArtifactStorage;
+import org.eclipse.hawkbit.artifact.exception.ArtifactBinaryNotFoundException;
+import org.eclipse.hawkbit.artifact.model.StoredArtifactInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Feature: Unit Tests - Artifact Chunked Repository<br/>
+ * Story: Test storing artifact binaries deduplicated in chunks
+ */
+@Slf4j
+class ChunkedArtifactStorageTest {
+
+    private static final String TENANT = "test_tenant";
+    @SuppressWarnings("java:S2245") // used for tests only, no need of secure random
+    private static final Random RND = new Random(42);
+
+    private ChunkedArtifactProperties artifactProperties;
+    private ChunkedArtifactStorage artifactStorage;
+
+    @BeforeEach
+    void setup() {
+        artifactProperties = new ChunkedArtifactProperties();
+        artifactProperties.setPath(AbstractArtifactStorage.createTempFile(true).toString());
+        artifactProperties.setOrphanGracePeriod(Duration.ZERO);
+        artifactStorage = new ChunkedArtifactStorage(artifactProperties);
+    }
+
+    @AfterEach
+    void cleanup() throws IOException {
+        FileUtils.deleteDirectory(new File(artifactProperties.getPath()));
+    }
+
+    /**
+     * Verifies that an artifact is reassembled from its chunks with the hashes of the whole content
+     */
+    @Test
+    void storeAndReadSuccessfully() throws IOException, NoSuchAlgorithmException {
+        final byte[] content = randomBytes(1024 * 1024 + 13);
+
+        final StoredArtifactInfo artifact = store(content);
+
+        final HexFormat hexFormat = HexFormat.of().withLowerCase();
+        assertThat(artifact.getSize()).isEqualTo(content.length);
+        assertThat(artifact.getHashes().sha1()).isEqualTo(hexFormat.formatHex(MessageDigest.getInstance("SHA1").digest(content)));
+        assertThat(artifact.getHashes().md5()).isEqualTo(hexFormat.formatHex(MessageDigest.getInstance("MD5").digest(content)));
+        assertThat(artifact.getHashes().sha256()).isEqualTo(hexFormat.formatHex(MessageDigest.getInstance("SHA-256").digest(content)));
+        assertThat(artifactStorage.existsBySha1(TENANT, artifact.getHashes().sha1())).isTrue();
+        try (final InputStream inputStream = artifactStorage.getBySha1(TENANT, artifact.getHashes().sha1())) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+
+        // range read over chunk boundaries
+        try (final InputStream inputStream = artifactStorage.getBySha1(TENANT, artifact.getHashes().sha1())) {
+            inputStream.skipNBytes(500_000);
+            assertThat(inputStream.readNBytes(300_000)).isEqualTo(Arrays.copyOfRange(content, 500_000, 800_000));
+            inputStream.skipNBytes(100_000);
+            assertThat(inputStream.readAllBytes()).isEqualTo(Arrays.copyOfRange(content, 900_000, content.length));
+        }
+    }
+
+    /**
+     * Verifies that versions of an artifact with small changes (insertions shift the content) share the most of their chunks
+     */
+    @Test
+    void deduplicatesChangedVersions() throws IOException {
+        byte[] content = randomBytes(4 * 1024 * 1024);
+        long totalSize = 0;
+        for (int version = 0; version < 20; version++) {
+            totalSize += store(content).getSize();
+            content = change(content);
+        }
+
+        final long storedSize = FileUtils.sizeOfDirectory(chunksDirectory());
+        log.info("Stored {} bytes for {} bytes of artifacts", storedSize, totalSize);
+        assertThat(storedSize).isLessThan(totalSize / 10);
+    }
+
+    /**
+     * Verifies that deleting an artifact deletes only the chunks which are not used by other artifacts
+     */
+    @Test
+    void deleteKeepsSharedChunks() throws IOException {
+        final byte[] content1 = randomBytes(2 * 1024 * 1024);
+        final byte[] content2 = change(content1);
+        final StoredArtifactInfo artifact1 = store(content1);
+        final StoredArtifactInfo artifact2 = store(content2);
+        final long storedSize = FileUtils.sizeOfDirectory(chunksDirectory());
+
+        artifactStorage.deleteBySha1(TENANT, artifact1.getHashes().sha1());
+
+        final String sha1 = artifact1.getHashes().sha1();
+        assertThatExceptionOfType(ArtifactBinaryNotFoundException.class).isThrownBy(() -> artifactStorage.getBySha1(TENANT, sha1));
+        assertThat(FileUtils.sizeOfDirectory(chunksDirectory())).isLessThan(storedSize).isGreaterThanOrEqualTo(content2.length);
+        try (final InputStream inputStream = artifactStorage.getBySha1(TENANT, artifact2.getHashes().sha1())) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content2);
+        }
+
+        artifactStorage.deleteBySha1(TENANT, artifact2.getHashes().sha1());
+        assertThat(FileUtils.sizeOfDirectory(chunksDirectory())).isZero();
+    }
+
+    /**
+     * Verifies that all artifacts of a tenant can be deleted
+     */
+    @Test
+    void deleteStoredArtifactOfTenant() throws IOException {
+        final StoredArtifactInfo artifact = store(randomBytes(1000));
+        artifactStorage.deleteByTenant(TENANT);
+
+        final String sha1 = artifact.getHashes().sha1();
+        assertThatExceptionOfType(ArtifactBinaryNotFoundException.class).isThrownBy(() -> artifactStorage.getBySha1(TENANT, sha1));
+        assertThat(new File(artifactProperties.getPath(), TENANT.toUpperCase())).doesNotExist();
+    }
+
+    private StoredArtifactInfo store(final byte[] content) throws IOException {
+        try (final ByteArrayInputStream inputStream = new ByteArrayInputStream(content)) {
+            return artifactStorage.store(TENANT, inputStream, "filename.bin", "application/octet-stream", null);
+        }
+    }
+
+    private File chunksDirectory() {
+        return new File(artifactProperties.getPath(), TENANT.toUpperCase() + "/chunks");
+    }
+
+    // inserts a few bytes and overwrites a small region - as a patched firmware
+    private static byte[] change(final byte[] content) {
+        final List<byte[]> parts = new ArrayList<>();
+        final int insertAt = RND.nextInt(content.length);
+        parts.add(Arrays.copyOfRange(content, 0, insertAt));
+        parts.add(randomBytes(100));
+        parts.add(Arrays.copyOfRange(content, insertAt, content.length));
+        final byte[] changed = new byte[content.length + 100];
+        int position = 0;
+        for (final byte[] part : parts) {
+            System.arraycopy(part, 0, changed, position, part.length);
+            position += part.length;
+        }
+        final byte[] overwrite = randomBytes(4096);
+        System.arraycopy(overwrite, 0, changed, RND.nextInt(changed.length - overwrite.length), overwrite.length);
+        return changed;
+    }
+
+    private static byte[] randomBytes(final int length) {
+        final byte[] randomBytes = new byte[length];
+        RND.nextBytes(randomBytes);
+        return randomBytes;
+    }
+}
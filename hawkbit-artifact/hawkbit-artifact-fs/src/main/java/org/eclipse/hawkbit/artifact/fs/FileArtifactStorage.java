@@ -9,13 +9,11 @@
  */
 package org.eclipse.hawkbit.artifact.fs;
 
-import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -25,6 +23,7 @@ import org.eclipse.hawkbit.artifact.ArtifactStorage;
 import org.eclipse.hawkbit.artifact.exception.ArtifactBinaryNotFoundException;
 import org.eclipse.hawkbit.artifact.exception.ArtifactStoreException;
 import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
+import org.eclipse.hawkbit.artifact.model.FileChannelInputStream;
 import org.springframework.validation.annotation.Validated;
 
 /**
@@ -35,10 +34,18 @@ import org.springframework.validation.annotation.Validated;
  * <p/>
  * Due to the limit of many file-systems of files within one directory, the files are stored in different subdirectories based on the last four
  * digits of the SHA1-hash {@code (/basepath/[two digit sha1]/[two digit sha1])}.
+ * <p/>
+ * Uploads are written to a temp directory of the tenant in the base directory, so storing them is a rename on the same
+ * file system instead of a copy. The same applies to the partial (resumable) uploads, which could be resumed via any node sharing
+ * the base directory - if its file system supports file locks, which serialize the appends of the nodes.
  */
 @Validated
 public class FileArtifactStorage extends AbstractArtifactStorage {
 
+    // could not clash with the sha1 directories which are two hex digits
+    private static final String TEMP_DIRECTORY = ".tmp";
+    private static final String PARTIAL_DIRECTORY = ".partial";
+
     private final FileArtifactProperties artifactResourceProperties;
 
     public FileArtifactStorage(final FileArtifactProperties artifactResourceProperties) {
@@ -57,9 +64,11 @@ public class FileArtifactStorage extends AbstractArtifactStorage {
             throw new ArtifactBinaryNotFoundException(sha1);
         }
         try {
-            return new BufferedInputStream(new FileInputStream(file));
-        } catch (final FileNotFoundException e) {
+            return new FileChannelInputStream(file.toPath());
+        } catch (final NoSuchFileException e) {
             throw new ArtifactBinaryNotFoundException(sha1);
+        } catch (final IOException e) {
+            throw new ArtifactStoreException("Failed to open artifact " + sha1, e);
         }
     }
 
@@ -84,6 +93,18 @@ public class FileArtifactStorage extends AbstractArtifactStorage {
         }
     }
 
+    @Override
+    protected File newTempFile(final String tenant) throws IOException {
+        final Path tempDirectory = Files.createDirectories(
+                Paths.get(artifactResourceProperties.getPath(), sanitizeTenant(tenant), TEMP_DIRECTORY));
+        return Files.createTempFile(tempDirectory, "tmp", "artifactrepo").toFile();
+    }
+
+    @Override
+    protected Path getPartialDirectory(final String tenant) throws IOException {
+        return Files.createDirectories(Paths.get(artifactResourceProperties.getPath(), sanitizeTenant(tenant), PARTIAL_DIRECTORY));
+    }
+
     private File getFile(final String tenant, final String sha1) {
         // ensure that the sha1 is not a path traversal attack
         if (sha1.indexOf('/') >= 0 || sha1.indexOf('\\') >= 0) {
@@ -15,6 +15,11 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Random;
 
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +28,8 @@ import org.apache.commons.io.IOUtils;
 import org.assertj.core.api.Assertions;
 import org.eclipse.hawkbit.artifact.AbstractArtifactStorage;
 import org.eclipse.hawkbit.artifact.exception.ArtifactBinaryNotFoundException;
+import org.eclipse.hawkbit.artifact.exception.ArtifactUploadOffsetMismatchException;
+import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
 import org.eclipse.hawkbit.artifact.model.StoredArtifactInfo;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -130,6 +137,77 @@ class FileArtifactStorageTest {
         }
     }
 
+    /**
+     * Verifies that the hashes of an artifact bigger than the read chunks are computed correctly and no temp file is left
+     */
+    @Test
+    void storeMultiChunkArtifactWithCorrectHashes() throws IOException, NoSuchAlgorithmException {
+        final byte[] fileContent = new byte[3 * 1024 * 1024 + 17];
+        RND.nextBytes(fileContent);
+        final HexFormat hexFormat = HexFormat.of().withLowerCase();
+
+        final StoredArtifactInfo artifact = storeRandomArtifact(fileContent);
+
+        assertThat(artifact.getSize()).isEqualTo(fileContent.length);
+        assertThat(artifact.getHashes().sha1()).isEqualTo(hexFormat.formatHex(MessageDigest.getInstance("SHA1").digest(fileContent)));
+        assertThat(artifact.getHashes().md5()).isEqualTo(hexFormat.formatHex(MessageDigest.getInstance("MD5").digest(fileContent)));
+        assertThat(artifact.getHashes().sha256())
+                .isEqualTo(hexFormat.formatHex(MessageDigest.getInstance("SHA-256").digest(fileContent)));
+        try (final InputStream inputStream = artifactFilesystemRepository.getBySha1(TENANT, artifact.getHashes().sha1())) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(fileContent);
+        }
+        assertThat(new File(artifactResourceProperties.getPath(), TENANT.toUpperCase() + "/.tmp").list()).isEmpty();
+    }
+
+    /**
+     * Verifies that a partial upload, which connection is dropped, is resumed from the received content - also via another instance
+     * (node) - and stored with the hashes of the whole content
+     */
+    @Test
+    void resumePartialUploadAfterDroppedConnection() throws IOException, NoSuchAlgorithmException {
+        final byte[] fileContent = new byte[3 * 1024 * 1024 + 17];
+        RND.nextBytes(fileContent);
+        final String uploadId = "resumable";
+
+        // the connection is dropped in the middle of the second chunk
+        final InputStream dropped = new ByteArrayInputStream(fileContent, 0, 2 * 1024 * 1024) {
+
+            @Override
+            public synchronized int read(final byte[] b, final int off, final int len) {
+                if (pos >= 1536 * 1024) {
+                    throw new UncheckedIOException(new IOException("Connection reset"));
+                }
+                return super.read(b, off, Math.min(len, 1536 * 1024 - pos));
+            }
+        };
+        assertThatExceptionOfType(UncheckedIOException.class)
+                .isThrownBy(() -> artifactFilesystemRepository.appendPartial(TENANT, uploadId, 0, dropped));
+        final long offset = artifactFilesystemRepository.getPartialSize(TENANT, uploadId);
+        // the received content is kept, at most the chunk which is read on the drop is lost
+        assertThat(offset).isBetween(1024L * 1024, 1536L * 1024);
+
+        final InputStream wrongOffset = new ByteArrayInputStream(fileContent, 0, 10);
+        assertThatExceptionOfType(ArtifactUploadOffsetMismatchException.class)
+                .isThrownBy(() -> artifactFilesystemRepository.appendPartial(TENANT, uploadId, 0, wrongOffset))
+                .satisfies(e -> assertThat(e.getOffset()).isEqualTo(offset));
+
+        // resumed via another node, which computes the digests of the received content
+        final FileArtifactStorage otherNode = new FileArtifactStorage(artifactResourceProperties);
+        try (final InputStream rest = new ByteArrayInputStream(fileContent, (int) offset, fileContent.length - (int) offset)) {
+            assertThat(otherNode.appendPartial(TENANT, uploadId, offset, rest)).isEqualTo(fileContent.length);
+        }
+        final String sha1 = HexFormat.of().withLowerCase().formatHex(MessageDigest.getInstance("SHA1").digest(fileContent));
+        final StoredArtifactInfo artifact = otherNode.storePartial(TENANT, uploadId, "application/txt", new ArtifactHashes(sha1, null, null));
+
+        assertThat(artifact.getSize()).isEqualTo(fileContent.length);
+        assertThat(artifact.getHashes().sha1()).isEqualTo(sha1);
+        try (final InputStream inputStream = artifactFilesystemRepository.getBySha1(TENANT, sha1)) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(fileContent);
+        }
+        assertThat(artifactFilesystemRepository.getPartialSize(TENANT, uploadId)).isZero();
+        assertThat(new File(artifactResourceProperties.getPath(), TENANT.toUpperCase() + "/.partial").list()).isEmpty();
+    }
+
     private static byte[] randomBytes() {
         final byte[] randomBytes = new byte[20];
         RND.nextBytes(randomBytes);
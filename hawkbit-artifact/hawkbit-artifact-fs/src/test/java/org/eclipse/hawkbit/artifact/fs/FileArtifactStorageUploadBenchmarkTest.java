@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.fs;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Random;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+import org.eclipse.hawkbit.artifact.AbstractArtifactStorage;
+import org.eclipse.hawkbit.artifact.model.StoredArtifactInfo;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+/**
+ * Upload throughput benchmark of the {@link FileArtifactStorage} compared to the serial hashing (chained {@link DigestInputStream}s)
+ * it replaced. It is run on demand only:
+ * <pre>
+ * mvn test -Dtest=FileArtifactStorageUploadBenchmarkTest -Dhawkbit.benchmark=true [-Dhawkbit.benchmark.size-mb=1024]
+ * </pre>
+ * <p/>
+ * Feature: Benchmark - Artifact File System Repository<br/>
+ * Story: Upload throughput
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "hawkbit.benchmark", matches = "true")
+class FileArtifactStorageUploadBenchmarkTest {
+
+    private static final String TENANT = "benchmark";
+    private static final int ROUNDS = 3;
+
+    private static File baseDirectory;
+    private static FileArtifactStorage artifactStorage;
+    private static long size;
+
+    @BeforeAll
+    static void setup() {
+        baseDirectory = AbstractArtifactStorage.createTempFile(true);
+        final FileArtifactProperties artifactResourceProperties = new FileArtifactProperties();
+        artifactResourceProperties.setPath(baseDirectory.toString());
+        artifactStorage = new FileArtifactStorage(artifactResourceProperties);
+        size = Long.getLong("hawkbit.benchmark.size-mb", 512) * 1024 * 1024;
+    }
+
+    @AfterAll
+    static void afterClass() throws IOException {
+        FileUtils.deleteDirectory(baseDirectory);
+    }
+
+    /**
+     * Measures the upload throughput of the storage and of the serial hashing with the same content.
+     */
+    @Test
+    void uploadThroughput() throws IOException, NoSuchAlgorithmException {
+        for (int round = 0; round < ROUNDS; round++) {
+            // different seed per round - otherwise the artifact exists and the rounds differ
+            final long serialStart = System.nanoTime();
+            final String serialSha1 = storeSerial(new GeneratedInputStream(size, round));
+            final long serialNanos = System.nanoTime() - serialStart;
+
+            final long start = System.nanoTime();
+            final StoredArtifactInfo artifact = artifactStorage.store(
+                    TENANT, new GeneratedInputStream(size, round), "benchmark.bin", "application/octet-stream", null);
+            final long nanos = System.nanoTime() - start;
+
+            assertThat(artifact.getHashes().sha1()).isEqualTo(serialSha1);
+            log.info("Round {}: {} MB - storage {} MB/s, serial hashing {} MB/s",
+                    round, size / (1024 * 1024), throughput(nanos), throughput(serialNanos));
+            artifactStorage.deleteBySha1(TENANT, artifact.getHashes().sha1());
+        }
+    }
+
+    private static long throughput(final long nanos) {
+        return size * 1_000_000_000L / (1024 * 1024) / Math.max(1, nanos);
+    }
+
+    // the former store of AbstractArtifactStorage - three chained digest streams and a temp file in the system temp directory
+    @SuppressWarnings("java:S4790") // not security related
+    private static String storeSerial(final InputStream content) throws IOException, NoSuchAlgorithmException {
+        final MessageDigest mdSHA1 = MessageDigest.getInstance("SHA1");
+        final MessageDigest mdMD5 = MessageDigest.getInstance("MD5");
+        final MessageDigest mdSHA256 = MessageDigest.getInstance("SHA-256");
+        final File tempFile = AbstractArtifactStorage.createTempFile(false);
+        try (final InputStream inputStream =
+                new DigestInputStream(new DigestInputStream(new DigestInputStream(content, mdSHA256), mdMD5), mdSHA1);
+                final OutputStream outputStream = new BufferedOutputStream(new FileOutputStream(tempFile))) {
+            inputStream.transferTo(outputStream);
+        } finally {
+            Files.deleteIfExists(tempFile.toPath());
+        }
+        mdMD5.digest();
+        mdSHA256.digest();
+        return HexFormat.of().withLowerCase().formatHex(mdSHA1.digest());
+    }
+
+    // generates the content from a random block, so that the generation doesn't affect the measurement
+    private static class GeneratedInputStream extends InputStream {
+
+        private final byte[] block = new byte[64 * 1024];
+        private long remaining;
+        private int position;
+
+        @SuppressWarnings("java:S2245") // used for tests only, no need of secure random
+        private GeneratedInputStream(final long size, final long seed) {
+            new Random(seed).nextBytes(block);
+            remaining = size;
+        }
+
+        @Override
+        public int read() {
+            final byte[] b = new byte[1];
+            return read(b, 0, 1) < 0 ? -1 : b[0] & 0xFF;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (remaining == 0) {
+                return -1;
+            }
+            final int read = (int) Math.min(Math.min(len, remaining), block.length - position);
+            System.arraycopy(block, position, b, off, read);
+            position = (position + read) % block.length;
+            remaining -= read;
+            return read;
+        }
+    }
+}
@@ -80,6 +80,12 @@ public enum SpServerError {
     SP_ARTIFACT_UPLOAD_FAILED_SHA256_MATCH(
             "hawkbit.server.error.artifact.uploadFailed.checksum.sha256.match",
             "Upload of artifact failed as the provided SHA256 checksum did not match with the provided artifact."),
+    SP_ARTIFACT_UPLOAD_OFFSET_MISMATCH(
+            "hawkbit.server.error.artifact.uploadOffsetMismatch",
+            "Upload of artifact part failed as its offset does not match the size of the already uploaded content."),
+    SP_ARTIFACT_UPLOAD_LENGTH_MISMATCH(
+            "hawkbit.server.error.artifact.uploadLengthMismatch",
+            "Upload of artifact part failed as its content length does not match the length of its content range."),
     SP_DS_CREATION_FAILED_MISSING_MODULE(
             "hawkbit.server.error.distributionset.creationFailed.missingModule",
             "Creation if Distribution Set failed as module is missing that is configured as mandatory."),
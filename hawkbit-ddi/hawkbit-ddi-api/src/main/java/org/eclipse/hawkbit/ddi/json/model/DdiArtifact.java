@@ -13,6 +13,7 @@ import jakarta.validation.constraints.NotNull;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Data;
@@ -69,6 +70,10 @@ public class DdiArtifact extends RepresentationModel<DdiArtifact> {
     @Schema(description = "Artifact size", example = "3")
     private final Long size;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @Schema(description = "Optional binary delta of the artifact against the installed version, if available")
+    private DdiArtifactDelta delta;
+
     @JsonCreator
     public DdiArtifact(
             @JsonProperty("filename") final String filename,
@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.json.model;
+
+import jakarta.validation.constraints.NotNull;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.springframework.hateoas.RepresentationModel;
+
+/**
+ * Binary delta of a {@link DdiArtifact} - an alternative (smaller) download for targets which have the base artifact installed.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(description = """
+        Binary delta of the artifact against an artifact (with the same filename) of the installed version of the software module. The
+        target could download the delta instead of the artifact and apply it to the base. The result has the hashes of the artifact.
+        
+        **_links**:
+        * **download** - HTTPs Download resource for the delta.
+        * **download-http** - HTTP Download resource for the delta. (note: anonymous download needs to be enabled on the service account for non-TLS access)
+        """, example = """
+        {
+          "baseSha1" : "a8f1f2e63f5e6e4c1ba9e3a1d1f5f08e0c1b6b3d",
+          "hashes" : {
+            "sha1" : "0b5bbd0a1c35a4e0e4a4a9f7f8b3c6e2b2f1a7d9",
+            "md5" : "6c1b3b2a1f0e9d8c7b6a5f4e3d2c1b0a",
+            "sha256" : "4f3e2d1c0b9a8f7e6d5c4b3a2f1e0d9c8b7a6f5e4d3c2b1a0f9e8d7c6b5a4f3e"
+          },
+          "size" : 1024,
+          "_links" : {
+            "download" : {
+              "href" : "https://link-to-cdn.com/api/v1/TENANT_ID/download/controller/CONTROLLER_ID/softwaremodules/41/filename/binaryFile.DELTA?base=a8f1f2e63f5e6e4c1ba9e3a1d1f5f08e0c1b6b3d"
+            }
+          }
+        }""")
+public class DdiArtifactDelta extends RepresentationModel<DdiArtifactDelta> {
+
+    @NotNull
+    @Schema(description = "SHA1 hash of the base artifact the delta shall be applied to",
+            example = "a8f1f2e63f5e6e4c1ba9e3a1d1f5f08e0c1b6b3d")
+    private final String baseSha1;
+
+    @Schema(description = "Delta hashes")
+    private final DdiArtifactHash hashes;
+
+    @Schema(description = "Delta size", example = "1024")
+    private final Long size;
+
+    @JsonCreator
+    public DdiArtifactDelta(
+            @JsonProperty("baseSha1") final String baseSha1,
+            @JsonProperty("hashes") final DdiArtifactHash hashes,
+            @JsonProperty("size") final Long size) {
+        this.baseSha1 = baseSha1;
+        this.hashes = hashes;
+        this.size = size;
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.json.model;
+
+import jakarta.validation.constraints.NotEmpty;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+/**
+ * Registration of a target by a gateway.
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Schema(example = """
+        {
+           "controllerId" : "device-0815",
+           "name" : "Device 0815",
+           "type" : "sensor"
+         }""")
+public class DdiTargetRegistration {
+
+    @NotEmpty
+    @Schema(description = "Controller id of the target")
+    private final String controllerId;
+
+    @Schema(description = "Optional name of the target, if not set the name of an existing target is not changed and a new target is named by its controller id")
+    private final String name;
+
+    @Schema(description = "Optional target type name of the target, if not set the type of an existing target is not changed, if empty the type is removed")
+    private final String type;
+
+    /**
+     * Constructor.
+     *
+     * @param controllerId the controller id of the target
+     * @param name the name of the target
+     * @param type the target type name of the target
+     */
+    @JsonCreator
+    public DdiTargetRegistration(
+            @JsonProperty(value = "controllerId") final String controllerId,
+            @JsonProperty(value = "name") final String name,
+            @JsonProperty(value = "type") final String type) {
+        this.controllerId = controllerId;
+        this.name = name;
+        this.type = type;
+    }
+}
@@ -54,10 +54,22 @@ public final class DdiRestConstants {
      * File suffix for MDH hash download (see Linux md5sum).
      */
     public static final String ARTIFACT_MD5_DOWNLOAD_SUFFIX = ".MD5SUM";
+    /**
+     * File suffix for binary delta download, the base (SHA-1 hash) the delta is for is passed as {@link #ARTIFACT_DELTA_BASE} parameter.
+     */
+    public static final String ARTIFACT_DELTA_DOWNLOAD_SUFFIX = ".DELTA";
+    /**
+     * Request parameter for the SHA-1 hash of the base of a binary delta.
+     */
+    public static final String ARTIFACT_DELTA_BASE = "base";
     /**
      * Config data action resources.
      */
     public static final String CONFIG_DATA_ACTION = "configData";
+    /**
+     * Target registrations resource of a gateway.
+     */
+    public static final String REGISTRATIONS = "registrations";
     /**
      * Default value specifying that no action history to be sent as part of response to deploymentBase
      * {@link DdiRootControllerRestApi#getControllerDeploymentBaseAction}.
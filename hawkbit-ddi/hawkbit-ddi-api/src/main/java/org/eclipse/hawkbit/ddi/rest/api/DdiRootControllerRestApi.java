@@ -35,6 +35,7 @@ import org.eclipse.hawkbit.ddi.json.model.DdiConfirmationBaseAction;
 import org.eclipse.hawkbit.ddi.json.model.DdiConfirmationFeedback;
 import org.eclipse.hawkbit.ddi.json.model.DdiControllerBase;
 import org.eclipse.hawkbit.ddi.json.model.DdiDeploymentBase;
+import org.eclipse.hawkbit.ddi.json.model.DdiTargetRegistration;
 import org.eclipse.hawkbit.rest.json.model.ExceptionInfo;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.HttpStatus;
@@ -204,6 +205,47 @@ public interface DdiRootControllerRestApi {
             @PathVariable("softwareModuleId") Long softwareModuleId,
             @PathVariable("fileName") String fileName);
 
+    /**
+     * Handles GET {@link DdiArtifact} binary delta download request. This could be full or partial (as specified by RFC7233 (Range
+     * Requests)) download request.
+     *
+     * @param tenant of the request
+     * @param controllerId of the target
+     * @param softwareModuleId of the parent software module
+     * @param fileName of the related local artifact
+     * @param base SHA-1 hash of the base artifact the delta is for
+     * @return response of the servlet which in case of success is status code
+     *         {@link HttpStatus#OK} or in case of partial download {@link HttpStatus#PARTIAL_CONTENT}.
+     */
+    @Operation(summary = "Artifact delta download", description = "Handles GET DdiArtifact binary delta download request. The delta " +
+            "is applied to the base (an artifact of the installed version of the software module) and results in the artifact. This " +
+            "could be full or partial (as specified by RFC7233 (Range Requests)) download request.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Bad Request - e.g. invalid parameters",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionInfo.class))),
+            @ApiResponse(responseCode = "401", description = "The request requires user authentication.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403", description = "Insufficient permissions, entity is not allowed to be" +
+                    " changed (i.e. read-only) or data volume restriction applies.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "404", description = "Target, Module or delta not found",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "405", description = "The http request method is not allowed on the resource.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "429", description = "Too many requests. The server will refuse further attempts" +
+                    " and the client has to wait another second.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @GetMapping(value = DdiRestConstants.BASE_V1_REQUEST_MAPPING + "/{controllerId}/softwaremodules/{softwareModuleId}/artifacts/{fileName}" +
+            DdiRestConstants.ARTIFACT_DELTA_DOWNLOAD_SUFFIX)
+    ResponseEntity<InputStream> downloadArtifactDelta(
+            @PathVariable("tenant") String tenant,
+            @PathVariable("controllerId") String controllerId,
+            @PathVariable("softwareModuleId") Long softwareModuleId,
+            @PathVariable("fileName") String fileName,
+            @RequestParam(DdiRestConstants.ARTIFACT_DELTA_BASE) String base);
+
     /**
      * Resource for software module.
      *
@@ -362,6 +404,45 @@ public interface DdiRootControllerRestApi {
             @PathVariable("tenant") String tenant,
             @PathVariable("controllerId") String controllerId);
 
+    /**
+     * Registers (creates or updates) the targets behind a gateway at once. Only allowed if authenticated with the gateway security
+     * token.
+     *
+     * @param registrations the targets to register
+     * @param tenant of the client
+     * @param controllerId of the gateway
+     * @return status of the request
+     */
+    @Operation(summary = "Bulk registration of the targets behind a gateway", description = """
+            Registers the targets that are connected to the server via a gateway at once, instead of polling each of them. Targets
+            that don't exist are created, existing targets are updated (name and type if set) and marked as polled. Requires
+            authentication with the gateway security token.""")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully registered"),
+            @ApiResponse(responseCode = "400", description = "Bad Request - e.g. invalid parameters",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionInfo.class))),
+            @ApiResponse(responseCode = "401", description = "The request requires user authentication.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403", description = "Insufficient permissions, e.g. not authenticated as gateway.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "405", description = "The http request method is not allowed on the resource.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "406", description = "In case accept header is specified and not application/json.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "415", description = "The request was attempt with a media-type which is not " +
+                    "supported by the server for this resource.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "429", description = "Too many requests. The server will refuse further attempts " +
+                    "and the client has to wait another second.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @PostMapping(value = DdiRestConstants.BASE_V1_REQUEST_MAPPING + "/{controllerId}/" + DdiRestConstants.REGISTRATIONS,
+            consumes = { MediaType.APPLICATION_JSON_VALUE, DdiRestConstants.MEDIA_TYPE_CBOR })
+    ResponseEntity<Void> postRegistrations(
+            @Valid @RequestBody List<DdiTargetRegistration> registrations,
+            @PathVariable("tenant") String tenant,
+            @PathVariable("controllerId") String controllerId);
+
     /**
      * RequestMethod.GET method for the {@link DdiCancel} action.
      *
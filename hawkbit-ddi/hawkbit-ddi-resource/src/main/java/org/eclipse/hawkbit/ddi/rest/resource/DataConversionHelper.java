@@ -14,9 +14,11 @@ import java.util.Map;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrl;
 import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver;
 import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver.DownloadDescriptor;
 import org.eclipse.hawkbit.ddi.json.model.DdiArtifact;
+import org.eclipse.hawkbit.ddi.json.model.DdiArtifactDelta;
 import org.eclipse.hawkbit.ddi.json.model.DdiArtifactHash;
 import org.eclipse.hawkbit.ddi.json.model.DdiAutoConfirmationState;
 import org.eclipse.hawkbit.ddi.json.model.DdiChunk;
@@ -26,10 +28,12 @@ import org.eclipse.hawkbit.ddi.json.model.DdiControllerBase;
 import org.eclipse.hawkbit.ddi.json.model.DdiMetadata;
 import org.eclipse.hawkbit.ddi.json.model.DdiPolling;
 import org.eclipse.hawkbit.ddi.rest.api.DdiRestConstants;
+import org.eclipse.hawkbit.repository.ArtifactManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.ArtifactDelta;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TenantMetaData;
@@ -46,6 +50,8 @@ import org.springframework.util.CollectionUtils;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class DataConversionHelper {
 
+    private static final String DOWNLOAD_REL = "download";
+
     public static DdiConfirmationBase createConfirmationBase(
             final Target target, final Action activeAction,
             final DdiAutoConfirmationState autoConfirmationState, final TenantAware tenantAware) {
@@ -130,15 +136,15 @@ public final class DataConversionHelper {
     static List<DdiChunk> createChunks(
             final Target target, final Action uAction,
             final ArtifactUrlResolver artifactUrlHandler, final SystemManagement systemManagement,
-            final HttpRequest request, final ControllerManagement controllerManagement) {
-        final Map<Long, Map<String, String>> metadata = controllerManagement
-                .findTargetVisibleMetaDataBySoftwareModuleId(uAction.getDistributionSet().getModules().stream()
-                        .map(SoftwareModule::getId).toList());
+            final HttpRequest request, final ControllerManagement controllerManagement, final ArtifactManagement artifactManagement) {
+        final List<Long> moduleIds = uAction.getDistributionSet().getModules().stream().map(SoftwareModule::getId).toList();
+        final Map<Long, Map<String, String>> metadata = controllerManagement.findTargetVisibleMetaDataBySoftwareModuleId(moduleIds);
+        final Map<Long, ArtifactDelta> deltas = artifactManagement.findDeltasForTarget(target.getId(), moduleIds);
 
         return new ResponseList<>(uAction.getDistributionSet().getModules().stream()
                 .map(module -> new DdiChunk(mapChunkLegacyKeys(module.getType().getKey()), module.getVersion(),
                         module.getName(), module.isEncrypted() ? Boolean.TRUE : null,
-                        createArtifacts(target, module, artifactUrlHandler, systemManagement, request),
+                        createArtifacts(target, module, artifactUrlHandler, systemManagement, request, deltas),
                         mapMetadata(metadata.get(module.getId()))))
                 .toList());
 
@@ -146,10 +152,10 @@ public final class DataConversionHelper {
 
     static List<DdiArtifact> createArtifacts(final Target target, final SoftwareModule module,
             final ArtifactUrlResolver artifactUrlHandler, final SystemManagement systemManagement,
-            final HttpRequest request) {
-
+            final HttpRequest request, final Map<Long, ArtifactDelta> deltas) {
+        final TenantMetaData tenantMetadata = systemManagement.getTenantMetadataWithoutDetails();
         return new ResponseList<>(module.getArtifacts().stream()
-                .map(artifact -> createArtifact(target, artifactUrlHandler, artifact, systemManagement, request))
+                .map(artifact -> createArtifact(target, artifactUrlHandler, artifact, tenantMetadata, request, deltas.get(artifact.getId())))
                 .toList());
     }
 
@@ -171,19 +177,33 @@ public final class DataConversionHelper {
 
     private static DdiArtifact createArtifact(
             final Target target, final ArtifactUrlResolver artifactUrlHandler,
-            final Artifact artifact, final SystemManagement systemManagement, final HttpRequest request) {
+            final Artifact artifact, final TenantMetaData tenantMetadata, final HttpRequest request, final ArtifactDelta delta) {
         final DdiArtifact file = new DdiArtifact(
                 artifact.getFilename(),
                 new DdiArtifactHash(artifact.getSha1Hash(), artifact.getMd5Hash(), artifact.getSha256Hash()),
                 artifact.getSize());
 
-        final TenantMetaData tenantMetadata = systemManagement.getTenantMetadataWithoutDetails();
-        artifactUrlHandler
-                .getUrls(new DownloadDescriptor(
-                                tenantMetadata.getTenant(), target.getControllerId(),
-                                artifact.getSoftwareModule().getId(), artifact.getFilename(), artifact.getSha1Hash()),
-                        ArtifactUrlResolver.ApiType.DDI, request.getURI())
-                .forEach(entry -> file.add(Link.of(entry.ref()).withRel(entry.rel()).expand()));
+        final DownloadDescriptor downloadDescriptor = new DownloadDescriptor(
+                tenantMetadata.getTenant(), target.getControllerId(),
+                artifact.getSoftwareModule().getId(), artifact.getFilename(), artifact.getSha1Hash());
+        final List<ArtifactUrl> links = artifactUrlHandler.getUrls(downloadDescriptor, ArtifactUrlResolver.ApiType.DDI, request.getURI());
+        links.forEach(entry -> file.add(Link.of(entry.ref()).withRel(entry.rel()).expand()));
+
+        if (delta != null) {
+            final DdiArtifactDelta ddiDelta = new DdiArtifactDelta(
+                    delta.getBaseSha1Hash(),
+                    new DdiArtifactHash(delta.getSha1Hash(), delta.getMd5Hash(), delta.getSha256Hash()),
+                    delta.getSize());
+            artifactUrlHandler
+                    .getDeltaUrls(downloadDescriptor, delta.getBaseSha1Hash(), ArtifactUrlResolver.ApiType.DDI, request.getURI())
+                    .stream()
+                    .filter(entry -> entry.rel().startsWith(DOWNLOAD_REL))
+                    .forEach(entry -> ddiDelta.add(Link.of(entry.ref()).withRel(entry.rel()).expand()));
+            // offered only if it could be downloaded
+            if (!ddiDelta.getLinks().isEmpty()) {
+                file.setDelta(ddiDelta);
+            }
+        }
 
         return file;
     }
@@ -0,0 +1,286 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.hawkbit.ddi.json.model.DdiConfig;
+import org.eclipse.hawkbit.ddi.json.model.DdiControllerBase;
+import org.eclipse.hawkbit.ddi.json.model.DdiPolling;
+import org.eclipse.hawkbit.repository.event.remote.AbstractAssignmentEvent;
+import org.eclipse.hawkbit.repository.event.remote.MultiActionEvent;
+import org.eclipse.hawkbit.repository.event.remote.RemoteIdEvent;
+import org.eclipse.hawkbit.repository.event.remote.RemoteTenantAwareEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TenantConfigurationDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.AbstractActionEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationUpdatedEvent;
+import org.eclipse.hawkbit.tenancy.configuration.PollingTime.PollingInterval;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.hateoas.Links;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of the controller base (root poll) responses of targets that have nothing to do, i.e. no active action. Such polls
+ * are answered from the cache without loading the target or searching for actions.
+ * <p/>
+ * The cache is kept consistent by (remote) events, so it works in cluster mode as well - every event that could change the
+ * response of a target evicts it: assignments, cancellations, action changes, target updates or deletion, attribute requests and
+ * tenant configuration changes. To not cache a response that was read before an evicting event has been received, but is put
+ * after that, every eviction increases a stamp (striped by controller id) and a response is put only if the stamp hasn't changed
+ * since the poll started.
+ * <p/>
+ * Target id based (entity) events are mapped to the controller id by the target ids of the polled targets. The first poll of a
+ * target, before its id is known, could miss such an event - so while there are such polls in progress, an event of an unknown target
+ * increases a tenant stamp, and the responses of these polls are put only if the tenant stamp hasn't changed as well. The polls of
+ * known targets are not affected by the events of other targets.
+ * <p/>
+ * The responses are cached with the polling interval of the target, without the random deviation. The deviation is applied to every
+ * response served, so the targets don't get the same polling time until the response expires.
+ * <p/>
+ * Enabled by <code>hawkbit.server.ddi.poll-cache.enabled=true</code>.
+ */
+@Component
+@ConditionalOnBooleanProperty(prefix = "hawkbit.server.ddi.poll-cache", name = "enabled")
+public class DdiPollResponseCache {
+
+    private static final int STRIPES = 1024;
+
+    private final Cache<Key, Entry> cache;
+    // controller id -> target id of the polled targets, a cached response requires the mapping of its target
+    private final Cache<Key, Long> controllerTargetIds;
+    // target id -> controller id, needed for evictions by target id based (entity) events
+    private final Map<TargetIdKey, String> targetIds = new ConcurrentHashMap<>();
+    private final AtomicLongArray controllerStamps = new AtomicLongArray(STRIPES);
+    private final AtomicLongArray tenantStamps = new AtomicLongArray(STRIPES);
+    // polls in progress of targets without mapping, per tenant stripe
+    private final AtomicIntegerArray unmappedPolls = new AtomicIntegerArray(STRIPES);
+
+    private final Optional<Counter> hitCounter;
+    private final Optional<Counter> missCounter;
+
+    public DdiPollResponseCache(
+            @Value("${hawkbit.server.ddi.poll-cache.max-size:100000}") final long maxSize,
+            @Value("${hawkbit.server.ddi.poll-cache.ttl:5m}") final Duration ttl,
+            final Optional<MeterRegistry> meterRegistry) {
+        cache = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+        controllerTargetIds = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(ttl)
+                .<Key, Long> evictionListener((key, targetId, cause) -> {
+                    if (key != null && targetId != null) {
+                        // without the mapping the target id based events can't evict the response anymore
+                        targetIds.remove(new TargetIdKey(key.tenant(), targetId), key.controllerId());
+                        evict(key.tenant(), key.controllerId());
+                    }
+                })
+                .build();
+
+        meterRegistry.ifPresent(mReg -> Gauge.builder("hawkbit.ddi.poll.cache.size", cache, Cache::estimatedSize).register(mReg));
+        hitCounter = meterRegistry.map(mReg -> mReg.counter("hawkbit.ddi.poll.cache", "result", "hit"));
+        missCounter = meterRegistry.map(mReg -> mReg.counter("hawkbit.ddi.poll.cache", "result", "miss"));
+    }
+
+    /**
+     * Returns the cached response for the target, if present and still valid for the request.
+     *
+     * @param tenant the tenant
+     * @param controllerId the controller id of the polling target
+     * @param address the address of the polling target, if changed the response is not used in order to store it
+     * @param baseUri the base URI of the request, the links of the response are built against it
+     * @param pollingTime resolves the polling time (with the random deviation) of the cached polling interval
+     * @return the cached response, if any
+     */
+    public Optional<DdiControllerBase> get(
+            final String tenant, final String controllerId, final String address, final String baseUri,
+            final Function<PollingInterval, String> pollingTime) {
+        final Entry entry = cache.getIfPresent(new Key(tenant.toUpperCase(), controllerId));
+        if (entry != null && Objects.equals(entry.address(), address) && Objects.equals(entry.baseUri(), baseUri)) {
+            hitCounter.ifPresent(Counter::increment);
+            final DdiControllerBase response = new DdiControllerBase(
+                    new DdiConfig(new DdiPolling(pollingTime.apply(entry.pollingInterval()))));
+            response.add(entry.links());
+            return Optional.of(response);
+        }
+        missCounter.ifPresent(Counter::increment);
+        return Optional.empty();
+    }
+
+    /**
+     * Returns a stamp that shall be taken before loading the data of a response to be put in the cache. The stamp has to be
+     * {@link #release(Stamp) released} when the poll is finished.
+     *
+     * @param tenant the tenant
+     * @param controllerId the controller id of the polling target
+     * @return the stamp
+     */
+    public Stamp stamp(final String tenant, final String controllerId) {
+        final String upperTenant = tenant.toUpperCase();
+        final boolean mapped = controllerTargetIds.getIfPresent(new Key(upperTenant, controllerId)) != null;
+        if (!mapped) {
+            // registered before the stamps are read, so that an event of an unknown target received after that increases the tenant stamp
+            unmappedPolls.incrementAndGet(stripe(upperTenant));
+        }
+        return new Stamp(
+                upperTenant, controllerStamps.get(stripe(upperTenant, controllerId)), tenantStamps.get(stripe(upperTenant)), mapped);
+    }
+
+    /**
+     * Releases a stamp taken by {@link #stamp(String, String)}.
+     *
+     * @param stamp the stamp
+     */
+    public void release(final Stamp stamp) {
+        if (!stamp.mapped()) {
+            unmappedPolls.decrementAndGet(stripe(stamp.tenant()));
+        }
+    }
+
+    /**
+     * Puts a response of a target that has nothing to do. Skipped if there was an eviction for the target since the stamp
+     * has been taken.
+     *
+     * @param stamp the stamp taken before the response data has been loaded
+     * @param tenant the tenant
+     * @param controllerId the controller id of the target
+     * @param targetId the id of the target
+     * @param address the address of the target
+     * @param baseUri the base URI of the request
+     * @param pollingInterval the polling interval of the target, without the random deviation
+     * @param response the response, its links are cached only
+     */
+    @SuppressWarnings("java:S107")
+    public void put(
+            final Stamp stamp, final String tenant, final String controllerId, final long targetId, final String address,
+            final String baseUri, final PollingInterval pollingInterval, final DdiControllerBase response) {
+        final String upperTenant = tenant.toUpperCase();
+        final Key key = new Key(upperTenant, controllerId);
+        // register the target id first, so that a target id based eviction after the put finds the entry
+        targetIds.put(new TargetIdKey(upperTenant, targetId), controllerId);
+        final Long previousTargetId = controllerTargetIds.asMap().put(key, targetId);
+        if (previousTargetId != null && previousTargetId != targetId) {
+            targetIds.remove(new TargetIdKey(upperTenant, previousTargetId), controllerId);
+        }
+        if (isValid(stamp, controllerId)) {
+            cache.put(key, new Entry(address, baseUri, pollingInterval, response.getLinks()));
+            // an eviction could have happened between the check and the put - evictions first increase the stamp, then invalidate
+            if (!isValid(stamp, controllerId)) {
+                cache.invalidate(key);
+            }
+        }
+    }
+
+    @EventListener(classes = AbstractAssignmentEvent.class)
+    public void onAssignmentEvent(final AbstractAssignmentEvent event) {
+        evict(event.getTenant(), event.getActions().keySet());
+    }
+
+    @EventListener(classes = MultiActionEvent.class)
+    public void onMultiActionEvent(final MultiActionEvent event) {
+        evict(event.getTenant(), event.getControllerIds());
+    }
+
+    @EventListener(classes = TargetAttributesRequestedEvent.class)
+    public void onTargetAttributesRequestedEvent(final TargetAttributesRequestedEvent event) {
+        evict(event.getTenant(), event.getControllerId());
+    }
+
+    @EventListener(classes = TargetDeletedEvent.class)
+    public void onTargetDeletedEvent(final TargetDeletedEvent event) {
+        evict(event.getTenant(), event.getControllerId());
+        if (event.getEntityId() != null) {
+            final String upperTenant = event.getTenant().toUpperCase();
+            targetIds.remove(new TargetIdKey(upperTenant, event.getEntityId()));
+            controllerTargetIds.asMap().remove(new Key(upperTenant, event.getControllerId()), event.getEntityId());
+        }
+    }
+
+    @EventListener(classes = TargetUpdatedEvent.class)
+    public void onTargetUpdatedEvent(final TargetUpdatedEvent event) {
+        evictByTargetId(event, event.getEntityId());
+    }
+
+    @EventListener(classes = AbstractActionEvent.class)
+    public void onActionEvent(final AbstractActionEvent event) {
+        evictByTargetId(event, event.getTargetId());
+    }
+
+    @EventListener(classes = {
+            TenantConfigurationCreatedEvent.class, TenantConfigurationUpdatedEvent.class, TenantConfigurationDeletedEvent.class })
+    public void onTenantConfigurationEvent(final RemoteTenantAwareEvent event) {
+        final String upperTenant = event.getTenant().toUpperCase();
+        tenantStamps.incrementAndGet(stripe(upperTenant));
+        cache.asMap().keySet().removeIf(key -> key.tenant().equals(upperTenant));
+    }
+
+    private void evictByTargetId(final RemoteIdEvent event, final Long targetId) {
+        if (targetId == null) {
+            return;
+        }
+        final String upperTenant = event.getTenant().toUpperCase();
+        final String controllerId = targetIds.get(new TargetIdKey(upperTenant, targetId));
+        if (controllerId != null) {
+            evict(upperTenant, controllerId);
+        } else if (unmappedPolls.get(stripe(upperTenant)) > 0) {
+            // the target could be one of the polled targets, whose target ids are not known yet
+            tenantStamps.incrementAndGet(stripe(upperTenant));
+        }
+    }
+
+    private boolean isValid(final Stamp stamp, final String controllerId) {
+        return stamp.controllerStamp() == controllerStamps.get(stripe(stamp.tenant(), controllerId))
+                && (stamp.mapped() || stamp.tenantStamp() == tenantStamps.get(stripe(stamp.tenant())));
+    }
+
+    private void evict(final String tenant, final Collection<String> controllerIds) {
+        final String upperTenant = tenant.toUpperCase();
+        controllerIds.forEach(controllerId -> evict(upperTenant, controllerId));
+    }
+
+    private void evict(final String tenant, final String controllerId) {
+        final String upperTenant = tenant.toUpperCase();
+        controllerStamps.incrementAndGet(stripe(upperTenant, controllerId));
+        cache.invalidate(new Key(upperTenant, controllerId));
+    }
+
+    private static int stripe(final String tenant, final String controllerId) {
+        return Math.floorMod(31 * tenant.hashCode() + controllerId.hashCode(), STRIPES);
+    }
+
+    private static int stripe(final String tenant) {
+        return Math.floorMod(tenant.hashCode(), STRIPES);
+    }
+
+    public record Stamp(String tenant, long controllerStamp, long tenantStamp, boolean mapped) {}
+
+    private record Key(String tenant, String controllerId) {}
+
+    private record TargetIdKey(String tenant, long targetId) {}
+
+    private record Entry(String address, String baseUri, PollingInterval pollingInterval, Links links) {}
+}
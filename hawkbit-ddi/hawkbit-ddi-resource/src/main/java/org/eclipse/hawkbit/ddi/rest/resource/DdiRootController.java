@@ -11,6 +11,7 @@ package org.eclipse.hawkbit.ddi.rest.resource;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -19,6 +20,7 @@ import java.util.Optional;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ValidationException;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.artifact.model.ArtifactStream;
@@ -43,9 +45,11 @@ import org.eclipse.hawkbit.ddi.json.model.DdiDeployment.DdiMaintenanceWindowStat
 import org.eclipse.hawkbit.ddi.json.model.DdiDeployment.HandlingType;
 import org.eclipse.hawkbit.ddi.json.model.DdiDeploymentBase;
 import org.eclipse.hawkbit.ddi.json.model.DdiResult.FinalResult;
+import org.eclipse.hawkbit.ddi.json.model.DdiTargetRegistration;
 import org.eclipse.hawkbit.ddi.json.model.DdiUpdateMode;
 import org.eclipse.hawkbit.ddi.rest.api.DdiRestConstants;
 import org.eclipse.hawkbit.ddi.rest.api.DdiRootControllerRestApi;
+import org.eclipse.hawkbit.im.authentication.SpRole;
 import org.eclipse.hawkbit.repository.ArtifactManagement;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
@@ -55,6 +59,7 @@ import org.eclipse.hawkbit.repository.UpdateMode;
 import org.eclipse.hawkbit.repository.event.remote.DownloadProgressEvent;
 import org.eclipse.hawkbit.repository.exception.CancelActionNotAllowedException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
+import org.eclipse.hawkbit.repository.exception.InsufficientPermissionException;
 import org.eclipse.hawkbit.repository.exception.InvalidConfirmationFeedbackException;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate;
@@ -64,11 +69,13 @@ import org.eclipse.hawkbit.repository.model.ActionStatus;
 import org.eclipse.hawkbit.repository.model.Artifact;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetRegistration;
 import org.eclipse.hawkbit.rest.util.FileStreamingUtil;
 import org.eclipse.hawkbit.rest.util.HttpUtil;
 import org.eclipse.hawkbit.rest.util.RequestResponseContextHolder;
 import org.eclipse.hawkbit.security.HawkbitSecurityProperties;
 import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.eclipse.hawkbit.tenancy.configuration.PollingTime.PollingInterval;
 import org.eclipse.hawkbit.util.IpUtil;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Scope;
@@ -76,9 +83,13 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
  * The {@link DdiRootController} of the hawkBit server DDI API that is queried by the hawkBit
@@ -103,6 +114,7 @@ public class DdiRootController implements DdiRootControllerRestApi {
     private final ApplicationEventPublisher eventPublisher;
     private final HawkbitSecurityProperties securityProperties;
     private final TenantAware tenantAware;
+    private final Optional<DdiPollResponseCache> pollResponseCache;
 
     @SuppressWarnings("java:S107")
     public DdiRootController(
@@ -110,7 +122,8 @@ public class DdiRootController implements DdiRootControllerRestApi {
             final ArtifactManagement artifactManagement, final ArtifactUrlResolver artifactUrlHandler,
             final SystemManagement systemManagement,
             final ApplicationEventPublisher eventPublisher,
-            final HawkbitSecurityProperties securityProperties, final TenantAware tenantAware) {
+            final HawkbitSecurityProperties securityProperties, final TenantAware tenantAware,
+            final Optional<DdiPollResponseCache> pollResponseCache) {
         this.controllerManagement = controllerManagement;
         this.confirmationManagement = confirmationManagement;
         this.artifactManagement = artifactManagement;
@@ -119,6 +132,7 @@ public class DdiRootController implements DdiRootControllerRestApi {
         this.eventPublisher = eventPublisher;
         this.securityProperties = securityProperties;
         this.tenantAware = tenantAware;
+        this.pollResponseCache = pollResponseCache;
     }
 
     @Override
@@ -134,7 +148,8 @@ public class DdiRootController implements DdiRootControllerRestApi {
         return new ResponseEntity<>(
                 DataConversionHelper.createArtifacts(
                         target, softwareModule, artifactUrlHandler, systemManagement,
-                        new ServletServerHttpRequest(RequestResponseContextHolder.getHttpServletRequest())),
+                        new ServletServerHttpRequest(RequestResponseContextHolder.getHttpServletRequest()),
+                        artifactManagement.findDeltasForTarget(target.getId(), List.of(softwareModuleId))),
                 HttpStatus.OK);
     }
 
@@ -142,21 +157,14 @@ public class DdiRootController implements DdiRootControllerRestApi {
     public ResponseEntity<DdiControllerBase> getControllerBase(final String tenant, final String controllerId) {
         log.debug("getControllerBase({})", controllerId);
 
-        final Target target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(
-                controllerId, IpUtil.getClientIpFromRequest(RequestResponseContextHolder.getHttpServletRequest(), securityProperties));
-        final Action activeAction = controllerManagement.findActiveActionWithHighestWeight(controllerId).orElse(null);
-        final Action installedAction = controllerManagement.findInstalledActionByTarget(target).orElse(null);
-
-        checkAndCancelExpiredAction(activeAction);
+        final URI address = IpUtil.getClientIpFromRequest(RequestResponseContextHolder.getHttpServletRequest(), securityProperties);
+        if (pollResponseCache.isPresent()) {
+            return getControllerBaseCached(pollResponseCache.get(), controllerId, address);
+        }
 
-        // activeAction
-        return new ResponseEntity<>(DataConversionHelper.fromTarget(
-                target,
-                installedAction, activeAction,
-                activeAction == null
-                        ? controllerManagement.getPollingTime(target)
-                        : controllerManagement.getPollingTimeForAction(target, activeAction), tenantAware),
-                HttpStatus.OK);
+        final Target target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(controllerId, address);
+        final Action activeAction = controllerManagement.findActiveActionWithHighestWeight(controllerId).orElse(null);
+        return new ResponseEntity<>(generateDdiControllerBase(target, activeAction), HttpStatus.OK);
     }
 
     @Override
@@ -187,12 +195,11 @@ public class DdiRootController implements DdiRootControllerRestApi {
                 result = FileStreamingUtil.writeFileResponse(file, artifact.getFilename(), artifact.getCreatedAt(),
                         RequestResponseContextHolder.getHttpServletResponse(),
                         RequestResponseContextHolder.getHttpServletRequest(),
-                        (length, shippedSinceLastEvent, total) -> {
-                            if (actionStatus != null) {
-                                eventPublisher.publishEvent(new DownloadProgressEvent(
-                                        tenantAware.getCurrentTenant(), actionStatus.getId(), shippedSinceLastEvent));
-                            }
-                        });
+                        // no progress listener if no action status - allows the container to send the file (zero-copy)
+                        actionStatus == null
+                                ? null
+                                : (length, shippedSinceLastEvent, total) -> eventPublisher.publishEvent(new DownloadProgressEvent(
+                                        tenantAware.getCurrentTenant(), actionStatus.getId(), shippedSinceLastEvent)));
             }
         }
         return result;
@@ -228,6 +235,40 @@ public class DdiRootController implements DdiRootControllerRestApi {
         return ResponseEntity.ok().build();
     }
 
+    @Override
+    public ResponseEntity<InputStream> downloadArtifactDelta(
+            final String tenant,
+            final String controllerId,
+            final Long softwareModuleId,
+            final String fileName,
+            final String base) {
+        final Target target = findTarget(controllerId);
+        final SoftwareModule module = controllerManagement.getSoftwareModule(softwareModuleId);
+        if (checkModule(fileName, module)) {
+            log.warn("Software module with id {} could not be found (3).", softwareModuleId);
+            return ResponseEntity.notFound().build();
+        }
+
+        final Artifact artifact = module.getArtifactByFilename(fileName).orElseThrow(NoSuchElementException::new);
+        final ArtifactStream file = artifactManagement.getDeltaStream(artifact.getId(), base);
+        final String ifMatch = RequestResponseContextHolder.getHttpServletRequest().getHeader(HttpHeaders.IF_MATCH);
+        if (ifMatch != null && !HttpUtil.matchesHttpHeader(ifMatch, file.getSha1Hash())) {
+            return new ResponseEntity<>(HttpStatus.PRECONDITION_FAILED);
+        }
+
+        final ActionStatus actionStatus = RequestResponseContextHolder.getHttpServletRequest().getHeader("Range") == null
+                ? logDownload(RequestResponseContextHolder.getHttpServletRequest(), target, module.getId())
+                : null; // range request - as for the artifacts, don't check action, don't log action status, and don't publish events
+        return FileStreamingUtil.writeFileResponse(
+                file, artifact.getFilename() + DdiRestConstants.ARTIFACT_DELTA_DOWNLOAD_SUFFIX, artifact.getCreatedAt(),
+                RequestResponseContextHolder.getHttpServletResponse(),
+                RequestResponseContextHolder.getHttpServletRequest(),
+                actionStatus == null
+                        ? null
+                        : (length, shippedSinceLastEvent, total) -> eventPublisher.publishEvent(new DownloadProgressEvent(
+                                tenantAware.getCurrentTenant(), actionStatus.getId(), shippedSinceLastEvent)));
+    }
+
     @Override
     public ResponseEntity<DdiDeploymentBase> getControllerDeploymentBaseAction(
             final String tenant,
@@ -275,7 +316,7 @@ public class DdiRootController implements DdiRootControllerRestApi {
             return new ResponseEntity<>(HttpStatus.GONE);
         }
 
-        controllerManagement.addUpdateActionStatus(generateUpdateStatus(feedback, controllerId, actionId));
+        controllerManagement.addUpdateActionStatusBatched(generateUpdateStatus(feedback, controllerId, actionId));
 
         return ResponseEntity.ok().build();
     }
@@ -289,6 +330,28 @@ public class DdiRootController implements DdiRootControllerRestApi {
         return ResponseEntity.ok().build();
     }
 
+    @Override
+    public ResponseEntity<Void> postRegistrations(
+            final List<DdiTargetRegistration> registrations,
+            final String tenant,
+            final String controllerId) {
+        if (!isGateway()) {
+            throw new InsufficientPermissionException("Bulk registration is allowed for gateways only");
+        }
+        final int maxTargetsPerRegistration = securityProperties.getDos().getMaxTargetsPerRegistration();
+        if (registrations.size() > maxTargetsPerRegistration) {
+            throw new ValidationException(
+                    "Bulk registration of " + registrations.size() + " targets exceeds the maximum of " + maxTargetsPerRegistration);
+        }
+        log.debug("postRegistrations of {} targets by gateway {}", registrations.size(), controllerId);
+
+        final URI address = IpUtil.getClientIpFromRequest(RequestResponseContextHolder.getHttpServletRequest(), securityProperties);
+        controllerManagement.registerOrUpdate(registrations.stream()
+                .map(registration -> new TargetRegistration(registration.getControllerId(), address, registration.getName(), registration.getType()))
+                .toList());
+        return ResponseEntity.ok().build();
+    }
+
     @Override
     public ResponseEntity<DdiCancel> getControllerCancelAction(
             final String tenant,
@@ -568,6 +631,13 @@ public class DdiRootController implements DdiRootControllerRestApi {
         return null;
     }
 
+    private static boolean isGateway() {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .anyMatch(SpRole.GATEWAY_ROLE::equals);
+    }
+
     /**
      * Write a md5 file response.
      *
@@ -682,6 +752,56 @@ public class DdiRootController implements DdiRootControllerRestApi {
         return status;
     }
 
+    private ResponseEntity<DdiControllerBase> getControllerBaseCached(
+            final DdiPollResponseCache cache, final String controllerId, final URI address) {
+        final String tenant = tenantAware.getCurrentTenant();
+        final String addressStr = address == null ? null : address.toString();
+        final String baseUri = ServletUriComponentsBuilder.fromCurrentContextPath().toUriString();
+        final Optional<DdiControllerBase> cached = cache.get(
+                tenant, controllerId, addressStr, baseUri, controllerManagement::getPollingTime);
+        if (cached.isPresent()) {
+            // nothing to do for the target - just register the poll
+            if (!controllerManagement.registerPoll(controllerId)) {
+                controllerManagement.findOrRegisterTargetIfItDoesNotExist(controllerId, address);
+            }
+            return new ResponseEntity<>(cached.get(), HttpStatus.OK);
+        }
+
+        final DdiPollResponseCache.Stamp stamp = cache.stamp(tenant, controllerId);
+        try {
+            final Target target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(controllerId, address);
+            final Action activeAction = controllerManagement.findActiveActionWithHighestWeight(controllerId).orElse(null);
+            if (activeAction != null) {
+                return new ResponseEntity<>(generateDdiControllerBase(target, activeAction), HttpStatus.OK);
+            }
+
+            // cached without the polling time, a new random deviation is applied to every response served from the cache
+            final PollingInterval pollingInterval = controllerManagement.getPollingInterval(target);
+            final DdiControllerBase controllerBase = generateDdiControllerBase(
+                    target, null, controllerManagement.getPollingTime(pollingInterval));
+            cache.put(stamp, tenant, controllerId, target.getId(), addressStr, baseUri, pollingInterval, controllerBase);
+            return new ResponseEntity<>(controllerBase, HttpStatus.OK);
+        } finally {
+            cache.release(stamp);
+        }
+    }
+
+    private DdiControllerBase generateDdiControllerBase(final Target target, final Action activeAction) {
+        return generateDdiControllerBase(
+                target, activeAction,
+                activeAction == null
+                        ? controllerManagement.getPollingTime(target)
+                        : controllerManagement.getPollingTimeForAction(target, activeAction));
+    }
+
+    private DdiControllerBase generateDdiControllerBase(final Target target, final Action activeAction, final String pollingTime) {
+        final Action installedAction = controllerManagement.findInstalledActionByTarget(target).orElse(null);
+
+        checkAndCancelExpiredAction(activeAction);
+
+        return DataConversionHelper.fromTarget(target, installedAction, activeAction, pollingTime, tenantAware);
+    }
+
     private Target findTarget(final String controllerId) {
         return controllerManagement.findByControllerId(controllerId)
                 .orElseThrow(() -> new EntityNotFoundException(Target.class, controllerId));
@@ -734,7 +854,7 @@ public class DdiRootController implements DdiRootControllerRestApi {
         final List<DdiChunk> chunks = DataConversionHelper.createChunks(
                 target, action, artifactUrlHandler,
                 systemManagement, new ServletServerHttpRequest(RequestResponseContextHolder.getHttpServletRequest()),
-                controllerManagement);
+                controllerManagement, artifactManagement);
         final HandlingType downloadType = calculateDownloadType(action);
         final HandlingType updateType = calculateUpdateType(action, downloadType);
         final DdiMaintenanceWindowStatus maintenanceWindow = calculateMaintenanceWindow(action);
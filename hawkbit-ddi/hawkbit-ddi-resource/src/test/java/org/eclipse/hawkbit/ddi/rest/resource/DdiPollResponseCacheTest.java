@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.hawkbit.im.authentication.SpPermission.TENANT_CONFIGURATION;
+import static org.eclipse.hawkbit.repository.test.util.SecurityContextSwitch.getAs;
+import static org.eclipse.hawkbit.repository.test.util.SecurityContextSwitch.withUser;
+import static org.hamcrest.Matchers.startsWith;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.jayway.jsonpath.JsonPath;
+import org.awaitility.Awaitility;
+import org.eclipse.hawkbit.ddi.json.model.DdiControllerBase;
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.rest.util.MockMvcResultPrinter;
+import org.eclipse.hawkbit.tenancy.configuration.PollingTime.PollingInterval;
+import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Test the root poll resource with enabled poll response cache.
+ * <p/>
+ * Feature: Component Tests - Direct Device Integration API<br/>
+ * Story: Root Poll Resource Cache
+ */
+// polls are persisted lazily (default) - an eagerly persisted poll updates the target and so evicts its own response
+@TestPropertySource(properties = {
+        "hawkbit.server.ddi.poll-cache.enabled=true",
+        "hawkbit.server.repository.eagerPollPersistence=false" })
+class DdiPollResponseCacheTest extends AbstractDDiApiIntegrationTest {
+
+    private static final String BASE_URI = "http://localhost:" + HTTP_PORT;
+    private static final PollingInterval POLLING_INTERVAL = new PollingInterval("00:05:00");
+    private static final Function<PollingInterval, String> POLLING_TIME = pollingInterval -> "00:05:00";
+
+    @Autowired
+    private DdiPollResponseCache pollResponseCache;
+
+    /**
+     * Ensures that the response of an idle target is cached and evicted when a distribution set is assigned.
+     */
+    @Test
+    void idleResponseIsCachedAndEvictedOnAssignment() throws Exception {
+        final String tenant = tenantAware.getCurrentTenant();
+        final Target target = testdataFactory.createTarget("pollCache");
+        final DistributionSet ds = testdataFactory.createDistributionSet("");
+
+        // the first poll stores the address of the target, so it evicts its own response
+        for (int i = 0; i < 2; i++) {
+            mvc.perform(get(CONTROLLER_BASE, tenant, target.getControllerId())
+                            .with(new RequestOnHawkbitDefaultPortPostProcessor()))
+                    .andDo(MockMvcResultPrinter.print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$._links.deploymentBase.href").doesNotExist());
+        }
+        final String address = targetManagement.getByControllerId(target.getControllerId()).getAddress().toString();
+        assertThat(pollResponseCache.get(tenant, target.getControllerId(), address, BASE_URI, POLLING_TIME)).isPresent();
+
+        final Action action = getFirstAssignedAction(assignDistributionSet(ds.getId(), target.getControllerId()));
+        Awaitility.await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(pollResponseCache.get(tenant, target.getControllerId(), address, BASE_URI, POLLING_TIME))
+                        .isEmpty());
+
+        mvc.perform(get(CONTROLLER_BASE, tenant, target.getControllerId())
+                        .with(new RequestOnHawkbitDefaultPortPostProcessor()))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._links.deploymentBase.href",
+                        startsWith(deploymentBaseLink(target.getControllerId(), action.getId().toString()))));
+        // responses with an active action are not cached
+        assertThat(pollResponseCache.get(tenant, target.getControllerId(), address, BASE_URI, POLLING_TIME)).isEmpty();
+    }
+
+    /**
+     * Ensures that action events of other targets don't prevent caching the response of a known target, while an event of a target
+     * unknown by the cache prevents caching the responses of the polls of unknown targets in progress.
+     */
+    @Test
+    void eventsOfOtherTargetsDontPreventCaching() throws Exception {
+        final String tenant = tenantAware.getCurrentTenant();
+        final Target known = testdataFactory.createTarget("pollCacheKnown");
+        final Target other = testdataFactory.createTarget("pollCacheOther");
+        final DistributionSet ds = testdataFactory.createDistributionSet("");
+        for (int i = 0; i < 2; i++) {
+            mvc.perform(get(CONTROLLER_BASE, tenant, known.getControllerId()).with(new RequestOnHawkbitDefaultPortPostProcessor()))
+                    .andExpect(status().isOk());
+        }
+        final String address = targetManagement.getByControllerId(known.getControllerId()).getAddress().toString();
+        final DdiControllerBase response = pollResponseCache.get(tenant, known.getControllerId(), address, BASE_URI, POLLING_TIME)
+                .orElseThrow();
+        final Action otherAction = getFirstAssignedAction(assignDistributionSet(ds.getId(), other.getControllerId()));
+
+        // a poll of a known target in progress
+        final DdiPollResponseCache.Stamp knownStamp = pollResponseCache.stamp(tenant, known.getControllerId());
+        // a poll of a target, not known by the cache, in progress
+        final DdiPollResponseCache.Stamp unknownStamp = pollResponseCache.stamp(tenant, "pollCacheUnknown");
+        pollResponseCache.onActionEvent(new ActionUpdatedEvent(otherAction, other.getId(), null, null));
+
+        pollResponseCache.put(knownStamp, tenant, known.getControllerId(), known.getId(), address, BASE_URI, POLLING_INTERVAL, response);
+        pollResponseCache.release(knownStamp);
+        assertThat(pollResponseCache.get(tenant, known.getControllerId(), address, BASE_URI, POLLING_TIME)).isPresent();
+        pollResponseCache.put(
+                unknownStamp, tenant, "pollCacheUnknown", other.getId() + 1000, address, BASE_URI, POLLING_INTERVAL, response);
+        pollResponseCache.release(unknownStamp);
+        assertThat(pollResponseCache.get(tenant, "pollCacheUnknown", address, BASE_URI, POLLING_TIME)).isEmpty();
+    }
+
+    /**
+     * Ensures that the random deviation of the polling time is applied to every response served from the cache.
+     */
+    @Test
+    void pollingTimeDeviationIsAppliedToCachedResponses() throws Exception {
+        final String tenant = tenantAware.getCurrentTenant();
+        final Target target = testdataFactory.createTarget("pollCacheDeviation");
+        getAs(withUser("tenantadmin", TENANT_CONFIGURATION), () -> {
+            tenantConfigurationManagement.addOrUpdateConfiguration(TenantConfigurationKey.POLLING_TIME, "00:05:00~50%");
+            return null;
+        });
+        try {
+            // the first poll stores the address of the target, so it evicts its own response
+            for (int i = 0; i < 2; i++) {
+                mvc.perform(get(CONTROLLER_BASE, tenant, target.getControllerId()).with(new RequestOnHawkbitDefaultPortPostProcessor()))
+                        .andExpect(status().isOk());
+            }
+            final String address = targetManagement.getByControllerId(target.getControllerId()).getAddress().toString();
+            assertThat(pollResponseCache.get(tenant, target.getControllerId(), address, BASE_URI, POLLING_TIME)).isPresent();
+
+            final Set<String> pollingTimes = new HashSet<>();
+            for (int i = 0; i < 10; i++) {
+                final String content = mvc.perform(get(CONTROLLER_BASE, tenant, target.getControllerId())
+                                .with(new RequestOnHawkbitDefaultPortPostProcessor()))
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse().getContentAsString();
+                pollingTimes.add(JsonPath.read(content, "$.config.polling.sleep"));
+            }
+            assertThat(pollResponseCache.get(tenant, target.getControllerId(), address, BASE_URI, POLLING_TIME)).isPresent();
+            assertThat(pollingTimes).hasSizeGreaterThan(1);
+        } finally {
+            getAs(withUser("tenantadmin", TENANT_CONFIGURATION), () -> {
+                tenantConfigurationManagement.deleteConfiguration(TenantConfigurationKey.POLLING_TIME);
+                return null;
+            });
+        }
+    }
+}
@@ -11,7 +11,9 @@ package org.eclipse.hawkbit.ddi.rest.resource;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.hawkbit.im.authentication.SpPermission.TENANT_CONFIGURATION;
+import static org.eclipse.hawkbit.im.authentication.SpRole.CONTROLLER_ROLE;
 import static org.eclipse.hawkbit.im.authentication.SpRole.CONTROLLER_ROLE_ANONYMOUS;
+import static org.eclipse.hawkbit.im.authentication.SpRole.GATEWAY_ROLE;
 import static org.eclipse.hawkbit.repository.test.util.SecurityContextSwitch.callAs;
 import static org.eclipse.hawkbit.repository.test.util.SecurityContextSwitch.getAs;
 import static org.eclipse.hawkbit.repository.test.util.SecurityContextSwitch.withController;
@@ -36,6 +38,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.eclipse.hawkbit.ddi.json.model.DdiResult;
 import org.eclipse.hawkbit.ddi.json.model.DdiStatus;
@@ -397,6 +401,67 @@ class DdiRootControllerTest extends AbstractDDiApiIntegrationTest {
         });
     }
 
+    /**
+     * Ensures that a gateway registers the targets behind it at once.
+     */
+    @Test
+    @ExpectEvents({
+            @Expect(type = TargetCreatedEvent.class, count = 2),
+            @Expect(type = TargetPollEvent.class, count = 2) })
+    void gatewayRegistersTargets() throws Exception {
+        final String registrations = """
+                [ { "controllerId" : "device1", "name" : "Device 1" }, { "controllerId" : "device2" } ]""";
+        callAs(withController("gateway", CONTROLLER_ROLE, GATEWAY_ROLE),
+                () -> {
+                    mvc.perform(post(CONTROLLER_BASE + "/" + DdiRestConstants.REGISTRATIONS, tenantAware.getCurrentTenant(), "gateway")
+                                    .content(registrations).contentType(MediaType.APPLICATION_JSON))
+                            .andDo(MockMvcResultPrinter.print())
+                            .andExpect(status().isOk());
+                    return null;
+                });
+
+        assertThat(targetManagement.getByControllerId("device1").getName()).isEqualTo("Device 1");
+        assertThat(targetManagement.getByControllerId("device2").getName()).isEqualTo("device2");
+    }
+
+    /**
+     * Ensures that a bulk registration with more targets than allowed is rejected.
+     */
+    @Test
+    void registerTooManyTargetsIsRejected() throws Exception {
+        final int maxTargetsPerRegistration = securityProperties.getDos().getMaxTargetsPerRegistration();
+        final String registrations = IntStream.rangeClosed(0, maxTargetsPerRegistration)
+                .mapToObj(i -> "{ \"controllerId\" : \"device" + i + "\" }")
+                .collect(Collectors.joining(",", "[", "]"));
+        callAs(withController("gateway", CONTROLLER_ROLE, GATEWAY_ROLE),
+                () -> {
+                    mvc.perform(post(CONTROLLER_BASE + "/" + DdiRestConstants.REGISTRATIONS, tenantAware.getCurrentTenant(), "gateway")
+                                    .content(registrations).contentType(MediaType.APPLICATION_JSON))
+                            .andDo(MockMvcResultPrinter.print())
+                            .andExpect(status().isBadRequest());
+                    return null;
+                });
+
+        assertThat(targetManagement.findByControllerId("device0")).isEmpty();
+    }
+
+    /**
+     * Ensures that only gateways are allowed to register targets.
+     */
+    @Test
+    void registerTargetsIsForbiddenForNonGateway() throws Exception {
+        callAs(withController("controller", CONTROLLER_ROLE),
+                () -> {
+                    mvc.perform(post(CONTROLLER_BASE + "/" + DdiRestConstants.REGISTRATIONS, tenantAware.getCurrentTenant(), "controller")
+                                    .content("[ { \"controllerId\" : \"device1\" } ]").contentType(MediaType.APPLICATION_JSON))
+                            .andDo(MockMvcResultPrinter.print())
+                            .andExpect(status().isForbidden());
+                    return null;
+                });
+
+        assertThat(targetManagement.findByControllerId("device1")).isEmpty();
+    }
+
     /**
      * Ensures that the source IP address of the polling target is not stored in repository if disabled
      */
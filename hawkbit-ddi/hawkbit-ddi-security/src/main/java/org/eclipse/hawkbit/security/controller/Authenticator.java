@@ -71,7 +71,13 @@ public interface Authenticator {
         protected Authentication authenticatedController(final String tenant, final String controllerId) {
             Objects.requireNonNull(tenant, "tenant must not be null");
             Objects.requireNonNull(controllerId, "controllerId must not be null");
-            return new AuthenticatedController(tenant, controllerId);
+            return new AuthenticatedController(tenant, controllerId, AuthenticatedController.CONTROLLER_AUTHORITY);
+        }
+
+        protected Authentication authenticatedGateway(final String tenant, final String controllerId) {
+            Objects.requireNonNull(tenant, "tenant must not be null");
+            Objects.requireNonNull(controllerId, "controllerId must not be null");
+            return new AuthenticatedController(tenant, controllerId, AuthenticatedController.GATEWAY_AUTHORITY);
         }
 
         @EqualsAndHashCode(callSuper = true)
@@ -79,10 +85,12 @@ public interface Authenticator {
 
             private static final Collection<GrantedAuthority> CONTROLLER_AUTHORITY =
                     List.of(new SimpleGrantedAuthority(SpRole.CONTROLLER_ROLE));
+            private static final Collection<GrantedAuthority> GATEWAY_AUTHORITY =
+                    List.of(new SimpleGrantedAuthority(SpRole.CONTROLLER_ROLE), new SimpleGrantedAuthority(SpRole.GATEWAY_ROLE));
             private final String controllerId;
 
-            AuthenticatedController(final String tenant, final String controllerId) {
-                super(CONTROLLER_AUTHORITY);
+            AuthenticatedController(final String tenant, final String controllerId, final Collection<GrantedAuthority> authorities) {
+                super(authorities);
                 super.setDetails(new TenantAwareAuthenticationDetails(tenant, true));
                 this.controllerId = controllerId;
                 setAuthenticated(true);
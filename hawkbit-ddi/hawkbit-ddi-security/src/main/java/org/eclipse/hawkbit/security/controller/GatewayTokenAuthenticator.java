@@ -72,7 +72,7 @@ public class GatewayTokenAuthenticator extends Authenticator.AbstractAuthenticat
 
         // validate if the presented token is the same as the gateway token
         return presentedToken.equals(tenantAware.runAsTenant(controllerSecurityToken.getTenant(), gatewaySecurityTokenKeyGetter))
-                ? authenticatedController(controllerSecurityToken.getTenant(), controllerSecurityToken.getControllerId()) : null;
+                ? authenticatedGateway(controllerSecurityToken.getTenant(), controllerSecurityToken.getControllerId()) : null;
     }
 
     @Override
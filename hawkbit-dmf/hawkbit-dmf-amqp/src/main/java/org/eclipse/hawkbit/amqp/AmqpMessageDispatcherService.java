@@ -21,10 +21,11 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.IterableUtils;
@@ -37,6 +38,7 @@ import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
 import org.eclipse.hawkbit.dmf.json.model.DmfActionRequest;
 import org.eclipse.hawkbit.dmf.json.model.DmfArtifact;
+import org.eclipse.hawkbit.dmf.json.model.DmfArtifactDelta;
 import org.eclipse.hawkbit.dmf.json.model.DmfArtifactHash;
 import org.eclipse.hawkbit.dmf.json.model.DmfBatchDownloadAndUpdateRequest;
 import org.eclipse.hawkbit.dmf.json.model.DmfConfirmRequest;
@@ -45,6 +47,7 @@ import org.eclipse.hawkbit.dmf.json.model.DmfMetadata;
 import org.eclipse.hawkbit.dmf.json.model.DmfMultiActionRequest;
 import org.eclipse.hawkbit.dmf.json.model.DmfSoftwareModule;
 import org.eclipse.hawkbit.dmf.json.model.DmfTarget;
+import org.eclipse.hawkbit.repository.ArtifactManagement;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.DistributionSetManagement;
 import org.eclipse.hawkbit.repository.RepositoryProperties;
@@ -67,10 +70,10 @@ import org.eclipse.hawkbit.repository.event.remote.service.TargetDeletedServiceE
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionProperties;
 import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.ArtifactDelta;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
-import org.eclipse.hawkbit.repository.model.TenantMetaData;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.eclipse.hawkbit.util.IpUtil;
 import org.springframework.amqp.core.Message;
@@ -78,8 +81,6 @@ import org.springframework.amqp.core.MessageBuilder;
 import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.context.event.EventListener;
-import org.springframework.security.core.context.SecurityContext;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.CollectionUtils;
 
 /**
@@ -100,8 +101,10 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     private final SoftwareModuleManagement<? extends SoftwareModule> softwareModuleManagement;
     private final DistributionSetManagement<? extends DistributionSet> distributionSetManagement;
     private final DeploymentManagement deploymentManagement;
+    private final ArtifactManagement artifactManagement;
     private final TenantConfigurationManagement tenantConfigurationManagement;
     private final RepositoryProperties repositoryProperties;
+    private final Executor dispatchExecutor;
 
     @SuppressWarnings("java:S107")
     protected AmqpMessageDispatcherService(
@@ -112,8 +115,34 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
             final SoftwareModuleManagement<? extends SoftwareModule> softwareModuleManagement,
             final DistributionSetManagement<? extends DistributionSet> distributionSetManagement,
             final DeploymentManagement deploymentManagement,
+            final ArtifactManagement artifactManagement,
             final TenantConfigurationManagement tenantConfigurationManagement,
             final RepositoryProperties repositoryProperties) {
+        this(rabbitTemplate, amqpSenderService, artifactUrlHandler, systemSecurityContext, systemManagement, targetManagement,
+                softwareModuleManagement, distributionSetManagement, deploymentManagement, artifactManagement, tenantConfigurationManagement,
+                repositoryProperties, null);
+    }
+
+    /**
+     * Constructor.
+     * <p/>
+     * The targets of the events are loaded in partitions of up to 1000. If there is a dispatch executor, the partitions are loaded in
+     * parallel on it, otherwise one after another by the event listener. The executor shall run the loading with the security context
+     * of the caller and shall make the caller wait (e.g. run the loading itself) if it is busy.
+     */
+    @SuppressWarnings("java:S107")
+    protected AmqpMessageDispatcherService(
+            final RabbitTemplate rabbitTemplate,
+            final AmqpMessageSenderService amqpSenderService, final ArtifactUrlResolver artifactUrlHandler,
+            final SystemSecurityContext systemSecurityContext, final SystemManagement systemManagement,
+            final TargetManagement<? extends Target> targetManagement,
+            final SoftwareModuleManagement<? extends SoftwareModule> softwareModuleManagement,
+            final DistributionSetManagement<? extends DistributionSet> distributionSetManagement,
+            final DeploymentManagement deploymentManagement,
+            final ArtifactManagement artifactManagement,
+            final TenantConfigurationManagement tenantConfigurationManagement,
+            final RepositoryProperties repositoryProperties,
+            final Executor dispatchExecutor) {
         super(rabbitTemplate);
         this.artifactUrlHandler = artifactUrlHandler;
         this.amqpSenderService = amqpSenderService;
@@ -123,8 +152,10 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         this.softwareModuleManagement = softwareModuleManagement;
         this.distributionSetManagement = distributionSetManagement;
         this.deploymentManagement = deploymentManagement;
+        this.artifactManagement = artifactManagement;
         this.tenantConfigurationManagement = tenantConfigurationManagement;
         this.repositoryProperties = repositoryProperties;
+        this.dispatchExecutor = dispatchExecutor;
     }
 
     public boolean isBatchAssignmentsEnabled() {
@@ -183,10 +214,16 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
 
     protected DmfDownloadAndUpdateRequest createDownloadAndUpdateRequest(
             final Target target, final Long actionId, final Map<SoftwareModule, Map<String, String>> softwareModules) {
+        return createDownloadAndUpdateRequest(target, actionId, softwareModules, findDeltas(target, softwareModules));
+    }
+
+    protected DmfDownloadAndUpdateRequest createDownloadAndUpdateRequest(
+            final Target target, final Long actionId, final Map<SoftwareModule, Map<String, String>> softwareModules,
+            final Map<Long, ArtifactDelta> deltas) {
         return new DmfDownloadAndUpdateRequest(
                 actionId,
                 systemSecurityContext.runAsSystem(target::getSecurityToken),
-                convertToAmqpSoftwareModules(target, softwareModules));
+                convertToAmqpSoftwareModules(target, softwareModules, deltas));
     }
 
     /**
@@ -257,10 +294,16 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
 
     protected DmfConfirmRequest createConfirmRequest(
             final Target target, final Long actionId, final Map<SoftwareModule, Map<String, String>> softwareModules) {
+        return createConfirmRequest(target, actionId, softwareModules, findDeltas(target, softwareModules));
+    }
+
+    protected DmfConfirmRequest createConfirmRequest(
+            final Target target, final Long actionId, final Map<SoftwareModule, Map<String, String>> softwareModules,
+            final Map<Long, ArtifactDelta> deltas) {
         return new DmfConfirmRequest(
                 actionId,
                 systemSecurityContext.runAsSystem(target::getSecurityToken),
-                convertToAmqpSoftwareModules(target, softwareModules));
+                convertToAmqpSoftwareModules(target, softwareModules, deltas));
     }
 
     void sendMultiActionRequestToTarget(
@@ -326,33 +369,31 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         return getEventTypeForTarget(new ActionProperties(action));
     }
 
-    private static <T, R> List<R> partitionedParallelExecution(
+    private <T, R> List<R> partitionedParallelExecution(
             final Collection<T> controllerIds, final Function<Collection<T>, List<R>> loadingFunction) {
         // Ensure not exceeding the max value of MAX_PROCESSING_SIZE
         if (controllerIds.size() > MAX_PROCESSING_SIZE) {
             // Split the provided collection
-            final Iterable<List<T>> partitions = ListUtils.partition(IterableUtils.toList(controllerIds), MAX_PROCESSING_SIZE);
-            // Preserve the security context because it gets lost when executing
-            // loading calls in new threads
-            final SecurityContext context = SecurityContextHolder.getContext();
-            // Handling remote request in parallel streams
-            return StreamSupport.stream(partitions.spliterator(), true) //
-                    .flatMap(partition -> withSecurityContext(() -> loadingFunction.apply(partition), context).stream())
+            final List<List<T>> partitions = ListUtils.partition(IterableUtils.toList(controllerIds), MAX_PROCESSING_SIZE);
+            if (dispatchExecutor == null) {
+                return partitions.stream().flatMap(partition -> loadingFunction.apply(partition).stream()).toList();
+            }
+            // the listener waits for all partitions, so it doesn't take further events while the executor is busy
+            final List<CompletableFuture<List<R>>> loading = partitions.stream()
+                    .map(partition -> CompletableFuture.supplyAsync(() -> loadingFunction.apply(partition), dispatchExecutor))
                     .toList();
+            try {
+                return loading.stream().flatMap(partitionLoading -> partitionLoading.join().stream()).toList();
+            } catch (final CompletionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw e;
+            }
         }
         return loadingFunction.apply(controllerIds);
     }
 
-    private static <T> T withSecurityContext(final Supplier<T> callable, final SecurityContext securityContext) {
-        final SecurityContext oldContext = SecurityContextHolder.getContext();
-        try {
-            SecurityContextHolder.setContext(securityContext);
-            return callable.get();
-        } finally {
-            SecurityContextHolder.setContext(oldContext);
-        }
-    }
-
     private static MessageProperties createConnectorMessagePropertiesEvent(
             final String tenant, final String controllerId, final EventTopic topic) {
         final MessageProperties messageProperties = createConnectorMessageProperties(tenant, controllerId);
@@ -421,9 +462,15 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         if (!targets.isEmpty() && isBatchAssignmentsEnabled()) {
             sendBatchUpdateMessage(actionsPropsByTargetId, targets, softwareModules);
         } else {
+            // the requests of the targets differ only in a few target specific fields, so if there are many targets, the request
+            // (of a type) is serialized once and the messages are created from this template
+            final Map<Class<? extends DmfActionRequest>, Optional<DmfUpdateRequestTemplate>> templates =
+                    targets.size() > 1 && softwareModules != null ? new HashMap<>() : null;
+            // the deltas of all targets are loaded at once
+            final Map<Long, Map<Long, ArtifactDelta>> deltas = findDeltas(targets, softwareModules);
             targets.forEach(target -> {
                 final ActionProperties actionProp = actionsPropsByTargetId.get(target.getControllerId());
-                sendSingleUpdateMessage(actionProp, target, softwareModules);
+                sendSingleUpdateMessage(actionProp, target, softwareModules, deltas.getOrDefault(target.getId(), Map.of()), templates);
             });
         }
     }
@@ -463,7 +510,9 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     }
 
     private void sendSingleUpdateMessage(
-            final ActionProperties action, final Target target, final Map<SoftwareModule, Map<String, String>> modules) {
+            final ActionProperties action, final Target target,
+            final Map<SoftwareModule, Map<String, String>> modules, final Map<Long, ArtifactDelta> deltas,
+            final Map<Class<? extends DmfActionRequest>, Optional<DmfUpdateRequestTemplate>> templates) {
         final String tenant = action.getTenant();
 
         final URI targetAddress = IpUtil.addressToUri(target.getAddress());
@@ -471,21 +520,69 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
             return;
         }
 
-        DmfActionRequest request;
-        if (action.isWaitingConfirmation()) {
-            // For the moment the confirmation request is the same as download and update request.
-            // It can be modified not to expose all the software modules in the future.
-            request = createConfirmRequest(target, action.getId(), modules);
-        } else {
-            request = createDownloadAndUpdateRequest(target, action.getId(), modules);
+        // For the moment the confirmation request is the same as download and update request.
+        // It can be modified not to expose all the software modules in the future.
+        final Class<? extends DmfActionRequest> requestType =
+                action.isWaitingConfirmation() ? DmfConfirmRequest.class : DmfDownloadAndUpdateRequest.class;
+        final MessageProperties properties = createConnectorMessagePropertiesEvent(
+                tenant, target.getControllerId(), getEventTypeForTarget(action));
+        final Message message = Optional.ofNullable(templates)
+                .flatMap(t -> t.getOrDefault(requestType, Optional.empty()))
+                // deltas depend on the installed software modules of the target, so such targets are not served from the template
+                .filter(template -> deltas.isEmpty())
+                .flatMap(template -> template.toMessage(
+                        action.getId(), systemSecurityContext.runAsSystem(target::getSecurityToken), target.getControllerId(), properties))
+                .orElseGet(() -> getMessageConverter().toMessage(
+                        requestType == DmfConfirmRequest.class
+                                ? createConfirmRequest(target, action.getId(), modules, deltas)
+                                : createDownloadAndUpdateRequest(target, action.getId(), modules, deltas),
+                        properties));
+        if (templates != null && !templates.containsKey(requestType) && deltas.isEmpty()) {
+            templates.put(requestType, createUpdateRequestTemplate(requestType, action, target, modules, message));
         }
-
-        final Message message = getMessageConverter().toMessage(
-                request,
-                createConnectorMessagePropertiesEvent(tenant, target.getControllerId(), getEventTypeForTarget(action)));
         amqpSenderService.sendMessage(message, targetAddress);
     }
 
+    // the template is verified with the (regular) message of the first target, and not used if there is any difference, e.g. if the
+    // artifact url resolver doesn't embed the controller id as it is or the request creation is customized
+    private Optional<DmfUpdateRequestTemplate> createUpdateRequestTemplate(
+            final Class<? extends DmfActionRequest> requestType, final ActionProperties action, final Target target,
+            final Map<SoftwareModule, Map<String, String>> modules, final Message message) {
+        final String tenant = systemManagement.getTenantMetadataWithoutDetails().getTenant();
+        final List<DmfSoftwareModule> dmfModules = modules.entrySet().stream()
+                .map(entry -> convertToAmqpSoftwareModule(
+                        DmfUpdateRequestTemplate.CONTROLLER_ID_MARKER, tenant, entry, Collections.emptyMap()))
+                .toList();
+        final DmfActionRequest request = requestType == DmfConfirmRequest.class
+                ? new DmfConfirmRequest(
+                        DmfUpdateRequestTemplate.ACTION_ID_MARKER, DmfUpdateRequestTemplate.SECURITY_TOKEN_MARKER, dmfModules)
+                : new DmfDownloadAndUpdateRequest(
+                        DmfUpdateRequestTemplate.ACTION_ID_MARKER, DmfUpdateRequestTemplate.SECURITY_TOKEN_MARKER, dmfModules);
+        final Optional<DmfUpdateRequestTemplate> template = DmfUpdateRequestTemplate.of(request, getMessageConverter())
+                .filter(t -> t.matches(
+                        message, action.getId(), systemSecurityContext.runAsSystem(target::getSecurityToken), target.getControllerId(),
+                        createConnectorMessagePropertiesEvent(
+                                action.getTenant(), target.getControllerId(), getEventTypeForTarget(action))));
+        if (template.isEmpty()) {
+            log.debug("Update request of {} can't be templated, serialize it for each target", requestType.getSimpleName());
+        }
+        return template;
+    }
+
+    private Map<Long, ArtifactDelta> findDeltas(final Target target, final Map<SoftwareModule, Map<String, String>> modules) {
+        return findDeltas(List.of(target), modules).getOrDefault(target.getId(), Map.of());
+    }
+
+    private Map<Long, Map<Long, ArtifactDelta>> findDeltas(
+            final List<Target> targets, final Map<SoftwareModule, Map<String, String>> modules) {
+        if (targets.isEmpty() || CollectionUtils.isEmpty(modules)) {
+            return Map.of();
+        }
+
+        return systemSecurityContext.runAsSystem(() -> artifactManagement.findDeltasForTargets(
+                targets.stream().map(Target::getId).toList(), modules.keySet().stream().map(SoftwareModule::getId).toList()));
+    }
+
     private void sendDeleteMessage(final String tenant, final String controllerId, final String targetAddress) {
         if (hasInvalidAddress(targetAddress)) {
             return;
@@ -516,21 +613,26 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     }
 
     private List<DmfSoftwareModule> convertToAmqpSoftwareModules(
-            final Target target, final Map<SoftwareModule, Map<String, String>> softwareModules) {
-        return Optional.ofNullable(softwareModules)
-                .map(Map::entrySet)
-                .map(Set::stream)
-                .map(stream -> stream.map(entry -> convertToAmqpSoftwareModule(target, entry)).toList())
-                .orElse(null);
+            final Target target, final Map<SoftwareModule, Map<String, String>> softwareModules, final Map<Long, ArtifactDelta> deltas) {
+        if (softwareModules == null) {
+            return null;
+        }
+
+        final String tenant = systemManagement.getTenantMetadataWithoutDetails().getTenant();
+        return softwareModules.entrySet().stream()
+                .map(entry -> convertToAmqpSoftwareModule(target.getControllerId(), tenant, entry, deltas))
+                .toList();
     }
 
-    private DmfSoftwareModule convertToAmqpSoftwareModule(final Target target, final Entry<SoftwareModule, Map<String, String>> entry) {
+    private DmfSoftwareModule convertToAmqpSoftwareModule(
+            final String controllerId, final String tenant, final Entry<SoftwareModule, Map<String, String>> entry,
+            final Map<Long, ArtifactDelta> deltas) {
         return new DmfSoftwareModule(
                 entry.getKey().getId(),
                 entry.getKey().getType().getKey(),
                 entry.getKey().getVersion(),
                 entry.getKey().isEncrypted() ? Boolean.TRUE : null,
-                convertArtifacts(target, entry.getKey().getArtifacts()),
+                convertArtifacts(controllerId, tenant, entry.getKey().getArtifacts(), deltas),
                 CollectionUtils.isEmpty(entry.getValue()) ? null : convertMetadata(entry.getValue()));
     }
 
@@ -538,29 +640,38 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         return metadata.entrySet().stream().map(md -> new DmfMetadata(md.getKey(), md.getValue())).toList();
     }
 
-    private List<DmfArtifact> convertArtifacts(final Target target, final List<Artifact> artifacts) {
+    private List<DmfArtifact> convertArtifacts(
+            final String controllerId, final String tenant, final List<Artifact> artifacts, final Map<Long, ArtifactDelta> deltas) {
         if (artifacts.isEmpty()) {
             return Collections.emptyList();
         }
 
-        return artifacts.stream().map(artifact -> convertArtifact(target, artifact)).toList();
+        return artifacts.stream().map(artifact -> convertArtifact(controllerId, tenant, artifact, deltas.get(artifact.getId()))).toList();
     }
 
-    private DmfArtifact convertArtifact(final Target target, final Artifact artifact) {
-        final TenantMetaData tenantMetadata = systemManagement.getTenantMetadataWithoutDetails();
-        return new DmfArtifact(
+    private DmfArtifact convertArtifact(
+            final String controllerId, final String tenant, final Artifact artifact, final ArtifactDelta delta) {
+        final DownloadDescriptor downloadDescriptor = new DownloadDescriptor(
+                tenant, controllerId, artifact.getSoftwareModule().getId(), artifact.getFilename(), artifact.getSha1Hash());
+        final List<ArtifactUrl> urls = artifactUrlHandler.getUrls(downloadDescriptor, ArtifactUrlResolver.ApiType.DMF);
+        final DmfArtifact dmfArtifact = new DmfArtifact(
                 artifact.getFilename(),
                 new DmfArtifactHash(artifact.getSha1Hash(), artifact.getMd5Hash()),
                 artifact.getSize(),
                 artifact.getLastModifiedAt(),
-                artifactUrlHandler
-                        .getUrls(new DownloadDescriptor(
-                                        tenantMetadata.getTenant(), target.getControllerId(),
-                                        artifact.getSoftwareModule().getId(), artifact.getFilename(), artifact.getSha1Hash()),
-                                ArtifactUrlResolver.ApiType.DMF)
-                        .stream()
-                        .collect(Collectors.toMap(ArtifactUrl::protocol, ArtifactUrl::ref))
-        );
+                urls.stream().collect(Collectors.toMap(ArtifactUrl::protocol, ArtifactUrl::ref)));
+        if (delta != null) {
+            final Map<String, String> deltaUrls = artifactUrlHandler
+                    .getDeltaUrls(downloadDescriptor, delta.getBaseSha1Hash(), ArtifactUrlResolver.ApiType.DMF, null)
+                    .stream()
+                    .collect(Collectors.toMap(ArtifactUrl::protocol, ArtifactUrl::ref));
+            // offered only if it could be downloaded
+            if (!deltaUrls.isEmpty()) {
+                dmfArtifact.setDelta(new DmfArtifactDelta(
+                        delta.getBaseSha1Hash(), new DmfArtifactHash(delta.getSha1Hash(), delta.getMd5Hash()), delta.getSize(), deltaUrls));
+            }
+        }
+        return dmfArtifact;
     }
 
     private Map<SoftwareModule, Map<String, String>> getSoftwareModulesWithMetadata(final DistributionSet distributionSet) {
@@ -584,14 +695,19 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
                 .toList();
 
         // due to the fact that all targets in a batch use the same set of software modules we don't generate target-specific urls
+        // (and don't offer deltas, which depend on the installed software modules of the target)
         final Target firstTarget = targets.get(0);
+        final String tenant = systemManagement.getTenantMetadataWithoutDetails().getTenant();
         final DmfBatchDownloadAndUpdateRequest batchRequest = new DmfBatchDownloadAndUpdateRequest(
                 System.currentTimeMillis(),
                 dmfTargets,
                 Optional.ofNullable(modules)
                         .map(Map::entrySet)
                         .map(Set::stream)
-                        .map(stream -> stream.map(entry -> convertToAmqpSoftwareModule(firstTarget, entry)).toList())
+                        .map(stream -> stream
+                                .map(entry -> convertToAmqpSoftwareModule(
+                                        firstTarget.getControllerId(), tenant, entry, Collections.emptyMap()))
+                                .toList())
                         .orElse(null));
 
         // we use only the first action when constructing message as Tenant and action type are the same
@@ -12,12 +12,15 @@ package org.eclipse.hawkbit.amqp;
 import static org.eclipse.hawkbit.repository.RepositoryConstants.MAX_ACTION_COUNT;
 import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey.MULTI_ASSIGNMENTS_ENABLED;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -26,6 +29,7 @@ import java.util.stream.Collectors;
 
 import jakarta.validation.constraints.NotNull;
 
+import com.rabbitmq.client.Channel;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.audit.AuditLog;
 import org.eclipse.hawkbit.dmf.amqp.api.EventTopic;
@@ -53,6 +57,7 @@ import org.eclipse.hawkbit.repository.model.ActionProperties;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetRegistration;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.eclipse.hawkbit.tenancy.TenantAwareAuthenticationDetails;
 import org.eclipse.hawkbit.util.IpUtil;
@@ -60,6 +65,7 @@ import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.FatalExceptionStrategy;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -67,6 +73,8 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
@@ -84,6 +92,8 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
     private final ConfirmationManagement confirmationManagement;
     private final TenantConfigurationManagement tenantConfigurationManagement;
     private final SystemSecurityContext systemSecurityContext;
+    private final FatalExceptionStrategy fatalExceptionStrategy;
+    private final TransactionTemplate transactionTemplate;
     private ControllerManagement controllerManagement;
 
     /**
@@ -101,12 +111,37 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
             final AmqpMessageDispatcherService amqpMessageDispatcherService,
             final ControllerManagement controllerManagement, final SystemSecurityContext systemSecurityContext,
             final TenantConfigurationManagement tenantConfigurationManagement, final ConfirmationManagement confirmationManagement) {
+        this(rabbitTemplate, amqpMessageDispatcherService, controllerManagement, systemSecurityContext, tenantConfigurationManagement,
+                confirmationManagement, new RequeueExceptionStrategy(List.of(), List.of()), null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param rabbitTemplate for converting messages
+     * @param amqpMessageDispatcherService to sending events to DMF client
+     * @param controllerManagement for target repo access
+     * @param systemSecurityContext the system Security Context
+     * @param tenantConfigurationManagement the tenant configuration Management
+     * @param confirmationManagement the confirmation management
+     * @param fatalExceptionStrategy decides if the messages failed in batch mode shall be rejected without requeue
+     * @param transactionManager the transaction manager for the groups of messages in batch mode, if <code>null</code> the messages
+     *         of a batch are handled one by one
+     */
+    public AmqpMessageHandlerService(
+            final RabbitTemplate rabbitTemplate,
+            final AmqpMessageDispatcherService amqpMessageDispatcherService,
+            final ControllerManagement controllerManagement, final SystemSecurityContext systemSecurityContext,
+            final TenantConfigurationManagement tenantConfigurationManagement, final ConfirmationManagement confirmationManagement,
+            final FatalExceptionStrategy fatalExceptionStrategy, final PlatformTransactionManager transactionManager) {
         super(rabbitTemplate);
         this.amqpMessageDispatcherService = amqpMessageDispatcherService;
         this.controllerManagement = controllerManagement;
         this.systemSecurityContext = systemSecurityContext;
         this.tenantConfigurationManagement = tenantConfigurationManagement;
         this.confirmationManagement = confirmationManagement;
+        this.fatalExceptionStrategy = fatalExceptionStrategy;
+        this.transactionTemplate = transactionManager == null ? null : new TransactionTemplate(transactionManager);
     }
 
     /**
@@ -117,7 +152,8 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
      * @param tenant the contentType of the message
      * @return a message if <null> no message is send back to sender
      */
-    @RabbitListener(queues = "${hawkbit.dmf.rabbitmq.receiverQueue:dmf_receiver}", containerFactory = "listenerContainerFactory")
+    @RabbitListener(queues = "${hawkbit.dmf.rabbitmq.receiverQueue:dmf_receiver}", containerFactory = "listenerContainerFactory",
+            autoStartup = "#{!${hawkbit.dmf.rabbitmq.batch.enabled:false}}")
     public Message onMessage(
             final Message message,
             @Header(name = MessageHeaderKey.TYPE, required = false) final String type,
@@ -179,11 +215,85 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
         return null;
     }
 
+    /**
+     * Method to handle all incoming DMF amqp messages in batches, used instead of {@link #onMessage(Message, String, String)} if
+     * hawkbit.dmf.rabbitmq.batch.enabled is set. The messages are acknowledged one by one, so a failed message doesn't reject the whole
+     * batch.
+     *
+     * @param messages the incoming messages
+     * @param channel the channel the messages are received through
+     */
+    @RabbitListener(queues = "${hawkbit.dmf.rabbitmq.receiverQueue:dmf_receiver}", containerFactory = "batchListenerContainerFactory",
+            autoStartup = "${hawkbit.dmf.rabbitmq.batch.enabled:false}")
+    public void onMessages(final List<Message> messages, final Channel channel) {
+        onMessages(messages, channel, getRabbitTemplate().getConnectionFactory().getVirtualHost());
+    }
+
+    /**
+     * Executed if a batch of amqp messages arrives. The messages are grouped by tenant and the messages of a tenant are split into
+     * groups of consecutive messages of the same type (and event topic), so the order of the messages of a tenant is kept. The groups of
+     * THING_CREATED, THING_REMOVED and UPDATE_ATTRIBUTES messages, which only change the repository, are handled in a single transaction
+     * - the targets of a THING_CREATED group are registered at once and the update commands are sent to them after the commit. If the
+     * group fails, its messages are handled again one by one, so only the failed ones are rejected. The other messages (e.g. the action
+     * status updates, which are persisted on their own) are handled one by one.
+     *
+     * @param messages the messages
+     * @param channel the channel to acknowledge the messages
+     * @param virtualHost the virtual host
+     */
+    public void onMessages(final List<Message> messages, final Channel channel, final String virtualHost) {
+        for (final List<Message> group : groupByTenantAndType(messages)) {
+            handleGroup(group, channel, virtualHost);
+        }
+    }
+
     // for testing
     public void setControllerManagement(final ControllerManagement controllerManagement) {
         this.controllerManagement = controllerManagement;
     }
 
+    private static List<List<Message>> groupByTenantAndType(final List<Message> messages) {
+        final Map<String, List<Message>> byTenant = new LinkedHashMap<>();
+        messages.forEach(message -> byTenant.computeIfAbsent(getHeader(message, MessageHeaderKey.TENANT), k -> new ArrayList<>()).add(message));
+
+        final List<List<Message>> groups = new ArrayList<>();
+        byTenant.values().forEach(tenantMessages -> {
+            List<Message> group = null;
+            for (final Message message : tenantMessages) {
+                if (group == null || !groupKey(group.get(0)).equals(groupKey(message))) {
+                    group = new ArrayList<>();
+                    groups.add(group);
+                }
+                group.add(message);
+            }
+        });
+        return groups;
+    }
+
+    // type and event topic (if any)
+    private static String groupKey(final Message message) {
+        return getHeader(message, MessageHeaderKey.TYPE) + "/" + getHeader(message, MessageHeaderKey.TOPIC);
+    }
+
+    // the messages which only change the repository, so the group transaction covers all their effects
+    private static boolean isTransactional(final String type, final Message message) {
+        return MessageType.THING_CREATED.name().equals(type) || MessageType.THING_REMOVED.name().equals(type)
+                || (MessageType.EVENT.name().equals(type)
+                && EventTopic.UPDATE_ATTRIBUTES.name().equals(getHeader(message, MessageHeaderKey.TOPIC)));
+    }
+
+    private static String getHeader(final Message message, final String key) {
+        return Objects.toString(message.getMessageProperties().getHeader(key), null);
+    }
+
+    private static void ack(final Message message, final Channel channel) {
+        try {
+            channel.basicAck(message.getMessageProperties().getDeliveryTag(), false);
+        } catch (final IOException e) {
+            log.error("Failed to acknowledge message {}", message.getMessageProperties().getDeliveryTag(), e);
+        }
+    }
+
     private static void setSecurityContext(final Authentication authentication) {
         final SecurityContextImpl securityContextImpl = new SecurityContextImpl();
         securityContextImpl.setAuthentication(authentication);
@@ -293,6 +403,45 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
      * @param virtualHost the virtual host
      */
     private void registerTarget(final Message message, final String virtualHost) {
+        try {
+            final ThingCreated thingCreated = toThingCreated(message, virtualHost);
+            final Target target;
+            if (thingCreated.body() == null) {
+                target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(thingCreated.thingId(), thingCreated.address());
+            } else {
+                target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(
+                        thingCreated.thingId(), thingCreated.address(), thingCreated.body().getName(), thingCreated.body().getType());
+                updateAttributes(thingCreated);
+            }
+            log.debug("Target {} reported online state.", thingCreated.thingId());
+            sendUpdateCommandToTarget(target);
+        } catch (final EntityAlreadyExistsException e) {
+            throw new AmqpRejectAndDontRequeueException("Tried to register previously registered target, message will be ignored!", e);
+        }
+    }
+
+    /**
+     * Registers the targets of multiple THING_CREATED messages at once, as {@link #registerTarget(Message, String)} does for a single
+     * one, but doesn't send the update commands to them.
+     *
+     * @param messages the messages
+     * @param virtualHost the virtual host
+     * @return the registered targets
+     */
+    private List<Target> registerTargets(final List<Message> messages, final String virtualHost) {
+        final List<ThingCreated> thingsCreated = messages.stream().map(message -> toThingCreated(message, virtualHost)).toList();
+        final List<Target> targets = controllerManagement.registerOrUpdate(thingsCreated.stream()
+                .map(thingCreated -> thingCreated.body() == null
+                        ? new TargetRegistration(thingCreated.thingId(), thingCreated.address())
+                        : new TargetRegistration(
+                                thingCreated.thingId(), thingCreated.address(), thingCreated.body().getName(), thingCreated.body().getType()))
+                .toList());
+        thingsCreated.forEach(this::updateAttributes);
+        log.debug("{} targets reported online state.", targets.size());
+        return targets;
+    }
+
+    private ThingCreated toThingCreated(final Message message, final String virtualHost) {
         final String thingId = getStringHeaderKey(message, MessageHeaderKey.THING_ID, THING_ID_NULL);
         final String replyTo = message.getMessageProperties().getReplyTo();
 
@@ -300,33 +449,83 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
             logAndThrowMessageError(message, "No ReplyTo was set for the createThing message.");
         }
 
-        try {
-            final URI amqpUri = IpUtil.createAmqpUri(virtualHost, replyTo);
-            final Target target;
-            if (isOptionalMessageBodyEmpty(message)) {
-                log.debug("Received \"THING_CREATED\" AMQP message for thing \"{}\" without body.", thingId);
-                target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(thingId, amqpUri);
-            } else {
-                checkContentTypeJson(message);
-                final DmfCreateThing thingCreateBody = convertMessage(message, DmfCreateThing.class);
-                final DmfAttributeUpdate thingAttributeUpdateBody = thingCreateBody.getAttributeUpdate();
+        final URI amqpUri = IpUtil.createAmqpUri(virtualHost, replyTo);
+        if (isOptionalMessageBodyEmpty(message)) {
+            log.debug("Received \"THING_CREATED\" AMQP message for thing \"{}\" without body.", thingId);
+            return new ThingCreated(thingId, amqpUri, null);
+        }
 
-                log.debug(
-                        "Received \"THING_CREATED\" AMQP message for thing \"{}\" with target name \"{}\" and type \"{}\".",
-                        thingId, thingCreateBody.getName(), thingCreateBody.getType());
+        checkContentTypeJson(message);
+        final DmfCreateThing thingCreateBody = convertMessage(message, DmfCreateThing.class);
+        log.debug(
+                "Received \"THING_CREATED\" AMQP message for thing \"{}\" with target name \"{}\" and type \"{}\".",
+                thingId, thingCreateBody.getName(), thingCreateBody.getType());
+        return new ThingCreated(thingId, amqpUri, thingCreateBody);
+    }
 
-                target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(
-                        thingId, amqpUri, thingCreateBody.getName(), thingCreateBody.getType());
+    private void updateAttributes(final ThingCreated thingCreated) {
+        final DmfAttributeUpdate thingAttributeUpdateBody = thingCreated.body() == null ? null : thingCreated.body().getAttributeUpdate();
+        if (thingAttributeUpdateBody != null) {
+            controllerManagement.updateControllerAttributes(
+                    thingCreated.thingId(), thingAttributeUpdateBody.getAttributes(), getUpdateMode(thingAttributeUpdateBody));
+        }
+    }
 
-                if (thingAttributeUpdateBody != null) {
-                    controllerManagement.updateControllerAttributes(
-                            thingId, thingAttributeUpdateBody.getAttributes(), getUpdateMode(thingAttributeUpdateBody));
-                }
+    private void handleGroup(final List<Message> group, final Channel channel, final String virtualHost) {
+        final String type = getHeader(group.get(0), MessageHeaderKey.TYPE);
+        final String tenant = getHeader(group.get(0), MessageHeaderKey.TENANT);
+        if (group.size() > 1 && transactionTemplate != null && !ObjectUtils.isEmpty(tenant) && isTransactional(type, group.get(0))) {
+            final SecurityContext oldContext = SecurityContextHolder.getContext();
+            try {
+                // the tenant shall be set before the transaction is started since the session is bound to the tenant
+                setTenantSecurityContext(tenant);
+                final List<Target> registered = transactionTemplate.execute(status -> {
+                    if (MessageType.THING_CREATED.name().equals(type)) {
+                        return registerTargets(group, virtualHost);
+                    }
+                    group.forEach(message -> onMessage(message, type, tenant, virtualHost));
+                    return List.<Target> of();
+                });
+                group.forEach(message -> ack(message, channel));
+                // sent after the commit, so nothing is sent for a group which is rolled back (and handled again one by one)
+                sendUpdateCommandsToTargets(registered);
+                return;
+            } catch (final RuntimeException e) {
+                log.debug("Failed to handle group of {} {} messages of tenant {}, handle them one by one", group.size(), type, tenant, e);
+            } finally {
+                SecurityContextHolder.setContext(oldContext);
+            }
+        }
+
+        for (final Message message : group) {
+            try {
+                onMessage(message, type, tenant, virtualHost);
+                ack(message, channel);
+            } catch (final RuntimeException e) {
+                reject(message, channel, e);
+            }
+        }
+    }
+
+    private void reject(final Message message, final Channel channel, final RuntimeException cause) {
+        final boolean requeue = !(cause instanceof AmqpRejectAndDontRequeueException) && !fatalExceptionStrategy.isFatal(cause);
+        log.warn("Failed to handle message {} (requeue: {}): {}", message.getMessageProperties().getDeliveryTag(), requeue, cause.getMessage());
+        log.debug("Failed to handle message", cause);
+        try {
+            channel.basicNack(message.getMessageProperties().getDeliveryTag(), false, requeue);
+        } catch (final IOException e) {
+            log.error("Failed to reject message {}", message.getMessageProperties().getDeliveryTag(), e);
+        }
+    }
+
+    private void sendUpdateCommandsToTargets(final List<Target> targets) {
+        for (final Target target : targets) {
+            try {
+                sendUpdateCommandToTarget(target);
+            } catch (final RuntimeException e) {
+                // the registration is already acknowledged, the target gets the update command on its next registration
+                log.error("Failed to send update command to target {}", target.getControllerId(), e);
             }
-            log.debug("Target {} reported online state.", thingId);
-            sendUpdateCommandToTarget(target);
-        } catch (final EntityAlreadyExistsException e) {
-            throw new AmqpRejectAndDontRequeueException("Tried to register previously registered target, message will be ignored!", e);
         }
     }
 
@@ -468,7 +667,7 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
                     () -> actionStatus.messages(messages));
             updatedAction = Status.CANCELED == status || Status.CANCEL_REJECTED == status
                     ? controllerManagement.addCancelActionStatus(actionStatus.build())
-                    : controllerManagement.addUpdateActionStatus(actionStatus.build());
+                    : controllerManagement.addUpdateActionStatusBatched(actionStatus.build());
         }
 
         if (shouldTargetProceed(updatedAction) || actionUpdateStatus.getActionStatus() == DmfActionStatus.CONFIRMED) {
@@ -499,4 +698,6 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
     private <T extends Serializable> T getConfigValue(final String key, final Class<T> valueType) {
         return systemSecurityContext.runAsSystem(() -> tenantConfigurationManagement.getConfigurationValue(key, valueType).getValue());
     }
+
+    private record ThingCreated(String thingId, URI address, DmfCreateThing body) {}
 }
@@ -62,6 +62,21 @@ public class AmqpProperties {
      */
     private final FatalSqlExceptionPolicy fatalSqlExceptionPolicy = new FatalSqlExceptionPolicy();
 
+    /**
+     * Batch consuming of the messages of the receiver queue.
+     */
+    private final Batch batch = new Batch();
+
+    /**
+     * Executor loading the targets of the assignment (and cancel) events to dispatch to DMF clients.
+     */
+    private final Dispatch dispatch = new Dispatch();
+
+    /**
+     * Publishing of the messages to the DMF clients.
+     */
+    private final Sender sender = new Sender();
+
     @Data
     public static class FatalSqlExceptionPolicy {
 
@@ -85,4 +100,56 @@ public class AmqpProperties {
          */
         private final List<Pattern> unlessMessageMatches = new ArrayList<>();
     }
-}
\ No newline at end of file
+
+    @Data
+    public static class Batch {
+
+        /**
+         * If enabled, the messages of the receiver queue are consumed in batches and the messages of a batch are grouped by tenant and
+         * type, each group handled in a single transaction.
+         */
+        private boolean enabled = false;
+        /**
+         * The maximal number of messages in a batch. Shall not be greater than the prefetch count (spring.rabbitmq.listener.simple.prefetch).
+         */
+        private int size = 100;
+        /**
+         * The time (in ms) to wait for a message while a batch is being filled. If elapsed the incomplete batch is handled.
+         */
+        private long receiveTimeout = 100;
+    }
+
+    @Data
+    public static class Dispatch {
+
+        /**
+         * The maximal number of threads loading the partitions (of up to 1000 targets) of an event in parallel. If not greater than 0 the
+         * partitions are loaded one after another by the event listener.
+         */
+        private int threads = 4;
+        /**
+         * The maximal number of partitions waiting for a thread. If full, the event listener loads the partition itself, so it slows down
+         * instead of piling up work.
+         */
+        private int queueSize = 16;
+    }
+
+    @Data
+    public static class Sender {
+
+        /**
+         * The maximal number of published messages waiting for their confirms by the broker. If not greater than 0 the confirms are not
+         * tracked (and nacked messages are not published again). Requires correlated publisher confirms
+         * (spring.rabbitmq.publisher-confirm-type=correlated).
+         */
+        private int confirmWindow = 0;
+        /**
+         * The maximal time (in ms) to wait for a free slot in the confirm window. If elapsed the message is published anyway.
+         */
+        private long confirmWindowTimeout = 30_000;
+        /**
+         * The maximal number of times a message nacked by the broker is published again, if the confirm window is enabled.
+         */
+        private int maxRetries = 3;
+    }
+}
@@ -11,6 +11,12 @@ package org.eclipse.hawkbit.amqp;
 
 import java.net.URI;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.util.IpUtil;
@@ -23,17 +29,64 @@ import org.springframework.util.StringUtils;
  * A default implementation for the sender service. The service sends all amqp
  * message to the configured spring rabbitmq connections. The exchange is
  * extracted from the uri.
+ * <p/>
+ * The messages are published without waiting for the publisher confirms of the broker. With a confirm window (requires correlated
+ * publisher confirms) the number of the messages waiting for their confirms is bounded - if the window is full the sender waits for a
+ * confirm, so that a slow broker slows down the sender instead of piling up unconfirmed messages. The messages nacked by the broker are
+ * published again, up to the configured number of retries.
  */
 @Slf4j
 public class DefaultAmqpMessageSenderService extends BaseAmqpService implements AmqpMessageSenderService {
 
+    private final Semaphore outstandingConfirms;
+    private final long confirmWindowTimeout;
+    private final int maxRetries;
+    private final Executor retryExecutor;
+
     /**
      * Constructor.
      *
      * @param rabbitTemplate the AMQP template
      */
     public DefaultAmqpMessageSenderService(final RabbitTemplate rabbitTemplate) {
+        this(rabbitTemplate, 0, 0, 0);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param rabbitTemplate the AMQP template
+     * @param confirmWindow the maximal number of messages waiting for their publisher confirms, if not greater than 0 (or if the
+     *         publisher confirms are not enabled) the confirms are not tracked
+     * @param confirmWindowTimeout the maximal time (in ms) to wait for a free slot in the confirm window, if elapsed the message is
+     *         published anyway
+     * @param maxRetries the maximal number of times a nacked message is published again
+     */
+    public DefaultAmqpMessageSenderService(
+            final RabbitTemplate rabbitTemplate, final int confirmWindow, final long confirmWindowTimeout, final int maxRetries) {
         super(rabbitTemplate);
+        if (confirmWindow > 0 && !rabbitTemplate.getConnectionFactory().isPublisherConfirms()) {
+            log.warn("Confirm window is ignored since publisher confirms are not enabled (spring.rabbitmq.publisher-confirm-type)");
+            outstandingConfirms = null;
+        } else {
+            outstandingConfirms = confirmWindow > 0 ? new Semaphore(confirmWindow) : null;
+        }
+        this.confirmWindowTimeout = confirmWindowTimeout;
+        this.maxRetries = maxRetries;
+        if (outstandingConfirms != null && maxRetries > 0) {
+            // the confirms are completed by the connection threads, which shall not publish, so the retries are published by own thread
+            final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                    1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        final Thread thread = new Thread(runnable, "dmf-sender-retry");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            retryExecutor = threadPoolExecutor;
+        } else {
+            retryExecutor = null;
+        }
     }
 
     @Override
@@ -55,10 +108,60 @@ public class DefaultAmqpMessageSenderService extends BaseAmqpService implements
             log.debug("Sending message to exchange {} with correlationId {}", exchange, correlationId);
         }
 
-        getRabbitTemplate().send(exchange, "", message, new CorrelationData(correlationId));
+        if (outstandingConfirms == null) {
+            getRabbitTemplate().send(exchange, "", message, new CorrelationData(correlationId));
+        } else {
+            send(exchange, message, correlationId, 0);
+        }
     }
 
     protected static boolean isCorrelationIdEmpty(final Message message) {
         return !StringUtils.hasLength(message.getMessageProperties().getCorrelationId());
     }
-}
\ No newline at end of file
+
+    private void send(final String exchange, final Message message, final String correlationId, final int retry) {
+        final boolean acquired = acquire(correlationId);
+        final AtomicBoolean released = new AtomicBoolean(!acquired);
+        final CorrelationData correlationData = new CorrelationData(correlationId);
+        correlationData.getFuture().whenComplete((confirm, e) -> {
+            if (released.compareAndSet(false, true)) {
+                outstandingConfirms.release();
+            }
+            if (e == null && confirm.isAck()) {
+                return;
+            }
+
+            if (retry < maxRetries) {
+                log.warn("Message with correlationId {} nacked by broker ({}), publish it again", correlationId,
+                        e == null ? confirm.getReason() : e.getMessage());
+                retryExecutor.execute(() -> send(exchange, message, correlationId, retry + 1));
+            } else {
+                log.error("Message with correlationId {} nacked by broker ({}), give up after {} retries", correlationId,
+                        e == null ? confirm.getReason() : e.getMessage(), retry);
+            }
+        });
+
+        try {
+            getRabbitTemplate().send(exchange, "", message, correlationData);
+        } catch (final RuntimeException e) {
+            // not published, so there will be no confirm
+            if (released.compareAndSet(false, true)) {
+                outstandingConfirms.release();
+            }
+            throw e;
+        }
+    }
+
+    private boolean acquire(final String correlationId) {
+        try {
+            if (outstandingConfirms.tryAcquire(confirmWindowTimeout, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+            log.warn("Confirm window is still full after {} ms, send message with correlationId {} anyway", confirmWindowTimeout,
+                    correlationId);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return false;
+    }
+}
@@ -13,15 +13,26 @@ import java.sql.SQLException;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.regex.Pattern;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver;
 import org.eclipse.hawkbit.dmf.amqp.api.AmqpSettings;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
+import org.eclipse.hawkbit.repository.ArtifactManagement;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.DistributionSetManagement;
 import org.eclipse.hawkbit.repository.RepositoryProperties;
@@ -33,6 +44,7 @@ import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.FanoutExchange;
@@ -46,6 +58,7 @@ import org.springframework.amqp.rabbit.listener.FatalExceptionStrategy;
 import org.springframework.amqp.rabbit.listener.RabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -56,6 +69,8 @@ import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.retry.backoff.ExponentialBackOffPolicy;
 import org.springframework.retry.support.RetryTemplate;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.ErrorHandler;
 
 /**
@@ -220,6 +235,8 @@ public class DmfApiConfiguration {
      * @param rabbitTemplate for converting messages
      * @param amqpMessageDispatcherService to sending events to DMF client
      * @param controllerManagement for target repo access
+     * @param fatalExceptionStrategies the fatal exception strategies, used to reject the failed messages in batch mode
+     * @param transactionManager the transaction manager, used to handle the groups of messages in batch mode
      * @return handler service bean
      */
     @Bean
@@ -229,10 +246,14 @@ public class DmfApiConfiguration {
             final AmqpMessageDispatcherService amqpMessageDispatcherService,
             final ControllerManagement controllerManagement, final SystemSecurityContext systemSecurityContext,
             final TenantConfigurationManagement tenantConfigurationManagement,
-            final ConfirmationManagement confirmationManagement) {
+            final ConfirmationManagement confirmationManagement,
+            final List<FatalExceptionStrategy> fatalExceptionStrategies,
+            @Value("${hawkbit.dmf.rabbitmq.fatal-exception-types:}") final List<String> fatalExceptionTypes,
+            final ObjectProvider<PlatformTransactionManager> transactionManager) {
         return new AmqpMessageHandlerService(
                 rabbitTemplate, amqpMessageDispatcherService, controllerManagement,
-                systemSecurityContext, tenantConfigurationManagement, confirmationManagement);
+                systemSecurityContext, tenantConfigurationManagement, confirmationManagement,
+                new RequeueExceptionStrategy(fatalExceptionStrategies, fatalExceptionTypes), transactionManager.getIfUnique());
     }
 
     /**
@@ -243,7 +264,9 @@ public class DmfApiConfiguration {
     @Bean
     @ConditionalOnMissingBean
     public AmqpMessageSenderService amqpSenderServiceBean() {
-        return new DefaultAmqpMessageSenderService(rabbitTemplate());
+        final AmqpProperties.Sender sender = amqpProperties.getSender();
+        return new DefaultAmqpMessageSenderService(
+                rabbitTemplate(), sender.getConfirmWindow(), sender.getConfirmWindowTimeout(), sender.getMaxRetries());
     }
 
     /**
@@ -261,6 +284,28 @@ public class DmfApiConfiguration {
         return factory;
     }
 
+    /**
+     * Create RabbitListenerContainerFactory bean for the batch listener (see hawkbit.dmf.rabbitmq.batch) if no
+     * batchListenerContainerFactory bean found
+     *
+     * @return RabbitListenerContainerFactory bean
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "batchListenerContainerFactory")
+    public RabbitListenerContainerFactory<SimpleMessageListenerContainer> batchListenerContainerFactory(
+            final SimpleRabbitListenerContainerFactoryConfigurer configurer, final ErrorHandler errorHandler) {
+        final ConfigurableRabbitListenerContainerFactory factory = new ConfigurableRabbitListenerContainerFactory(
+                amqpProperties.isMissingQueuesFatal(), amqpProperties.getDeclarationRetries(), errorHandler);
+        configurer.configure(factory, rabbitConnectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(amqpProperties.getBatch().getSize());
+        factory.setReceiveTimeout(amqpProperties.getBatch().getReceiveTimeout());
+        // the listener acknowledges the messages one by one
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
+
     @Bean
     @ConditionalOnMissingBean(AmqpMessageDispatcherService.class)
     AmqpMessageDispatcherService amqpMessageDispatcherService(
@@ -270,10 +315,40 @@ public class DmfApiConfiguration {
             final TargetManagement<? extends Target> targetManagement,
             final DistributionSetManagement<? extends DistributionSet> distributionSetManagement,
             final SoftwareModuleManagement<? extends SoftwareModule> softwareModuleManagement, final DeploymentManagement deploymentManagement,
-            final TenantConfigurationManagement tenantConfigurationManagement, final RepositoryProperties repositoryProperties) {
+            final ArtifactManagement artifactManagement,
+            final TenantConfigurationManagement tenantConfigurationManagement, final RepositoryProperties repositoryProperties,
+            final Optional<MeterRegistry> meterRegistry) {
         return new AmqpMessageDispatcherService(rabbitTemplate, amqpSenderService, artifactUrlHandler,
                 systemSecurityContext, systemManagement, targetManagement, softwareModuleManagement, distributionSetManagement,
-                deploymentManagement, tenantConfigurationManagement, repositoryProperties);
+                deploymentManagement, artifactManagement, tenantConfigurationManagement, repositoryProperties,
+                dispatchExecutor(amqpProperties.getDispatch(), meterRegistry));
+    }
+
+    // not a bean, an ExecutorService bean would replace the central async executor (conditional on missing bean)
+    private static ExecutorService dispatchExecutor(final AmqpProperties.Dispatch dispatch, final Optional<MeterRegistry> meterRegistry) {
+        if (dispatch.getThreads() <= 0) {
+            return null;
+        }
+
+        final AtomicLong count = new AtomicLong(0);
+        final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                dispatch.getThreads(), dispatch.getThreads(), 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(dispatch.getQueueSize()),
+                runnable -> {
+                    final Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+                    thread.setName(String.format(Locale.ROOT, "dmf-dispatch-%d", count.getAndIncrement()));
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // backpressure - the event listener loads the partition itself
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        // idle threads terminate, so there is no need to shut down the executor
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        // queue depth, active threads, queue wait and execution times
+        final ExecutorService executorService = meterRegistry
+                .map(mReg -> ExecutorServiceMetrics.monitor(mReg, threadPoolExecutor, "hawkbit.dmf.dispatch"))
+                .orElse(threadPoolExecutor);
+        // the loading runs with the security context (so the tenant) of the event listener
+        return new DelegatingSecurityContextExecutorService(executorService);
     }
 
     private static Map<String, Object> getTTLMaxArgsAuthenticationQueue() {
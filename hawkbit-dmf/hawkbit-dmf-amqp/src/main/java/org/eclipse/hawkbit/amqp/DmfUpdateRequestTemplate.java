@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import org.eclipse.hawkbit.dmf.json.model.DmfActionRequest;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+
+/**
+ * Pre-serialized download and update (or confirm) request of a distribution set. All targets a distribution set is assigned to get the
+ * same software modules, with the same artifacts, hashes and metadata. Only the action id, the security token and the controller id in
+ * the artifact URLs differ. So the request is serialized once with markers for these fields and the message of a target is created by
+ * splicing its fields between the pre-encoded segments, instead of converting and serializing the whole request for each target.
+ * <p/>
+ * The template applies only to controller ids which are not escaped in URLs and JSON (letters, digits and <code>-._~</code>), so that
+ * they are in the URLs exactly as the marker was. Other targets have to be sent the regular way.
+ */
+class DmfUpdateRequestTemplate {
+
+    // markers of the target specific fields in the template request
+    static final long ACTION_ID_MARKER = Long.MIN_VALUE;
+    static final String SECURITY_TOKEN_MARKER = UUID.randomUUID().toString();
+    static final String CONTROLLER_ID_MARKER = UUID.randomUUID().toString();
+
+    private static final Pattern UNESCAPED = Pattern.compile("[A-Za-z0-9._~-]+");
+    private static final String ACTION_ID_MARKER_JSON = String.valueOf(ACTION_ID_MARKER);
+
+    private final byte[][] segments;
+    private final Field[] fields;
+    private final MessageProperties templateProperties;
+
+    private DmfUpdateRequestTemplate(final List<byte[]> segments, final List<Field> fields, final MessageProperties templateProperties) {
+        this.segments = segments.toArray(new byte[0][]);
+        this.fields = fields.toArray(new Field[0]);
+        this.templateProperties = templateProperties;
+    }
+
+    /**
+     * Serializes the template request.
+     *
+     * @param request the request with {@link #ACTION_ID_MARKER}, {@link #SECURITY_TOKEN_MARKER} and {@link #CONTROLLER_ID_MARKER} as
+     *         target specific fields
+     * @param messageConverter the converter to serialize the request with
+     * @return the template or empty, if the serialized request couldn't be split at the markers
+     */
+    static Optional<DmfUpdateRequestTemplate> of(final DmfActionRequest request, final MessageConverter messageConverter) {
+        final Message message = messageConverter.toMessage(request, new MessageProperties());
+        final MessageProperties properties = message.getMessageProperties();
+        if (properties.getContentEncoding() != null && !StandardCharsets.UTF_8.name().equalsIgnoreCase(properties.getContentEncoding())) {
+            return Optional.empty();
+        }
+
+        final String json = new String(message.getBody(), StandardCharsets.UTF_8);
+        final List<byte[]> segments = new ArrayList<>();
+        final List<Field> fields = new ArrayList<>();
+        int start = 0;
+        for (Field field = nextField(json, start); field != null; field = nextField(json, start)) {
+            final int index = json.indexOf(field.marker(), start);
+            segments.add(json.substring(start, index).getBytes(StandardCharsets.UTF_8));
+            fields.add(field);
+            start = index + field.marker().length();
+        }
+        segments.add(json.substring(start).getBytes(StandardCharsets.UTF_8));
+
+        // the action id and the token are written once, a marker somewhere else (e.g. in metadata) would be replaced wrongly
+        if (fields.stream().filter(Field.ACTION_ID::equals).count() != 1
+                || fields.stream().filter(Field.SECURITY_TOKEN::equals).count() != 1) {
+            return Optional.empty();
+        }
+        return Optional.of(new DmfUpdateRequestTemplate(segments, fields, properties));
+    }
+
+    /**
+     * Creates the message of a target.
+     *
+     * @param actionId the id of the action of the target
+     * @param securityToken the security token of the target
+     * @param controllerId the controller id of the target
+     * @param properties the properties of the message, the content properties set by the message converter are added
+     * @return the message or empty, if the target doesn't fit the template
+     */
+    Optional<Message> toMessage(
+            final long actionId, final String securityToken, final String controllerId, final MessageProperties properties) {
+        if (securityToken == null || !UNESCAPED.matcher(controllerId).matches()) {
+            return Optional.empty();
+        }
+
+        final Map<Field, byte[]> values = new HashMap<>();
+        values.put(Field.ACTION_ID, String.valueOf(actionId).getBytes(StandardCharsets.UTF_8));
+        values.put(Field.SECURITY_TOKEN, JsonStringEncoder.getInstance().quoteAsUTF8(securityToken));
+        values.put(Field.CONTROLLER_ID, controllerId.getBytes(StandardCharsets.UTF_8));
+
+        int length = 0;
+        for (int i = 0; i < segments.length; i++) {
+            length += segments[i].length + (i < fields.length ? values.get(fields[i]).length : 0);
+        }
+        final byte[] body = new byte[length];
+        int position = 0;
+        for (int i = 0; i < segments.length; i++) {
+            System.arraycopy(segments[i], 0, body, position, segments[i].length);
+            position += segments[i].length;
+            if (i < fields.length) {
+                final byte[] value = values.get(fields[i]);
+                System.arraycopy(value, 0, body, position, value.length);
+                position += value.length;
+            }
+        }
+
+        templateProperties.getHeaders().forEach(properties.getHeaders()::putIfAbsent);
+        properties.setContentType(templateProperties.getContentType());
+        properties.setContentEncoding(templateProperties.getContentEncoding());
+        properties.setContentLength(body.length);
+        return Optional.of(new Message(body, properties));
+    }
+
+    /**
+     * Checks if the message of a target created with the template is the same as the message created the regular way.
+     *
+     * @param message the regular message of the target
+     * @param actionId the id of the action of the target
+     * @param securityToken the security token of the target
+     * @param controllerId the controller id of the target
+     * @param properties the properties of the message, without the content properties
+     * @return <code>true</code> if both messages are the same
+     */
+    boolean matches(
+            final Message message, final long actionId, final String securityToken, final String controllerId,
+            final MessageProperties properties) {
+        return toMessage(actionId, securityToken, controllerId, properties)
+                .filter(fromTemplate -> Arrays.equals(fromTemplate.getBody(), message.getBody()))
+                .filter(fromTemplate -> fromTemplate.getMessageProperties().getHeaders()
+                        .equals(message.getMessageProperties().getHeaders()))
+                .isPresent();
+    }
+
+    private static Field nextField(final String json, final int start) {
+        Field next = null;
+        int nextIndex = Integer.MAX_VALUE;
+        for (final Field field : Field.values()) {
+            final int index = json.indexOf(field.marker(), start);
+            if (index >= 0 && index < nextIndex) {
+                next = field;
+                nextIndex = index;
+            }
+        }
+        return next;
+    }
+
+    private enum Field {
+
+        ACTION_ID,
+        SECURITY_TOKEN,
+        CONTROLLER_ID;
+
+        private String marker() {
+            return switch (this) {
+                case ACTION_ID -> ACTION_ID_MARKER_JSON;
+                case SECURITY_TOKEN -> SECURITY_TOKEN_MARKER;
+                case CONTROLLER_ID -> CONTROLLER_ID_MARKER;
+            };
+        }
+    }
+}
@@ -13,6 +13,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.when;
 
 import java.net.URI;
@@ -21,11 +22,16 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
 import org.eclipse.hawkbit.artifact.model.StoredArtifactInfo;
 import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrl;
 import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver;
+import org.eclipse.hawkbit.artifact.urlresolver.ArtifactUrlResolver.DownloadDescriptor;
 import org.eclipse.hawkbit.dmf.amqp.api.EventTopic;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
@@ -64,6 +70,7 @@ import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
@@ -104,8 +111,8 @@ class AmqpMessageDispatcherServiceTest extends AbstractIntegrationTest {
         senderService = Mockito.mock(DefaultAmqpMessageSenderService.class);
 
         final ArtifactUrlResolver artifactUrlHandlerMock = Mockito.mock(ArtifactUrlResolver.class);
-        when(artifactUrlHandlerMock.getUrls(any(), any()))
-                .thenReturn(Collections.singletonList(new ArtifactUrl("http", "download", "http://mockurl")));
+        when(artifactUrlHandlerMock.getUrls(any(), any())).thenAnswer(invocation -> Collections.singletonList(new ArtifactUrl(
+                "http", "download", "http://mockurl/" + invocation.<DownloadDescriptor> getArgument(0).controllerId())));
 
         systemManagement = Mockito.mock(SystemManagement.class);
         final TenantMetaData tenantMetaData = Mockito.mock(TenantMetaData.class);
@@ -115,12 +122,18 @@ class AmqpMessageDispatcherServiceTest extends AbstractIntegrationTest {
         when(systemManagement.getTenantMetadata()).thenReturn(tenantMetaData);
         when(systemManagement.getTenantMetadataWithoutDetails()).thenReturn(tenantMetaData);
 
-        amqpMessageDispatcherService = new AmqpMessageDispatcherService(rabbitTemplate, senderService,
-                artifactUrlHandlerMock, systemSecurityContext, systemManagement, targetManagement,
-                softwareModuleManagement, distributionSetManagement, deploymentManagement, tenantConfigurationManagement, repositoryProperties);
+        amqpMessageDispatcherService = createDispatcherService(artifactUrlHandlerMock, null);
 
     }
 
+    protected AmqpMessageDispatcherService createDispatcherService(
+            final ArtifactUrlResolver artifactUrlHandler, final Executor dispatchExecutor) {
+        return new AmqpMessageDispatcherService(rabbitTemplate, senderService,
+                artifactUrlHandler, systemSecurityContext, systemManagement, targetManagement,
+                softwareModuleManagement, distributionSetManagement, deploymentManagement, artifactManagement, tenantConfigurationManagement,
+                repositoryProperties, dispatchExecutor);
+    }
+
     protected Message createArgumentCapture(final URI uri) {
         final ArgumentCaptor<Message> argumentCaptor = ArgumentCaptor.forClass(Message.class);
         Mockito.verify(senderService).sendMessage(argumentCaptor.capture(), eq(uri));
@@ -223,6 +236,80 @@ class AmqpMessageDispatcherServiceTest extends AbstractIntegrationTest {
         }
     }
 
+    /**
+     * Verifies that the download and install requests of many targets, which are created from a template, contain the target specific
+     * fields of each target.
+     */
+    @Test
+    void testSendDownloadRequestToManyTargets() {
+        final DistributionSet ds = testdataFactory.createDistributionSet(UUID.randomUUID().toString());
+        final SoftwareModule module = ds.getModules().iterator().next();
+        testdataFactory.createArtifacts(module.getId());
+        final List<Target> targets = new ArrayList<>(List.of(testTarget));
+        for (int i = 2; i <= 3; i++) {
+            targets.add(targetManagement.create(Create.builder()
+                    .controllerId(String.valueOf(i)).securityToken(TEST_TOKEN + i).address(AMQP_URI.toString()).build()));
+        }
+        final List<Action> actions = new ArrayList<>(
+                assignDistributionSet(distributionSetManagement.get(ds.getId()), targets).getAssignedEntity());
+        final Jackson2JsonMessageConverter messageConverter = Mockito.spy(new Jackson2JsonMessageConverter());
+        when(rabbitTemplate.getMessageConverter()).thenReturn(messageConverter);
+
+        amqpMessageDispatcherService.targetAssignDistributionSet(new TargetAssignDistributionSetServiceEvent(
+                new TargetAssignDistributionSetEvent(TENANT, ds.getId(), actions, true)));
+
+        final ArgumentCaptor<Message> argumentCaptor = ArgumentCaptor.forClass(Message.class);
+        Mockito.verify(senderService, times(3)).sendMessage(argumentCaptor.capture(), eq(AMQP_URI));
+        assertThat(argumentCaptor.getAllValues()).allSatisfy(message -> {
+            final String controllerId = (String) message.getMessageProperties().getHeaders().get(MessageHeaderKey.THING_ID);
+            final Target target = targetManagement.getByControllerId(controllerId);
+            final DmfDownloadAndUpdateRequest request = convertMessage(message, DmfDownloadAndUpdateRequest.class);
+            assertThat(request.getActionId()).isEqualTo(
+                    actions.stream().filter(action -> action.getTarget().getId().equals(target.getId())).findAny().orElseThrow().getId());
+            assertThat(request.getTargetSecurityToken()).isEqualTo(target.getSecurityToken());
+            assertThat(request.getSoftwareModules()).hasSize(3);
+            final DmfSoftwareModule dmfModule = request.getSoftwareModules().stream()
+                    .filter(softwareModule -> softwareModule.getModuleId().equals(module.getId())).findAny().orElseThrow();
+            assertThat(dmfModule.getArtifacts()).isNotEmpty().allSatisfy(
+                    artifact -> assertThat(artifact.getUrls()).containsEntry("http", "http://mockurl/" + controllerId));
+            assertThat(message.getMessageProperties().getContentLength()).isEqualTo(message.getBody().length);
+        });
+        assertThat(argumentCaptor.getAllValues())
+                .extracting(message -> message.getMessageProperties().getHeaders().get(MessageHeaderKey.THING_ID))
+                .containsExactlyInAnyOrder("1", "2", "3");
+        // the request of the first target and the template are serialized, the other requests are created from the template
+        Mockito.verify(messageConverter, times(2)).toMessage(any(), any(MessageProperties.class));
+    }
+
+    /**
+     * Verifies that the targets of an event are loaded in partitions on the dispatch executor, with the security context of the listener.
+     */
+    @Test
+    void testSendCancelRequestToManyTargetsLoadedOnDispatchExecutor() {
+        final List<Action> actions = new ArrayList<>();
+        actions.add(mockAction(1L, testTarget));
+        for (long i = 2; i <= 1500; i++) {
+            final Target unknownTarget = mock(Target.class);
+            when(unknownTarget.getControllerId()).thenReturn("unknown-" + i);
+            actions.add(mockAction(i, unknownTarget));
+        }
+        final AtomicInteger partitions = new AtomicInteger();
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            final Executor dispatchExecutor = new DelegatingSecurityContextExecutorService(executorService);
+            createDispatcherService(mock(ArtifactUrlResolver.class), runnable -> {
+                partitions.incrementAndGet();
+                dispatchExecutor.execute(runnable);
+            }).targetCancelAssignmentToDistributionSet(
+                    new CancelTargetAssignmentServiceEvent(new CancelTargetAssignmentEvent(TENANT, actions)));
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        assertThat(partitions.get()).isEqualTo(2);
+        assertCancelMessage(createArgumentCapture(AMQP_URI));
+    }
+
     /**
      * Verifies that sending update controller attributes event works.
      */
@@ -321,6 +408,14 @@ class AmqpMessageDispatcherServiceTest extends AbstractIntegrationTest {
         return getFirstAssignedAction(assignDistributionSet(testDs, testTarget));
     }
 
+    private static Action mockAction(final long id, final Target target) {
+        final Action action = mock(Action.class);
+        when(action.getId()).thenReturn(id);
+        when(action.getTenant()).thenReturn(TENANT);
+        when(action.getTarget()).thenReturn(target);
+        return action;
+    }
+
     private void assertCancelMessage(final Message sendMessage) {
         assertEventMessage(sendMessage);
         final DmfActionRequest actionId = convertMessage(sendMessage, DmfActionRequest.class);
@@ -16,16 +16,21 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import com.rabbitmq.client.Channel;
 import org.eclipse.hawkbit.dmf.amqp.api.EventTopic;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
@@ -45,6 +50,7 @@ import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionProperties;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetRegistration;
 import org.eclipse.hawkbit.repository.model.TenantConfigurationValue;
 import org.eclipse.hawkbit.security.SecurityContextTenantAware;
 import org.eclipse.hawkbit.security.SecurityTokenGenerator;
@@ -55,6 +61,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.AmqpRejectAndDontRequeueException;
@@ -64,6 +71,8 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConversionException;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
 
 /**
  * Feature: Component Tests - Device Management Federation API<br/>
@@ -431,7 +440,7 @@ class AmqpMessageHandlerServiceTest {
         when(action.getId()).thenReturn(2L);
 
         when(controllerManagementMock.findActionWithDetails(anyLong())).thenReturn(Optional.of(action));
-        when(controllerManagementMock.addUpdateActionStatus(any())).thenThrow(new AssignmentQuotaExceededException());
+        when(controllerManagementMock.addUpdateActionStatusBatched(any())).thenThrow(new AssignmentQuotaExceededException());
 
         final String type = MessageType.EVENT.name();
         assertThatExceptionOfType(AmqpRejectAndDontRequeueException.class)
@@ -447,7 +456,7 @@ class AmqpMessageHandlerServiceTest {
         // Mock
         final Action action = createActionWithTarget(22L);
         when(controllerManagementMock.findActionWithDetails(anyLong())).thenReturn(Optional.of(action));
-        when(controllerManagementMock.addUpdateActionStatus(any())).thenReturn(action);
+        when(controllerManagementMock.addUpdateActionStatusBatched(any())).thenReturn(action);
         // for the test the same action can be used
         when(controllerManagementMock.findActiveActionWithHighestWeight(any())).thenReturn(Optional.of(action));
 
@@ -479,7 +488,7 @@ class AmqpMessageHandlerServiceTest {
         // Mock
         final Action action = createActionWithTarget(22L);
         when(controllerManagementMock.findActionWithDetails(anyLong())).thenReturn(Optional.of(action));
-        when(controllerManagementMock.addUpdateActionStatus(any())).thenReturn(action);
+        when(controllerManagementMock.addUpdateActionStatusBatched(any())).thenReturn(action);
         // for the test the same action can be used
         when(controllerManagementMock.findActiveActionWithHighestWeight(any())).thenReturn(Optional.of(action));
 
@@ -578,6 +587,136 @@ class AmqpMessageHandlerServiceTest {
         assertThingIdCapturedField(knownThingId);
     }
 
+    /**
+     * Tests that in batch mode the messages of a tenant with the same type are handled in a single transaction.
+     */
+    @Test
+    void batchIsGroupedByTenantAndType() throws Exception {
+        final PlatformTransactionManager transactionManager = mockTransactionManager();
+        final Channel channel = mock(Channel.class);
+
+        createBatchHandlerService(transactionManager).onMessages(
+                List.of(createThingRemovedMessage(TENANT, "1", 1), createThingRemovedMessage(TENANT, "2", 2),
+                        createThingRemovedMessage("OTHER", "3", 3)),
+                channel, VIRTUAL_HOST);
+
+        verify(controllerManagementMock).deleteExistingTarget("1");
+        verify(controllerManagementMock).deleteExistingTarget("2");
+        verify(controllerManagementMock).deleteExistingTarget("3");
+        // the single message group of the other tenant is not handled in an explicit transaction
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager, times(1)).commit(any());
+        for (long deliveryTag = 1; deliveryTag <= 3; deliveryTag++) {
+            verify(channel).basicAck(deliveryTag, false);
+        }
+    }
+
+    /**
+     * Tests that in batch mode the targets of a group of THING_CREATED messages are registered at once.
+     */
+    @Test
+    void batchRegistersThingsAtOnce() throws Exception {
+        final PlatformTransactionManager transactionManager = mockTransactionManager();
+        final Channel channel = mock(Channel.class);
+        final MessageProperties firstProperties = getThingCreatedMessageProperties("1");
+        firstProperties.setDeliveryTag(1);
+        final MessageProperties secondProperties = getThingCreatedMessageProperties("2");
+        secondProperties.setDeliveryTag(2);
+        final Target firstTarget = mock(Target.class);
+        final Target secondTarget = mock(Target.class);
+        when(controllerManagementMock.registerOrUpdate(any())).thenReturn(List.of(firstTarget, secondTarget));
+        when(controllerManagementMock.findActiveActionWithHighestWeight(any())).thenReturn(Optional.empty());
+
+        createBatchHandlerService(transactionManager).onMessages(
+                List.of(createMessage(new byte[0], firstProperties),
+                        createMessage(new DmfCreateThing("name", null, null), secondProperties)),
+                channel, VIRTUAL_HOST);
+
+        verify(controllerManagementMock).registerOrUpdate(List.of(
+                new TargetRegistration("1", URI.create("amqp://" + VIRTUAL_HOST + "/MyTest")),
+                new TargetRegistration("2", URI.create("amqp://" + VIRTUAL_HOST + "/MyTest"), "name", null)));
+        // the update commands are sent after the commit
+        final InOrder inOrder = inOrder(transactionManager, controllerManagementMock);
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(controllerManagementMock, times(2)).findActiveActionWithHighestWeight(any());
+        verify(channel).basicAck(1, false);
+        verify(channel).basicAck(2, false);
+    }
+
+    /**
+     * Tests that in batch mode the action status updates are not handled in a group transaction, since they are persisted on their own.
+     */
+    @Test
+    void batchActionStatusUpdatesAreHandledOneByOne() throws Exception {
+        final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        final Channel channel = mock(Channel.class);
+        final Action action = mock(Action.class);
+        when(action.getId()).thenReturn(2L);
+        when(action.isActive()).thenReturn(true);
+        when(controllerManagementMock.findActionWithDetails(anyLong())).thenReturn(Optional.of(action));
+        when(controllerManagementMock.addUpdateActionStatusBatched(any())).thenReturn(action);
+
+        final List<Message> messages = new ArrayList<>();
+        for (long deliveryTag = 1; deliveryTag <= 2; deliveryTag++) {
+            final MessageProperties messageProperties = createMessageProperties(MessageType.EVENT);
+            messageProperties.setHeader(MessageHeaderKey.TOPIC, EventTopic.UPDATE_ACTION_STATUS.name());
+            messageProperties.setDeliveryTag(deliveryTag);
+            messages.add(createMessage(createActionUpdateStatus(DmfActionStatus.RUNNING), messageProperties));
+        }
+        createBatchHandlerService(transactionManager).onMessages(messages, channel, VIRTUAL_HOST);
+
+        verify(controllerManagementMock, times(2)).addUpdateActionStatusBatched(any());
+        verifyNoInteractions(transactionManager);
+        verify(channel).basicAck(1, false);
+        verify(channel).basicAck(2, false);
+    }
+
+    /**
+     * Tests that in batch mode only the failed messages are rejected, requeued only if the failure is not fatal.
+     */
+    @Test
+    void batchFailedMessagesAreRejectedIndividually() throws Exception {
+        final PlatformTransactionManager transactionManager = mockTransactionManager();
+        final Channel channel = mock(Channel.class);
+        // lenient, since the other targets are deleted as well
+        lenient().doThrow(new IllegalStateException("temporary failure")).when(controllerManagementMock).deleteExistingTarget("3");
+
+        createBatchHandlerService(transactionManager).onMessages(
+                List.of(createThingRemovedMessage(TENANT, "1", 1), createThingRemovedMessage(TENANT, null, 2),
+                        createThingRemovedMessage(TENANT, "3", 3)),
+                channel, VIRTUAL_HOST);
+
+        verify(transactionManager).rollback(any());
+        // once in the rolled back group transaction and once on its own
+        verify(controllerManagementMock, times(2)).deleteExistingTarget("1");
+        verify(channel).basicAck(1, false);
+        verify(channel).basicNack(2, false, false);
+        verify(channel).basicNack(3, false, true);
+    }
+
+    private AmqpMessageHandlerService createBatchHandlerService(final PlatformTransactionManager transactionManager) {
+        final SystemSecurityContext systemSecurityContext = new SystemSecurityContext(new SecurityContextTenantAware(authoritiesResolver));
+        return new AmqpMessageHandlerService(rabbitTemplate, amqpMessageDispatcherServiceMock, controllerManagementMock,
+                systemSecurityContext, tenantConfigurationManagement, confirmationManagementMock,
+                new RequeueExceptionStrategy(List.of(), List.of()), transactionManager);
+    }
+
+    private static PlatformTransactionManager mockTransactionManager() {
+        final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        return transactionManager;
+    }
+
+    private Message createThingRemovedMessage(final String tenant, final String thingId, final long deliveryTag) {
+        final MessageProperties messageProperties = createMessageProperties(MessageType.THING_REMOVED);
+        messageProperties.setHeader(MessageHeaderKey.TENANT, tenant);
+        if (thingId != null) {
+            messageProperties.setHeader(MessageHeaderKey.THING_ID, thingId);
+        }
+        messageProperties.setDeliveryTag(deliveryTag);
+        return createMessage(new byte[0], messageProperties);
+    }
+
     private void processThingCreatedMessage(final String thingId, final DmfCreateThing payload) {
         final MessageProperties messageProperties = getThingCreatedMessageProperties(thingId);
         final Message message = createMessage(payload != null ? payload : new byte[0], messageProperties);
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+/**
+ * Feature: Unit Tests - Device Management Federation API<br/>
+ * Story: Amqp Message Sender Service
+ */
+@ExtendWith(MockitoExtension.class)
+class DefaultAmqpMessageSenderServiceTest {
+
+    private static final URI SEND_TO = URI.create("amqp://localhost/exchange");
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setup() {
+        when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+        when(connectionFactory.isPublisherConfirms()).thenReturn(true);
+    }
+
+    /**
+     * Verifies that a message nacked by the broker is published again with the same correlation id.
+     */
+    @Test
+    void nackedMessageIsPublishedAgain() {
+        final AtomicInteger sent = new AtomicInteger();
+        final List<String> correlationIds = new ArrayList<>();
+        doAnswer(invocation -> {
+            final CorrelationData correlationData = invocation.getArgument(3);
+            correlationIds.add(correlationData.getId());
+            correlationData.getFuture().complete(new CorrelationData.Confirm(sent.getAndIncrement() > 0, "nack"));
+            return null;
+        }).when(rabbitTemplate).send(eq("exchange"), eq(""), any(Message.class), any(CorrelationData.class));
+
+        new DefaultAmqpMessageSenderService(rabbitTemplate, 10, 1_000, 3).sendMessage(new Message(new byte[0]), SEND_TO);
+
+        verify(rabbitTemplate, timeout(5_000).times(2)).send(eq("exchange"), eq(""), any(Message.class), any(CorrelationData.class));
+        assertThat(correlationIds).hasSize(2).containsOnly(correlationIds.get(0));
+    }
+
+    /**
+     * Verifies that a nacked message is not published again more than the configured number of retries.
+     */
+    @Test
+    void nackedMessageIsPublishedAgainUpToMaxRetries() throws InterruptedException {
+        doAnswer(invocation -> {
+            final CorrelationData correlationData = invocation.getArgument(3);
+            correlationData.getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+            return null;
+        }).when(rabbitTemplate).send(eq("exchange"), eq(""), any(Message.class), any(CorrelationData.class));
+
+        new DefaultAmqpMessageSenderService(rabbitTemplate, 10, 1_000, 2).sendMessage(new Message(new byte[0]), SEND_TO);
+
+        verify(rabbitTemplate, timeout(5_000).times(3)).send(eq("exchange"), eq(""), any(Message.class), any(CorrelationData.class));
+        TimeUnit.MILLISECONDS.sleep(200);
+        verify(rabbitTemplate, times(3)).send(eq("exchange"), eq(""), any(Message.class), any(CorrelationData.class));
+    }
+
+    /**
+     * Verifies that the sender waits for a free slot in the confirm window, which is freed by a confirm.
+     */
+    @Test
+    void sendWaitsForConfirmIfWindowIsFull() {
+        final List<CorrelationData> outstanding = new ArrayList<>();
+        doAnswer(invocation -> {
+            synchronized (outstanding) {
+                outstanding.add(invocation.getArgument(3));
+            }
+            return null;
+        }).when(rabbitTemplate).send(eq("exchange"), eq(""), any(Message.class), any(CorrelationData.class));
+        final DefaultAmqpMessageSenderService senderService = new DefaultAmqpMessageSenderService(rabbitTemplate, 1, 10_000, 0);
+        senderService.sendMessage(new Message(new byte[0], new MessageProperties()), SEND_TO);
+
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.execute(() -> senderService.sendMessage(new Message(new byte[0], new MessageProperties()), SEND_TO));
+            verify(rabbitTemplate, after(200).times(1)).send(eq("exchange"), eq(""), any(Message.class), any(CorrelationData.class));
+
+            synchronized (outstanding) {
+                outstanding.get(0).getFuture().complete(new CorrelationData.Confirm(true, null));
+            }
+            verify(rabbitTemplate, timeout(5_000).times(2)).send(eq("exchange"), eq(""), any(Message.class), any(CorrelationData.class));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
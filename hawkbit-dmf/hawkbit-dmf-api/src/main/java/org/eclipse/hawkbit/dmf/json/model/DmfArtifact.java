@@ -32,6 +32,8 @@ public class DmfArtifact {
     private final long size;
     private final long lastModified;
     private final Map<String, String> urls;
+    // optional, if a delta against the installed version is available
+    private DmfArtifactDelta delta;
 
     @JsonCreator
     public DmfArtifact(
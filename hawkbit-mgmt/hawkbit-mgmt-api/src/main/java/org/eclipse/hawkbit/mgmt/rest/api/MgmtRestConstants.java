@@ -235,6 +235,12 @@ public final class MgmtRestConstants {
      * Request parameter if the artifact url handler should be used
      */
     public static final String REQUEST_PARAMETER_USE_ARTIFACT_URL_HANDLER = "useartifacturlhandler";
+    /**
+     * Headers with the checksums of an artifact uploaded as stream, for uploaded content check
+     */
+    public static final String HEADER_CHECKSUM_MD5 = "X-Checksum-MD5";
+    public static final String HEADER_CHECKSUM_SHA1 = "X-Checksum-SHA1";
+    public static final String HEADER_CHECKSUM_SHA256 = "X-Checksum-SHA256";
 
     // Orders
     public static final String TARGET_ORDER = "1000";
@@ -11,9 +11,11 @@ package org.eclipse.hawkbit.mgmt.rest.api;
 
 import static org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants.SOFTWARE_MODULE_ORDER;
 
+import java.io.InputStream;
 import java.util.List;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.extensions.Extension;
 import io.swagger.v3.oas.annotations.extensions.ExtensionProperty;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -31,6 +33,7 @@ import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModuleRequ
 import org.eclipse.hawkbit.rest.OpenApi;
 import org.eclipse.hawkbit.rest.json.model.ExceptionInfo;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -40,6 +43,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseBody;
@@ -101,6 +105,58 @@ public interface MgmtSoftwareModuleRestApi {
             @RequestParam(value = "sha1sum", required = false) String sha1Sum,
             @RequestParam(value = "sha256sum", required = false) String sha256Sum);
 
+    /**
+     * Handles PUT request for artifact upload as stream. The request body is the artifact binary, which is passed directly to the
+     * artifact storage (no multipart buffering). Big artifacts could be uploaded in parts (resumable upload) by providing a
+     * <code>Content-Range</code> header (<code>bytes first-last/total</code>). The parts shall be uploaded in order and, if the upload
+     * of a part fails, it could be resumed from the already uploaded size, which is returned on <code>bytes *&#47;total</code>.
+     *
+     * @param softwareModuleId of the parent SoftwareModule
+     * @param fileName the filename of the artifact
+     * @param contentRange the range of the part (for resumable upload), <code>null</code> if the body is the whole artifact
+     * @param md5Sum checksum for uploaded content check
+     * @param sha1Sum checksum for uploaded content check
+     * @param sha256Sum checksum for uploaded content check
+     * @param content the request body
+     * @return 201 - Created with the artifact if it is uploaded completely, 202 - Accepted with the <code>Range</code> of the uploaded
+     *         content (if any) if it is uploaded partially. In any failure the JsonResponseExceptionHandler is handling the response.
+     */
+    @Operation(summary = "Upload artifact as stream", description = "Handles PUT request for artifact upload as stream, optionally in " +
+            "parts (resumable upload) via Content-Range header. Required Permission: CREATE_REPOSITORY",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(
+                    mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE, schema = @Schema(type = "string", format = "binary"))))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Successfully created"),
+            @ApiResponse(responseCode = "202", description = "Part successfully uploaded, the upload is not complete yet"),
+            @ApiResponse(responseCode = "400", description = "Bad Request - e.g. invalid parameters",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionInfo.class))),
+            @ApiResponse(responseCode = "401", description = "The request requires user authentication.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403",
+                    description = "Insufficient permissions, entity is not allowed to be changed (i.e. read-only) or " +
+                            "data volume restriction applies.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "404", description = "Software Module not found", content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "409", description = "The part doesn't start at the end of the already uploaded content.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionInfo.class))),
+            @ApiResponse(responseCode = "415", description = "The request was attempt with a media-type which is not " +
+                    "supported by the server for this resource.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "429", description = "Too many requests. The server will refuse further attempts " +
+                    "and the client has to wait another second.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @PutMapping(value = MgmtRestConstants.SOFTWAREMODULE_V1_REQUEST_MAPPING + "/{softwareModuleId}/artifacts/{fileName}",
+            consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE, produces = { MediaTypes.HAL_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    ResponseEntity<MgmtArtifact> uploadArtifactStream(
+            @PathVariable("softwareModuleId") Long softwareModuleId,
+            @PathVariable("fileName") String fileName,
+            @RequestHeader(value = HttpHeaders.CONTENT_RANGE, required = false) String contentRange,
+            @RequestHeader(value = MgmtRestConstants.HEADER_CHECKSUM_MD5, required = false) String md5Sum,
+            @RequestHeader(value = MgmtRestConstants.HEADER_CHECKSUM_SHA1, required = false) String sha1Sum,
+            @RequestHeader(value = MgmtRestConstants.HEADER_CHECKSUM_SHA256, required = false) String sha256Sum,
+            @Parameter(hidden = true) InputStream content);
+
     /**
      * Handles the GET request of retrieving all metadata of artifacts assigned to a software module.
      *
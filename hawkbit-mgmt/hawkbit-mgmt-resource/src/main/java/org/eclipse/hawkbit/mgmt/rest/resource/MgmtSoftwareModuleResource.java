@@ -11,6 +11,7 @@ package org.eclipse.hawkbit.mgmt.rest.resource;
 
 import static org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility.sanitizeSoftwareModuleSortParam;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.text.MessageFormat;
@@ -18,10 +19,14 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import jakarta.validation.ValidationException;
 
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.artifact.exception.ArtifactUploadLengthMismatchException;
 import org.eclipse.hawkbit.audit.AuditLog;
 import org.eclipse.hawkbit.mgmt.json.model.PagedList;
 import org.eclipse.hawkbit.mgmt.json.model.artifact.MgmtArtifact;
@@ -51,7 +56,9 @@ import org.eclipse.hawkbit.rest.json.model.ResponseList;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
@@ -63,6 +70,11 @@ import org.springframework.web.multipart.MultipartFile;
 @RestController
 public class MgmtSoftwareModuleResource implements MgmtSoftwareModuleRestApi {
 
+    // bytes first-last/total
+    private static final Pattern CONTENT_RANGE = Pattern.compile("bytes (\\d{1,18})-(\\d{1,18})/(\\d{1,18})");
+    // bytes */total - the status of the upload is requested
+    private static final Pattern CONTENT_RANGE_STATUS = Pattern.compile("bytes \\*/\\d{1,18}");
+
     private final ArtifactManagement artifactManagement;
     private final SoftwareModuleManagement<? extends SoftwareModule> softwareModuleManagement;
     private final SoftwareModuleTypeManagement<? extends SoftwareModuleType> softwareModuleTypeManagement;
@@ -106,16 +118,57 @@ public class MgmtSoftwareModuleResource implements MgmtSoftwareModuleRestApi {
                             md5Sum == null ? null : md5Sum.toLowerCase(),
                             sha256Sum == null ? null : sha256Sum.toLowerCase()),
                     softwareModuleId, fileName, false));
-
-            final MgmtArtifact response = MgmtSoftwareModuleMapper.toResponse(result);
-            MgmtSoftwareModuleMapper.addLinks(result, response);
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            return toCreatedResponse(result);
         } catch (final IOException e) {
             log.error("Failed to store artifact", e);
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    @Override
+    public ResponseEntity<MgmtArtifact> uploadArtifactStream(
+            final Long softwareModuleId, final String fileName, final String contentRange,
+            final String md5Sum, final String sha1Sum, final String sha256Sum, final InputStream content) {
+        final ArtifactHashes hashes = new ArtifactHashes(
+                sha1Sum == null ? null : sha1Sum.toLowerCase(),
+                md5Sum == null ? null : md5Sum.toLowerCase(),
+                sha256Sum == null ? null : sha256Sum.toLowerCase());
+        if (contentRange == null) {
+            // the size is not known before the stream is read
+            return toCreatedResponse(artifactManagement.create(new ArtifactUpload(
+                    content, MediaType.APPLICATION_OCTET_STREAM_VALUE, -1, hashes, softwareModuleId, fileName, false)));
+        }
+
+        if (CONTENT_RANGE_STATUS.matcher(contentRange).matches()) {
+            return toAcceptedResponse(artifactManagement.getUploadOffset(softwareModuleId, fileName));
+        }
+        final Matcher range = CONTENT_RANGE.matcher(contentRange);
+        if (!range.matches()) {
+            return ResponseEntity.badRequest().build();
+        }
+        final long first = Long.parseLong(range.group(1));
+        final long last = Long.parseLong(range.group(2));
+        final long total = Long.parseLong(range.group(3));
+        if (last < first || last >= total) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        final long length = last - first + 1;
+        final PartInputStream part = new PartInputStream(content, length);
+        final Optional<Artifact> artifact = artifactManagement.appendUpload(new ArtifactUpload(
+                part, MediaType.APPLICATION_OCTET_STREAM_VALUE, total, hashes, softwareModuleId, fileName, false), first);
+        if (artifact.isPresent()) {
+            // the declared range completed the artifact (verified by its size and hashes), a surplus is ignored
+            return toCreatedResponse(artifact.get());
+        }
+        final long uploadedSize = artifactManagement.getUploadOffset(softwareModuleId, fileName);
+        if (part.isExceeded() || uploadedSize != last + 1) {
+            // the received content (up to the declared length) is kept, the upload could be resumed from the upload offset
+            throw new ArtifactUploadLengthMismatchException(length);
+        }
+        return toAcceptedResponse(uploadedSize);
+    }
+
     @Override
     public ResponseEntity<List<MgmtArtifact>> getArtifacts(
             final Long softwareModuleId, final String representationModeParam, final Boolean useArtifactUrlHandler) {
@@ -273,6 +326,85 @@ public class MgmtSoftwareModuleResource implements MgmtSoftwareModuleRestApi {
         softwareModuleManagement.deleteMetadata(softwareModuleId, metadataKey);
     }
 
+    private ResponseEntity<MgmtArtifact> toCreatedResponse(final Artifact artifact) {
+        final MgmtArtifact response = MgmtSoftwareModuleMapper.toResponse(artifact);
+        MgmtSoftwareModuleMapper.addLinks(artifact, response);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    // the range of the uploaded content, as for the resumable uploads of the well known cloud storages
+    private static ResponseEntity<MgmtArtifact> toAcceptedResponse(final long uploadedSize) {
+        final ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.ACCEPTED);
+        if (uploadedSize > 0) {
+            response.header(HttpHeaders.RANGE, "bytes=0-" + (uploadedSize - 1));
+        }
+        return response.build();
+    }
+
+    /**
+     * Passes a part of a resumable upload up to the length declared by its content range, so no more than the declared content is
+     * appended. A surplus ends the stream and is recorded as {@link #isExceeded() exceeded} instead of failing the read, so the bytes
+     * read so far (and buffered by the storage) are not discarded. A shorter content is detected by the size of the uploaded content
+     * afterwards.
+     */
+    private static class PartInputStream extends FilterInputStream {
+
+        private long remaining;
+        @Getter
+        private boolean exceeded;
+
+        private PartInputStream(final InputStream in, final long length) {
+            super(in);
+            remaining = length;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (remaining <= 0) {
+                return end();
+            }
+            final int b = super.read();
+            if (b >= 0) {
+                remaining--;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (remaining <= 0) {
+                return end();
+            }
+            final int n = super.read(b, off, (int) Math.min(len, remaining));
+            if (n > 0) {
+                remaining -= n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(final long n) throws IOException {
+            final long skipped = super.skip(Math.min(n, remaining));
+            remaining -= skipped;
+            return skipped;
+        }
+
+        @Override
+        public int available() throws IOException {
+            return (int) Math.min(super.available(), remaining);
+        }
+
+        private int end() throws IOException {
+            if (!exceeded && super.read() >= 0) {
+                exceeded = true;
+            }
+            return -1;
+        }
+    }
+
     private static MgmtRepresentationMode parseRepresentationMode(final String representationModeParam) {
         return MgmtRepresentationMode.fromValue(representationModeParam).orElseGet(() -> {
             // no need for a 400, just apply a safe fallback
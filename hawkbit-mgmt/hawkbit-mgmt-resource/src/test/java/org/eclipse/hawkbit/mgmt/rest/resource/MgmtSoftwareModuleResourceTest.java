@@ -31,6 +31,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -410,6 +411,120 @@ class MgmtSoftwareModuleResourceTest extends AbstractManagementApiIntegrationTes
         assertArtifact(sm, random);
     }
 
+    /**
+     * Tests the upload of an artifact binary as stream (request body) with the hashes in the headers.
+     */
+    @Test
+    void uploadArtifactStream() throws Exception {
+        final SoftwareModule sm = testdataFactory.createSoftwareModuleOs();
+        final byte[] random = randomBytes(5 * 1024);
+
+        mvc.perform(put("/rest/v1/softwaremodules/{smId}/artifacts/{fileName}", sm.getId(), "origFilename")
+                        .content(random)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .header(MgmtRestConstants.HEADER_CHECKSUM_SHA1, HashGeneratorUtils.generateSHA1(random))
+                        .header(MgmtRestConstants.HEADER_CHECKSUM_SHA256, HashGeneratorUtils.generateSHA256(random))
+                        .accept(MediaType.APPLICATION_JSON))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.hashes.md5", equalTo(HashGeneratorUtils.generateMD5(random))))
+                .andExpect(jsonPath("$.size", equalTo(random.length)))
+                .andExpect(jsonPath("$.providedFilename", equalTo("origFilename")));
+        assertArtifact(sm, random);
+
+        // wrong hash
+        final SoftwareModule sm2 = testdataFactory.createSoftwareModuleApp();
+        mvc.perform(put("/rest/v1/softwaremodules/{smId}/artifacts/{fileName}", sm2.getId(), "origFilename")
+                        .content(random)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .header(MgmtRestConstants.HEADER_CHECKSUM_SHA1, HashGeneratorUtils.generateSHA1(randomBytes(16))))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode", equalTo(SpServerError.SP_ARTIFACT_UPLOAD_FAILED_SHA1_MATCH.getKey())));
+    }
+
+    /**
+     * Tests the resumable upload of an artifact binary in parts - the status of the upload could be requested and a part which doesn't
+     * continue the uploaded content is rejected.
+     */
+    @Test
+    void uploadArtifactStreamInParts() throws Exception {
+        final SoftwareModule sm = testdataFactory.createSoftwareModuleOs();
+        final byte[] random = randomBytes(60 * 1024);
+        final int partSize = 40 * 1024;
+        final String total = "/" + random.length;
+
+        mvc.perform(put("/rest/v1/softwaremodules/{smId}/artifacts/{fileName}", sm.getId(), "origFilename")
+                        .content(Arrays.copyOfRange(random, 0, partSize))
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .header("Content-Range", "bytes 0-" + (partSize - 1) + total))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Range", "bytes=0-" + (partSize - 1)));
+        assertThat(softwareModuleManagement.find(sm.getId()).orElseThrow().getArtifacts()).isEmpty();
+
+        // status of the upload, e.g. after a dropped connection
+        mvc.perform(put("/rest/v1/softwaremodules/{smId}/artifacts/{fileName}", sm.getId(), "origFilename")
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .header("Content-Range", "bytes */" + random.length))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Range", "bytes=0-" + (partSize - 1)));
+
+        // a part which doesn't continue the uploaded content
+        mvc.perform(put("/rest/v1/softwaremodules/{smId}/artifacts/{fileName}", sm.getId(), "origFilename")
+                        .content(Arrays.copyOfRange(random, 0, 1024))
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .header("Content-Range", "bytes 0-1023" + total))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.errorCode", equalTo(SpServerError.SP_ARTIFACT_UPLOAD_OFFSET_MISMATCH.getKey())));
+
+        mvc.perform(put("/rest/v1/softwaremodules/{smId}/artifacts/{fileName}", sm.getId(), "origFilename")
+                        .content(Arrays.copyOfRange(random, partSize, random.length))
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .header("Content-Range", "bytes " + partSize + "-" + (random.length - 1) + total)
+                        .header(MgmtRestConstants.HEADER_CHECKSUM_MD5, HashGeneratorUtils.generateMD5(random)))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.hashes.sha1", equalTo(HashGeneratorUtils.generateSHA1(random))))
+                .andExpect(jsonPath("$.size", equalTo(random.length)));
+        assertArtifact(sm, random);
+        assertThat(artifactManagement.getUploadOffset(sm.getId(), "origFilename")).isZero();
+    }
+
+    /**
+     * Tests that a part of a resumable upload which content is shorter or longer than its content range is rejected - the content up to
+     * the declared end of the part is kept.
+     */
+    @Test
+    void uploadArtifactStreamPartWithLengthMismatchIsRejected() throws Exception {
+        final SoftwareModule sm = testdataFactory.createSoftwareModuleOs();
+        final byte[] random = randomBytes(8 * 1024);
+        final String total = "/" + random.length;
+
+        // shorter than declared
+        mvc.perform(put("/rest/v1/softwaremodules/{smId}/artifacts/{fileName}", sm.getId(), "origFilename")
+                        .content(Arrays.copyOfRange(random, 0, 1024))
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .header("Content-Range", "bytes 0-2047" + total))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode", equalTo(SpServerError.SP_ARTIFACT_UPLOAD_LENGTH_MISMATCH.getKey())));
+        assertThat(artifactManagement.getUploadOffset(sm.getId(), "origFilename")).isEqualTo(1024);
+
+        // longer than declared, would complete the artifact otherwise
+        mvc.perform(put("/rest/v1/softwaremodules/{smId}/artifacts/{fileName}", sm.getId(), "origFilename")
+                        .content(Arrays.copyOfRange(random, 1024, random.length))
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                        .header("Content-Range", "bytes 1024-" + (random.length - 2) + total))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode", equalTo(SpServerError.SP_ARTIFACT_UPLOAD_LENGTH_MISMATCH.getKey())));
+        assertThat(softwareModuleManagement.find(sm.getId()).orElseThrow().getArtifacts()).isEmpty();
+        // the declared range is kept, so the upload could be resumed
+        assertThat(artifactManagement.getUploadOffset(sm.getId(), "origFilename")).isEqualTo(random.length - 1L);
+    }
+
     /**
      * Verifies that artifacts which exceed the configured maximum size cannot be uploaded.
      */
@@ -9,12 +9,18 @@
  */
 package org.eclipse.hawkbit.repository;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
+import org.eclipse.hawkbit.artifact.exception.ArtifactEncryptionUnsupportedException;
 import org.eclipse.hawkbit.artifact.exception.ArtifactUploadFailedException;
+import org.eclipse.hawkbit.artifact.exception.ArtifactUploadOffsetMismatchException;
 import org.eclipse.hawkbit.artifact.model.ArtifactStream;
 import org.eclipse.hawkbit.artifact.model.StoredArtifactInfo;
 import org.eclipse.hawkbit.im.authentication.SpPermission;
@@ -24,6 +30,7 @@ import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.exception.InvalidMd5HashException;
 import org.eclipse.hawkbit.repository.exception.InvalidSha1HashException;
 import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.ArtifactDelta;
 import org.eclipse.hawkbit.repository.model.ArtifactUpload;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -54,6 +61,41 @@ public interface ArtifactManagement extends PermissionSupport {
     @PreAuthorize(SpringEvalExpressions.HAS_CREATE_REPOSITORY)
     Artifact create(@NotNull @Valid ArtifactUpload artifactUpload);
 
+    /**
+     * Appends a part of an artifact binary which is uploaded in multiple parts (resumable upload, e.g. of big artifacts over unreliable
+     * connections). The parts shall be uploaded in order - the offset of a part shall be the size of the already uploaded content (see
+     * {@link #getUploadOffset(long, String)}). If the upload of a part fails (e.g. the connection is dropped) the content received till
+     * then is kept, so the upload could be resumed from there. The part which completes the content creates the artifact as
+     * {@link #create(ArtifactUpload)} does.
+     *
+     * @param artifactUpload {@link ArtifactUpload} containing the upload information, the input stream is the part and the file size is
+     *         the total size of the artifact
+     * @param offset the offset of the part within the artifact
+     * @return the uploaded {@link Artifact} if the part completes the upload, otherwise empty
+     * @throws EntityNotFoundException if given software module does not exist
+     * @throws EntityAlreadyExistsException if File with that name already exists in the Software Module
+     * @throws ArtifactUploadOffsetMismatchException if the offset is not the size of the already uploaded content
+     * @throws ArtifactEncryptionUnsupportedException if the software module is encrypted
+     * @throws ArtifactUploadFailedException if upload fails with internal server errors
+     * @throws InvalidMd5HashException if check against provided MD5 checksum failed
+     * @throws InvalidSha1HashException if check against provided SHA1 checksum failed
+     * @throws ConstraintViolationException if {@link ArtifactUpload} contains invalid values
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_CREATE_REPOSITORY)
+    Optional<Artifact> appendUpload(@NotNull @Valid ArtifactUpload artifactUpload, long offset);
+
+    /**
+     * Returns the size of the already uploaded content of a resumable upload (see {@link #appendUpload(ArtifactUpload, long)}), i.e.
+     * the offset to resume the upload from.
+     *
+     * @param moduleId the id of the software module
+     * @param filename the filename of the artifact
+     * @return the size of the uploaded content, 0 if there is no such upload
+     * @throws EntityNotFoundException if given software module does not exist
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_CREATE_REPOSITORY)
+    long getUploadOffset(long moduleId, @NotEmpty String filename);
+
     /**
      * Loads {@link StoredArtifactInfo} from store for given {@link Artifact}.
      *
@@ -65,6 +107,41 @@ public interface ArtifactManagement extends PermissionSupport {
     @PreAuthorize("hasAuthority('" + SpPermission.READ_SOFTWARE_MODULE_ARTIFACT + "')" + " or " + SpringEvalExpressions.IS_CONTROLLER)
     ArtifactStream getArtifactStream(@NotEmpty String sha1Hash, long softwareModuleId, final boolean isEncrypted);
 
+    /**
+     * Searches the {@link ArtifactDelta}s of the artifacts of the given software modules which could be applied by the target, i.e. whose
+     * base is an artifact (with the same filename) of another version of the software module installed on the target.
+     *
+     * @param targetId the id of the target
+     * @param softwareModuleIds the ids of the software modules to be installed
+     * @return {@link Artifact#getId()} to the applicable delta of the artifact. Empty if no deltas are applicable (or generated).
+     */
+    @PreAuthorize("hasAuthority('" + SpPermission.READ_SOFTWARE_MODULE_ARTIFACT + "')" + " or " + SpringEvalExpressions.IS_CONTROLLER)
+    Map<Long, ArtifactDelta> findDeltasForTarget(long targetId, @NotNull Collection<Long> softwareModuleIds);
+
+    /**
+     * Searches the {@link ArtifactDelta}s which could be applied by each of the given targets at once, as
+     * {@link #findDeltasForTarget(long, Collection)} does for a single target.
+     *
+     * @param targetIds the ids of the targets
+     * @param softwareModuleIds the ids of the software modules to be installed
+     * @return target id to the {@link Artifact#getId()} to the applicable delta of the artifact. Targets without applicable deltas are
+     *         not included.
+     */
+    @PreAuthorize("hasAuthority('" + SpPermission.READ_SOFTWARE_MODULE_ARTIFACT + "')" + " or " + SpringEvalExpressions.IS_CONTROLLER)
+    Map<Long, Map<Long, ArtifactDelta>> findDeltasForTargets(
+            @NotNull Collection<Long> targetIds, @NotNull Collection<Long> softwareModuleIds);
+
+    /**
+     * Loads the binary of an {@link ArtifactDelta}.
+     *
+     * @param artifactId the id of the {@link Artifact} (the result of the delta)
+     * @param baseSha1Hash the SHA-1 hash of the base the delta is applied to
+     * @return the delta binary
+     * @throws EntityNotFoundException if there is no such delta
+     */
+    @PreAuthorize("hasAuthority('" + SpPermission.READ_SOFTWARE_MODULE_ARTIFACT + "')" + " or " + SpringEvalExpressions.IS_CONTROLLER)
+    ArtifactStream getDeltaStream(long artifactId, @NotEmpty String baseSha1Hash);
+
     /**
      * Deletes {@link Artifact} based on given id.
      *
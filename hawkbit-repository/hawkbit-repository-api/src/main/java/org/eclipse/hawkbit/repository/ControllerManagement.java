@@ -33,8 +33,10 @@ import org.eclipse.hawkbit.repository.model.ActionStatus;
 import org.eclipse.hawkbit.repository.model.AutoConfirmationStatus;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetRegistration;
 import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.eclipse.hawkbit.tenancy.configuration.ControllerPollProperties;
+import org.eclipse.hawkbit.tenancy.configuration.PollingTime.PollingInterval;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -102,6 +104,21 @@ public interface ControllerManagement {
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
     Action addUpdateActionStatus(@NotNull @Valid ActionStatusCreate create);
 
+    /**
+     * Adds an {@link ActionStatus} entry for an update {@link Action} as {@link #addUpdateActionStatus(ActionStatusCreate)} does but, if
+     * enabled by {@link RepositoryProperties#isActionStatusBatchEnabled()}, not in an own transaction - the status is persisted together
+     * with the statuses concurrently reported for the other actions of the tenant. The statuses of an action are persisted in the
+     * order they are added. The method returns (or throws) when the status is persisted.
+     *
+     * @param create to be added
+     * @return the updated {@link Action}
+     * @throws AssignmentQuotaExceededException if more than the allowed number of status entries or messages per entry are inserted
+     * @throws EntityNotFoundException if action status not exist
+     * @throws ConstraintViolationException if fields are not filled as specified. Check {@link ActionStatusCreate} for field constraints.
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
+    Action addUpdateActionStatusBatched(@NotNull @Valid ActionStatusCreate create);
+
     /**
      * Retrieves active {@link Action} with the highest priority that is assigned to a {@link Target}.
      * <p/>
@@ -144,6 +161,17 @@ public interface ControllerManagement {
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
     Page<ActionStatus> findActionStatusByAction(long actionId, @NotNull Pageable pageable);
 
+    /**
+     * Registers a poll of an already registered target, whose address and other properties are known to be unchanged, without
+     * loading it. Only {@link Target#getLastTargetQuery()} is (lazily) updated.
+     *
+     * @param controllerId reference
+     * @return <code>true</code> if the poll has been registered lazily, <code>false</code> if polls are persisted eagerly - then the
+     *         caller shall use {@link #findOrRegisterTargetIfItDoesNotExist(String, URI)}
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
+    boolean registerPoll(@NotEmpty String controllerId);
+
     /**
      * Register new target in the repository (plug-and-play) and in case it already exists updates {@link Target#getAddress()} and
      * {@link Target#getLastTargetQuery()} and switches if {@link TargetUpdateStatus#UNKNOWN} to {@link TargetUpdateStatus#REGISTERED}.
@@ -172,6 +200,18 @@ public interface ControllerManagement {
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
     Target findOrRegisterTargetIfItDoesNotExist(@NotEmpty String controllerId, @NotNull URI address, String name, String type);
 
+    /**
+     * Registers new targets in the repository (plug-and-play) and updates the already existing ones as
+     * {@link #findOrRegisterTargetIfItDoesNotExist(String, URI, String, String)} does, but for many targets at once - e.g. when the
+     * devices behind a gateway reconnect. The existing targets are looked up by set-based queries and all targets are registered
+     * in a single transaction. If a target is registered more than once, the last registration is applied.
+     *
+     * @param registrations the target registrations
+     * @return the registered targets, in the order of the registrations
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
+    List<Target> registerOrUpdate(@NotNull @Valid List<TargetRegistration> registrations);
+
     /**
      * Retrieves last {@link Action} for a download of an artifact of given module and target if exists and is not canceled.
      *
@@ -192,6 +232,26 @@ public interface ControllerManagement {
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
     String getPollingTime(Target target);
 
+    /**
+     * Returns the configured polling interval at which the controller polls hawkBit server, without the random deviation applied. It could
+     * be used to apply a new deviation by {@link #getPollingTime(PollingInterval)} to every response, without finding the interval again.
+     *
+     * @param target {@link Target} for which polling interval is calculated (it could be overridden for a specific targets).
+     * @return the polling interval of the target
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
+    PollingInterval getPollingInterval(Target target);
+
+    /**
+     * Returns the polling time of a polling interval, with a random deviation applied (if configured) and limited by the
+     * {@link ControllerPollProperties} min and max polling times.
+     *
+     * @param pollingInterval the polling interval, as returned by {@link #getPollingInterval(Target)}
+     * @return the polling time
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
+    String getPollingTime(PollingInterval pollingInterval);
+
     /**
      * Returns polling time based on the maintenance window for an action. Server will reduce the polling interval as the start time for
      * maintenance window approaches, so that at least these many attempts are made between current polling until start of maintenance window.
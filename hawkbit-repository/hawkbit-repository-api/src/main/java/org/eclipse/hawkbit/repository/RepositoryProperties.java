@@ -43,10 +43,21 @@ public class RepositoryProperties {
     private boolean publishTargetPollEvent = true;
 
     /**
-     * Maximum number of poll operations queued before flush.
+     * Maximum number of targets with buffered polls before flush. Polls of the same target are coalesced, so this is the number
+     * of distinct targets (split evenly between the shards). Polls that don't fit are skipped (not stored eagerly).
      */
     private int pollPersistenceQueueSize = 10_000;
 
+    /**
+     * Number of shards the poll buffer is split into. Shards are filled and flushed independently.
+     */
+    private int pollPersistenceShards = 16;
+
+    /**
+     * Number of threads which flush poll buffer shards in parallel.
+     */
+    private int pollPersistenceFlushThreads = 2;
+
     /**
      * Maximum time before queue is flushed in {@link TimeUnit#MILLISECONDS}.
      */
@@ -57,6 +68,46 @@ public class RepositoryProperties {
      */
     private boolean eagerPollPersistence;
 
+    /**
+     * Set to <code>true</code> to persist the update action statuses reported by the devices (see
+     * {@link org.eclipse.hawkbit.repository.ControllerManagement#addUpdateActionStatusBatched}) in micro-batches - one transaction per
+     * batch of a tenant instead of one per status.
+     */
+    private boolean actionStatusBatchEnabled;
+
+    /**
+     * Maximum number of action statuses persisted in a single batch (transaction).
+     */
+    private int actionStatusBatchSize = 200;
+
+    /**
+     * Maximum time an action status waits for its batch to be flushed in {@link TimeUnit#MILLISECONDS}.
+     */
+    private long actionStatusBatchFlushTime = 5;
+
+    /**
+     * Number of shards the action status batches are split into. The statuses of an action are always in the same shard, so they are
+     * persisted in the order they are reported.
+     */
+    private int actionStatusBatchShards = 8;
+
+    /**
+     * Number of threads which flush action status batch shards in parallel.
+     */
+    private int actionStatusBatchFlushThreads = 4;
+
+    /**
+     * Maximum number of action statuses waiting for persistence. If exceeded, the reporting of further statuses is blocked until the
+     * waiting ones are flushed.
+     */
+    private int actionStatusBatchQueueSize = 10_000;
+
+    /**
+     * Maximum time an action status waits for a place in its batch and then for the persistence of its batch in
+     * {@link TimeUnit#MILLISECONDS}.
+     */
+    private long actionStatusBatchTimeout = 30_000;
+
     /**
      * If an {@link org.eclipse.hawkbit.repository.model.Action} has a weight of null this value is used as weight.
      */
@@ -78,4 +129,27 @@ public class RepositoryProperties {
      * new targets
      */
     private long dynamicRolloutsMinInvolvePeriodMS = 60_000;
+
+    /**
+     * The maximum time (in milli-seconds) the action status counts of a rollout group are used for the evaluation of the rollout group
+     * conditions without reloading them. Bounds the delay of changes of the actions which are not notified via events.
+     */
+    private long rolloutGroupStatusCountsMaxAgeMS = 30_000;
+
+    /**
+     * Set to <code>true</code> to generate (in background) binary deltas of the uploaded artifacts against the artifacts with the
+     * same filename of the previous version (same type and name) of the software module and offer them. Devices which have the previous
+     * version installed get the deltas as an alternative download.
+     */
+    private boolean artifactDeltaEnabled;
+
+    /**
+     * Maximum size of the artifacts (in bytes) for which deltas are generated.
+     */
+    private long artifactDeltaMaxArtifactSize = 1024L * 1024 * 1024;
+
+    /**
+     * Deltas bigger than this ratio of the artifact size are not stored, since they don't save enough.
+     */
+    private double artifactDeltaMaxRatio = 0.5;
 }
\ No newline at end of file
@@ -44,4 +44,18 @@ public interface RolloutHandler {
      */
     @PreAuthorize(SpringEvalExpressions.IS_SYSTEM_CODE)
     void handleAll();
+
+    /**
+     * Process a single rollout based on its current {@link Rollout#getStatus()} - the same way as {@link #handleAll()} does for every active
+     * rollout. Used to progress a rollout as soon as something relevant has happened (e.g. an action of it has been finished) without
+     * waiting for the next {@link #handleAll()}.
+     * <p/>
+     * The default implementation handles all rollouts.
+     *
+     * @param rolloutId the id of the rollout
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_SYSTEM_CODE)
+    default void handle(final long rolloutId) {
+        handleAll();
+    }
 }
@@ -144,6 +144,24 @@ public interface TargetManagement<T extends Target>
     Slice<Target> findByTargetFilterQueryAndNonDSAndCompatibleAndUpdatable(
             long distributionSetId, @NotNull String rsql, @NotNull Pageable pageable);
 
+    /**
+     * Finds the targets like {@link #findByTargetFilterQueryAndNonDSAndCompatibleAndUpdatable(long, String, Pageable)} but ordered by id
+     * and paged by keyset - returns up to <code>limit</code> targets with an id greater than <code>afterId</code>. So the next page is
+     * fetched using the id of the last returned target, and the targets which are assigned meanwhile don't shift the pages.
+     *
+     * @param distributionSetId id of the {@link DistributionSet}
+     * @param rsql filter definition in RSQL syntax
+     * @param afterId only targets with an id greater than this one are returned, <code>0</code> for the first page
+     * @param modifiedSince if greater than <code>0</code> only the targets created or last modified at or after this time (in ms since
+     *         epoch) are returned
+     * @param limit the maximum number of returned targets
+     * @return the found {@link Target}s ordered by id
+     * @throws EntityNotFoundException if distribution set with given ID does not exist
+     */
+    @PreAuthorize(HAS_UPDATE_TARGET_AND_READ_DISTRIBUTION_SET)
+    List<Target> findByTargetFilterQueryAndNonDSAndCompatibleAndUpdatable(
+            long distributionSetId, @NotNull String rsql, long afterId, long modifiedSince, int limit);
+
     /**
      * Finds all targets for all the given parameter {@link TargetFilterQuery} and that are not assigned to one of the {@link RolloutGroup}s
      * and are compatible with the passed {@link DistributionSetType}.
@@ -153,7 +171,9 @@ public interface TargetManagement<T extends Target>
      * @param distributionSetType type of the {@link DistributionSet} the targets must be compatible withs
      * @param pageable the pageable to enhance the query for paging and sorting
      * @return a page of the found {@link Target}s
+     * @deprecated the rollout groups are filled with the ids of the targets only, not used anymore
      */
+    @Deprecated(since = "0.10.0", forRemoval = true)
     @PreAuthorize(HAS_UPDATE_TARGET_AND_READ_ROLLOUT)
     Slice<Target> findByRsqlAndNotInRolloutGroupsAndCompatibleAndUpdatable(
             @NotEmpty Collection<Long> groups, @NotNull String rsql, @NotNull DistributionSetType distributionSetType,
@@ -167,7 +187,9 @@ public interface TargetManagement<T extends Target>
      * @param groups the list of {@link RolloutGroup}s
      * @param pageable the pageable to enhance the query for paging and sorting
      * @return a page of the found {@link Target}s
+     * @deprecated the rollout groups are filled with the ids of the targets only, not used anymore
      */
+    @Deprecated(since = "0.10.0", forRemoval = true)
     @PreAuthorize(HAS_READ_TARGET_AND_READ_ROLLOUT)
     Slice<Target> findByFailedRolloutAndNotInRolloutGroups(
             @NotNull String rolloutId, @NotEmpty Collection<Long> groups, @NotNull Pageable pageable);
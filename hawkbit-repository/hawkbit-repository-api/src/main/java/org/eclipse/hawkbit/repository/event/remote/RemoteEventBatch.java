@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.event.remote;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.UUID;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Envelope of multiple remote events which are sent to the other nodes as a single message. The receivers unpack it and publish the
+ * contained events one by one, in the order of the batch. The batch itself is just an envelope - its id is not kept by all converters.
+ */
+@NoArgsConstructor // for serialization libs like jackson
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class RemoteEventBatch extends AbstractRemoteEvent {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private List<AbstractRemoteEvent> events;
+
+    public RemoteEventBatch(final List<AbstractRemoteEvent> events) {
+        super(UUID.randomUUID());
+        this.events = events;
+    }
+}
@@ -11,20 +11,30 @@ package org.eclipse.hawkbit.repository.event.remote.entity;
 
 import java.io.Serial;
 
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 import org.eclipse.hawkbit.repository.event.entity.EntityUpdatedEvent;
 import org.eclipse.hawkbit.repository.model.Action;
 
 /**
  * Defines the remote event of updated a {@link Action}.
  */
-@NoArgsConstructor // for serialization libs like jackson
+@NoArgsConstructor(force = true) // for serialization libs like jackson
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
 public class ActionUpdatedEvent extends AbstractActionEvent implements EntityUpdatedEvent {
 
     @Serial
-    private static final long serialVersionUID = 2L;
+    private static final long serialVersionUID = 3L;
+
+    // the status after the update, so the listeners could filter the events without (re)loading the action
+    private final Action.Status status;
 
     public ActionUpdatedEvent(final Action action, final Long targetId, final Long rolloutId, final Long rolloutGroupId) {
         super(action, targetId, rolloutId, rolloutGroupId);
+        status = action.getStatus();
     }
 }
\ No newline at end of file
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.model;
+
+/**
+ * Binary delta of an {@link Artifact} against the artifact with the same filename of the previous version of its {@link SoftwareModule}
+ * (a base). Devices which have the base installed could download the (much smaller) delta instead of the artifact and apply it to the
+ * base (see {@link org.eclipse.hawkbit.artifact.delta.BinaryDelta}).
+ */
+public interface ArtifactDelta extends TenantAwareBaseEntity {
+
+    /**
+     * @return the {@link Artifact} which is the result of applying the delta
+     */
+    Artifact getArtifact();
+
+    /**
+     * @return SHA-1 hash of the base artifact the delta shall be applied to.
+     */
+    String getBaseSha1Hash();
+
+    /**
+     * @return MD5 hash of the delta.
+     */
+    String getMd5Hash();
+
+    /**
+     * @return SHA-1 hash of the delta in Base16 format.
+     */
+    String getSha1Hash();
+
+    /**
+     * @return SHA-256 hash of the delta.
+     */
+    String getSha256Hash();
+
+    /**
+     * @return size of the delta in bytes.
+     */
+    long getSize();
+}
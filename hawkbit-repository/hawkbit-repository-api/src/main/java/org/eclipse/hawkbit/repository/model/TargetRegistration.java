@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.model;
+
+import java.net.URI;
+
+import jakarta.validation.constraints.NotEmpty;
+
+/**
+ * Use to register (plug-and-play) a target or to update an already registered one, see
+ * {@link org.eclipse.hawkbit.repository.ControllerManagement#registerOrUpdate(java.util.List)}.
+ *
+ * @param controllerId the controller id of the target
+ * @param address the address of the target, might be {@code null}
+ * @param name the name of the target, if {@code null} the name is not changed (or is the controller id if created)
+ * @param type the target type name of the target, if {@code null} the type is not changed, if empty the type is removed
+ */
+public record TargetRegistration(@NotEmpty String controllerId, URI address, String name, String type) {
+
+    public TargetRegistration(final String controllerId, final URI address) {
+        this(controllerId, address, null, null);
+    }
+}
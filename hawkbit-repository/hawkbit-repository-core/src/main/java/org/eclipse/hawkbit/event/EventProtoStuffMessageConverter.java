@@ -9,7 +9,19 @@
  */
 package org.eclipse.hawkbit.event;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
 
 import io.protostuff.LinkedBuffer;
 import io.protostuff.ProtobufIOUtil;
@@ -17,6 +29,7 @@ import io.protostuff.Schema;
 import io.protostuff.runtime.RuntimeSchema;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.event.remote.AbstractRemoteEvent;
+import org.eclipse.hawkbit.repository.event.remote.RemoteEventBatch;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.converter.AbstractMessageConverter;
@@ -39,16 +52,48 @@ import org.springframework.util.MimeType;
  *
  * This format allows decoding messages without relying on external headers, ensuring robustness
  * in systems where header information may be merged or dropped.
+ *
+ * <p>
+ * The payload of a {@link RemoteEventBatch} is not serialized by its schema. It is a flag byte ({@link #BATCH_DEFLATED} if the rest is
+ * compressed with deflate, {@link #BATCH_PLAIN} otherwise), followed by the number of the events and by every event as an integer length and
+ * the event in the message structure above. Batches bigger than the compression threshold are compressed.
+ *
+ * <p>
+ * The serialization buffers are reused per thread. Single events and uncompressed batches are written directly into a payload array of
+ * their exact size. The size of a compressed batch is not known upfront, so its payload is copied once if the estimation doesn't fit.
  */
 @Slf4j
 public class EventProtoStuffMessageConverter extends AbstractMessageConverter {
 
     public static final MimeType APPLICATION_BINARY_PROTOSTUFF = new MimeType("application", "binary+protostuff");
     private static final int HEADER_LENGTH_PREFIX_SIZE = 4;
+    private static final byte BATCH_PLAIN = 0;
+    private static final byte BATCH_DEFLATED = 1;
+    private static final int DEFAULT_COMPRESSION_THRESHOLD = 4096;
+    // bigger batch buffers are not kept by the thread, in order to not hold the memory of rare huge batches
+    private static final int MAX_REUSED_BATCH_BUFFER_SIZE = 1024 * 1024;
+
+    // reused per thread in order to not allocate new buffers for every serialization
+    private static final ThreadLocal<LinkedBuffer> BUFFER = ThreadLocal.withInitial(LinkedBuffer::allocate);
+    private static final ThreadLocal<PayloadOutputStream> BATCH_BUFFER = ThreadLocal.withInitial(PayloadOutputStream::new);
+    // event class -> the serialized class header (length prefix and event type)
+    private static final Map<Class<?>, byte[]> CLASS_HEADERS = new ConcurrentHashMap<>();
 
+    private final int compressionThreshold;
 
     public EventProtoStuffMessageConverter() {
+        this(DEFAULT_COMPRESSION_THRESHOLD);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param compressionThreshold batches with serialized size (in bytes) bigger than the threshold are compressed. Negative value disables
+     *         the compression.
+     */
+    public EventProtoStuffMessageConverter(final int compressionThreshold) {
         super(APPLICATION_BINARY_PROTOSTUFF);
+        this.compressionThreshold = compressionThreshold;
     }
 
     @Override
@@ -60,23 +105,37 @@ public class EventProtoStuffMessageConverter extends AbstractMessageConverter {
     protected Object convertFromInternal(final Message<?> message, final Class<?> targetClass, final Object conversionHint) {
         final Object objectPayload = message.getPayload();
         if (objectPayload instanceof byte[] payload) {
-            final byte[] clazzHeader = extractClazzHeader(payload);
-            final byte[] content = extractContent(payload);
-
-            final EventType eventType = readClassHeader(clazzHeader);
-            return readContent(eventType, content);
+            return readEvent(payload, 0, payload.length);
         }
         return null;
     }
 
     @Override
     protected Object convertToInternal(final Object payload, final MessageHeaders headers, final Object conversionHint) {
-        final byte[] clazzHeader = writeClassHeader(payload.getClass());
-        final byte[] writeContent = writeContent(payload);
-        return mergeClassHeaderAndContent(clazzHeader, writeContent);
+        try {
+            if (payload instanceof RemoteEventBatch batch) {
+                return writeBatch(batch);
+            } else {
+                return writeEvent(payload);
+            }
+        } catch (final IOException e) {
+            throw new MessageConversionException("Failed to serialize " + payload.getClass(), e);
+        }
     }
 
-    private static Object readContent(final EventType eventType, final byte[] content) {
+    private static Object readEvent(final byte[] payload, final int offset, final int length) {
+        final ByteBuffer wrapper = ByteBuffer.wrap(payload, offset, length);
+        final int headerLength = wrapper.getInt();
+        final EventType eventType = readClassHeader(payload, offset + HEADER_LENGTH_PREFIX_SIZE, headerLength);
+        final int contentOffset = offset + HEADER_LENGTH_PREFIX_SIZE + headerLength;
+        final int contentLength = length - HEADER_LENGTH_PREFIX_SIZE - headerLength;
+        if (RemoteEventBatch.class.equals(eventType.getTargetClass())) {
+            return readBatch(payload, contentOffset, contentLength);
+        }
+        return readContent(eventType, payload, contentOffset, contentLength);
+    }
+
+    private static Object readContent(final EventType eventType, final byte[] payload, final int offset, final int length) {
         final Class<?> targetClass = eventType.getTargetClass();
         if (targetClass == null) {
             log.error("Cannot read clazz header for given EventType value {}, missing mapping", eventType.getValue());
@@ -84,47 +143,111 @@ public class EventProtoStuffMessageConverter extends AbstractMessageConverter {
         }
         @SuppressWarnings("unchecked") final Schema<Object> schema = (Schema<Object>) RuntimeSchema.getSchema(targetClass);
         final Object deserializeEvent = schema.newMessage();
-        ProtobufIOUtil.mergeFrom(content, deserializeEvent, schema);
+        ProtobufIOUtil.mergeFrom(payload, offset, length, deserializeEvent, schema);
         return deserializeEvent;
     }
 
-    private static byte[] mergeClassHeaderAndContent(final byte[] clazzHeader, final byte[] writeContent) {
-        final byte[] body = new byte[clazzHeader.length + writeContent.length];
-        System.arraycopy(clazzHeader, 0, body, 0, clazzHeader.length);
-        System.arraycopy(writeContent, 0, body, clazzHeader.length, writeContent.length);
-        return body;
+    private static RemoteEventBatch readBatch(final byte[] payload, final int offset, final int length) {
+        final byte[] events;
+        final int eventsOffset;
+        final int eventsLength;
+        if (payload[offset] == BATCH_DEFLATED) {
+            events = inflate(payload, offset + 1, length - 1);
+            eventsOffset = 0;
+            eventsLength = events.length;
+        } else {
+            events = payload;
+            eventsOffset = offset + 1;
+            eventsLength = length - 1;
+        }
+
+        final ByteBuffer wrapper = ByteBuffer.wrap(events, eventsOffset, eventsLength);
+        final int count = wrapper.getInt();
+        final List<AbstractRemoteEvent> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final int eventLength = wrapper.getInt();
+            batch.add((AbstractRemoteEvent) readEvent(events, wrapper.position(), eventLength));
+            wrapper.position(wrapper.position() + eventLength);
+        }
+        return new RemoteEventBatch(batch);
     }
 
-    private static byte[] extractClazzHeader(final byte[] payload) {
-        ByteBuffer wrapper = ByteBuffer.wrap(payload);
-        int headerLength = wrapper.getInt();
-        byte[] clazzHeader = new byte[headerLength];
-        wrapper.get(clazzHeader);
-        return clazzHeader;
+    private static EventType readClassHeader(final byte[] payload, final int offset, final int length) {
+        final Schema<EventType> schema = RuntimeSchema.getSchema(EventType.class);
+        final EventType deserializedType = schema.newMessage();
+        ProtobufIOUtil.mergeFrom(payload, offset, length, deserializedType, schema);
+        return deserializedType;
     }
 
-    private static byte[] extractContent(final byte[] payload) {
-        ByteBuffer wrapper = ByteBuffer.wrap(payload);
-        int headerLength = wrapper.getInt();
-        byte[] content = new byte[payload.length - HEADER_LENGTH_PREFIX_SIZE - headerLength];
-        wrapper.position(HEADER_LENGTH_PREFIX_SIZE + headerLength);
-        wrapper.get(content);
-        return content;
+    private static byte[] writeEvent(final Object payload) throws IOException {
+        final byte[] clazzHeader = getClassHeader(payload.getClass());
+        final LinkedBuffer buffer = BUFFER.get();
+        try {
+            final int contentLength = writeContent(payload, buffer);
+            final PayloadOutputStream out = new PayloadOutputStream(clazzHeader.length + contentLength);
+            out.write(clazzHeader);
+            LinkedBuffer.writeTo(out, buffer);
+            return out.toPayload();
+        } finally {
+            buffer.clear();
+        }
     }
 
+    private byte[] writeBatch(final RemoteEventBatch batch) throws IOException {
+        final byte[] batchHeader = getClassHeader(RemoteEventBatch.class);
+        final PayloadOutputStream events = BATCH_BUFFER.get();
+        try {
+            final DataOutputStream eventsOut = new DataOutputStream(events);
+            eventsOut.writeInt(batch.getEvents().size());
+            final LinkedBuffer buffer = BUFFER.get();
+            for (final AbstractRemoteEvent event : batch.getEvents()) {
+                final byte[] clazzHeader = getClassHeader(event.getClass());
+                try {
+                    final int contentLength = writeContent(event, buffer);
+                    eventsOut.writeInt(clazzHeader.length + contentLength);
+                    eventsOut.write(clazzHeader);
+                    LinkedBuffer.writeTo((OutputStream) eventsOut, buffer);
+                } finally {
+                    buffer.clear();
+                }
+            }
 
-    private static EventType readClassHeader(final byte[] typeInformation) {
-        final Schema<EventType> schema = RuntimeSchema.getSchema(EventType.class);
-        final EventType deserializedType = schema.newMessage();
-        ProtobufIOUtil.mergeFrom(typeInformation, deserializedType, schema);
-        return deserializedType;
+            if (compressionThreshold >= 0 && events.size() > compressionThreshold) {
+                // estimated, events of a batch are similar and compress well
+                final PayloadOutputStream out = new PayloadOutputStream(batchHeader.length + 1 + events.size() / 4);
+                out.write(batchHeader);
+                out.write(BATCH_DEFLATED);
+                final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+                try (final DeflaterOutputStream deflated = new DeflaterOutputStream(out, deflater)) {
+                    events.writeTo(deflated);
+                } finally {
+                    deflater.end();
+                }
+                return out.toPayload();
+            } else {
+                final PayloadOutputStream out = new PayloadOutputStream(batchHeader.length + 1 + events.size());
+                out.write(batchHeader);
+                out.write(BATCH_PLAIN);
+                events.writeTo(out);
+                return out.toPayload();
+            }
+        } finally {
+            if (events.capacity() > MAX_REUSED_BATCH_BUFFER_SIZE) {
+                BATCH_BUFFER.remove();
+            } else {
+                events.reset();
+            }
+        }
     }
 
-    private static byte[] writeContent(final Object payload) {
+    private static int writeContent(final Object payload, final LinkedBuffer buffer) {
         final Class<?> serializeClass = payload.getClass();
         @SuppressWarnings("unchecked") final Schema<Object> schema = (Schema<Object>) RuntimeSchema.getSchema(serializeClass);
-        final LinkedBuffer buffer = LinkedBuffer.allocate();
-        return ProtobufIOUtil.toByteArray(payload, schema, buffer);
+        return ProtobufIOUtil.writeTo(buffer, payload, schema);
+    }
+
+    private static byte[] getClassHeader(final Class<?> clazz) {
+        return CLASS_HEADERS.computeIfAbsent(clazz, EventProtoStuffMessageConverter::writeClassHeader);
     }
 
     private static byte[] writeClassHeader(final Class<?> clazz) {
@@ -145,4 +268,44 @@ public class EventProtoStuffMessageConverter extends AbstractMessageConverter {
         return result.array();
     }
 
-}
\ No newline at end of file
+    private static byte[] inflate(final byte[] payload, final int offset, final int length) {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(payload, offset, length);
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(length * 4);
+            final byte[] chunk = new byte[8192];
+            while (!inflater.finished()) {
+                final int inflated = inflater.inflate(chunk);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new MessageConversionException("Truncated compressed batch of events");
+                }
+                out.write(chunk, 0, inflated);
+            }
+            return out.toByteArray();
+        } catch (final DataFormatException e) {
+            throw new MessageConversionException("Invalid compressed batch of events", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // gives access to the buffer, so a payload written with the exact size isn't copied
+    private static final class PayloadOutputStream extends ByteArrayOutputStream {
+
+        private PayloadOutputStream() {
+            super();
+        }
+
+        private PayloadOutputStream(final int size) {
+            super(size);
+        }
+
+        private int capacity() {
+            return buf.length;
+        }
+
+        private byte[] toPayload() {
+            return count == buf.length ? buf : toByteArray();
+        }
+    }
+}
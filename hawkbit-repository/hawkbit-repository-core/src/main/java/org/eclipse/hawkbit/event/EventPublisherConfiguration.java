@@ -17,10 +17,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.event.ApplicationEventFilter;
 import org.eclipse.hawkbit.repository.event.EventPublisherHolder;
 import org.eclipse.hawkbit.repository.event.remote.AbstractRemoteEvent;
+import org.eclipse.hawkbit.repository.event.remote.RemoteEventBatch;
 import org.eclipse.hawkbit.repository.event.remote.RemoteTenantAwareEvent;
 import org.eclipse.hawkbit.repository.event.remote.service.AbstractServiceRemoteEvent;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.ApplicationEvent;
@@ -117,20 +119,30 @@ public class EventPublisherConfiguration {
 
     @Bean
     public Consumer<AbstractRemoteEvent> serviceEventConsumer(ApplicationEventPublisher publisher) {
-        return publisher::publishEvent;
+        return event -> publishRemoteEvent(publisher, event);
     }
 
     @Bean
     public Consumer<AbstractRemoteEvent> fanoutEventConsumer(ApplicationEventPublisher publisher) {
-        return publisher::publishEvent;
+        return event -> publishRemoteEvent(publisher, event);
+    }
+
+    // batches are unpacked, so the listeners get the events one by one as if they were sent separately
+    private static void publishRemoteEvent(final ApplicationEventPublisher publisher, final AbstractRemoteEvent event) {
+        if (event instanceof RemoteEventBatch batch) {
+            batch.getEvents().forEach(publisher::publishEvent);
+        } else {
+            publisher.publishEvent(event);
+        }
     }
 
     @ConditionalOnClass({ Schema.class, ProtostuffIOUtil.class })
     protected static class EventProtostuffConfiguration {
 
         @Bean
-        public MessageConverter eventProtostuffMessageConverter() {
-            return new EventProtoStuffMessageConverter();
+        public MessageConverter eventProtostuffMessageConverter(
+                @Value("${hawkbit.events.remote.batch.compression-threshold:4096}") final int compressionThreshold) {
+            return new EventProtoStuffMessageConverter(compressionThreshold);
         }
     }
 
@@ -26,6 +26,7 @@ import org.eclipse.hawkbit.repository.event.remote.DistributionSetTypeDeletedEve
 import org.eclipse.hawkbit.repository.event.remote.DownloadProgressEvent;
 import org.eclipse.hawkbit.repository.event.remote.MultiActionAssignEvent;
 import org.eclipse.hawkbit.repository.event.remote.MultiActionCancelEvent;
+import org.eclipse.hawkbit.repository.event.remote.RemoteEventBatch;
 import org.eclipse.hawkbit.repository.event.remote.service.ActionCreatedServiceEvent;
 import org.eclipse.hawkbit.repository.event.remote.service.ActionUpdatedServiceEvent;
 import org.eclipse.hawkbit.repository.event.remote.service.CancelTargetAssignmentServiceEvent;
@@ -190,6 +191,9 @@ public class EventType {
         TYPES.put(1007, MultiActionCancelServiceEvent.class);
         TYPES.put(1008, ActionCreatedServiceEvent.class);
         TYPES.put(1009, ActionUpdatedServiceEvent.class);
+
+        // envelope of batched events - start from 2000
+        TYPES.put(2000, RemoteEventBatch.class);
     }
 
     /**
@@ -12,6 +12,7 @@ package org.eclipse.hawkbit.repository.event;
 import java.util.Set;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
@@ -53,11 +54,18 @@ public final class EventPublisherHolder {
     private boolean remoteServiceEventsEnabled;
     @Value("${hawkbit.events.remote.service.destination:serviceEventChannel}")
     private String serviceEventChannel;
-
+    @Value("${hawkbit.events.remote.batch.enabled:false}")
+    private boolean remoteEventsBatchEnabled;
+    @Value("${hawkbit.events.remote.batch.max-size:500}")
+    private int remoteEventsBatchMaxSize;
+    @Value("${hawkbit.events.remote.batch.max-delay:20}")
+    private long remoteEventsBatchMaxDelayMS;
 
     private static final EventPublisherHolder SINGLETON = new EventPublisherHolder();
     private ApplicationEventPublisher delegateEventPublisher;
     private StreamBridge streamBridge;
+    // if set, the remote events are sent in batches
+    private RemoteEventBatcher remoteEventBatcher;
 
     public static EventPublisherHolder getInstance() {
         return SINGLETON;
@@ -68,6 +76,16 @@ public final class EventPublisherHolder {
         if (remoteEventsEnabled && streamBridge == null) {
             throw new IllegalStateException("'hawkbit.events.remote.enabled' is true but streamBridge is not configured. Check if 'spring-cloud-starter-stream-rabbit' dependency is included.");
         }
+        if (remoteEventsEnabled && remoteEventsBatchEnabled) {
+            remoteEventBatcher = new RemoteEventBatcher(streamBridge::send, remoteEventsBatchMaxSize, remoteEventsBatchMaxDelayMS);
+        }
+    }
+
+    @PreDestroy
+    private void flushRemoteEvents() {
+        if (remoteEventBatcher != null) {
+            remoteEventBatcher.shutdown();
+        }
     }
 
     public static final Set<Class<?>> SERVICE_EVENTS = Set.of(
@@ -128,7 +146,7 @@ public final class EventPublisherHolder {
         }
 
         private void publishRemotely(final AbstractRemoteEvent remoteEvent) {
-            streamBridge.send(fanoutEventChannel, remoteEvent);
+            send(fanoutEventChannel, remoteEvent);
 
             // some events need to be processed only by single service replica
             // wrap the entity event into a service event and send it to the service channel
@@ -136,7 +154,7 @@ public final class EventPublisherHolder {
                 final AbstractRemoteEvent serviceEvent = toServiceEvent(remoteEvent);
                 if (serviceEvent != null) {
                     log.debug("Publishing Service event: {} to remote channel: {}", serviceEvent, serviceEventChannel);
-                    streamBridge.send(serviceEventChannel, serviceEvent);
+                    send(serviceEventChannel, serviceEvent);
                 } else {
                     log.error("No Service event created for: {}. Skipping send Service event to Service channel. {}",
                             remoteEvent.getClass(), serviceEventChannel);
@@ -144,6 +162,14 @@ public final class EventPublisherHolder {
             }
         }
 
+        private void send(final String destination, final AbstractRemoteEvent event) {
+            if (remoteEventBatcher == null) {
+                streamBridge.send(destination, event);
+            } else {
+                remoteEventBatcher.add(destination, event);
+            }
+        }
+
         private void publishLocally(final Object event) {
             delegate.publishEvent(event);
 
@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.event.remote.AbstractRemoteEvent;
+import org.eclipse.hawkbit.repository.event.remote.RemoteEventBatch;
+
+/**
+ * Collects the remote events per destination and sends them as a {@link RemoteEventBatch}. A batch is sent when it reaches the max size
+ * or when the max delay since its first event passes - whatever comes first. A batch of a single event is sent as the event itself.
+ * <p/>
+ * The events of a destination are sent in the order they are added. The events are added while a previous batch of the destination is
+ * sent, only the sending of the batches of a destination is serialized.
+ */
+@Slf4j
+public class RemoteEventBatcher {
+
+    private final BiConsumer<String, AbstractRemoteEvent> sender;
+    private final int maxSize;
+    private final long maxDelayMS;
+    private final ScheduledExecutorService timer;
+
+    private final Map<String, Batch> batches = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor. The batches which don't reach the max size in time are sent by a dedicated timer thread.
+     *
+     * @param sender sends an event (or batch) to the destination
+     * @param maxSize max number of events in a batch
+     * @param maxDelayMS max time (in milliseconds) an event waits to be sent
+     */
+    public RemoteEventBatcher(final BiConsumer<String, AbstractRemoteEvent> sender, final int maxSize, final long maxDelayMS) {
+        this(sender, maxSize, maxDelayMS, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "remote-event-batch-timer");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    // for testing
+    RemoteEventBatcher(
+            final BiConsumer<String, AbstractRemoteEvent> sender, final int maxSize, final long maxDelayMS,
+            final ScheduledExecutorService timer) {
+        this.sender = sender;
+        this.maxSize = maxSize;
+        this.maxDelayMS = maxDelayMS;
+        this.timer = timer;
+    }
+
+    /**
+     * Adds an event to the batch of the destination.
+     *
+     * @param destination the destination to send the event to
+     * @param event the event
+     */
+    public void add(final String destination, final AbstractRemoteEvent event) {
+        batches.computeIfAbsent(destination, Batch::new).add(event);
+    }
+
+    /**
+     * Sends all pending events.
+     */
+    public void flush() {
+        batches.values().forEach(Batch::flush);
+    }
+
+    /**
+     * Sends all pending events and stops the timer.
+     */
+    public void shutdown() {
+        timer.shutdown();
+        flush();
+    }
+
+    private final class Batch {
+
+        private final String destination;
+        // serializes the sending, so the batches of the destination keep the order of the events
+        private final Object sendLock = new Object();
+        private List<AbstractRemoteEvent> events = new ArrayList<>();
+
+        private Batch(final String destination) {
+            this.destination = destination;
+        }
+
+        private void add(final AbstractRemoteEvent event) {
+            final int size;
+            synchronized (this) {
+                events.add(event);
+                size = events.size();
+            }
+            if (size >= maxSize) {
+                flush();
+            } else if (size == 1) {
+                try {
+                    timer.schedule(this::flush, maxDelayMS, TimeUnit.MILLISECONDS);
+                } catch (final RejectedExecutionException e) {
+                    // shut down
+                    flush();
+                }
+            }
+        }
+
+        private void flush() {
+            synchronized (sendLock) {
+                final List<AbstractRemoteEvent> toSend;
+                synchronized (this) {
+                    if (events.isEmpty()) {
+                        return; // already sent because of the max size
+                    }
+                    toSend = events;
+                    events = new ArrayList<>();
+                }
+                try {
+                    sender.accept(destination, toSend.size() == 1 ? toSend.get(0) : new RemoteEventBatch(toSend));
+                } catch (final RuntimeException e) {
+                    log.error("Failed to send {} events to {}", toSend.size(), destination, e);
+                }
+            }
+        }
+    }
+}
@@ -10,6 +10,7 @@
 package org.eclipse.hawkbit.event;
 
 import org.eclipse.hawkbit.repository.event.remote.AbstractRemoteEvent;
+import org.eclipse.hawkbit.repository.event.remote.RemoteEventBatch;
 import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionUpdatedEvent;
@@ -33,6 +34,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
 
 import java.util.HashMap;
+import java.util.List;
 
 abstract class AbstractEventMessageConverterTest {
 
@@ -93,6 +95,18 @@ abstract class AbstractEventMessageConverterTest {
         assertSerializeAndDeserialize(actionUpdatedServiceEvent, ActionUpdatedServiceEvent.class);
     }
 
+    /**
+     * Verifies that a batch of events can be successfully serialized and deserialized, keeping the events and their order
+     */
+    @Test
+    void successfullySerializeAndDeserializeBatch() {
+        final RemoteEventBatch batch = new RemoteEventBatch(List.of(
+                createTargetCreatedEvent(), createActionUpdatedEvent(), new ActionUpdatedServiceEvent(createActionUpdatedEvent()),
+                createTargetDeletedEvent()));
+
+        assertSerializeAndDeserializeBatch(batch);
+    }
+
     private TargetCreatedEvent createTargetCreatedEvent() {
         return new TargetCreatedEvent(targetMock);
     }
@@ -114,6 +128,19 @@ abstract class AbstractEventMessageConverterTest {
     }
 
     <T extends AbstractRemoteEvent> void assertSerializeAndDeserialize(T event, Class<? extends AbstractRemoteEvent> expectedClass) {
+        assertThat(serializeAndDeserialize(event))
+                .isInstanceOf(expectedClass)
+                .isEqualTo(event);
+    }
+
+    // the batch is just an envelope, so only its events shall be kept
+    void assertSerializeAndDeserializeBatch(final RemoteEventBatch batch) {
+        assertThat(serializeAndDeserialize(batch))
+                .isInstanceOfSatisfying(RemoteEventBatch.class, deserialized ->
+                        assertThat(deserialized.getEvents()).containsExactlyElementsOf(batch.getEvents()));
+    }
+
+    private <T extends AbstractRemoteEvent> Object serializeAndDeserialize(T event) {
         // serialize
         Object serializedEvent = null;
         if (messageConverter instanceof EventProtoStuffMessageConverter protoStuff) {
@@ -132,8 +159,6 @@ abstract class AbstractEventMessageConverterTest {
         } else if (messageConverter instanceof EventJacksonMessageConverter jackson) {
             deserializedEvent = jackson.convertFromInternal(messageMock, AbstractRemoteEvent.class, null);
         }
-        assertThat(deserializedEvent)
-                .isInstanceOf(expectedClass)
-                .isEqualTo(event);
+        return deserializedEvent;
     }
 }
@@ -9,11 +9,17 @@
  */
 package org.eclipse.hawkbit.event;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.io.Serial;
 import java.util.HashMap;
+import java.util.List;
+import java.util.stream.IntStream;
 
+import org.eclipse.hawkbit.repository.event.remote.AbstractRemoteEvent;
+import org.eclipse.hawkbit.repository.event.remote.RemoteEventBatch;
+import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.RemoteEntityEvent;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.junit.jupiter.api.Test;
@@ -42,6 +48,24 @@ class EventProtoStuffMessageConverterTest extends AbstractEventMessageConverterT
                 .isThrownBy(() -> ((EventProtoStuffMessageConverter)messageConverter).convertToInternal(dummyEvent, messageHeaders, null));
     }
 
+    /**
+     * Verifies that a batch bigger than the compression threshold is compressed and deserialized successfully
+     */
+    @Test
+    void bigBatchIsCompressed() {
+        final List<AbstractRemoteEvent> events = IntStream.range(0, 1000)
+                .<AbstractRemoteEvent> mapToObj(i -> new TargetPollEvent("controller-" + i, "test_tenant"))
+                .toList();
+        final RemoteEventBatch batch = new RemoteEventBatch(events);
+        final MessageHeaders messageHeaders = new MessageHeaders(new HashMap<>());
+
+        final byte[] compressed = (byte[]) new EventProtoStuffMessageConverter(0).convertToInternal(batch, messageHeaders, null);
+        final byte[] plain = (byte[]) new EventProtoStuffMessageConverter(-1).convertToInternal(batch, messageHeaders, null);
+        assertThat(compressed).hasSizeLessThan(plain.length);
+
+        assertSerializeAndDeserializeBatch(batch);
+    }
+
     /**
      * Test event with which non-existing mapping to serialize.
      */
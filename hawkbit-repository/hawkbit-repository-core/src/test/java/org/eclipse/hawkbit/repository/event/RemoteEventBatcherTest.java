@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.repository.event.remote.AbstractRemoteEvent;
+import org.eclipse.hawkbit.repository.event.remote.RemoteEventBatch;
+import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Feature: Unit Tests - Repository<br/>
+ * Story: Remote event batching
+ */
+@ExtendWith(MockitoExtension.class)
+class RemoteEventBatcherTest {
+
+    @Mock
+    private ScheduledExecutorService executorService;
+
+    private final List<Sent> sent = new ArrayList<>();
+
+    /**
+     * Verifies that a batch is sent as soon as it reaches the max size, keeping the order of the events.
+     */
+    @Test
+    void batchIsSentWhenMaxSizeIsReached() {
+        final RemoteEventBatcher batcher = new RemoteEventBatcher((destination, event) -> sent.add(new Sent(destination, event)), 3, 1000,
+                executorService);
+        final List<AbstractRemoteEvent> events = List.of(pollEvent(1), pollEvent(2), pollEvent(3), pollEvent(4));
+        events.forEach(event -> batcher.add("channel", event));
+
+        assertThat(sent).hasSize(1);
+        assertThat(sent.get(0).destination()).isEqualTo("channel");
+        assertThat(sent.get(0).event()).isInstanceOf(RemoteEventBatch.class);
+        assertThat(((RemoteEventBatch) sent.get(0).event()).getEvents()).containsExactlyElementsOf(events.subList(0, 3));
+        // first event of each batch schedules its sending after the max delay
+        verify(executorService, times(2)).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+
+        batcher.flush();
+        assertThat(sent).hasSize(2);
+        // single event is sent as it is
+        assertThat(sent.get(1).event()).isEqualTo(events.get(3));
+    }
+
+    /**
+     * Verifies that the pending events are sent after the max delay, separately per destination.
+     */
+    @Test
+    void pendingEventsAreSentAfterMaxDelay() {
+        final RemoteEventBatcher batcher = new RemoteEventBatcher((destination, event) -> sent.add(new Sent(destination, event)), 100, 20,
+                executorService);
+        batcher.add("channel1", pollEvent(1));
+        batcher.add("channel2", pollEvent(2));
+        batcher.add("channel1", pollEvent(3));
+        assertThat(sent).isEmpty();
+
+        final ArgumentCaptor<Runnable> scheduled = ArgumentCaptor.forClass(Runnable.class);
+        verify(executorService, times(2)).schedule(scheduled.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        scheduled.getAllValues().forEach(Runnable::run);
+
+        assertThat(sent).hasSize(2);
+        assertThat(sent).filteredOn(s -> s.destination().equals("channel1")).singleElement()
+                .satisfies(s -> assertThat(((RemoteEventBatch) s.event()).getEvents()).hasSize(2));
+        assertThat(sent).filteredOn(s -> s.destination().equals("channel2")).singleElement()
+                .satisfies(s -> assertThat(s.event()).isInstanceOf(TargetPollEvent.class));
+    }
+
+    /**
+     * Verifies that events could be added while a batch of their destination is sent, and that they are sent after it.
+     */
+    @Test
+    void eventsAreAddedWhileBatchIsSent() throws Exception {
+        final CountDownLatch sending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Sent> sentInOrder = new CopyOnWriteArrayList<>();
+        final RemoteEventBatcher batcher = new RemoteEventBatcher((destination, event) -> {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sentInOrder.add(new Sent(destination, event));
+        }, 2, 1000, executorService);
+        final List<AbstractRemoteEvent> events = List.of(pollEvent(1), pollEvent(2), pollEvent(3));
+
+        final ExecutorService adder = Executors.newSingleThreadExecutor();
+        try {
+            // reaches the max size, so the adding thread sends the batch
+            final Future<?> sendingAdd = adder.submit(() -> events.subList(0, 2).forEach(event -> batcher.add("channel", event)));
+            assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+            batcher.add("channel", events.get(2));
+            assertThat(sentInOrder).isEmpty();
+
+            release.countDown();
+            sendingAdd.get(5, TimeUnit.SECONDS);
+            batcher.flush();
+        } finally {
+            adder.shutdownNow();
+        }
+
+        assertThat(sentInOrder).hasSize(2);
+        assertThat(((RemoteEventBatch) sentInOrder.get(0).event()).getEvents()).containsExactlyElementsOf(events.subList(0, 2));
+        assertThat(sentInOrder.get(1).event()).isEqualTo(events.get(2));
+    }
+
+    private static TargetPollEvent pollEvent(final int i) {
+        return new TargetPollEvent("controller-" + i, "tenant");
+    }
+
+    private record Sent(String destination, AbstractRemoteEvent event) {}
+}
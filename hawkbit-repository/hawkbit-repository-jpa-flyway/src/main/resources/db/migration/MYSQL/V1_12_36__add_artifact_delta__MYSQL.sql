@@ -0,0 +1,29 @@
+create table sp_artifact_delta
+(
+    id               bigint      not null auto_increment,
+    created_at       bigint,
+    created_by       varchar(64),
+    last_modified_at bigint,
+    last_modified_by varchar(64),
+    optlock_revision bigint,
+    tenant           varchar(40) not null,
+    artifact         bigint      not null,
+    base_sha1_hash   varchar(40) not null,
+    md5_hash         varchar(32),
+    sha1_hash        varchar(40) not null,
+    sha256_hash      varchar(64),
+    file_size        bigint,
+    primary key (id)
+);
+
+alter table sp_artifact_delta
+    add constraint uk_artifact_delta unique (artifact, base_sha1_hash, tenant);
+
+create index sp_idx_artifact_delta_01 on sp_artifact_delta (tenant, sha1_hash);
+create index sp_idx_artifact_delta_prim on sp_artifact_delta (tenant, id);
+
+alter table sp_artifact_delta
+    add constraint fk_artifact_delta_artifact
+        foreign key (artifact)
+            references sp_artifact (id)
+            on delete cascade;
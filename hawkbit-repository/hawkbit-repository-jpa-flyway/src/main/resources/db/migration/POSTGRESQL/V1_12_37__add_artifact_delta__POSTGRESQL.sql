@@ -0,0 +1,49 @@
+-- ------------ Write CREATE-SEQUENCE-stage scripts -----------
+
+CREATE SEQUENCE IF NOT EXISTS sp_artifact_delta_seq
+INCREMENT BY 1
+START WITH 1
+NO CYCLE;
+
+-- ------------ Write CREATE-TABLE-stage scripts -----------
+
+CREATE TABLE sp_artifact_delta(
+    id BIGINT NOT NULL DEFAULT nextval('sp_artifact_delta_seq'),
+    created_at       BIGINT,
+    created_by       VARCHAR(64),
+    last_modified_at BIGINT,
+    last_modified_by VARCHAR(64),
+    optlock_revision BIGINT,
+    tenant           VARCHAR(40) NOT NULL,
+    artifact         BIGINT NOT NULL,
+    base_sha1_hash   VARCHAR(40) NOT NULL,
+    md5_hash         VARCHAR(32),
+    sha1_hash        VARCHAR(40) NOT NULL,
+    sha256_hash      VARCHAR(64),
+    file_size        BIGINT
+)
+        WITH (
+        OIDS=FALSE
+        );
+
+-- ------------ Alter Table and Write INDEX scripts -----------
+
+ALTER TABLE sp_artifact_delta
+ADD CONSTRAINT pk_sp_artifact_delta PRIMARY KEY (id);
+
+ALTER TABLE sp_artifact_delta
+ADD CONSTRAINT uk_artifact_delta UNIQUE (artifact, base_sha1_hash, tenant);
+
+CREATE INDEX sp_idx_artifact_delta_01
+ON sp_artifact_delta
+USING BTREE (tenant, sha1_hash);
+
+CREATE INDEX sp_idx_artifact_delta_prim
+ON sp_artifact_delta
+USING BTREE (tenant, id);
+
+ALTER TABLE sp_artifact_delta
+ADD CONSTRAINT fk_artifact_delta_artifact FOREIGN KEY (artifact)
+REFERENCES sp_artifact (id)
+ON UPDATE RESTRICT
+ON DELETE CASCADE;
@@ -20,6 +20,8 @@ import static org.eclipse.hawkbit.repository.jpa.ql.Node.Comparison.Operator.NE;
 import static org.eclipse.hawkbit.repository.jpa.ql.Node.Comparison.Operator.NOT_IN;
 import static org.eclipse.hawkbit.repository.jpa.ql.Node.Comparison.Operator.NOT_LIKE;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
@@ -28,18 +30,28 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
+import java.util.regex.Pattern;
 
 import org.eclipse.hawkbit.repository.jpa.ql.Node.Comparison.Operator;
 import org.springframework.core.ResolvableType;
 
 /**
  * Provides entity matcher that matches an entity object against a filter (a {@link Node} or an RSQL string).
+ * <p/>
+ * The matcher is thread-safe and is meant to be reused. The getters (resolved as {@link MethodHandle}s) are cached per class
+ * and the LIKE patterns are compiled once per matcher, so repeated matching doesn't do reflective lookups or regex compilation.
  */
 public class EntityMatcher {
 
+    // entity class -> field name (path) -> getter
+    private static final Map<Class<?>, Map<String, Getter>> GETTERS = new ConcurrentHashMap<>();
+
     private final Node root;
     private final boolean ignoreCase;
+    // LIKE value (of the query) -> compiled pattern
+    private final Map<String, Pattern> likePatterns = new ConcurrentHashMap<>();
 
     private EntityMatcher(final Node root, final boolean ignoreCase) {
         this.root = root;
@@ -160,10 +172,22 @@ public class EntityMatcher {
         }
     }
 
+    private static <T> Getter getGetter(final Class<T> t, final String fieldName) throws NoSuchMethodException {
+        final Map<String, Getter> classGetters = GETTERS.computeIfAbsent(t, k -> new ConcurrentHashMap<>());
+        final Getter getter = classGetters.get(fieldName);
+        if (getter != null) {
+            return getter;
+        }
+        // not cached if not found, NoSuchMethodException is thrown
+        final Getter resolved = resolveGetter(t, fieldName);
+        classGetters.put(fieldName, resolved);
+        return resolved;
+    }
+
     // java:S3011 uses reflection to private members anyway
     // java:S3358 - better readable this way
     @SuppressWarnings({ "java:S3011", "java:S3358" })
-    private static <T> Getter getGetter(final Class<T> t, final String fieldName) throws NoSuchMethodException {
+    private static <T> Getter resolveGetter(final Class<T> t, final String fieldName) throws NoSuchMethodException {
         final String[] parts = fieldName.split("\\.");
         if (parts.length > 1) {
             final Getter firstGetter = getGetter(t, parts[0]);
@@ -193,11 +217,19 @@ public class EntityMatcher {
                         // the correct return type, but the type got from a declaring generic type
                         final Method getter = t.getMethod(getterName);
                         getter.setAccessible(true);
+                        final MethodHandle getterHandle = MethodHandles.lookup().unreflect(getter);
                         return new Getter() {
 
                             @Override
-                            public Object get(final Object obj) throws IllegalAccessException, InvocationTargetException {
-                                return getter.invoke(obj);
+                            @SuppressWarnings("java:S1181") // rethrows errors, wraps exceptions as Method.invoke does
+                            public Object get(final Object obj) throws InvocationTargetException {
+                                try {
+                                    return getterHandle.invoke(obj);
+                                } catch (final Error e) {
+                                    throw e;
+                                } catch (final Throwable e) {
+                                    throw new InvocationTargetException(e);
+                                }
                             }
 
                             @Override
@@ -210,6 +242,8 @@ public class EntityMatcher {
                                                 : ResolvableType.forMethodReturnType(getter, t).resolve();
                             }
                         };
+                    } catch (final IllegalAccessException e) {
+                        throw new IllegalStateException("Unexpected: Getter of field: " + fieldName + " in class: " + t.getName() + " is not accessible", e);
                     } catch (final NoSuchMethodException e) {
                         throw new IllegalStateException("Unexpected: No getter found for field: " + fieldName + " in class: " + t.getName(), e);
                     }
@@ -249,7 +283,7 @@ public class EntityMatcher {
         }
     }
 
-    private static boolean compare(final Object entityValue, final Operator op, final Object comparisonValue) {
+    private boolean compare(final Object entityValue, final Operator op, final Object comparisonValue) {
         if ((entityValue == null || comparisonValue == null) && // null is not comparable!
                 (op == GT || op == GTE || op == LT || op == LTE)) {
             return false;
@@ -290,10 +324,13 @@ public class EntityMatcher {
         }
     }
 
-    private static boolean like(final Object pattern, final Object value) {
+    private boolean like(final Object pattern, final Object value) {
         if (pattern instanceof String patternStr) {
             if (value instanceof String valueStr) {
-                return valueStr.matches(patternStr.replace("\\*", "$").replace("*", ".*").replace("$", "\\*"));
+                return likePatterns
+                        .computeIfAbsent(patternStr, p -> Pattern.compile(p.replace("\\*", "$").replace("*", ".*").replace("$", "\\*")))
+                        .matcher(valueStr)
+                        .matches();
             } else if (value == null) {
                 return false; // null value cannot match any pattern
             } else {
@@ -11,6 +11,7 @@ package org.eclipse.hawkbit.repository.jpa;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ScheduledExecutorService;
 
 import javax.sql.DataSource;
 
@@ -74,6 +75,8 @@ import org.eclipse.hawkbit.repository.jpa.repository.SoftwareModuleTypeRepositor
 import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetTypeRepository;
 import org.eclipse.hawkbit.repository.jpa.scheduler.RolloutScheduler;
+import org.eclipse.hawkbit.repository.jpa.scheduler.RolloutTrigger;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupStatusCounters;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.PauseRolloutGroupAction;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.RolloutGroupActionEvaluator;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.RolloutGroupConditionEvaluator;
@@ -239,15 +242,23 @@ public class JpaRepositoryConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    ThresholdRolloutGroupErrorCondition thresholdRolloutGroupErrorCondition(final ActionRepository actionRepository) {
-        return new ThresholdRolloutGroupErrorCondition(actionRepository);
+    RolloutGroupStatusCounters rolloutGroupStatusCounters(
+            final ActionRepository actionRepository, final PlatformTransactionManager txManager,
+            final RepositoryProperties repositoryProperties) {
+        return new RolloutGroupStatusCounters(actionRepository, txManager, repositoryProperties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    ThresholdRolloutGroupErrorCondition thresholdRolloutGroupErrorCondition(final RolloutGroupStatusCounters rolloutGroupStatusCounters) {
+        return new ThresholdRolloutGroupErrorCondition(rolloutGroupStatusCounters);
     }
 
     @Bean
     @ConditionalOnMissingBean
     ThresholdRolloutGroupSuccessCondition thresholdRolloutGroupSuccessCondition(
-            final ActionRepository actionRepository) {
-        return new ThresholdRolloutGroupSuccessCondition(actionRepository);
+            final RolloutGroupStatusCounters rolloutGroupStatusCounters) {
+        return new ThresholdRolloutGroupSuccessCondition(rolloutGroupStatusCounters);
     }
 
     @Bean
@@ -344,8 +355,9 @@ public class JpaRepositoryConfiguration {
     @ConditionalOnMissingBean
     RolloutHandler rolloutHandler(final TenantAware tenantAware, final RolloutManagement rolloutManagement,
             final RolloutExecutor rolloutExecutor, final LockRegistry lockRegistry,
-            final PlatformTransactionManager txManager, final Optional<MeterRegistry> meterRegistry) {
-        return new JpaRolloutHandler(tenantAware, rolloutManagement, rolloutExecutor, lockRegistry, txManager, meterRegistry);
+            final PlatformTransactionManager txManager, final Optional<MeterRegistry> meterRegistry,
+            @Value("${hawkbit.rollout.handler.thread-pool.size:1}") final int threadPoolSize) {
+        return new JpaRolloutHandler(tenantAware, rolloutManagement, rolloutExecutor, lockRegistry, txManager, meterRegistry, threadPoolSize);
     }
 
     /**
@@ -459,6 +471,31 @@ public class JpaRepositoryConfiguration {
         return new RolloutScheduler(rolloutHandler, systemManagement, systemSecurityContext, threadPoolSize, meterRegistry);
     }
 
+    /**
+     * {@link RolloutTrigger} bean.
+     * <p/>
+     * Note: does not activate in test profile, otherwise it is hard to test the
+     * rollout handling functionality.
+     *
+     * @param rolloutHandler to run the rollout handler
+     * @param systemSecurityContext to run as system
+     * @param executorService to schedule the debounced handling
+     * @param threadPoolSize number of threads handling the triggered rollouts
+     * @param debounceMS the delay of the handling after the first action update
+     * @return a new {@link RolloutTrigger} bean.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @Profile("!test")
+    @ConditionalOnProperty(prefix = "hawkbit.rollout.trigger", name = "enabled", matchIfMissing = true)
+    RolloutTrigger rolloutTrigger(
+            final RolloutHandler rolloutHandler, final SystemSecurityContext systemSecurityContext,
+            final ScheduledExecutorService executorService,
+            @Value("${hawkbit.rollout.handler.thread-pool.size:1}") final int threadPoolSize,
+            @Value("${hawkbit.rollout.trigger.debounce:500}") final long debounceMS, final Optional<MeterRegistry> meterRegistry) {
+        return new RolloutTrigger(rolloutHandler, systemSecurityContext, executorService, threadPoolSize, debounceMS, meterRegistry);
+    }
+
     @Bean
     @ConditionalOnMissingBean
     public VirtualPropertyResolver virtualPropertyResolver() {
@@ -10,28 +10,46 @@
 package org.eclipse.hawkbit.repository.jpa.acm;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.QueryField;
 import org.eclipse.hawkbit.repository.exception.InsufficientPermissionException;
+import org.eclipse.hawkbit.repository.jpa.ql.EntityMatcher;
 import org.eclipse.hawkbit.repository.jpa.ql.QLSupport;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.ObjectUtils;
 
+/**
+ * Default {@link AccessController} which restricts the access to the entities by the scopes of the caller's permissions (e.g.
+ * <code>READ_TARGET/type.id==1</code>).
+ * <p/>
+ * The scopes, their {@link Specification} and the {@link EntityMatcher}s are compiled once per set of authorities and operation and
+ * kept in a bounded cache, so the repeated calls of the same caller don't parse the authorities and the scopes again. Scopes using
+ * virtual properties (e.g. <code>${OVERDUE_TS}</code>) are resolved at build time, so their specifications and matchers are not cached.
+ */
 @Slf4j
 public class DefaultAccessController<A extends Enum<A> & QueryField, T> implements AccessController<T> {
 
+    private static final int MAX_CACHED_SCOPES = 1_000;
+
     private final Class<A> queryFieldType;
     private final Map<Operation, List<String>> permissions = new EnumMap<>(Operation.class);
+    // operation and authorities of the caller -> compiled scopes
+    private final Map<ScopesKey, CompiledScopes> compiledScopes = new ConcurrentHashMap<>();
 
     public DefaultAccessController(final Class<A> queryFieldType, final String... permissionTypes) {
         if (ObjectUtils.isEmpty(permissionTypes)) {
@@ -53,12 +71,9 @@ public class DefaultAccessController<A extends Enum<A> & QueryField, T> implemen
             return Optional.empty();
         }
 
-        return Optional.ofNullable(getScopes(operation)) // if "get scopes" returns null, no scopes return no spec - all entities are accessible
-                .map(scopes -> // to RSQL
-                        scopes.size() == 1
-                                ? scopes.get(0) // single scope
-                                : "(" + String.join(") or (", scopes) + ")") // join multiple scopes with 'or' - union
-                .map(rsql -> QLSupport.getInstance().buildSpec(rsql, queryFieldType));
+        final CompiledScopes scopes = getCompiledScopes(operation);
+        // if no scopes - no spec, all entities are accessible
+        return scopes.isUnrestricted() ? Optional.empty() : Optional.of(scopes.spec());
     }
 
     @Override
@@ -68,10 +83,10 @@ public class DefaultAccessController<A extends Enum<A> & QueryField, T> implemen
             return;
         }
 
-        final List<String> scopes = getScopes(operation);
-        if (scopes != null) {
-            for (final String scope : scopes) {
-                if (QLSupport.getInstance().entityMatcher(scope, queryFieldType).match(entity)) {
+        final CompiledScopes scopes = getCompiledScopes(operation);
+        if (!scopes.isUnrestricted()) {
+            for (final EntityMatcher matcher : scopes.matchers()) {
+                if (matcher.match(entity)) {
                     return; // at least one scope matches, operation is allowed
                 }
             }
@@ -79,13 +94,33 @@ public class DefaultAccessController<A extends Enum<A> & QueryField, T> implemen
         } // else if scopes is null, no scopes are defined, so all entities are accessible
     }
 
+    private CompiledScopes getCompiledScopes(final Operation operation) {
+        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        final ScopesKey key = new ScopesKey(
+                operation,
+                authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.toUnmodifiableSet()));
+        final CompiledScopes cached = compiledScopes.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final CompiledScopes compiled = new CompiledScopes(getScopes(operation, key.authorities()));
+        if (compiled.isCacheable()) {
+            if (compiledScopes.size() >= MAX_CACHED_SCOPES) {
+                log.debug("[{}] Compiled scopes exceeded {} entries, clearing them", queryFieldType, MAX_CACHED_SCOPES);
+                compiledScopes.clear();
+            }
+            compiledScopes.put(key, compiled);
+        }
+        return compiled;
+    }
+
     // returns null if ALL entities are accessible, otherwise returns a list of scopes
     // throws InsufficientPermissionException if no matching authority found (should not happen - should be already checked with @PreAuthorize)
     @SuppressWarnings("java:S1168") // java:S1168 - returns null with purpose to indicate no scopes, privately used with attention
-    private List<String> getScopes(final Operation operation) {
+    private List<String> getScopes(final Operation operation, final Set<String> authorities) {
         final List<String> operationPermissions = permissions.get(operation);
-        final List<String> scopes = SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
+        final List<String> scopes = authorities.stream()
                 .map(Permission::from)
                 .filter(permission -> operationPermissions.contains(permission.name()))
                 .map(Permission::scope)
@@ -108,6 +143,52 @@ public class DefaultAccessController<A extends Enum<A> & QueryField, T> implemen
         }
     }
 
+    private record ScopesKey(Operation operation, Set<String> authorities) {}
+
+    // the spec and matchers are built lazily - e.g. if only the spec is used there is no need to build the matchers
+    private final class CompiledScopes {
+
+        // null if all entities are accessible
+        private final List<String> scopes;
+        private volatile Specification<T> spec;
+        private volatile List<EntityMatcher> matchers;
+
+        private CompiledScopes(final List<String> scopes) {
+            this.scopes = scopes;
+        }
+
+        private boolean isUnrestricted() {
+            return scopes == null;
+        }
+
+        // scopes with virtual properties are resolved when built, so they shall be built on every use
+        private boolean isCacheable() {
+            return scopes == null || scopes.stream().noneMatch(scope -> scope.contains("${"));
+        }
+
+        private Specification<T> spec() {
+            Specification<T> result = spec;
+            if (result == null) {
+                final String rsql = scopes.size() == 1
+                        ? scopes.get(0) // single scope
+                        : "(" + String.join(") or (", scopes) + ")"; // join multiple scopes with 'or' - union
+                result = QLSupport.getInstance().buildSpec(rsql, queryFieldType);
+                spec = result;
+            }
+            return result;
+        }
+
+        private List<EntityMatcher> matchers() {
+            List<EntityMatcher> result = matchers;
+            if (result == null) {
+                result = Collections.unmodifiableList(
+                        scopes.stream().map(scope -> QLSupport.getInstance().entityMatcher(scope, queryFieldType)).toList());
+                matchers = result;
+            }
+            return result;
+        }
+    }
+
     private record Permission(String name, String scope) {
 
         private static final Pattern PATTERN = Pattern.compile("^(?<name>[^/]+)(/(?<scope>.+))?$");
@@ -0,0 +1,240 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Micro-batches the update action statuses reported by the devices. The statuses are sharded by action id, so the statuses of an action
+ * are always in the same shard and are flushed in the order they are added. A shard is flushed when it reaches the batch size or
+ * periodically (see {@link #flush()}), the drained statuses are grouped by tenant and passed to the flusher in batches of at most batch
+ * size - each batch is expected to be persisted in a single transaction.
+ * <p/>
+ * The caller waits for the batch of its status to be persisted and gets the result (or the failure) of its own status. If the shard is
+ * full the caller waits for a flush of the shard before its status is added (back pressure) - persisting it past the shard would break
+ * the order of the statuses of the action.
+ */
+@Slf4j
+class ActionStatusBatcher {
+
+    private static final String METER_PREFIX = "hawkbit.controller.action.status.batch.";
+
+    private final Shard[] shards;
+    private final int batchSize;
+    private final long timeout;
+    // called per tenant with statuses in order, expected to complete the results of all of them
+    private final BiConsumer<String, List<BatchedActionStatus>> flusher;
+    private final ThreadPoolExecutor flushExecutor;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Optional<Counter> blockedCounter;
+    private final Optional<DistributionSummary> batchSizeSummary;
+    private final Optional<Timer> flushTimer;
+
+    ActionStatusBatcher(
+            final int shardCount, final int batchSize, final int capacity, final int flushThreads, final long timeout,
+            final BiConsumer<String, List<BatchedActionStatus>> flusher, final Optional<MeterRegistry> meterRegistry) {
+        if (shardCount <= 0 || batchSize <= 0 || capacity <= 0 || flushThreads <= 0 || timeout <= 0) {
+            throw new IllegalArgumentException("Shard count, batch size, capacity, flush threads and timeout must be positive");
+        }
+        final int shardCapacity = Math.max(batchSize, capacity / shardCount);
+        shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(shardCapacity);
+        }
+        this.batchSize = batchSize;
+        this.timeout = timeout;
+        this.flusher = flusher;
+
+        final AtomicLong threadCount = new AtomicLong();
+        // at most one flush per shard could be queued, so the queue is never full
+        flushExecutor = new ThreadPoolExecutor(
+                flushThreads, flushThreads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(shardCount),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "action-status-flush-" + threadCount.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        flushExecutor.allowCoreThreadTimeOut(true);
+
+        meterRegistry.ifPresent(mReg -> Gauge.builder(METER_PREFIX + "pending", pending, AtomicInteger::get)
+                .description("Number of action statuses waiting for persistence")
+                .register(mReg));
+        blockedCounter = meterRegistry.map(mReg -> mReg.counter(METER_PREFIX + "blocked"));
+        batchSizeSummary = meterRegistry.map(mReg -> mReg.summary(METER_PREFIX + "size"));
+        flushTimer = meterRegistry.map(mReg -> mReg.timer(METER_PREFIX + "flush"));
+    }
+
+    /**
+     * Adds an action status to its batch and waits until the batch is persisted. If the shard of the status is full, waits for a flush
+     * of the shard first.
+     *
+     * @param tenant the tenant of the action
+     * @param create the action status
+     * @return the updated action
+     * @throws QueryTimeoutException if the status could not be added or persisted within the timeout - in the latter case it could still
+     *         be persisted later
+     * @throws RuntimeException the exception thrown when persisting the status
+     */
+    Action add(final String tenant, final ActionStatusCreate create) {
+        final Shard shard = shards[Math.floorMod(Long.hashCode(create.getActionId()), shards.length)];
+        try {
+            // the semaphore is fair, so the waiting statuses are added in the order they are reported
+            if (!shard.permits.tryAcquire(0, TimeUnit.MILLISECONDS)) {
+                blockedCounter.ifPresent(Counter::increment);
+                log.debug("Action status batch shard is full, status of action {} waits for a flush", create.getActionId());
+                flushAsync(shard);
+                if (!shard.permits.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                    throw new QueryTimeoutException("Action status batch shard is still full after " + timeout + " ms");
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryTimeoutException("Interrupted while waiting for a flush of the action status batch shard", e);
+        }
+
+        final BatchedActionStatus batched = new BatchedActionStatus(tenant, create, SecurityContextHolder.getContext());
+        shard.statuses.add(batched);
+        pending.incrementAndGet();
+        if (shard.size.incrementAndGet() >= batchSize) {
+            flushAsync(shard);
+        }
+
+        try {
+            return batched.result.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new CompletionException(e.getCause());
+        } catch (final TimeoutException e) {
+            throw new QueryTimeoutException("Action status of action " + create.getActionId() + " not persisted within " + timeout + " ms", e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryTimeoutException("Interrupted while waiting for the persistence of an action status", e);
+        }
+    }
+
+    /**
+     * Submits flush of all non-empty shards to the flush executor.
+     */
+    void flush() {
+        for (final Shard shard : shards) {
+            if (!shard.statuses.isEmpty()) {
+                flushAsync(shard);
+            }
+        }
+    }
+
+    void shutdown() {
+        flushExecutor.shutdown();
+    }
+
+    int pending() {
+        return pending.get();
+    }
+
+    private void flushAsync(final Shard shard) {
+        // at most one flush per shard is queued or running at a time, i.e. the statuses of a shard are persisted in order
+        if (shard.flushing.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(() -> flush(shard));
+            } catch (final RuntimeException e) {
+                shard.flushing.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void flush(final Shard shard) {
+        try {
+            BatchedActionStatus next;
+            do {
+                final Map<String, List<BatchedActionStatus>> byTenant = new LinkedHashMap<>();
+                int drained = 0;
+                while (drained < batchSize && (next = shard.statuses.poll()) != null) {
+                    byTenant.computeIfAbsent(next.tenant(), k -> new ArrayList<>()).add(next);
+                    drained++;
+                }
+                shard.size.addAndGet(-drained);
+                pending.addAndGet(-drained);
+                shard.permits.release(drained);
+                byTenant.forEach(this::flush);
+            } while (shard.size.get() >= batchSize);
+        } finally {
+            shard.flushing.set(false);
+        }
+    }
+
+    private void flush(final String tenant, final List<BatchedActionStatus> batch) {
+        final long startNano = System.nanoTime();
+        try {
+            flusher.accept(tenant, batch);
+        } catch (final RuntimeException e) {
+            log.error("Failed to persist {} action statuses of tenant {}.", batch.size(), tenant, e);
+            batch.forEach(batched -> batched.result().completeExceptionally(e));
+        } finally {
+            batchSizeSummary.ifPresent(summary -> summary.record(batch.size()));
+            flushTimer.ifPresent(timer -> timer.record(System.nanoTime() - startNano, TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * An action status waiting for persistence together with the security context it is reported in.
+     */
+    record BatchedActionStatus(String tenant, ActionStatusCreate create, SecurityContext securityContext, CompletableFuture<Action> result) {
+
+        private BatchedActionStatus(final String tenant, final ActionStatusCreate create, final SecurityContext securityContext) {
+            this(tenant, create, securityContext, new CompletableFuture<>());
+        }
+    }
+
+    private static class Shard {
+
+        private final ConcurrentLinkedQueue<BatchedActionStatus> statuses = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean flushing = new AtomicBoolean();
+        // a permit per free place in the shard
+        private final Semaphore permits;
+
+        private Shard(final int capacity) {
+            permits = new Semaphore(capacity, true);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.artifact.AbstractArtifactStorage;
+import org.eclipse.hawkbit.artifact.ArtifactStorage;
+import org.eclipse.hawkbit.artifact.delta.BinaryDelta;
+import org.eclipse.hawkbit.artifact.model.FileChannelInputStream;
+import org.eclipse.hawkbit.artifact.model.StoredArtifactInfo;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.jpa.model.JpaArtifact;
+import org.eclipse.hawkbit.repository.jpa.model.JpaArtifactDelta;
+import org.eclipse.hawkbit.repository.jpa.repository.ArtifactDeltaRepository;
+import org.eclipse.hawkbit.repository.jpa.repository.ArtifactRepository;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Generates, in background, the binary deltas ({@link BinaryDelta}) of the uploaded artifacts against the artifact with the same
+ * filename of the previous version of the software module (see {@link ArtifactRepository#findDeltaBaseCandidates}). The deltas are
+ * stored via the {@link ArtifactStorage} as any other binary and registered as {@link JpaArtifactDelta}.
+ * <p/>
+ * The artifacts are processed one at a time on a single thread - the generation is memory mapped but still CPU and I/O heavy and shall
+ * not compete with the downloads. Deltas which aren't small enough (see {@link RepositoryProperties#getArtifactDeltaMaxRatio()}) are
+ * dropped.
+ */
+@Slf4j
+class ArtifactDeltaGenerator {
+
+    private static final String DELTA_CONTENT_TYPE = "application/octet-stream";
+
+    private final ArtifactRepository artifactRepository;
+    private final ArtifactDeltaRepository artifactDeltaRepository;
+    private final ArtifactStorage artifactStorage;
+    private final PlatformTransactionManager txManager;
+    private final SystemSecurityContext systemSecurityContext;
+    private final RepositoryProperties repositoryProperties;
+    private final ExecutorService executor;
+
+    ArtifactDeltaGenerator(
+            final ArtifactRepository artifactRepository, final ArtifactDeltaRepository artifactDeltaRepository,
+            final ArtifactStorage artifactStorage, final PlatformTransactionManager txManager,
+            final SystemSecurityContext systemSecurityContext, final RepositoryProperties repositoryProperties) {
+        this.artifactRepository = artifactRepository;
+        this.artifactDeltaRepository = artifactDeltaRepository;
+        this.artifactStorage = artifactStorage;
+        this.txManager = txManager;
+        this.systemSecurityContext = systemSecurityContext;
+        this.repositoryProperties = repositoryProperties;
+        final ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(
+                1, 1, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "artifact-delta-generator");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                });
+        threadPoolExecutor.allowCoreThreadTimeOut(true);
+        executor = threadPoolExecutor;
+    }
+
+    /**
+     * Schedules the generation of the delta of an artifact (if there is a base for it).
+     *
+     * @param tenant the tenant of the artifact
+     * @param artifactId the id of the artifact
+     */
+    void generateAsync(final String tenant, final long artifactId) {
+        try {
+            executor.execute(() -> {
+                try {
+                    systemSecurityContext.runAsSystemAsTenant(() -> {
+                        generate(tenant, artifactId);
+                        return null;
+                    }, tenant);
+                } catch (final RuntimeException e) {
+                    log.warn("Failed to generate delta of artifact {} of tenant {}", artifactId, tenant, e);
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            log.warn("Delta generation of artifact {} of tenant {} rejected", artifactId, tenant, e);
+        }
+    }
+
+    // package private for testing
+    void generate(final String tenant, final long artifactId) {
+        final List<JpaArtifact> artifacts = DeploymentHelper.runInNewTransaction(txManager, "findDeltaBase", status -> {
+            final JpaArtifact artifact = artifactRepository.findById(artifactId).orElse(null);
+            if (artifact == null) {
+                return List.of();
+            }
+            return artifactRepository.findDeltaBaseCandidates(artifactId, PageRequest.of(0, 1)).stream()
+                    .findFirst()
+                    .map(base -> List.of(artifact, base))
+                    .orElse(List.of());
+        });
+        if (artifacts.isEmpty()) {
+            log.debug("No base for a delta of artifact {}", artifactId);
+            return;
+        }
+
+        final JpaArtifact artifact = artifacts.get(0);
+        final JpaArtifact base = artifacts.get(1);
+        final long maxSize = Math.min(repositoryProperties.getArtifactDeltaMaxArtifactSize(), Integer.MAX_VALUE);
+        if (artifact.getSha1Hash().equals(base.getSha1Hash()) || artifact.getSize() > maxSize || base.getSize() > maxSize ||
+                artifactDeltaRepository.existsByArtifactIdAndBaseSha1Hash(artifactId, base.getSha1Hash())) {
+            return;
+        }
+
+        final File deltaFile = AbstractArtifactStorage.createTempFile(false);
+        try {
+            final long deltaSize = encode(tenant, base.getSha1Hash(), artifact.getSha1Hash(), deltaFile);
+            if (deltaSize > artifact.getSize() * repositoryProperties.getArtifactDeltaMaxRatio()) {
+                log.debug("Delta of artifact {} against {} has {} bytes, too big for {} bytes artifact, dropped",
+                        artifactId, base.getSha1Hash(), deltaSize, artifact.getSize());
+                return;
+            }
+
+            final StoredArtifactInfo stored;
+            try (final InputStream deltaStream = new FileInputStream(deltaFile)) {
+                stored = artifactStorage.store(tenant, deltaStream, artifact.getFilename() + ".delta", DELTA_CONTENT_TYPE, null);
+            }
+            try {
+                DeploymentHelper.runInNewTransaction(txManager, "storeArtifactDelta", status -> artifactDeltaRepository.save(
+                        new JpaArtifactDelta(artifactRepository.getById(artifactId), base.getSha1Hash(), stored.getHashes(),
+                                stored.getSize())));
+                log.debug("Delta of artifact {} against {} stored with {} bytes", artifactId, base.getSha1Hash(), stored.getSize());
+            } catch (final DataIntegrityViolationException e) {
+                // the artifact is deleted meanwhile or the delta is concurrently generated
+                log.debug("Delta of artifact {} against {} not stored", artifactId, base.getSha1Hash(), e);
+                if (artifactDeltaRepository.countBySha1HashAndTenant(stored.getHashes().sha1(), tenant) == 0) {
+                    artifactStorage.deleteBySha1(tenant, stored.getHashes().sha1());
+                }
+            }
+        } catch (final IOException e) {
+            log.warn("Failed to generate delta of artifact {} against {}", artifactId, base.getSha1Hash(), e);
+        } finally {
+            deleteQuietly(deltaFile);
+        }
+    }
+
+    private long encode(final String tenant, final String baseSha1Hash, final String sha1Hash, final File deltaFile) throws IOException {
+        try (final MappedArtifact source = map(tenant, baseSha1Hash);
+                final MappedArtifact target = map(tenant, sha1Hash);
+                final OutputStream out = new FileOutputStream(deltaFile)) {
+            BinaryDelta.encode(source.buffer, target.buffer, out);
+        }
+        return deltaFile.length();
+    }
+
+    // maps the artifact file directly if the storage keeps it in a local file, otherwise spools it to a temporary file
+    private MappedArtifact map(final String tenant, final String sha1Hash) throws IOException {
+        try (final InputStream in = artifactStorage.getBySha1(tenant, sha1Hash)) {
+            if (in instanceof FileChannelInputStream fileChannelInputStream) {
+                final FileChannel channel = fileChannelInputStream.getChannel();
+                return new MappedArtifact(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), null);
+            }
+
+            final File spool = AbstractArtifactStorage.createTempFile(false);
+            try {
+                Files.copy(in, spool.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                try (final FileChannel channel = FileChannel.open(spool.toPath(), StandardOpenOption.READ)) {
+                    return new MappedArtifact(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), spool);
+                }
+            } catch (final IOException | RuntimeException e) {
+                deleteQuietly(spool);
+                throw e;
+            }
+        }
+    }
+
+    private static void deleteQuietly(final File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (final IOException e) {
+            log.debug("Failed to delete temporary file {}", file, e);
+        }
+    }
+
+    // the mapping stays valid after the channel is closed, the spool file (if any) is deleted on close
+    private record MappedArtifact(ByteBuffer buffer, File spool) implements AutoCloseable {
+
+        @Override
+        public void close() {
+            if (spool != null) {
+                deleteQuietly(spool);
+            }
+        }
+    }
+}
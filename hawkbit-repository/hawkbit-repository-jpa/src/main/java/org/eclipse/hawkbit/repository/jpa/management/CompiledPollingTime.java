@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.TargetFields;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.jpa.ql.EntityMatcher;
+import org.eclipse.hawkbit.repository.jpa.ql.QLSupport;
+import org.eclipse.hawkbit.tenancy.configuration.PollingTime;
+import org.eclipse.hawkbit.tenancy.configuration.PollingTime.PollingInterval;
+
+/**
+ * A {@link PollingTime} with overrides compiled to (reusable, thread-safe) {@link EntityMatcher}s. It is built once per polling
+ * time configuration value, so the polling time string and the override queries are not parsed on every poll.
+ *
+ * @param source the polling time configuration value this is compiled from
+ * @param pollingInterval the default polling interval
+ * @param overrides the overrides in the order of definition, the first matching wins
+ */
+@Slf4j
+record CompiledPollingTime(String source, PollingInterval pollingInterval, List<Override> overrides) {
+
+    static CompiledPollingTime compile(final String source) {
+        final PollingTime pollingTime = new PollingTime(source);
+        if (pollingTime.getOverrides().isEmpty()) {
+            return new CompiledPollingTime(source, pollingTime.getPollingInterval(), Collections.emptyList());
+        }
+
+        final List<Override> overrides = new ArrayList<>(pollingTime.getOverrides().size());
+        for (final PollingTime.Override override : pollingTime.getOverrides()) {
+            try {
+                overrides.add(new Override(
+                        QLSupport.getInstance().entityMatcher(override.qlStr(), TargetFields.class), override.pollingInterval()));
+            } catch (final Exception e) {
+                // skipped, as it would never match
+                log.warn("Invalid polling override {} is skipped: {}", override.qlStr(), e.getMessage());
+            }
+        }
+        return new CompiledPollingTime(source, pollingTime.getPollingInterval(), Collections.unmodifiableList(overrides));
+    }
+
+    /**
+     * Returns the polling interval of the first override matching the target or the default polling interval if none matches.
+     *
+     * @param target the target
+     * @return the polling interval for the target
+     */
+    PollingInterval pollingInterval(final JpaTarget target) {
+        for (final Override override : overrides) {
+            try {
+                if (override.matcher().match(target)) {
+                    return override.pollingInterval();
+                }
+            } catch (final Exception e) {
+                log.warn("Error while evaluating polling override for target {}: {}", target.getId(), e.getMessage());
+            }
+        }
+        return pollingInterval;
+    }
+
+    record Override(EntityMatcher matcher, PollingInterval pollingInterval) {}
+}
@@ -13,24 +13,35 @@ import static org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommit
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import jakarta.persistence.EntityManager;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
 import org.eclipse.hawkbit.artifact.ArtifactStorage;
 import org.eclipse.hawkbit.artifact.encryption.ArtifactEncryptionService;
 import org.eclipse.hawkbit.artifact.exception.ArtifactBinaryNotFoundException;
 import org.eclipse.hawkbit.artifact.exception.ArtifactDeleteFailedException;
+import org.eclipse.hawkbit.artifact.exception.ArtifactEncryptionUnsupportedException;
 import org.eclipse.hawkbit.artifact.exception.ArtifactStoreException;
 import org.eclipse.hawkbit.artifact.exception.ArtifactUploadFailedException;
+import org.eclipse.hawkbit.artifact.exception.FileSizeQuotaExceededException;
 import org.eclipse.hawkbit.artifact.exception.HashNotMatchException;
+import org.eclipse.hawkbit.artifact.exception.StorageQuotaExceededException;
 import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
 import org.eclipse.hawkbit.artifact.model.ArtifactStream;
 import org.eclipse.hawkbit.artifact.model.StoredArtifactInfo;
 import org.eclipse.hawkbit.repository.ArtifactManagement;
 import org.eclipse.hawkbit.repository.QuotaManagement;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.exception.EntityAlreadyExistsException;
+import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.exception.InvalidMd5HashException;
 import org.eclipse.hawkbit.repository.exception.InvalidSha1HashException;
 import org.eclipse.hawkbit.repository.exception.InvalidSha256HashException;
@@ -39,7 +50,9 @@ import org.eclipse.hawkbit.repository.jpa.JpaManagementHelper;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.model.JpaArtifact;
+import org.eclipse.hawkbit.repository.jpa.model.JpaArtifactDelta;
 import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModule;
+import org.eclipse.hawkbit.repository.jpa.repository.ArtifactDeltaRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.ArtifactRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.SoftwareModuleRepository;
 import org.eclipse.hawkbit.repository.jpa.specifications.ArtifactSpecifications;
@@ -47,8 +60,10 @@ import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
 import org.eclipse.hawkbit.repository.jpa.utils.FileSizeAndStorageQuotaCheckingInputStream;
 import org.eclipse.hawkbit.repository.jpa.utils.QuotaHelper;
 import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.ArtifactDelta;
 import org.eclipse.hawkbit.repository.model.ArtifactUpload;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
+import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
 import org.springframework.dao.ConcurrencyFailureException;
@@ -57,6 +72,7 @@ import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 import org.springframework.validation.annotation.Validated;
 
 /**
@@ -70,28 +86,41 @@ import org.springframework.validation.annotation.Validated;
 public class JpaArtifactManagement implements ArtifactManagement {
 
     private final ArtifactRepository artifactRepository;
+    private final ArtifactDeltaRepository artifactDeltaRepository;
     private final ArtifactStorage artifactStorage;
     private final SoftwareModuleRepository softwareModuleRepository;
     private final EntityManager entityManager;
     private final PlatformTransactionManager txManager;
     private final TenantAware tenantAware;
     private final QuotaManagement quotaManagement;
+    // null if the delta generation is disabled
+    private final ArtifactDeltaGenerator artifactDeltaGenerator;
 
+    @SuppressWarnings("java:S107")
     protected JpaArtifactManagement(
             final ArtifactRepository artifactRepository,
+            final ArtifactDeltaRepository artifactDeltaRepository,
             final Optional<ArtifactStorage> artifactStorage,
             final SoftwareModuleRepository softwareModuleRepository,
             final EntityManager entityManager,
             final PlatformTransactionManager txManager,
             final QuotaManagement quotaManagement,
-            final TenantAware tenantAware) {
+            final TenantAware tenantAware,
+            final SystemSecurityContext systemSecurityContext,
+            final RepositoryProperties repositoryProperties) {
         this.artifactRepository = artifactRepository;
+        this.artifactDeltaRepository = artifactDeltaRepository;
         this.artifactStorage = artifactStorage.orElse(null);
         this.softwareModuleRepository = softwareModuleRepository;
         this.entityManager = entityManager;
         this.txManager = txManager;
         this.quotaManagement = quotaManagement;
         this.tenantAware = tenantAware;
+        artifactDeltaGenerator = this.artifactStorage != null && repositoryProperties.isArtifactDeltaEnabled()
+                ? new ArtifactDeltaGenerator(
+                        artifactRepository, artifactDeltaRepository, this.artifactStorage, txManager, systemSecurityContext,
+                        repositoryProperties)
+                : null;
     }
 
     @Override
@@ -103,41 +132,77 @@ public class JpaArtifactManagement implements ArtifactManagement {
             throw new UnsupportedOperationException();
         }
 
-        final long moduleId = artifactUpload.moduleId();
-        QuotaHelper.assertAssignmentQuota(
-                moduleId, 1, quotaManagement.getMaxArtifactsPerSoftwareModule(),
-                Artifact.class, SoftwareModule.class,
-                // get all artifacts without user context
-                softwareModuleId -> artifactRepository.count(null, ArtifactSpecifications.bySoftwareModuleId(softwareModuleId)));
+        final JpaSoftwareModule softwareModule = getUploadTarget(artifactUpload);
 
-        final JpaSoftwareModule softwareModule = softwareModuleRepository.getById(moduleId);
-        if (softwareModule.isLocked()) {
-            // check in order to:
-            // - on non-existing artifact - skip binary storing before, eventual, failing in new JpaSoftwareModule.addArtifact
-            // - if existing and overriding - no check will be made in new JpaSoftwareModule.addArtifact, so we sh to fail here
-            throw new LockedException(JpaSoftwareModule.class, softwareModule.getId(), "ADD_ARTIFACT");
+        // touch it to update the lock revision because we are modifying the DS indirectly, it will, also check UPDATE access
+        JpaManagementHelper.touch(entityManager, softwareModuleRepository, softwareModule);
+
+        return createArtifact(softwareModule, artifactUpload.filename(), storeArtifact(artifactUpload, softwareModule.isEncrypted()));
+    }
+
+    @Override
+    @Transactional
+    public Optional<Artifact> appendUpload(final ArtifactUpload artifactUpload, final long offset) {
+        if (artifactStorage == null) {
+            throw new UnsupportedOperationException();
         }
 
-        final String filename = artifactUpload.filename();
-        final Artifact existing = softwareModule.getArtifactByFilename(filename).orElse(null);
-        if (existing != null) {
-            if (artifactUpload.overrideExisting()) {
-                log.debug("overriding existing artifact with new filename {}", filename);
-            } else {
-                throw new EntityAlreadyExistsException("File with that name already exists in the Software Module");
-            }
+        final JpaSoftwareModule softwareModule = getUploadTarget(artifactUpload);
+        if (softwareModule.isEncrypted()) {
+            // the encryption is a stream over the whole artifact, it can't be resumed
+            throw new ArtifactEncryptionUnsupportedException("Resumable upload is not supported for encrypted software modules");
+        }
+        final long maxArtifactSize = quotaManagement.getMaxArtifactSize();
+        if (artifactUpload.filesize() > maxArtifactSize) {
+            throw new FileSizeQuotaExceededException(maxArtifactSize);
+        }
+        final long storageLeft = quotaManagement.getMaxArtifactStorage() - artifactRepository.sumOfNonDeletedArtifactSize().orElse(0L);
+        if (artifactUpload.filesize() > storageLeft) {
+            throw new StorageQuotaExceededException(storageLeft);
         }
 
         // touch it to update the lock revision because we are modifying the DS indirectly, it will, also check UPDATE access
         JpaManagementHelper.touch(entityManager, softwareModuleRepository, softwareModule);
 
-        final StoredArtifactInfo artifact = storeArtifact(artifactUpload, softwareModule.isEncrypted());
+        final String tenant = tenantAware.getCurrentTenant();
+        final String uploadId = uploadId(artifactUpload.moduleId(), artifactUpload.filename());
+        final long size;
+        try (final InputStream wrappedStream = new FileSizeAndStorageQuotaCheckingInputStream(
+                artifactUpload.inputStream(), maxArtifactSize - offset, storageLeft - offset)) {
+            size = artifactStorage.appendPartial(tenant, uploadId, offset, wrappedStream);
+        } catch (final ArtifactStoreException | IOException e) {
+            throw new ArtifactUploadFailedException(e);
+        }
+        if (size < artifactUpload.filesize()) {
+            log.debug("Upload {} of software module {} at {} of {} bytes", artifactUpload.filename(), softwareModule.getId(), size,
+                    artifactUpload.filesize());
+            return Optional.empty();
+        } else if (size > artifactUpload.filesize()) {
+            artifactStorage.deletePartial(tenant, uploadId);
+            throw new ArtifactUploadFailedException(
+                    new IOException("Uploaded " + size + " bytes, more than the artifact size " + artifactUpload.filesize()));
+        }
+
+        final StoredArtifactInfo artifact;
         try {
-            return storeArtifactMetadata(softwareModule, filename, artifact.getHashes(), artifact.getSize(), existing);
-        } catch (final Exception e) {
-            artifactStorage.deleteBySha1(tenantAware.getCurrentTenant(), artifact.getHashes().sha1());
-            throw e;
+            artifact = artifactStorage.storePartial(tenant, uploadId, artifactUpload.contentType(), artifactUpload.hash());
+        } catch (final ArtifactStoreException e) {
+            throw new ArtifactUploadFailedException(e);
+        } catch (final HashNotMatchException e) {
+            throw toInvalidHashException(e);
         }
+        return Optional.of(createArtifact(softwareModule, artifactUpload.filename(), artifact));
+    }
+
+    @Override
+    public long getUploadOffset(final long moduleId, final String filename) {
+        if (artifactStorage == null) {
+            throw new UnsupportedOperationException();
+        }
+
+        // check access to the software module
+        softwareModuleRepository.getById(moduleId);
+        return artifactStorage.getPartialSize(tenantAware.getCurrentTenant(), uploadId(moduleId, filename));
     }
 
     @SuppressWarnings("java:S2201") // java:S2201 - the idea is to just check if the artifact exists
@@ -165,6 +230,42 @@ public class JpaArtifactManagement implements ArtifactManagement {
         throw new ArtifactBinaryNotFoundException(sha1Hash);
     }
 
+    @Override
+    public Map<Long, ArtifactDelta> findDeltasForTarget(final long targetId, final Collection<Long> softwareModuleIds) {
+        return findDeltasForTargets(List.of(targetId), softwareModuleIds).getOrDefault(targetId, Map.of());
+    }
+
+    @Override
+    public Map<Long, Map<Long, ArtifactDelta>> findDeltasForTargets(
+            final Collection<Long> targetIds, final Collection<Long> softwareModuleIds) {
+        if (artifactDeltaGenerator == null || targetIds.isEmpty() || softwareModuleIds.isEmpty()) {
+            // deltas are disabled - don't query on every deployment
+            return Map.of();
+        }
+
+        final Map<Long, Map<Long, ArtifactDelta>> deltas = new HashMap<>();
+        ListUtils.partition(List.copyOf(targetIds), Constants.MAX_ENTRIES_IN_STATEMENT).forEach(chunk ->
+                artifactDeltaRepository.findApplicableForTargets(chunk, softwareModuleIds).forEach(row -> {
+                    final JpaArtifactDelta delta = (JpaArtifactDelta) row[1];
+                    deltas.computeIfAbsent((Long) row[0], targetId -> new HashMap<>()).putIfAbsent(delta.getArtifact().getId(), delta);
+                }));
+        return deltas;
+    }
+
+    @Override
+    public ArtifactStream getDeltaStream(final long artifactId, final String baseSha1Hash) {
+        if (artifactStorage == null) {
+            throw new UnsupportedOperationException();
+        }
+
+        // check access to the software module of the artifact
+        softwareModuleRepository.getById(artifactRepository.getById(artifactId).getSoftwareModule().getId());
+        final JpaArtifactDelta delta = artifactDeltaRepository.findByArtifactIdAndBaseSha1Hash(artifactId, baseSha1Hash)
+                .orElseThrow(() -> new EntityNotFoundException(ArtifactDelta.class, artifactId + "/" + baseSha1Hash));
+        return new ArtifactStream(
+                artifactStorage.getBySha1(tenantAware.getCurrentTenant(), delta.getSha1Hash()), delta.getSize(), delta.getSha1Hash());
+    }
+
     @Override
     @Transactional
     @Retryable(retryFor = { ConcurrencyFailureException.class }, maxAttempts = Constants.TX_RT_MAX,
@@ -180,13 +281,18 @@ public class JpaArtifactManagement implements ArtifactManagement {
         // clearArtifactBinary checks (unconditionally) software module UPDATE access
         softwareModuleRepository.getAccessController().ifPresent(accessController ->
                 accessController.assertOperationAllowed(AccessController.Operation.UPDATE, softwareModule));
+        // the deltas are deleted with the artifact (by the database), so their binaries shall be collected before
+        final List<String> deltaSha1Hashes = findDeltaSha1Hashes(List.of(toDelete));
         softwareModule.removeArtifact(toDelete);
         softwareModuleRepository.save(softwareModule);
 
         artifactRepository.deleteById(id);
 
         final String sha1Hash = toDelete.getSha1Hash();
-        afterCommit(() -> clearArtifactBinary(sha1Hash));
+        afterCommit(() -> {
+            clearArtifactBinary(sha1Hash);
+            deltaSha1Hashes.forEach(this::clearDeltaBinary);
+        });
     }
 
     /**
@@ -204,6 +310,13 @@ public class JpaArtifactManagement implements ArtifactManagement {
         DeploymentHelper.runInNewTransaction(txManager, "clearArtifactBinary", status -> {
             // countBySha1HashAndTenantAndSoftwareModuleDeletedIsFalse will skip ACM checks and will return total count as it should be
             if (artifactRepository.countBySha1HashAndTenantAndSoftwareModuleDeletedIsFalse(sha1Hash, tenantAware.getCurrentTenant()) <= 0) {
+                // the deltas resulting in the artifact are no longer needed too
+                final String tenant = tenantAware.getCurrentTenant();
+                final List<String> deltaSha1Hashes = artifactDeltaRepository.findSha1HashByArtifactSha1HashAndTenant(sha1Hash, tenant);
+                if (!deltaSha1Hashes.isEmpty()) {
+                    artifactDeltaRepository.deleteByArtifactSha1HashAndTenant(sha1Hash, tenant);
+                    afterCommit(() -> deltaSha1Hashes.forEach(this::clearDeltaBinary));
+                }
                 // removes the real artifact ONLY AFTER the delete of artifact or software module
                 // in local history has passed successfully (caller has permission and no errors)
                 afterCommit(() -> {
@@ -219,6 +332,39 @@ public class JpaArtifactManagement implements ArtifactManagement {
         });
     }
 
+    /**
+     * Returns the SHA-1 hashes of the delta binaries of the given artifacts. Shall be called before the artifacts are (hard) deleted
+     * and, after that, the binaries shall be cleared with {@link #clearDeltaBinary(String)}.
+     *
+     * @param artifacts the artifacts
+     * @return the SHA-1 hashes of the deltas of the artifacts
+     */
+    List<String> findDeltaSha1Hashes(final Collection<? extends Artifact> artifacts) {
+        if (artifacts.isEmpty()) {
+            return List.of();
+        }
+        // selects just the hashes - loading the deltas would make them reference the artifacts which are to be removed
+        return artifactDeltaRepository.findSha1HashByArtifactIdIn(artifacts.stream().map(Artifact::getId).toList());
+    }
+
+    /**
+     * Garbage collects a delta binary if there is no delta referencing it anymore.
+     *
+     * @param sha1Hash the SHA-1 hash of the delta binary
+     */
+    void clearDeltaBinary(final String sha1Hash) {
+        final String tenant = tenantAware.getCurrentTenant();
+        if (artifactDeltaRepository.countBySha1HashAndTenant(sha1Hash, tenant) <= 0
+                && artifactRepository.countBySha1HashAndTenantAndSoftwareModuleDeletedIsFalse(sha1Hash, tenant) <= 0) {
+            try {
+                log.debug("deleting artifact delta from repository {}", sha1Hash);
+                artifactStorage.deleteBySha1(tenant, sha1Hash);
+            } catch (final ArtifactStoreException e) {
+                throw new ArtifactDeleteFailedException(e);
+            }
+        }
+    }
+
     private StoredArtifactInfo storeArtifact(final ArtifactUpload artifactUpload, final boolean isSmEncrypted) {
         final InputStream stream = artifactUpload.inputStream();
         try (final InputStream wrappedStream = wrapInQuotaStream(
@@ -230,14 +376,68 @@ public class JpaArtifactManagement implements ArtifactManagement {
         } catch (final ArtifactStoreException | IOException e) {
             throw new ArtifactUploadFailedException(e);
         } catch (final HashNotMatchException e) {
-            if (e.getHashFunction().equals(HashNotMatchException.SHA1)) {
-                throw new InvalidSha1HashException(e.getMessage(), e);
-            } else if (e.getHashFunction().equals(HashNotMatchException.SHA256)) {
-                throw new InvalidSha256HashException(e.getMessage(), e);
+            throw toInvalidHashException(e);
+        }
+    }
+
+    // checks the quota and if the artifact could be added (or overridden) to the software module
+    private JpaSoftwareModule getUploadTarget(final ArtifactUpload artifactUpload) {
+        final long moduleId = artifactUpload.moduleId();
+        QuotaHelper.assertAssignmentQuota(
+                moduleId, 1, quotaManagement.getMaxArtifactsPerSoftwareModule(),
+                Artifact.class, SoftwareModule.class,
+                // get all artifacts without user context
+                softwareModuleId -> artifactRepository.count(null, ArtifactSpecifications.bySoftwareModuleId(softwareModuleId)));
+
+        final JpaSoftwareModule softwareModule = softwareModuleRepository.getById(moduleId);
+        if (softwareModule.isLocked()) {
+            // check in order to:
+            // - on non-existing artifact - skip binary storing before, eventual, failing in new JpaSoftwareModule.addArtifact
+            // - if existing and overriding - no check will be made in new JpaSoftwareModule.addArtifact, so we sh to fail here
+            throw new LockedException(JpaSoftwareModule.class, softwareModule.getId(), "ADD_ARTIFACT");
+        }
+
+        final String filename = artifactUpload.filename();
+        if (softwareModule.getArtifactByFilename(filename).isPresent()) {
+            if (artifactUpload.overrideExisting()) {
+                log.debug("overriding existing artifact with new filename {}", filename);
             } else {
-                throw new InvalidMd5HashException(e.getMessage(), e);
+                throw new EntityAlreadyExistsException("File with that name already exists in the Software Module");
             }
         }
+        return softwareModule;
+    }
+
+    private Artifact createArtifact(final JpaSoftwareModule softwareModule, final String filename, final StoredArtifactInfo artifact) {
+        try {
+            final Artifact created = storeArtifactMetadata(
+                    softwareModule, filename, artifact.getHashes(), artifact.getSize(),
+                    softwareModule.getArtifactByFilename(filename).orElse(null));
+            if (artifactDeltaGenerator != null && !softwareModule.isEncrypted()) {
+                final String tenant = tenantAware.getCurrentTenant();
+                final long artifactId = created.getId();
+                afterCommit(() -> artifactDeltaGenerator.generateAsync(tenant, artifactId));
+            }
+            return created;
+        } catch (final Exception e) {
+            artifactStorage.deleteBySha1(tenantAware.getCurrentTenant(), artifact.getHashes().sha1());
+            throw e;
+        }
+    }
+
+    // the partial uploads are per artifact (software module and filename), so an upload is resumed just by uploading to the same artifact
+    private static String uploadId(final long moduleId, final String filename) {
+        return "sm" + moduleId + "_" + DigestUtils.md5DigestAsHex(filename.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static RuntimeException toInvalidHashException(final HashNotMatchException e) {
+        if (e.getHashFunction().equals(HashNotMatchException.SHA1)) {
+            return new InvalidSha1HashException(e.getMessage(), e);
+        } else if (e.getHashFunction().equals(HashNotMatchException.SHA256)) {
+            return new InvalidSha256HashException(e.getMessage(), e);
+        } else {
+            return new InvalidMd5HashException(e.getMessage(), e);
+        }
     }
 
     private InputStream wrapInQuotaStream(final InputStream in) {
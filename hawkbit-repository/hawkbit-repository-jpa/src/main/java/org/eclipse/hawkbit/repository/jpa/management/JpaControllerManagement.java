@@ -23,15 +23,16 @@ import java.time.temporal.TemporalUnit;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -43,7 +44,7 @@ import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Root;
 import jakarta.validation.constraints.NotEmpty;
 
-import lombok.Data;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.ListUtils;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
@@ -56,13 +57,16 @@ import org.eclipse.hawkbit.repository.RepositoryConstants;
 import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.SecurityTokenGeneratorHolder;
 import org.eclipse.hawkbit.repository.SoftwareModuleManagement;
-import org.eclipse.hawkbit.repository.TargetFields;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
 import org.eclipse.hawkbit.repository.UpdateMode;
 import org.eclipse.hawkbit.repository.event.EventPublisherHolder;
 import org.eclipse.hawkbit.repository.event.remote.CancelTargetAssignmentEvent;
+import org.eclipse.hawkbit.repository.event.remote.RemoteTenantAwareEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
+import org.eclipse.hawkbit.repository.event.remote.TenantConfigurationDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationUpdatedEvent;
 import org.eclipse.hawkbit.repository.exception.CancelActionNotAllowedException;
 import org.eclipse.hawkbit.repository.exception.EntityAlreadyExistsException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
@@ -79,7 +83,6 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaAction_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget_;
-import org.eclipse.hawkbit.repository.jpa.ql.QLSupport;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionStatusRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.SoftwareModuleRepository;
@@ -99,17 +102,21 @@ import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.DistributionSetAssignmentResult;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetRegistration;
 import org.eclipse.hawkbit.repository.model.TargetType;
 import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.eclipse.hawkbit.tenancy.configuration.ControllerPollProperties;
 import org.eclipse.hawkbit.tenancy.configuration.DurationHelper;
-import org.eclipse.hawkbit.tenancy.configuration.PollingTime;
+import org.eclipse.hawkbit.tenancy.configuration.PollingTime.PollingInterval;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.eclipse.hawkbit.util.IpUtil;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
 import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -119,12 +126,18 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.backoff.FixedBackOffPolicy;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.retry.support.RetryTemplate;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionCallback;
-import org.springframework.util.ObjectUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 
@@ -135,9 +148,14 @@ import org.springframework.validation.annotation.Validated;
 @ConditionalOnBooleanProperty(prefix = "hawkbit.jpa", name = { "enabled", "controller-management" }, matchIfMissing = true)
 public class JpaControllerManagement extends JpaActionManagement implements ControllerManagement {
 
+    private static final RetryTemplate REGISTRATION_RETRY_TEMPLATE = createRegistrationRetryTemplate();
+
     private static final Pattern PATTERN = Pattern.compile("[a-zA-Z0-9_\\-!@#$%^&*()+=\\[\\]{}|;:'\",.<>/\\\\?\\s]*");
 
-    private final BlockingDeque<TargetPoll> queue;
+    private final TargetPollCoalescer pollCoalescer;
+    private final ActionStatusBatcher actionStatusBatcher;
+    // tenant (upper case) -> polling time with compiled overrides, evicted on tenant configuration change
+    private final Map<String, CompiledPollingTime> pollingTimes = new ConcurrentHashMap<>();
 
     // TODO - make it final
     private TargetRepository targetRepository;
@@ -155,6 +173,8 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
     private final EntityManager entityManager;
     private final SystemSecurityContext systemSecurityContext;
     private final TenantAware tenantAware;
+    // the proxy of this bean, in order to apply the transaction and retry interceptors to calls from within the bean
+    private final ControllerManagement proxy;
 
     @SuppressWarnings("squid:S00107")
     protected JpaControllerManagement(
@@ -168,7 +188,8 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
             final TenantConfigurationManagement tenantConfigurationManagement, final ControllerPollProperties controllerPollProperties,
             final PlatformTransactionManager txManager, final EntityManager entityManager,
             final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware,
-            final ScheduledExecutorService executorService) {
+            final ScheduledExecutorService executorService, final Optional<MeterRegistry> meterRegistry,
+            @Lazy final ControllerManagement proxy) {
         super(actionRepository, actionStatusRepository, quotaManagement, repositoryProperties);
 
         this.targetRepository = targetRepository;
@@ -190,14 +211,29 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         this.entityManager = entityManager;
         this.systemSecurityContext = systemSecurityContext;
         this.tenantAware = tenantAware;
+        this.proxy = proxy;
 
         if (!repositoryProperties.isEagerPollPersistence()) {
-            executorService.scheduleWithFixedDelay(this::flushUpdateQueue,
+            pollCoalescer = new TargetPollCoalescer(
+                    repositoryProperties.getPollPersistenceShards(), repositoryProperties.getPollPersistenceQueueSize(),
+                    repositoryProperties.getPollPersistenceFlushThreads(), this::flushTargetPolls, meterRegistry);
+            executorService.scheduleWithFixedDelay(pollCoalescer::flush,
                     repositoryProperties.getPollPersistenceFlushTime(),
                     repositoryProperties.getPollPersistenceFlushTime(), TimeUnit.MILLISECONDS);
-            queue = new LinkedBlockingDeque<>(repositoryProperties.getPollPersistenceQueueSize());
         } else {
-            queue = null;
+            pollCoalescer = null;
+        }
+
+        if (repositoryProperties.isActionStatusBatchEnabled()) {
+            actionStatusBatcher = new ActionStatusBatcher(
+                    repositoryProperties.getActionStatusBatchShards(), repositoryProperties.getActionStatusBatchSize(),
+                    repositoryProperties.getActionStatusBatchQueueSize(), repositoryProperties.getActionStatusBatchFlushThreads(),
+                    repositoryProperties.getActionStatusBatchTimeout(), this::flushActionStatuses, meterRegistry);
+            executorService.scheduleWithFixedDelay(actionStatusBatcher::flush,
+                    repositoryProperties.getActionStatusBatchFlushTime(),
+                    repositoryProperties.getActionStatusBatchFlushTime(), TimeUnit.MILLISECONDS);
+        } else {
+            actionStatusBatcher = null;
         }
     }
 
@@ -303,6 +339,16 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return addActionStatus(statusCreate);
     }
 
+    @Override
+    // the transactions are managed explicitly - per batch or per status
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Action addUpdateActionStatusBatched(final ActionStatusCreate statusCreate) {
+        if (actionStatusBatcher == null) {
+            return proxy.addUpdateActionStatus(statusCreate);
+        }
+        return actionStatusBatcher.add(tenantAware.getCurrentTenant(), statusCreate);
+    }
+
     @Override
     public Optional<Action> findActiveActionWithHighestWeight(final String controllerId) {
         return Stream.concat(
@@ -339,6 +385,17 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return actionStatusRepository.findByActionId(pageable, actionId);
     }
 
+    @Override
+    public boolean registerPoll(final String controllerId) {
+        if (pollCoalescer == null) {
+            return false;
+        }
+        // if the buffer is full the poll is skipped, as with the polls of loaded targets
+        // tenant is upper-cased as stored in the entities (and used in the native poll update)
+        pollCoalescer.offer(tenantAware.getCurrentTenant().toUpperCase(), controllerId, System.currentTimeMillis());
+        return true;
+    }
+
     @Override
     @Transactional(isolation = Isolation.READ_COMMITTED)
     @Retryable(retryFor = ConcurrencyFailureException.class, noRetryFor = EntityAlreadyExistsException.class, maxAttempts = Constants.TX_RT_MAX, backoff = @Backoff(delay = Constants.TX_RT_DELAY))
@@ -353,11 +410,66 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return findOrRegisterTargetIfItDoesNotExist0(controllerId, address, name, type);
     }
 
+    @Override
+    // the transaction is opened (and retried) by the method itself, only if it isn't called within a transaction
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<Target> registerOrUpdate(final List<TargetRegistration> registrations) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // joins the transaction of the caller (e.g. of a DMF message group) - a failure marks it as rollback-only, so it can't be
+            // retried here but only by the caller
+            return registerOrUpdate0(registrations);
+        }
+
+        // a unique key violation could be caused only by a concurrent registration - then the retry finds the concurrently
+        // registered target
+        return REGISTRATION_RETRY_TEMPLATE.execute(retryContext -> DeploymentHelper.runInNewTransaction(
+                txManager, "registerOrUpdate", Isolation.READ_COMMITTED.value(), status -> registerOrUpdate0(registrations)));
+    }
+
+    private static RetryTemplate createRegistrationRetryTemplate() {
+        final RetryTemplate template = new RetryTemplate();
+
+        final FixedBackOffPolicy backOffPolicy = new FixedBackOffPolicy();
+        backOffPolicy.setBackOffPeriod(Constants.TX_RT_DELAY);
+        template.setBackOffPolicy(backOffPolicy);
+
+        // the causes are traversed since the failures on commit are wrapped by the exception mapping of the transaction manager
+        template.setRetryPolicy(new SimpleRetryPolicy(Constants.TX_RT_MAX, Map.of(
+                ConcurrencyFailureException.class, true,
+                DataIntegrityViolationException.class, true,
+                EntityAlreadyExistsException.class, true), true));
+
+        return template;
+    }
+
+    private List<Target> registerOrUpdate0(final List<TargetRegistration> registrations) {
+        final Map<String, TargetRegistration> lastRegistrations = new LinkedHashMap<>();
+        registrations.forEach(registration -> lastRegistrations.put(registration.controllerId(), registration));
+
+        // target types are looked up once per name
+        final Map<String, Optional<TargetType>> targetTypes = new HashMap<>();
+        final Function<String, Optional<TargetType>> targetTypeResolver = name -> targetTypes.computeIfAbsent(name, this::findTargetType);
+
+        final Map<String, Target> registered = new HashMap<>();
+        ListUtils.partition(List.copyOf(lastRegistrations.keySet()), Constants.MAX_ENTRIES_IN_STATEMENT).forEach(chunk -> {
+            final Map<String, JpaTarget> existing = targetRepository.findAll(TargetSpecifications.hasControllerIdIn(chunk)).stream()
+                    .collect(Collectors.toMap(JpaTarget::getControllerId, Function.identity()));
+            chunk.forEach(controllerId -> {
+                final TargetRegistration registration = lastRegistrations.get(controllerId);
+                final JpaTarget target = existing.get(controllerId);
+                registered.put(controllerId, target == null
+                        ? createTarget(controllerId, registration.address(), registration.name(), registration.type(), targetTypeResolver)
+                        : updateTarget(target, registration.address(), registration.name(), registration.type(), targetTypeResolver));
+            });
+        });
+        return registrations.stream().map(registration -> registered.get(registration.controllerId())).toList();
+    }
+
     private Target findOrRegisterTargetIfItDoesNotExist0(final String controllerId, final URI address, final String name, final String type) {
         final Specification<JpaTarget> spec = (targetRoot, query, cb) -> cb.equal(targetRoot.get(JpaTarget_.controllerId), controllerId);
         return targetRepository.findOne(spec)
-                .map(target -> updateTarget(target, address, name, type))
-                .orElseGet(() -> createTarget(controllerId, address, name, type));
+                .map(target -> updateTarget(target, address, name, type, this::findTargetType))
+                .orElseGet(() -> createTarget(controllerId, address, name, type, this::findTargetType));
     }
 
     @Override
@@ -383,25 +495,28 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
 
     @Override
     public String getPollingTime(final Target target) {
+        return getPollingTime(getPollingInterval(target));
+    }
+
+    @Override
+    public PollingInterval getPollingInterval(final Target target) {
         return systemSecurityContext.runAsSystem(() -> {
-            final PollingTime pollingTime = new PollingTime(
-                    tenantConfigurationManagement.getConfigurationValue(TenantConfigurationKey.POLLING_TIME, String.class).getValue());
-            if (!ObjectUtils.isEmpty(pollingTime.getOverrides()) && target instanceof JpaTarget jpaTarget) {
-                for (final PollingTime.Override override : pollingTime.getOverrides()) {
-                    try {
-                        if (QLSupport.getInstance().entityMatcher(override.qlStr(), TargetFields.class).match(jpaTarget)) {
-                            return override.pollingInterval().getFormattedIntervalWithDeviation(minPollingTime, maxPollingTime);
-                        }
-                    } catch (final Exception e) {
-                        log.warn("Error while evaluating polling override for target {}: {}", jpaTarget.getId(), e.getMessage());
-                    }
-                }
-            }
-            // returns default - no overrides or not applicable for the target
-            return pollingTime.getPollingInterval().getFormattedIntervalWithDeviation(minPollingTime, maxPollingTime);
+            final CompiledPollingTime pollingTime = getCompiledPollingTime();
+            return target instanceof JpaTarget jpaTarget ? pollingTime.pollingInterval(jpaTarget) : pollingTime.pollingInterval();
         });
     }
 
+    @Override
+    public String getPollingTime(final PollingInterval pollingInterval) {
+        return pollingInterval.getFormattedIntervalWithDeviation(minPollingTime, maxPollingTime);
+    }
+
+    @EventListener(classes = {
+            TenantConfigurationCreatedEvent.class, TenantConfigurationUpdatedEvent.class, TenantConfigurationDeletedEvent.class })
+    public void onTenantConfigurationEvent(final RemoteTenantAwareEvent event) {
+        pollingTimes.remove(event.getTenant().toUpperCase());
+    }
+
     @Override
     public String getPollingTimeForAction(final Target target, final Action action) {
         final String pollingTime = getPollingTime(target);
@@ -650,7 +765,9 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         }
     }
 
-    private Target createTarget(final String controllerId, final URI address, final String name, final String type) {
+    private Target createTarget(
+            final String controllerId, final URI address, final String name, final String type,
+            final Function<String, Optional<TargetType>> targetTypeResolver) {
         log.debug("Creating target for thing ID \"{}\".", controllerId);
         final JpaTarget jpaTarget = new JpaTarget();
         jpaTarget.setControllerId(controllerId);
@@ -662,7 +779,7 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         jpaTarget.setAddress(Optional.ofNullable(address).map(URI::toString).orElse(null));
 
         if (StringUtils.hasText(type)) {
-            final Optional<TargetType> targetTypeOptional = findTargetType(type);
+            final Optional<TargetType> targetTypeOptional = targetTypeResolver.apply(type);
             if (targetTypeOptional.isPresent()) {
                 log.debug("Setting target type for thing ID \"{}\" to \"{}\".", controllerId, type);
                 jpaTarget.setTargetType(targetTypeOptional.get());
@@ -677,50 +794,85 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return result;
     }
 
+    // package-private for testing
+    CompiledPollingTime getCompiledPollingTime() {
+        final String pollingTime = tenantConfigurationManagement
+                .getConfigurationValue(TenantConfigurationKey.POLLING_TIME, String.class).getValue();
+        final String tenant = tenantAware.getCurrentTenant().toUpperCase();
+        // the source is compared too, so a config change is applied even before the (remote) config event is received
+        final CompiledPollingTime compiled = pollingTimes.get(tenant);
+        if (compiled != null && compiled.source().equals(pollingTime)) {
+            return compiled;
+        }
+        final CompiledPollingTime recompiled = CompiledPollingTime.compile(pollingTime);
+        pollingTimes.put(tenant, recompiled);
+        return recompiled;
+    }
+
     /**
-     * Flush the update queue by means to persisting
-     * {@link Target#getLastTargetQuery()}.
+     * Persists a batch of action statuses of a tenant in a single transaction. The statuses are processed one after another, as by
+     * {@link #addUpdateActionStatus(ActionStatusCreate)}, each in the security context it is reported in, but the inserts and the
+     * updates of the actions and targets are flushed once for the whole batch - multiple statuses of an action result in a single
+     * update of the action. If the batch fails (e.g. a status exceeds the quota or there is a concurrent modification) its statuses are
+     * persisted one by one, so that a failure affects only the status which causes it.
      */
-    private void flushUpdateQueue() {
-        log.debug("Run flushUpdateQueue.");
-
-        final int size = queue.size();
-        if (size == 0) {
+    private void flushActionStatuses(final String tenant, final List<ActionStatusBatcher.BatchedActionStatus> batch) {
+        log.debug("Persist {} action statuses of tenant {}.", batch.size(), tenant);
+        final List<Action> actions;
+        try {
+            actions = runInSecurityContext(batch.get(0).securityContext(), () -> DeploymentHelper.runInNewTransaction(
+                    txManager, "flushActionStatuses", Isolation.READ_COMMITTED.value(), status -> {
+                        final List<Action> updated = batch.stream()
+                                .map(batched -> runInSecurityContext(batched.securityContext(), () -> addActionStatus(batched.create())))
+                                .toList();
+                        entityManager.flush();
+                        return updated;
+                    }));
+        } catch (final RuntimeException e) {
+            log.debug("Failed to persist {} action statuses of tenant {} in a batch, persist them one by one.", batch.size(), tenant, e);
+            batch.forEach(batched -> {
+                try {
+                    batched.result().complete(runInSecurityContext(
+                            batched.securityContext(), () -> proxy.addUpdateActionStatus(batched.create())));
+                } catch (final RuntimeException statusException) {
+                    batched.result().completeExceptionally(statusException);
+                }
+            });
             return;
         }
-
-        log.debug("{} events in flushUpdateQueue.", size);
-
-        final Set<TargetPoll> events = new HashSet<>(queue.size());
-        final int drained = queue.drainTo(events);
-
-        if (drained <= 0) {
-            return;
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(actions.get(i));
         }
+    }
 
+    private static <T> T runInSecurityContext(final SecurityContext securityContext, final Supplier<T> supplier) {
+        final SecurityContext originalContext = SecurityContextHolder.getContext();
+        SecurityContextHolder.setContext(securityContext);
         try {
-            events.stream().collect(Collectors.groupingBy(TargetPoll::getTenant)).forEach((tenant, polls) -> {
-                final TransactionCallback<Void> createTransaction = status -> updateLastTargetQueries(tenant, polls);
-                tenantAware.runAsTenant(tenant,
-                        () -> DeploymentHelper.runInNewTransaction(txManager, "flushUpdateQueue", createTransaction));
-            });
-        } catch (final RuntimeException ex) {
-            log.error("Failed to persist UpdateQueue content.", ex);
-            return;
+            return supplier.get();
+        } finally {
+            SecurityContextHolder.setContext(originalContext);
         }
-
-        log.debug("{} events persisted.", drained);
     }
 
-    private Void updateLastTargetQueries(final String tenant, final List<TargetPoll> polls) {
-        log.debug("Persist {} targetqueries.", polls.size());
-
-        final List<List<String>> pollChunks = ListUtils.partition(
-                polls.stream().map(TargetPoll::getControllerId).toList(),
-                Constants.MAX_ENTRIES_IN_STATEMENT);
+    /**
+     * Persists the buffered polls ({@link Target#getLastTargetQuery()}) of a tenant. Called by the {@link TargetPollCoalescer}
+     * flush threads.
+     *
+     * @param tenant the tenant of the polls
+     * @param polls the controller ids mapped to their latest poll time
+     */
+    private void flushTargetPolls(final String tenant, final Map<String, Long> polls) {
+        log.debug("Persist {} target polls of tenant {}.", polls.size(), tenant);
+        final TransactionCallback<Void> createTransaction = status -> updateLastTargetQueries(tenant, polls);
+        tenantAware.runAsTenant(tenant, () -> DeploymentHelper.runInNewTransaction(txManager, "flushTargetPolls", createTransaction));
+    }
 
-        pollChunks.forEach(chunk -> {
-            setLastTargetQuery(tenant, System.currentTimeMillis(), chunk);
+    private Void updateLastTargetQueries(final String tenant, final Map<String, Long> polls) {
+        ListUtils.partition(List.copyOf(polls.keySet()), Constants.MAX_ENTRIES_IN_STATEMENT).forEach(chunk -> {
+            // a single statement per chunk - the latest poll of the chunk is set to all of its targets, which, as the flush time
+            // used to be, is at most the flush interval ahead of the real poll time
+            setLastTargetQuery(tenant, chunk.stream().mapToLong(polls::get).max().orElseGet(System::currentTimeMillis), chunk);
             chunk.forEach(controllerId -> afterCommit(() -> EventPublisherHolder.getInstance().getEventPublisher()
                     .publishEvent(new TargetPollEvent(controllerId, tenant))));
         });
@@ -750,11 +902,14 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
 
     /**
      * Stores target directly to DB in case either {@link Target#getAddress()} or {@link Target#getUpdateStatus()} or {@link Target#getName()}
-     * changes or the buffer queue is full.
+     * changes. Otherwise, the poll is buffered by the {@link TargetPollCoalescer}. If the buffer is full the poll is just skipped -
+     * the target is not stored eagerly in order not to increase the database load when it is already overloaded.
      */
     @SuppressWarnings("java:S3776") // it's just complex
-    private Target updateTarget(final JpaTarget toUpdate, final URI address, final String name, final String type) {
-        if (isStoreEager(toUpdate, address, name, type) || !queue.offer(new TargetPoll(toUpdate))) {
+    private Target updateTarget(
+            final JpaTarget toUpdate, final URI address, final String name, final String type,
+            final Function<String, Optional<TargetType>> targetTypeResolver) {
+        if (isStoreEager(toUpdate, address, name, type)) {
             if (isAddressChanged(IpUtil.addressToUri(toUpdate.getAddress()), address)) {
                 toUpdate.setAddress(address.toString());
             }
@@ -764,7 +919,7 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
 
             if (isTypeChanged(toUpdate.getTargetType(), type)) {
                 if (StringUtils.hasText(type)) {
-                    final Optional<TargetType> targetTypeOptional = findTargetType(type);
+                    final Optional<TargetType> targetTypeOptional = targetTypeResolver.apply(type);
                     if (targetTypeOptional.isPresent()) {
                         log.debug("Updating target type for thing ID \"{}\" to \"{}\".", toUpdate.getControllerId(), type);
                         toUpdate.setTargetType(targetTypeOptional.get());
@@ -785,6 +940,7 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
             afterCommit(() -> EventPublisherHolder.getInstance().getEventPublisher().publishEvent(new TargetPollEvent(toUpdate)));
             return targetRepository.save(toUpdate);
         }
+        pollCoalescer.offer(toUpdate.getTenant(), toUpdate.getControllerId(), System.currentTimeMillis());
         return toUpdate;
     }
 
@@ -1000,16 +1156,4 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
                     currentIntervalDuration.toMinutes() % 60, currentIntervalDuration.getSeconds() % 60);
         }
     }
-
-    @Data
-    private static class TargetPoll {
-
-        private final String tenant;
-        private final String controllerId;
-
-        TargetPoll(final Target target) {
-            this.tenant = target.getTenant();
-            this.controllerId = target.getControllerId();
-        }
-    }
-}
\ No newline at end of file
+}
@@ -9,6 +9,10 @@
  */
 package org.eclipse.hawkbit.repository.jpa.management;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 
@@ -75,21 +79,29 @@ public class JpaDistributionSetInvalidationManagement implements DistributionSet
         log.debug("Invalidate distribution sets {}", distributionSetInvalidation.getDistributionSetIds());
         final String tenant = tenantAware.getCurrentTenant();
         if (shouldRolloutsBeCanceled(distributionSetInvalidation.getActionCancellationType())) {
-            final String handlerId = JpaRolloutManagement.createRolloutLockKey(tenant);
-            final Lock lock = lockRegistry.obtain(handlerId);
+            // the rollouts are handled one by one, each under its own lock - lock all active ones, so none of them is handled meanwhile
+            final Map<Long, Lock> locks = new HashMap<>();
             try {
-                if (!lock.tryLock(repositoryProperties.getDsInvalidationLockTimeout(), TimeUnit.SECONDS)) {
-                    throw new StopRolloutException("Timeout while trying to invalidate distribution sets");
-                }
-                try {
-                    invalidateDistributionSetsInTransaction(distributionSetInvalidation, tenant);
-                } finally {
-                    lock.unlock();
+                final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(repositoryProperties.getDsInvalidationLockTimeout());
+                // rollouts could get active while locking - re-query until all active rollouts are locked
+                List<Long> notLocked = findActiveRolloutsNotIn(locks.keySet());
+                while (!notLocked.isEmpty()) {
+                    for (final Long rolloutId : notLocked) {
+                        final Lock lock = lockRegistry.obtain(JpaRolloutManagement.createRolloutLockKey(tenant, rolloutId));
+                        if (!lock.tryLock(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+                            throw new StopRolloutException("Timeout while trying to invalidate distribution sets");
+                        }
+                        locks.put(rolloutId, lock);
+                    }
+                    notLocked = findActiveRolloutsNotIn(locks.keySet());
                 }
+                invalidateDistributionSetsInTransaction(distributionSetInvalidation, tenant);
             } catch (final InterruptedException e) {
                 log.error("InterruptedException while invalidating distribution sets {}!",
                         distributionSetInvalidation.getDistributionSetIds(), e);
                 Thread.currentThread().interrupt();
+            } finally {
+                locks.values().forEach(Lock::unlock);
             }
         } else {
             // no lock is needed as no rollout will be stopped
@@ -97,6 +109,13 @@ public class JpaDistributionSetInvalidationManagement implements DistributionSet
         }
     }
 
+    private List<Long> findActiveRolloutsNotIn(final Set<Long> rolloutIds) {
+        // run as system to lock the rollouts the caller may have no read access to, too
+        return systemSecurityContext.runAsSystem(rolloutManagement::findActiveRollouts).stream()
+                .filter(rolloutId -> !rolloutIds.contains(rolloutId))
+                .toList();
+    }
+
     private static boolean shouldRolloutsBeCanceled(final ActionCancellationType cancelationType) {
         return cancelationType != ActionCancellationType.NONE;
     }
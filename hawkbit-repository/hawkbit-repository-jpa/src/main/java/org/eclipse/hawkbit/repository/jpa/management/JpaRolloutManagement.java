@@ -180,8 +180,8 @@ public class JpaRolloutManagement implements RolloutManagement {
                 quotaManagement, this::isMultiAssignmentsEnabled, this::isConfirmationFlowEnabled, repositoryProperties, null);
     }
 
-    public static String createRolloutLockKey(final String tenant) {
-        return tenant + "-rollout";
+    public static String createRolloutLockKey(final String tenant, final long rolloutId) {
+        return tenant + "-rollout-" + rolloutId;
     }
 
     public void publishRolloutGroupCreatedEventAfterCommit(final RolloutGroup group, final Rollout rollout) {
@@ -195,7 +195,13 @@ public class JpaSoftwareModuleManagement extends
         jpaRepository.getAccessController()
                 .ifPresent(accessController -> accessController.assertOperationAllowed(AccessController.Operation.DELETE, swModule));
         final Set<String> sha1Hashes = swModule.getArtifacts().stream().map(Artifact::getSha1Hash).collect(Collectors.toSet());
-        afterCommit(() -> sha1Hashes.forEach(((JpaArtifactManagement) artifactManagement)::clearArtifactBinary));
+        final JpaArtifactManagement jpaArtifactManagement = (JpaArtifactManagement) artifactManagement;
+        // if the module is hard deleted its artifact deltas are deleted by the database, so their binaries shall be collected before
+        final List<String> deltaSha1Hashes = jpaArtifactManagement.findDeltaSha1Hashes(swModule.getArtifacts());
+        afterCommit(() -> {
+            sha1Hashes.forEach(jpaArtifactManagement::clearArtifactBinary);
+            deltaSha1Hashes.forEach(jpaArtifactManagement::clearDeltaBinary);
+        });
     }
 
     private void assertDistributionSetExists(final long distributionSetId) {
@@ -11,6 +11,7 @@ package org.eclipse.hawkbit.repository.jpa.management;
 
 import static org.eclipse.hawkbit.repository.jpa.JpaManagementHelper.combineWithAnd;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
@@ -42,6 +43,7 @@ import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.jpa.JpaManagementHelper;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.jpa.model.AbstractJpaBaseEntity_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTargetTag;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTargetType;
@@ -61,8 +63,10 @@ import org.eclipse.hawkbit.repository.model.TargetTag;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBooleanProperty;
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -162,6 +166,28 @@ public class JpaTargetManagement
                 .map(Target.class::cast);
     }
 
+    @Override
+    public List<Target> findByTargetFilterQueryAndNonDSAndCompatibleAndUpdatable(
+            final long distributionSetId, final String rsql, final long afterId, final long modifiedSince, final int limit) {
+        final DistributionSet jpaDistributionSet = distributionSetManagement.get(distributionSetId);
+        final Long distSetTypeId = jpaDistributionSet.getType().getId();
+
+        final List<Specification<JpaTarget>> specList = new ArrayList<>(List.of(
+                QLSupport.getInstance().buildSpec(rsql, TargetFields.class),
+                TargetSpecifications.hasNotDistributionSetInActions(distributionSetId),
+                TargetSpecifications.isCompatibleWithDistributionSetType(distSetTypeId),
+                TargetSpecifications.hasIdGreaterThan(afterId)));
+        if (modifiedSince > 0) {
+            specList.add(TargetSpecifications.isModifiedSince(modifiedSince));
+        }
+        return jpaRepository
+                .findAllWithoutCount(
+                        AccessController.Operation.UPDATE, combineWithAnd(specList),
+                        PageRequest.of(0, limit, Sort.by(AbstractJpaBaseEntity_.ID)))
+                .map(Target.class::cast)
+                .getContent();
+    }
+
     @Override
     public Slice<Target> findByRsqlAndNotInRolloutGroupsAndCompatibleAndUpdatable(
             final Collection<Long> groups, final String rsql, final DistributionSetType dsType, final Pageable pageable) {
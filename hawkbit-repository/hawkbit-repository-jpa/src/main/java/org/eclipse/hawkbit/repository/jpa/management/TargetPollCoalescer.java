@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind buffer for target polls. Polls are sharded by tenant and controller id and coalesced per device - only the
+ * latest poll timestamp of a device is kept until the shard is flushed. Shards are flushed independently on a bounded executor,
+ * so that concurrent pollers don't serialize on a single queue and a slow flush of one shard doesn't block the others.
+ * <p/>
+ * The buffer never blocks the poller. If a shard is full the poll is not stored (the device will poll again anyway) and an
+ * early flush of the shard is requested. This is reported by the <code>hawkbit.controller.poll.dropped</code> counter.
+ */
+@Slf4j
+class TargetPollCoalescer {
+
+    private static final String METER_PREFIX = "hawkbit.controller.poll.";
+
+    private final Shard[] shards;
+    private final int shardCapacity;
+    // called per tenant with controller id -> latest poll time (ms), expected to persist the polls
+    private final BiConsumer<String, Map<String, Long>> flusher;
+    private final ThreadPoolExecutor flushExecutor;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Optional<Counter> offeredCounter;
+    private final Optional<Counter> coalescedCounter;
+    private final Optional<Counter> droppedCounter;
+    private final Optional<Counter> flushedCounter;
+    private final Optional<Timer> flushTimer;
+
+    TargetPollCoalescer(
+            final int shardCount, final int capacity, final int flushThreads,
+            final BiConsumer<String, Map<String, Long>> flusher, final Optional<MeterRegistry> meterRegistry) {
+        if (shardCount <= 0 || capacity <= 0 || flushThreads <= 0) {
+            throw new IllegalArgumentException("Shard count, capacity and flush threads must be positive");
+        }
+        shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+        shardCapacity = Math.max(1, capacity / shardCount);
+        this.flusher = flusher;
+
+        final AtomicLong threadCount = new AtomicLong();
+        // at most one flush per shard could be queued, so the queue is never a source of unbounded memory
+        flushExecutor = new ThreadPoolExecutor(
+                flushThreads, flushThreads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(shardCount),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "target-poll-flush-" + threadCount.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+        flushExecutor.allowCoreThreadTimeOut(true);
+
+        meterRegistry.ifPresent(mReg -> {
+            Gauge.builder(METER_PREFIX + "pending", pending, AtomicInteger::get)
+                    .description("Number of devices with a buffered, not yet persisted poll")
+                    .register(mReg);
+            Gauge.builder(METER_PREFIX + "flush.queue", flushExecutor, executor -> executor.getQueue().size())
+                    .description("Number of shard flushes waiting for a flush thread")
+                    .register(mReg);
+        });
+        offeredCounter = meterRegistry.map(mReg -> mReg.counter(METER_PREFIX + "offered"));
+        coalescedCounter = meterRegistry.map(mReg -> mReg.counter(METER_PREFIX + "coalesced"));
+        droppedCounter = meterRegistry.map(mReg -> mReg.counter(METER_PREFIX + "dropped"));
+        flushedCounter = meterRegistry.map(mReg -> mReg.counter(METER_PREFIX + "flushed"));
+        flushTimer = meterRegistry.map(mReg -> mReg.timer(METER_PREFIX + "flush"));
+    }
+
+    /**
+     * Buffers a target poll.
+     *
+     * @param tenant the tenant of the target
+     * @param controllerId the controller id of the target
+     * @param pollTime the time of the poll in milliseconds
+     * @return <code>true</code> if the poll is buffered (or coalesced with an already buffered one), <code>false</code> if the
+     *         shard is full and the poll is dropped
+     */
+    boolean offer(final String tenant, final String controllerId, final long pollTime) {
+        offeredCounter.ifPresent(Counter::increment);
+
+        final PollKey key = new PollKey(tenant, controllerId);
+        final Shard shard = shards[Math.floorMod(key.hashCode(), shards.length)];
+        if (shard.polls.size() >= shardCapacity && !shard.polls.containsKey(key)) {
+            droppedCounter.ifPresent(Counter::increment);
+            log.debug("Poll buffer shard is full, poll of {}/{} is dropped and shard flush is requested", tenant, controllerId);
+            flushAsync(shard);
+            return false;
+        }
+
+        final AtomicBoolean added = new AtomicBoolean();
+        shard.polls.compute(key, (k, previous) -> {
+            if (previous == null) {
+                added.set(true);
+                return pollTime;
+            }
+            // just keep the latest poll time
+            return Math.max(previous, pollTime);
+        });
+        if (added.get()) {
+            pending.incrementAndGet();
+        } else {
+            coalescedCounter.ifPresent(Counter::increment);
+        }
+        return true;
+    }
+
+    /**
+     * Submits flush of all non-empty shards to the flush executor.
+     */
+    void flush() {
+        for (final Shard shard : shards) {
+            if (!shard.polls.isEmpty()) {
+                flushAsync(shard);
+            }
+        }
+    }
+
+    int pending() {
+        return pending.get();
+    }
+
+    void shutdown() {
+        flushExecutor.shutdown();
+    }
+
+    private void flushAsync(final Shard shard) {
+        // at most one flush per shard is queued or running at a time
+        if (shard.flushing.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(() -> flush(shard));
+            } catch (final RuntimeException e) {
+                shard.flushing.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void flush(final Shard shard) {
+        final long startNano = System.nanoTime();
+        try {
+            final Map<String, Map<String, Long>> byTenant = new HashMap<>();
+            int drained = 0;
+            for (final PollKey key : shard.polls.keySet()) {
+                final Long pollTime = shard.polls.remove(key);
+                if (pollTime != null) {
+                    byTenant.computeIfAbsent(key.tenant(), k -> new HashMap<>()).put(key.controllerId(), pollTime);
+                    drained++;
+                }
+            }
+            pending.addAndGet(-drained);
+
+            byTenant.forEach((tenant, polls) -> {
+                try {
+                    flusher.accept(tenant, polls);
+                } catch (final RuntimeException e) {
+                    log.error("Failed to persist {} target polls of tenant {}.", polls.size(), tenant, e);
+                }
+            });
+
+            final int flushed = drained;
+            flushedCounter.ifPresent(counter -> counter.increment(flushed));
+        } finally {
+            shard.flushing.set(false);
+            flushTimer.ifPresent(timer -> timer.record(System.nanoTime() - startNano, TimeUnit.NANOSECONDS));
+        }
+    }
+
+    private record PollKey(String tenant, String controllerId) {}
+
+    private static class Shard {
+
+        private final Map<PollKey, Long> polls = new ConcurrentHashMap<>();
+        private final AtomicBoolean flushing = new AtomicBoolean();
+    }
+}
@@ -48,6 +48,7 @@ import org.eclipse.hawkbit.repository.MaintenanceScheduleHelper;
 import org.eclipse.hawkbit.repository.event.EventPublisherHolder;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionUpdatedEvent;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupStatusCounters;
 import org.eclipse.hawkbit.repository.jpa.utils.MapAttributeConverter;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
@@ -262,12 +263,14 @@ public class JpaAction extends AbstractJpaTenantAwareBaseEntity implements Actio
 
     @Override
     public void fireCreateEvent() {
+        RolloutGroupStatusCounters.invalidate(getIdOrNull(rolloutGroup));
         EventPublisherHolder.getInstance().getEventPublisher()
                 .publishEvent(new ActionCreatedEvent(this, getIdOrNull(target), getIdOrNull(rollout), getIdOrNull(rolloutGroup)));
     }
 
     @Override
     public void fireUpdateEvent() {
+        RolloutGroupStatusCounters.invalidate(getIdOrNull(rolloutGroup));
         EventPublisherHolder.getInstance().getEventPublisher()
                 .publishEvent(new ActionUpdatedEvent(this, getIdOrNull(target), getIdOrNull(rollout), getIdOrNull(rolloutGroup)));
     }
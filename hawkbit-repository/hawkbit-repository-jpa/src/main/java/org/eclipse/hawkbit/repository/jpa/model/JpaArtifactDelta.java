@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.model;
+
+import java.io.Serial;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.eclipse.hawkbit.artifact.model.ArtifactHashes;
+import org.eclipse.hawkbit.repository.model.ArtifactDelta;
+
+/**
+ * JPA implementation of {@link ArtifactDelta}. The deltas are deleted (by the database) with their artifacts.
+ */
+@NoArgsConstructor // Default constructor needed for JPA entities.
+@Getter
+@Table(name = "sp_artifact_delta",
+        uniqueConstraints = @UniqueConstraint(columnNames = { "artifact", "base_sha1_hash", "tenant" }, name = "uk_artifact_delta"),
+        indexes = {
+                @Index(name = "sp_idx_artifact_delta_01", columnList = "tenant,sha1_hash"),
+                @Index(name = "sp_idx_artifact_delta_prim", columnList = "tenant,id") })
+@Entity
+// exception squid:S2160 - BaseEntity equals/hashcode is handling correctly for sub entities
+@SuppressWarnings("squid:S2160")
+public class JpaArtifactDelta extends AbstractJpaTenantAwareBaseEntity implements ArtifactDelta {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @ManyToOne(optional = false, fetch = FetchType.LAZY)
+    @JoinColumn(
+            name = "artifact", nullable = false, updatable = false,
+            foreignKey = @ForeignKey(value = ConstraintMode.CONSTRAINT, name = "fk_artifact_delta_artifact"))
+    private JpaArtifact artifact;
+
+    @Column(name = "base_sha1_hash", length = 40, nullable = false, updatable = false)
+    @Size(min = 1, max = 40)
+    @NotNull
+    private String baseSha1Hash;
+
+    @Column(name = "md5_hash", length = 32, updatable = false)
+    private String md5Hash;
+
+    @Column(name = "sha1_hash", length = 40, nullable = false, updatable = false)
+    @Size(min = 1, max = 40)
+    @NotNull
+    private String sha1Hash;
+
+    @Column(name = "sha256_hash", length = 64, updatable = false)
+    private String sha256Hash;
+
+    @Column(name = "file_size", updatable = false)
+    private long fileSize;
+
+    public JpaArtifactDelta(final JpaArtifact artifact, final String baseSha1Hash, final ArtifactHashes hashes, final long fileSize) {
+        this.artifact = artifact;
+        this.baseSha1Hash = baseSha1Hash;
+        md5Hash = hashes.md5();
+        sha1Hash = hashes.sha1();
+        sha256Hash = hashes.sha256();
+        this.fileSize = fileSize;
+    }
+
+    @Override
+    public long getSize() {
+        return getFileSize();
+    }
+}
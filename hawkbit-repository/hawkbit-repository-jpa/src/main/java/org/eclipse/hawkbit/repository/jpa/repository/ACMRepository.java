@@ -106,6 +106,19 @@ public interface ACMRepository<T> {
     Slice<T> findAllWithoutCount(
             @Nullable final AccessController.Operation operation, @Nullable Specification<T> spec, Pageable pageable);
 
+    /**
+     * Returns the ids of up to <code>limit</code> entries that match specification and the operation is allowed for. Only the ids are
+     * selected, i.e. the entities are neither loaded nor attached to the persistence context.
+     *
+     * @param operation access operation. If operation is <code>null</code> no access is checked! Should be used
+     *         only for tenant context.
+     * @param spec specification
+     * @param limit maximum number of returned ids
+     * @return ids of the matching entities
+     */
+    @NonNull
+    List<Long> findIds(@Nullable final AccessController.Operation operation, @Nullable Specification<T> spec, int limit);
+
     @NonNull
     Class<T> getDomainClass();
 }
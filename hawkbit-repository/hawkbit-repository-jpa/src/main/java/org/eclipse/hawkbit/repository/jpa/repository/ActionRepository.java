@@ -103,6 +103,28 @@ public interface ActionRepository extends BaseEntityRepository<JpaAction> {
      */
     Long countByTargetId(Long targetId);
 
+    /**
+     * Counts the {@link Action}s of each of the given targets with a single grouped query. Targets without actions are not included.
+     * <p/>
+     * No access control applied
+     *
+     * @param targetIds the targets to count the {@link Action}s of
+     * @return list of target id and action count pairs
+     */
+    @Query("SELECT a.target.id, COUNT(a.id) FROM JpaAction a WHERE a.target.id IN :targetIds GROUP BY a.target.id")
+    List<Object[]> countByTargetIdIn(@Param("targetIds") Collection<Long> targetIds);
+
+    /**
+     * Retrieves the {@link Action}s of the given rollout group and targets.
+     * <p/>
+     * No access control applied
+     *
+     * @param rolloutGroupId the rollout group of the actions
+     * @param targetIds the targets of the actions
+     * @return the actions of the rollout group and the targets
+     */
+    List<JpaAction> findByRolloutGroupIdAndTargetIdIn(Long rolloutGroupId, Collection<Long> targetIds);
+
     /**
      * Counts all {@link Action}s referring to the given DistributionSet.
      * <p/>
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.hawkbit.repository.jpa.model.JpaArtifactDelta;
+import org.eclipse.hawkbit.repository.model.ArtifactDelta;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * {@link ArtifactDelta} repository.
+ */
+@Transactional(readOnly = true)
+public interface ArtifactDeltaRepository extends BaseEntityRepository<JpaArtifactDelta> {
+
+    /**
+     * Searches the delta of an artifact against a base.
+     *
+     * @param artifactId the id of the artifact
+     * @param baseSha1Hash the SHA-1 hash of the base
+     * @return the delta if exists
+     */
+    Optional<JpaArtifactDelta> findByArtifactIdAndBaseSha1Hash(long artifactId, String baseSha1Hash);
+
+    /**
+     * Searches the SHA-1 hashes of the deltas of the given artifacts.
+     * <p/>
+     * No access control applied.
+     *
+     * @param artifactIds the ids of the artifacts
+     * @return the SHA-1 hashes of the deltas of the artifacts (against different bases)
+     */
+    @Query("SELECT DISTINCT d.sha1Hash FROM JpaArtifactDelta d WHERE d.artifact.id IN :artifactIds")
+    List<String> findSha1HashByArtifactIdIn(@Param("artifactIds") Collection<Long> artifactIds);
+
+    /**
+     * Checks if a delta of an artifact against a base exists.
+     *
+     * @param artifactId the id of the artifact
+     * @param baseSha1Hash the SHA-1 hash of the base
+     * @return <code>true</code> if exists
+     */
+    boolean existsByArtifactIdAndBaseSha1Hash(long artifactId, String baseSha1Hash);
+
+    /**
+     * Searches the deltas of the artifacts of the given software modules which could be applied to the artifacts of the software
+     * modules installed on the targets. The base of such delta is the artifact with the same filename of a module with the same
+     * type and name (i.e. other version of the same module) installed on the target.
+     * <p/>
+     * No access control applied.
+     *
+     * @param targetIds the ids of the targets
+     * @param softwareModuleIds the ids of the software modules to be deployed
+     * @return list of target id and applicable delta pairs
+     */
+    @Query("SELECT t.id, d FROM JpaArtifactDelta d JOIN d.artifact a JOIN a.softwareModule sm, JpaTarget t " +
+            "JOIN t.installedDistributionSet ds JOIN ds.modules bsm JOIN bsm.artifacts ba " +
+            "WHERE t.id IN :targetIds AND sm.id IN :softwareModuleIds AND bsm.id <> sm.id AND bsm.type = sm.type AND bsm.name = sm.name " +
+            "AND ba.filename = a.filename AND ba.sha1Hash = d.baseSha1Hash")
+    List<Object[]> findApplicableForTargets(
+            @Param("targetIds") Collection<Long> targetIds, @Param("softwareModuleIds") Collection<Long> softwareModuleIds);
+
+    /**
+     * Counts the deltas (of all artifacts and bases) with the given SHA-1 hash.
+     * <p/>
+     * No access control applied.
+     *
+     * @param sha1Hash the SHA-1 hash of the delta
+     * @param tenant the tenant
+     * @return the number of deltas
+     */
+    long countBySha1HashAndTenant(String sha1Hash, String tenant);
+
+    /**
+     * Searches the SHA-1 hashes of the deltas of all artifacts with the given SHA-1 hash.
+     * <p/>
+     * No access control applied.
+     *
+     * @param sha1Hash the SHA-1 hash of the artifacts
+     * @param tenant the tenant
+     * @return the SHA-1 hashes of the deltas
+     */
+    @Query("SELECT d.sha1Hash FROM JpaArtifactDelta d WHERE d.artifact.sha1Hash = :sha1Hash AND d.tenant = :tenant")
+    List<String> findSha1HashByArtifactSha1HashAndTenant(@Param("sha1Hash") String sha1Hash, @Param("tenant") String tenant);
+
+    /**
+     * Deletes the deltas of all artifacts with the given SHA-1 hash (e.g. when the binary of the artifact is deleted).
+     * <p/>
+     * No access control applied.
+     *
+     * @param sha1Hash the SHA-1 hash of the artifacts
+     * @param tenant the tenant
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM JpaArtifactDelta d WHERE d.tenant = :tenant AND d.artifact IN (SELECT a FROM JpaArtifact a WHERE a.sha1Hash = :sha1Hash)")
+    void deleteByArtifactSha1HashAndTenant(@Param("sha1Hash") String sha1Hash, @Param("tenant") String tenant);
+}
@@ -9,11 +9,13 @@
  */
 package org.eclipse.hawkbit.repository.jpa.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.eclipse.hawkbit.repository.jpa.model.JpaArtifact;
 import org.eclipse.hawkbit.repository.model.Artifact;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
@@ -72,4 +74,21 @@ public interface ArtifactRepository extends BaseEntityRepository<JpaArtifact> {
      * @return list of {@link Artifact}.
      */
     Optional<Artifact> findFirstByFilenameAndSoftwareModuleId(String filename, Long softwareModuleId);
-}
\ No newline at end of file
+
+    /**
+     * Searches the artifacts which could be base of a binary delta of the given artifact - the artifacts with the same filename
+     * of the previous (created before, not deleted) versions of the software module, i.e. software modules with the same type and
+     * name. The latest version comes first. Artifacts of encrypted software modules are never a base.
+     * <p/>
+     * No access control applied.
+     *
+     * @param artifactId the id of the artifact
+     * @param pageable page parameter, typically just the first is needed
+     * @return the base candidates, latest version first
+     */
+    @Query("SELECT ba FROM JpaArtifact ba JOIN ba.softwareModule bsm, JpaArtifact a JOIN a.softwareModule sm " +
+            "WHERE a.id = :artifactId AND bsm.id < sm.id AND bsm.type = sm.type AND bsm.name = sm.name " +
+            "AND bsm.deleted = false AND bsm.encrypted = false AND sm.encrypted = false AND ba.filename = a.filename " +
+            "ORDER BY bsm.id DESC")
+    List<JpaArtifact> findDeltaBaseCandidates(@Param("artifactId") long artifactId, Pageable pageable);
+}
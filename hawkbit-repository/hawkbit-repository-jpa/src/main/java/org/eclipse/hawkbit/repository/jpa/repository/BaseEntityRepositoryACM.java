@@ -312,6 +312,16 @@ public class BaseEntityRepositoryACM<T extends AbstractJpaBaseEntity> implements
         }
     }
 
+    @Override
+    @NonNull
+    public List<Long> findIds(@Nullable final AccessController.Operation operation, @Nullable final Specification<T> spec, final int limit) {
+        if (operation == null) {
+            return repository.findIds(null, spec, limit);
+        } else {
+            return repository.findIds(operation, accessController.appendAccessRules(operation, spec), limit);
+        }
+    }
+
     @Override
     @NonNull
     public Class<T> getDomainClass() {
@@ -17,9 +17,14 @@ import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import jakarta.transaction.Transactional;
 
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
+import org.eclipse.hawkbit.repository.jpa.model.AbstractJpaBaseEntity_;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -142,6 +147,22 @@ public class HawkbitBaseRepository<T, ID extends Serializable> extends SimpleJpa
         return findAllWithoutCount(spec, pageable);
     }
 
+    @Override
+    @NonNull
+    public List<Long> findIds(@Nullable final AccessController.Operation operation, @Nullable final Specification<T> spec, final int limit) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        final Root<T> root = query.from(getDomainClass());
+        if (spec != null) {
+            final Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        query.select(root.<Long> get(AbstractJpaBaseEntity_.ID));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
     @Override
     @NonNull
     public Class<T> getDomainClass() {
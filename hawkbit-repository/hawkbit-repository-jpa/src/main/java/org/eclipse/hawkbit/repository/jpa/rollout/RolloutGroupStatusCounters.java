@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.event.remote.entity.AbstractActionEvent;
+import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.RolloutGroup;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Isolation;
+
+/**
+ * In-memory aggregate of the action status counts of the {@link RolloutGroup}s. It is used to evaluate the rollout group conditions,
+ * so that the groups which actions haven't changed since the last evaluation are evaluated without querying the actions.
+ * <p/>
+ * The counts of a group are loaded with a single grouped query and kept until an action of the group is created or updated. The
+ * actions invalidate the counts of their group synchronously after the commit (see {@link #invalidate(Long)}), changes made on other
+ * nodes are applied via the remote action events. Since there are changes without events (e.g. cascade deletion of the actions of
+ * deleted targets) the counts are kept at most {@link RepositoryProperties#getRolloutGroupStatusCountsMaxAgeMS()}.
+ */
+@Slf4j
+public class RolloutGroupStatusCounters {
+
+    private static final int GENERATION_STRIPES = 1024;
+    // limits the memory used by groups which are not evaluated anymore (e.g. deleted)
+    private static final int MAX_ENTRIES = 10_000;
+
+    // invalidation generation of the groups (striped by group id), used to skip caching of counts loaded concurrently to an invalidation
+    private static final AtomicLongArray GENERATIONS = new AtomicLongArray(GENERATION_STRIPES);
+    private static final Map<Long, Counts> COUNTS = new ConcurrentHashMap<>();
+
+    private final ActionRepository actionRepository;
+    private final PlatformTransactionManager txManager;
+    private final RepositoryProperties repositoryProperties;
+
+    public RolloutGroupStatusCounters(
+            final ActionRepository actionRepository, final PlatformTransactionManager txManager,
+            final RepositoryProperties repositoryProperties) {
+        this.actionRepository = actionRepository;
+        this.txManager = txManager;
+        this.repositoryProperties = repositoryProperties;
+    }
+
+    /**
+     * Invalidates the counts of a rollout group. Shall be called after the commit of any change of the actions of the group.
+     *
+     * @param rolloutGroupId the id of the rollout group, if <code>null</code> nothing is done
+     */
+    public static void invalidate(final Long rolloutGroupId) {
+        if (rolloutGroupId != null) {
+            GENERATIONS.incrementAndGet(stripe(rolloutGroupId));
+            COUNTS.remove(rolloutGroupId);
+        }
+    }
+
+    @EventListener(classes = AbstractActionEvent.class)
+    public void invalidate(final AbstractActionEvent event) {
+        invalidate(event.getRolloutGroupId());
+    }
+
+    /**
+     * Returns the number of actions of the rollout group with the given status.
+     *
+     * @param rolloutGroupId the id of the rollout group
+     * @param status the status
+     * @return the number of actions of the rollout group with the status
+     */
+    public long count(final long rolloutGroupId, final Action.Status status) {
+        return counts(rolloutGroupId).getOrDefault(status, 0L);
+    }
+
+    /**
+     * Returns the number of actions of the rollout group with a status other than the given ones.
+     *
+     * @param rolloutGroupId the id of the rollout group
+     * @param statuses the excluded statuses
+     * @return the number of actions of the rollout group with a status not in the statuses
+     */
+    public long countNotIn(final long rolloutGroupId, final Collection<Action.Status> statuses) {
+        return counts(rolloutGroupId).entrySet().stream()
+                .filter(entry -> !statuses.contains(entry.getKey()))
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+
+    private Map<Action.Status, Long> counts(final long rolloutGroupId) {
+        final long now = System.currentTimeMillis();
+        final Counts cached = COUNTS.get(rolloutGroupId);
+        if (cached != null && now - cached.loadedAt() < repositoryProperties.getRolloutGroupStatusCountsMaxAgeMS()) {
+            return cached.counts();
+        }
+
+        final long generation = GENERATIONS.get(stripe(rolloutGroupId));
+        // read in a new transaction, so that the counts are not read from a snapshot older than the generation
+        final Map<Action.Status, Long> counts = new EnumMap<>(Action.Status.class);
+        DeploymentHelper.runInNewTransaction(
+                txManager, "countActionStatusOfRolloutGroup", Isolation.READ_COMMITTED.value(),
+                status -> actionRepository.getStatusCountByRolloutGroupId(rolloutGroupId))
+                .forEach(statusCount -> counts.merge(statusCount.getStatus(), statusCount.getCount(), Long::sum));
+        if (COUNTS.size() >= MAX_ENTRIES) {
+            log.debug("Rollout group status counts exceeded {} entries, clearing them", MAX_ENTRIES);
+            COUNTS.clear();
+        }
+        COUNTS.put(rolloutGroupId, new Counts(counts, now));
+        if (GENERATIONS.get(stripe(rolloutGroupId)) != generation) {
+            // invalidated meanwhile, the loaded counts could be outdated
+            COUNTS.remove(rolloutGroupId);
+        }
+        return counts;
+    }
+
+    private static int stripe(final long rolloutGroupId) {
+        return Math.floorMod(Long.hashCode(rolloutGroupId), GENERATION_STRIPES);
+    }
+
+    private record Counts(Map<Action.Status, Long> counts, long loadedAt) {}
+}
@@ -9,8 +9,15 @@
  */
 package org.eclipse.hawkbit.repository.jpa.scheduler;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import jakarta.persistence.PersistenceException;
@@ -19,18 +26,29 @@ import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.ContextAware;
 import org.eclipse.hawkbit.exception.AbstractServerRtException;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
+import org.eclipse.hawkbit.repository.TargetFields;
 import org.eclipse.hawkbit.repository.TargetFilterQueryManagement;
 import org.eclipse.hawkbit.repository.TargetManagement;
 import org.eclipse.hawkbit.repository.AutoAssignExecutor;
+import org.eclipse.hawkbit.repository.event.remote.RemoteIdEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetFilterQueryDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetFilterQueryUpdatedEvent;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.jpa.ql.EntityMatcher;
+import org.eclipse.hawkbit.repository.jpa.ql.QLSupport;
+import org.eclipse.hawkbit.repository.jpa.rollout.BlockWhenFullPolicy;
 import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.DeploymentRequest;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetFilterQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Isolation;
@@ -42,6 +60,17 @@ import org.springframework.util.StringUtils;
  * Checks if targets need a new distribution set (DS) based on the target filter queries and assigns the new DS when necessary. First all target
  * filter queries are listed. For every target filter query (TFQ) the auto assign DS is retrieved. All targets get listed per target filter
  * query, that match the TFQ and that don't have the auto assign DS in their action history.
+ * <p/>
+ * The targets of a TFQ are paged by keyset (target id), so that every page is a cheap range query no matter how many targets have been
+ * assigned already. For every TFQ a high-water mark is kept, so that the subsequent checks consider only the targets created or modified
+ * (by the management) since the previous check. A full check is made if the TFQ (i.e. its query or DS) has been changed, after a failed
+ * check and at least every <code>hawkbit.autoassign.executor.full-check-interval</code> ms - so changes which don't modify the target
+ * (e.g. controller attributes or target type compatibility) are considered too. If a thread pool is configured the TFQs are checked in
+ * parallel.
+ * <p/>
+ * On a single target check the target is loaded once and matched in memory against the TFQ queries (compiled to {@link EntityMatcher}s
+ * and cached until the TFQ is changed). The database is queried (for the DS history, compatibility and access checks) only for the
+ * matching TFQs and for the TFQs which can't be evaluated in memory.
  */
 @Slf4j
 @Service
@@ -58,61 +87,123 @@ public class JpaAutoAssignExecutor implements AutoAssignExecutor {
      */
     private static final int PAGE_SIZE = 1000;
 
+    /**
+     * Safety margin for the high-water mark, so that targets modified in transactions committed after the check has been started are not
+     * missed by the next check.
+     */
+    private static final long HIGH_WATER_MARK_MARGIN_MS = 60_000;
+
     private final TargetFilterQueryManagement<? extends TargetFilterQuery> targetFilterQueryManagement;
     private final TargetManagement<? extends Target> targetManagement;
     private final DeploymentManagement deploymentManagement;
     private final PlatformTransactionManager transactionManager;
     private final ContextAware contextAware;
+    private final long fullCheckIntervalMS;
+    // if null the target filter queries are checked sequentially in the calling thread
+    private final ThreadPoolTaskExecutor autoAssignTaskExecutor;
+
+    // tenant and id of the target filter query -> high-water mark of the last successful check
+    private final Map<FilterKey, HighWaterMark> highWaterMarks = new ConcurrentHashMap<>();
+    // tenant and id of the target filter query -> the query compiled to an in-memory matcher
+    private final Map<FilterKey, CompiledFilter> matchers = new ConcurrentHashMap<>();
 
     public JpaAutoAssignExecutor(
             final TargetFilterQueryManagement<? extends TargetFilterQuery> targetFilterQueryManagement,
             final TargetManagement<? extends Target> targetManagement, final DeploymentManagement deploymentManagement,
             final PlatformTransactionManager transactionManager, final ContextAware contextAware) {
+        this(targetFilterQueryManagement, targetManagement, deploymentManagement, transactionManager, contextAware, 0, 1);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param fullCheckIntervalMS the max interval between two full checks of a target filter query, if not greater than 0 every check is a
+     *         full check
+     * @param threadPoolSize number of threads checking the target filter queries in parallel, if not greater than 1 they are checked
+     *         sequentially
+     */
+    @Autowired
+    @SuppressWarnings("java:S107")
+    public JpaAutoAssignExecutor(
+            final TargetFilterQueryManagement<? extends TargetFilterQuery> targetFilterQueryManagement,
+            final TargetManagement<? extends Target> targetManagement, final DeploymentManagement deploymentManagement,
+            final PlatformTransactionManager transactionManager, final ContextAware contextAware,
+            @Value("${hawkbit.autoassign.executor.full-check-interval:300000}") final long fullCheckIntervalMS,
+            @Value("${hawkbit.autoassign.executor.thread-pool.size:1}") final int threadPoolSize) {
         this.targetFilterQueryManagement = targetFilterQueryManagement;
         this.targetManagement = targetManagement;
         this.deploymentManagement = deploymentManagement;
         this.transactionManager = transactionManager;
         this.contextAware = contextAware;
+        this.fullCheckIntervalMS = fullCheckIntervalMS;
+        autoAssignTaskExecutor = threadPoolTaskExecutor(threadPoolSize);
     }
 
     @Override
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void checkAllTargets() {
         log.debug("Auto assign check call started");
-        forEachFilterWithAutoAssignDS(this::checkByTargetFilterQueryAndAssignDS);
+        final String tenant = contextAware.getCurrentTenant();
+        final Set<Long> filterIds = forEachFilterWithAutoAssignDS(
+                filter -> checkByTargetFilterQueryAndAssignDS(tenant, filter), autoAssignTaskExecutor);
+        // forget the high-water marks of the deleted filters or filters without auto assignment
+        final String tenantKey = tenant.toUpperCase();
+        highWaterMarks.keySet().removeIf(key -> key.tenant().equals(tenantKey) && !filterIds.contains(key.filterId()));
         log.debug("Auto assign check call finished");
     }
 
     @Override
+    @Transactional(readOnly = true)
     public void checkSingleTarget(String controllerId) {
         log.debug("Auto assign check call for device {} started", controllerId);
-        forEachFilterWithAutoAssignDS(filter -> checkForDevice(controllerId, filter));
+        final String tenant = contextAware.getCurrentTenant();
+        // the target is loaded once and matched in memory against the filters, if not available the filters are checked in the database
+        final AtomicReference<Target> target = new AtomicReference<>(findTarget(controllerId));
+        forEachFilterWithAutoAssignDS(filter -> checkForDevice(controllerId, target, tenant, filter), null);
         log.debug("Auto assign check call for device {} finished", controllerId);
     }
 
+    @EventListener(classes = { TargetFilterQueryUpdatedEvent.class, TargetFilterQueryDeletedEvent.class })
+    public void onTargetFilterQueryChanged(final RemoteIdEvent event) {
+        matchers.remove(FilterKey.of(event.getTenant(), event.getEntityId()));
+    }
+
     /**
      * Fetches the distribution set, gets all controllerIds and assigns the DS to them. Catches PersistenceException and own exceptions derived
      * from AbstractServerRtException
      *
+     * @param tenant the tenant of the target filter query
      * @param targetFilterQuery the target filter query
      */
-    private void checkByTargetFilterQueryAndAssignDS(final TargetFilterQuery targetFilterQuery) {
+    private void checkByTargetFilterQueryAndAssignDS(final String tenant, final TargetFilterQuery targetFilterQuery) {
         log.debug("Auto assign check call for target filter query id {} started", targetFilterQuery.getId());
+        final FilterKey key = FilterKey.of(tenant, targetFilterQuery.getId());
+        final long startedAt = System.currentTimeMillis();
+        final HighWaterMark highWaterMark = highWaterMarks.remove(key);
+        final boolean fullCheck = highWaterMark == null || !highWaterMark.isValidFor(targetFilterQuery, startedAt, fullCheckIntervalMS);
+        final long modifiedSince = fullCheck ? 0 : highWaterMark.modifiedSince();
         try {
-            int count;
+            long afterId = 0;
+            List<? extends Target> targets;
             do {
-                final List<String> controllerIds = targetManagement
-                        .findByTargetFilterQueryAndNonDSAndCompatibleAndUpdatable(
-                                targetFilterQuery.getAutoAssignDistributionSet().getId(), targetFilterQuery.getQuery(),
-                                PageRequest.of(0, Constants.MAX_ENTRIES_IN_STATEMENT))
-                        .getContent().stream().map(Target::getControllerId).toList();
-                log.debug("Retrieved {} auto assign targets for target filter query id {}, starting with assignment",
-                        controllerIds.size(), targetFilterQuery.getId());
-
-                count = runTransactionalAssignment(targetFilterQuery, controllerIds);
-                log.debug("Assignment for {} auto assign targets for target filter query id {} finished",
-                        controllerIds.size(), targetFilterQuery.getId());
-            } while (count == Constants.MAX_ENTRIES_IN_STATEMENT);
+                targets = targetManagement.findByTargetFilterQueryAndNonDSAndCompatibleAndUpdatable(
+                        targetFilterQuery.getAutoAssignDistributionSet().getId(), targetFilterQuery.getQuery(),
+                        afterId, modifiedSince, Constants.MAX_ENTRIES_IN_STATEMENT);
+                if (!targets.isEmpty()) {
+                    afterId = targets.get(targets.size() - 1).getId();
+                    final List<String> controllerIds = targets.stream().map(Target::getControllerId).toList();
+                    log.debug("Retrieved {} auto assign targets for target filter query id {}, starting with assignment",
+                            controllerIds.size(), targetFilterQuery.getId());
+
+                    runTransactionalAssignment(targetFilterQuery, controllerIds);
+                    log.debug("Assignment for {} auto assign targets for target filter query id {} finished",
+                            controllerIds.size(), targetFilterQuery.getId());
+                }
+            } while (targets.size() == Constants.MAX_ENTRIES_IN_STATEMENT);
+
+            highWaterMarks.put(key, new HighWaterMark(
+                    targetFilterQuery.getLastModifiedAt(), targetFilterQuery.getAutoAssignDistributionSet().getId(),
+                    startedAt - HIGH_WATER_MARK_MARGIN_MS, fullCheck ? startedAt : highWaterMark.lastFullCheckAt()));
         } catch (final PersistenceException | AbstractServerRtException e) {
             log.error("Error during auto assign check of target filter query id {}", targetFilterQuery.getId(), e);
         }
@@ -128,36 +219,52 @@ public class JpaAutoAssignExecutor implements AutoAssignExecutor {
     // run in the context the auto assignment is made in, i.e. if there is access control context it runs in it
     // otherwise in the tenant & user context built by createdBy
     // Note: It must be called in a tenant context, i.e. contextAware.getCurrentTenant() returns the tenant
-    private void forEachFilterWithAutoAssignDS(final Consumer<TargetFilterQuery> consumer) {
+    // If an executor is passed the filters are processed in parallel by it, otherwise sequentially in the calling thread. Returns the ids
+    // of the processed filters.
+    private Set<Long> forEachFilterWithAutoAssignDS(final Consumer<TargetFilterQuery> consumer, final ThreadPoolTaskExecutor executor) {
+        final String tenant = contextAware.getCurrentTenant();
+        final Set<Long> filterIds = new HashSet<>();
+        final List<CompletableFuture<Void>> futures = new ArrayList<>();
         Slice<TargetFilterQuery> filterQueries;
         Pageable query = PageRequest.of(0, PAGE_SIZE);
         do {
             filterQueries = targetFilterQueryManagement.findWithAutoAssignDS(query);
 
             filterQueries.forEach(filterQuery -> {
-                try {
-                    filterQuery.getAccessControlContext().ifPresentOrElse(
-                            context -> // has stored context - executes it with it
-                                    contextAware.runInContext(
-                                            context,
-                                            () -> consumer.accept(filterQuery)),
-                            () -> // has no stored context - executes it in the tenant & user scope
-                                    contextAware.runAsTenantAsUser(
-                                            contextAware.getCurrentTenant(),
-                                            getAutoAssignmentInitiatedBy(filterQuery), () -> consumer.accept(filterQuery))
-                    );
-                } catch (final RuntimeException ex) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Exception on forEachFilterWithAutoAssignDS execution for filter id {}. Continue with next filter query.",
-                                filterQuery.getId(), ex);
-                    } else {
-                        log.error(
-                                "Exception on forEachFilterWithAutoAssignDS execution for filter id {} and error message [{}]. Continue with next filter query.",
-                                filterQuery.getId(), ex.getMessage());
-                    }
+                filterIds.add(filterQuery.getId());
+                if (executor == null) {
+                    runForFilter(tenant, filterQuery, consumer);
+                } else {
+                    futures.add(CompletableFuture.runAsync(() -> runForFilter(tenant, filterQuery, consumer), executor));
                 }
             });
         } while (filterQueries.hasNext() && (query = filterQueries.nextPageable()) != Pageable.unpaged());
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return filterIds;
+    }
+
+    private void runForFilter(final String tenant, final TargetFilterQuery filterQuery, final Consumer<TargetFilterQuery> consumer) {
+        try {
+            filterQuery.getAccessControlContext().ifPresentOrElse(
+                    context -> // has stored context - executes it with it
+                            contextAware.runInContext(
+                                    context,
+                                    () -> consumer.accept(filterQuery)),
+                    () -> // has no stored context - executes it in the tenant & user scope
+                            contextAware.runAsTenantAsUser(
+                                    tenant,
+                                    getAutoAssignmentInitiatedBy(filterQuery), () -> consumer.accept(filterQuery))
+            );
+        } catch (final RuntimeException ex) {
+            if (log.isDebugEnabled()) {
+                log.debug("Exception on forEachFilterWithAutoAssignDS execution for filter id {}. Continue with next filter query.",
+                        filterQuery.getId(), ex);
+            } else {
+                log.error(
+                        "Exception on forEachFilterWithAutoAssignDS execution for filter id {} and error message [{}]. Continue with next filter query.",
+                        filterQuery.getId(), ex.getMessage());
+            }
+        }
     }
 
     /**
@@ -199,16 +306,108 @@ public class JpaAutoAssignExecutor implements AutoAssignExecutor {
                 .toList();
     }
 
-    private void checkForDevice(final String controllerId, final TargetFilterQuery targetFilterQuery) {
+    private void checkForDevice(
+            final String controllerId, final AtomicReference<Target> target, final String tenant, final TargetFilterQuery targetFilterQuery) {
         log.debug("Auto assign check call for target filter query id {} for device {} started", targetFilterQuery.getId(), controllerId);
         try {
-            if (targetManagement.isTargetMatchingQueryAndDSNotAssignedAndCompatibleAndUpdatable(
+            if (!mayMatch(tenant, targetFilterQuery, target.get())) {
+                log.debug("Target filter query id {} doesn't match device {}", targetFilterQuery.getId(), controllerId);
+            } else if (targetManagement.isTargetMatchingQueryAndDSNotAssignedAndCompatibleAndUpdatable(
                     controllerId, targetFilterQuery.getAutoAssignDistributionSet().getId(), targetFilterQuery.getQuery())) {
                 runTransactionalAssignment(targetFilterQuery, Collections.singletonList(controllerId));
+                // the assignment modifies the target, so the loaded one is outdated and the next filters are checked in the database
+                target.set(null);
             }
         } catch (final PersistenceException | AbstractServerRtException e) {
             log.error("Error during auto assign check of target filter query id {}", targetFilterQuery.getId(), e);
         }
         log.debug("Auto assign check call for target filter query id {} for device {} finished", targetFilterQuery.getId(), controllerId);
     }
-}
\ No newline at end of file
+
+    private static ThreadPoolTaskExecutor threadPoolTaskExecutor(final int threadPoolSize) {
+        if (threadPoolSize <= 1) {
+            return null;
+        }
+
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threadPoolSize);
+        executor.setMaxPoolSize(threadPoolSize);
+        executor.setQueueCapacity(0); // forces a Synchronous Queue
+        // This policy will block the submitter until a worker thread is free
+        executor.setRejectedExecutionHandler(new BlockWhenFullPolicy());
+        executor.setThreadNamePrefix("auto-assign-");
+        executor.initialize();
+        return executor;
+    }
+
+    private Target findTarget(final String controllerId) {
+        try {
+            return targetManagement.findByControllerId(controllerId).orElse(null);
+        } catch (final RuntimeException e) {
+            log.debug("Could not load device {}, the filters are checked in the database", controllerId, e);
+            return null;
+        }
+    }
+
+    // returns false only if the target is known not to match the filter query, the database check is authoritative
+    private boolean mayMatch(final String tenant, final TargetFilterQuery targetFilterQuery, final Target target) {
+        if (target == null) {
+            return true;
+        }
+
+        final FilterKey key = FilterKey.of(tenant, targetFilterQuery.getId());
+        CompiledFilter compiled = matchers.get(key);
+        if (compiled == null || !compiled.query().equals(targetFilterQuery.getQuery())) {
+            compiled = CompiledFilter.compile(targetFilterQuery.getQuery());
+            matchers.put(key, compiled);
+        }
+        if (compiled.matcher() == null) {
+            return true;
+        }
+        try {
+            return compiled.matcher().match(target);
+        } catch (final RuntimeException e) {
+            // e.g. not loaded relation - can't be evaluated in memory
+            log.debug("Target filter query id {} could not be matched in memory: {}", targetFilterQuery.getId(), e.getMessage());
+            return true;
+        }
+    }
+
+    private record FilterKey(String tenant, long filterId) {
+
+        private static FilterKey of(final String tenant, final long filterId) {
+            return new FilterKey(tenant.toUpperCase(), filterId);
+        }
+    }
+
+    /**
+     * @param query the query the matcher is compiled from
+     * @param matcher the matcher or <code>null</code> if the query couldn't be compiled to an in-memory matcher
+     */
+    private record CompiledFilter(String query, EntityMatcher matcher) {
+
+        private static CompiledFilter compile(final String query) {
+            try {
+                return new CompiledFilter(query, QLSupport.getInstance().entityMatcher(query, TargetFields.class));
+            } catch (final RuntimeException e) {
+                log.debug("Query {} could not be compiled to an in-memory matcher: {}", query, e.getMessage());
+                return new CompiledFilter(query, null);
+            }
+        }
+    }
+
+    /**
+     * @param filterModifiedAt last modified at of the target filter query when checked
+     * @param distributionSetId the auto assign distribution set when checked
+     * @param modifiedSince the targets modified since this time have to be considered by the next check
+     * @param lastFullCheckAt the time of the last full check
+     */
+    private record HighWaterMark(long filterModifiedAt, long distributionSetId, long modifiedSince, long lastFullCheckAt) {
+
+        private boolean isValidFor(final TargetFilterQuery targetFilterQuery, final long now, final long fullCheckIntervalMS) {
+            return fullCheckIntervalMS > 0 && now - lastFullCheckAt < fullCheckIntervalMS &&
+                    filterModifiedAt == targetFilterQuery.getLastModifiedAt() &&
+                    distributionSetId == targetFilterQuery.getAutoAssignDistributionSet().getId();
+        }
+    }
+}
@@ -15,15 +15,19 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Proxy;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.StreamSupport;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
 import org.eclipse.hawkbit.ContextAware;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.QuotaManagement;
@@ -33,23 +37,32 @@ import org.eclipse.hawkbit.repository.RolloutExecutor;
 import org.eclipse.hawkbit.repository.RolloutGroupManagement;
 import org.eclipse.hawkbit.repository.RolloutHelper;
 import org.eclipse.hawkbit.repository.RolloutManagement;
+import org.eclipse.hawkbit.repository.TargetFields;
 import org.eclipse.hawkbit.repository.TargetManagement;
 import org.eclipse.hawkbit.repository.event.EventPublisherHolder;
 import org.eclipse.hawkbit.repository.event.remote.RolloutStoppedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.RolloutUpdatedEvent;
 import org.eclipse.hawkbit.repository.exception.AssignmentQuotaExceededException;
 import org.eclipse.hawkbit.repository.exception.RolloutIllegalStateException;
+import org.eclipse.hawkbit.repository.jpa.Jpa;
+import org.eclipse.hawkbit.repository.jpa.JpaManagementHelper;
+import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.management.JpaRolloutManagement;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRollout;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
-import org.eclipse.hawkbit.repository.jpa.model.RolloutTargetGroup;
+import org.eclipse.hawkbit.repository.jpa.ql.QLSupport;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutTargetGroupRepository;
+import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupStatusCounters;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.EvaluatorNotConfiguredException;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.RolloutGroupEvaluationManager;
+import org.eclipse.hawkbit.repository.jpa.specifications.TargetSpecifications;
 import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
 import org.eclipse.hawkbit.repository.jpa.utils.QuotaHelper;
 import org.eclipse.hawkbit.repository.model.Action;
@@ -66,6 +79,8 @@ import org.eclipse.hawkbit.repository.model.RolloutGroup.RolloutGroupSuccessCond
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.security.SpringSecurityAuditorAware;
 import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
@@ -100,52 +115,63 @@ public class JpaRolloutExecutor implements RolloutExecutor {
     private static final List<Status> DOWNLOAD_ONLY_ACTION_TERMINATION_STATUSES =
             List.of(Status.ERROR, Status.FINISHED, Status.CANCELED, Status.DOWNLOADED);
     private static final Comparator<RolloutGroup> DESC_COMP = Comparator.comparingLong(RolloutGroup::getId).reversed();
+    private static final JpaAction.ActionTypeConverter ACTION_TYPE_CONVERTER = new JpaAction.ActionTypeConverter();
+    private static final JpaAction.StatusConverter STATUS_CONVERTER = new JpaAction.StatusConverter();
     private static final String TRANSACTION_ASSIGNING_TARGETS_TO_ROLLOUT_GROUP_FAILED = "Transaction assigning Targets to RolloutGroup failed";
 
     private final ActionRepository actionRepository;
     private final RolloutGroupRepository rolloutGroupRepository;
     private final RolloutTargetGroupRepository rolloutTargetGroupRepository;
     private final RolloutRepository rolloutRepository;
+    private final TargetRepository targetRepository;
     private final TargetManagement<? extends Target> targetManagement;
     private final DeploymentManagement deploymentManagement;
     private final RolloutGroupManagement rolloutGroupManagement;
     private final RolloutManagement rolloutManagement;
     private final QuotaManagement quotaManagement;
     private final RolloutGroupEvaluationManager evaluationManager;
+    private final RolloutGroupStatusCounters rolloutGroupStatusCounters;
     private final RolloutApprovalStrategy rolloutApprovalStrategy;
     private final EntityManager entityManager;
     private final PlatformTransactionManager txManager;
     private final TenantAware tenantAware;
     private final ContextAware contextAware;
     private final RepositoryProperties repositoryProperties;
+    private final AuditorAware<String> auditorAware;
     private final Map<Long, AtomicLong> lastDynamicGroupFill = new ConcurrentHashMap<>();
 
     @SuppressWarnings("java:S107")
     public JpaRolloutExecutor(
             final ActionRepository actionRepository, final RolloutGroupRepository rolloutGroupRepository,
             final RolloutTargetGroupRepository rolloutTargetGroupRepository,
-            final RolloutRepository rolloutRepository, final TargetManagement<? extends Target> targetManagement,
+            final RolloutRepository rolloutRepository, final TargetRepository targetRepository,
+            final TargetManagement<? extends Target> targetManagement,
             final DeploymentManagement deploymentManagement, final RolloutGroupManagement rolloutGroupManagement,
             final RolloutManagement rolloutManagement, final QuotaManagement quotaManagement,
-            final RolloutGroupEvaluationManager evaluationManager, final RolloutApprovalStrategy rolloutApprovalStrategy,
+            final RolloutGroupEvaluationManager evaluationManager, final RolloutGroupStatusCounters rolloutGroupStatusCounters,
+            final RolloutApprovalStrategy rolloutApprovalStrategy,
             final EntityManager entityManager, final PlatformTransactionManager txManager,
-            final TenantAware tenantAware, final ContextAware contextAware, final RepositoryProperties repositoryProperties) {
+            final TenantAware tenantAware, final ContextAware contextAware, final RepositoryProperties repositoryProperties,
+            final AuditorAware<String> auditorAware) {
         this.actionRepository = actionRepository;
         this.rolloutGroupRepository = rolloutGroupRepository;
         this.rolloutTargetGroupRepository = rolloutTargetGroupRepository;
         this.rolloutRepository = rolloutRepository;
+        this.targetRepository = targetRepository;
         this.targetManagement = targetManagement;
         this.deploymentManagement = deploymentManagement;
         this.rolloutGroupManagement = rolloutGroupManagement;
         this.rolloutManagement = rolloutManagement;
         this.quotaManagement = quotaManagement;
         this.evaluationManager = evaluationManager;
+        this.rolloutGroupStatusCounters = rolloutGroupStatusCounters;
         this.rolloutApprovalStrategy = rolloutApprovalStrategy;
         this.entityManager = entityManager;
         this.txManager = txManager;
         this.tenantAware = tenantAware;
         this.contextAware = contextAware;
         this.repositoryProperties = repositoryProperties;
+        this.auditorAware = auditorAware;
     }
 
     @Override
@@ -488,6 +514,8 @@ public class JpaRolloutExecutor implements RolloutExecutor {
         rolloutGroup.setTotalTargets((int) countTargetsOfRolloutGroup);
         rolloutRepository.save(jpaRollout);
         rolloutGroupRepository.save(rolloutGroup);
+        // the actions of deleted targets are deleted without notification
+        RolloutGroupStatusCounters.invalidate(rolloutGroup.getId());
     }
 
     private long countTargetsFrom(final JpaRolloutGroup rolloutGroup) {
@@ -507,11 +535,10 @@ public class JpaRolloutExecutor implements RolloutExecutor {
     }
 
     private boolean isRolloutGroupComplete(final JpaRollout rollout, final JpaRolloutGroup rolloutGroup) {
-        final Long actionsLeftForRollout =
-                actionRepository.countByRolloutAndRolloutGroupAndStatusNotIn(
-                        rollout, rolloutGroup,
-                        ActionType.DOWNLOAD_ONLY == rollout.getActionType() ?
-                                DOWNLOAD_ONLY_ACTION_TERMINATION_STATUSES : DEFAULT_ACTION_TERMINATION_STATUSES);
+        final long actionsLeftForRollout = rolloutGroupStatusCounters.countNotIn(
+                rolloutGroup.getId(),
+                ActionType.DOWNLOAD_ONLY == rollout.getActionType() ?
+                        DOWNLOAD_ONLY_ACTION_TERMINATION_STATUSES : DEFAULT_ACTION_TERMINATION_STATUSES);
         return actionsLeftForRollout == 0;
     }
 
@@ -635,24 +662,45 @@ public class JpaRolloutExecutor implements RolloutExecutor {
     private int assignTargetsToGroupInNewTransaction(
             final JpaRollout rollout, final RolloutGroup group, final String targetFilter, final long limit) {
         return DeploymentHelper.runInNewTransaction(txManager, "assignTargetsToRolloutGroup", status -> {
-            final PageRequest pageRequest = PageRequest.of(0, Math.toIntExact(limit));
             final List<Long> readyGroups = RolloutHelper.getGroupsByStatusIncludingGroup(
                     rollout.getRolloutGroups(), RolloutGroupStatus.READY, group);
-            final Slice<Target> targets;
+            // only the ids are selected, the targets are not loaded into the persistence context
+            final List<Long> targetIds;
             if (!RolloutHelper.isRolloutRetried(rollout.getTargetFilterQuery())) {
-                targets = targetManagement.findByRsqlAndNotInRolloutGroupsAndCompatibleAndUpdatable(
-                        readyGroups, targetFilter, rollout.getDistributionSet().getType(), pageRequest);
+                targetIds = targetRepository.findIds(
+                        AccessController.Operation.UPDATE,
+                        JpaManagementHelper.combineWithAnd(List.of(
+                                QLSupport.getInstance().buildSpec(targetFilter, TargetFields.class),
+                                TargetSpecifications.isNotInRolloutGroups(readyGroups),
+                                TargetSpecifications.isCompatibleWithDistributionSetType(rollout.getDistributionSet().getType().getId()))),
+                        Math.toIntExact(limit));
             } else {
-                targets = targetManagement.findByFailedRolloutAndNotInRolloutGroups(
-                        RolloutHelper.getIdFromRetriedTargetFilter(rollout.getTargetFilterQuery()), readyGroups, pageRequest);
+                targetIds = targetRepository.findIds(
+                        AccessController.Operation.READ,
+                        JpaManagementHelper.combineWithAnd(List.of(
+                                TargetSpecifications.failedActionsForRollout(
+                                        RolloutHelper.getIdFromRetriedTargetFilter(rollout.getTargetFilterQuery())),
+                                TargetSpecifications.isNotInRolloutGroups(readyGroups))),
+                        Math.toIntExact(limit));
             }
 
-            rolloutTargetGroupRepository.saveAll(targets.stream().map(target -> new RolloutTargetGroup(group, target)).toList());
-
-            return targets.getNumberOfElements();
+            ListUtils.partition(targetIds, Constants.MAX_ENTRIES_IN_STATEMENT).forEach(ids -> insertRolloutTargetGroups(group, ids));
+            return targetIds.size();
         });
     }
 
+    private void insertRolloutTargetGroups(final RolloutGroup group, final List<Long> targetIds) {
+        final char prefix = Jpa.nativeQueryParamPrefix();
+        final Query insertQuery = entityManager.createNativeQuery(
+                "INSERT INTO sp_rollout_target_group (rollout_group, target) " +
+                        "SELECT " + prefix + "rollout_group, t.id FROM sp_target t " +
+                        "WHERE t.id IN (" + Jpa.formatNativeQueryInClause("tid", targetIds) + ") AND t.tenant = " + prefix + "tenant");
+        insertQuery.setParameter("rollout_group", group.getId());
+        Jpa.setNativeQueryInParameter(insertQuery, "tid", targetIds);
+        insertQuery.setParameter("tenant", tenantAware.getCurrentTenant().toUpperCase());
+        insertQuery.executeUpdate();
+    }
+
     // return if group change is made
     private boolean fillDynamicRolloutGroupsWithTargets(final JpaRollout rollout) {
         final AtomicLong lastFill = lastDynamicGroupFill.computeIfAbsent(rollout.getId(), id -> new AtomicLong(0));
@@ -814,8 +862,13 @@ public class JpaRolloutExecutor implements RolloutExecutor {
     }
 
     /**
-     * Creates an action entry into the action repository. In case of existing scheduled actions the scheduled actions gets canceled.
+     * Creates the actions for the targets. In case of existing scheduled actions the scheduled actions gets canceled.
      * A scheduled action is created in-active for static and running for dynamic groups.
+     * <p/>
+     * The actions are created set based - the quota is checked with a single grouped count, the actions are inserted with a single
+     * <code>INSERT ... SELECT</code> per chunk of targets and read back with a single query. Since the inserts bypass the entity
+     * lifecycle the create events are published explicitly, all at once after commit. They stay one {@link ActionCreatedEvent} per action,
+     * as their consumers (service events, caches) are per action - with enabled remote event batching they are sent in bulk messages.
      */
     private List<Action> createActions(
             final Collection<Target> targets, final DistributionSet distributionSet, final ActionType actionType, final Long forcedTime,
@@ -824,41 +877,86 @@ public class JpaRolloutExecutor implements RolloutExecutor {
         // then cancel the current scheduled action to cancel. E.g. a new scheduled action is created.
         final List<Long> targetIds = targets.stream().map(Target::getId).toList();
         deploymentManagement.cancelInactiveScheduledActionsForTargets(targetIds);
-        return targets.stream()
-                .map(target -> {
-                    assertActionsPerTargetQuota(target, 1);
-
-                    final JpaAction action = new JpaAction();
-                    action.setTarget(target);
-                    action.setActive(false);
-                    action.setDistributionSet(distributionSet);
-                    action.setActionType(actionType);
-                    action.setForcedTime(forcedTime);
-                    action.setStatus(Status.SCHEDULED);
-                    action.setRollout(rollout);
-                    action.setRolloutGroup(rolloutGroup);
-                    action.setInitiatedBy(rollout.getCreatedBy());
-                    rollout.getWeight().ifPresent(action::setWeight);
-                    actionRepository.save(action);
-
-                    return action;
+        assertActionsPerTargetQuota(targetIds);
+
+        final String createdBy = auditorAware.getCurrentAuditor().orElseGet(tenantAware::getCurrentUsername);
+        final List<JpaAction> actions = ListUtils.partition(targetIds, Constants.MAX_ENTRIES_IN_STATEMENT).stream()
+                .flatMap(chunk -> {
+                    insertActions(chunk, distributionSet, actionType, forcedTime, rollout, rolloutGroup, createdBy);
+                    return actionRepository.findByRolloutGroupIdAndTargetIdIn(rolloutGroup.getId(), chunk).stream();
                 })
-                .map(Action.class::cast)
                 .toList();
+        afterCommit(() -> {
+            // all actions are of the same group - its status counters are invalidated once
+            RolloutGroupStatusCounters.invalidate(rolloutGroup.getId());
+            final ApplicationEventPublisher eventPublisher = EventPublisherHolder.getInstance().getEventPublisher();
+            actions.forEach(action -> eventPublisher.publishEvent(
+                    new ActionCreatedEvent(action, action.getTarget().getId(), rollout.getId(), rolloutGroup.getId())));
+        });
+        return actions.stream().map(Action.class::cast).toList();
+    }
+
+    @SuppressWarnings("java:S107")
+    private void insertActions(
+            final List<Long> targetIds, final DistributionSet distributionSet, final ActionType actionType, final Long forcedTime,
+            final Rollout rollout, final RolloutGroup rolloutGroup, final String createdBy) {
+        final char prefix = Jpa.nativeQueryParamPrefix();
+        final Optional<Integer> weight = rollout.getWeight();
+        // the tenant is taken from the targets, which are read in the tenant scope
+        final Query insertQuery = entityManager.createNativeQuery(
+                "INSERT INTO sp_action (tenant, created_by, created_at, last_modified_by, last_modified_at, optlock_revision, " +
+                        "distribution_set, target, rollout, rollout_group, active, action_type, forced_time, status, initiated_by" +
+                        (weight.isPresent() ? ", weight" : "") + ") " +
+                        "SELECT t.tenant, " + prefix + "created_by, " + prefix + "now, " + prefix + "created_by, " + prefix + "now, 1, " +
+                        prefix + "ds, t.id, " + prefix + "rollout, " + prefix + "rollout_group, " + prefix + "active, " +
+                        prefix + "action_type, " + prefix + "forced_time, " + prefix + "status, " + prefix + "initiated_by" +
+                        (weight.isPresent() ? ", " + prefix + "weight" : "") + " " +
+                        "FROM sp_target t WHERE t.id IN (" + Jpa.formatNativeQueryInClause("tid", targetIds) + ")" +
+                        " AND t.tenant = " + prefix + "tenant");
+        final long now = System.currentTimeMillis();
+        insertQuery.setParameter("created_by", createdBy);
+        insertQuery.setParameter("now", now);
+        insertQuery.setParameter("ds", distributionSet.getId());
+        insertQuery.setParameter("rollout", rollout.getId());
+        insertQuery.setParameter("rollout_group", rolloutGroup.getId());
+        insertQuery.setParameter("active", false);
+        insertQuery.setParameter("action_type", ACTION_TYPE_CONVERTER.convertToDatabaseColumn(actionType));
+        insertQuery.setParameter("forced_time", forcedTime == null ? 0L : forcedTime);
+        insertQuery.setParameter("status", STATUS_CONVERTER.convertToDatabaseColumn(Status.SCHEDULED));
+        insertQuery.setParameter("initiated_by", rollout.getCreatedBy());
+        weight.ifPresent(value -> insertQuery.setParameter("weight", value));
+        Jpa.setNativeQueryInParameter(insertQuery, "tid", targetIds);
+        insertQuery.setParameter("tenant", tenantAware.getCurrentTenant().toUpperCase());
+
+        final int inserted = insertQuery.executeUpdate();
+        if (inserted < targetIds.size()) {
+            log.warn("Actions of rollout group {} could not be created for all targets ({} instead of {}).",
+                    rolloutGroup.getId(), inserted, targetIds.size());
+        }
     }
 
     /**
-     * Enforces the quota defining the maximum number of {@link Action}s per {@link Target}.
+     * Enforces the quota defining the maximum number of {@link Action}s per {@link Target} for a new action for each of the targets.
+     * The actions of all targets are counted with a single grouped query.
      *
-     * @param target the target
-     * @param requested number of actions to check
+     * @param targetIds the targets
      */
-    private void assertActionsPerTargetQuota(final Target target, final long requested) {
+    private void assertActionsPerTargetQuota(final List<Long> targetIds) {
         final int quota = quotaManagement.getMaxActionsPerTarget();
-        try {
-            QuotaHelper.assertAssignmentQuota(target.getId(), requested, quota, Action.class, Target.class, actionRepository::countByTargetId);
-        } catch (final AssignmentQuotaExceededException ex) {
-            deploymentManagement.handleMaxAssignmentsExceeded(target.getId(), requested, ex);
+        if (quota <= 0) {
+            return;
         }
+
+        final Map<Long, Long> actionCounts = new HashMap<>();
+        ListUtils.partition(targetIds, Constants.MAX_ENTRIES_IN_STATEMENT).forEach(chunk ->
+                actionRepository.countByTargetIdIn(chunk).forEach(count -> actionCounts.put((Long) count[0], (Long) count[1])));
+        targetIds.forEach(targetId -> {
+            try {
+                QuotaHelper.assertAssignmentQuota(
+                        targetId, 1, quota, Action.class, Target.class, id -> actionCounts.getOrDefault(id, 0L));
+            } catch (final AssignmentQuotaExceededException ex) {
+                deploymentManagement.handleMaxAssignmentsExceeded(targetId, 1L, ex);
+            }
+        });
     }
 }
\ No newline at end of file
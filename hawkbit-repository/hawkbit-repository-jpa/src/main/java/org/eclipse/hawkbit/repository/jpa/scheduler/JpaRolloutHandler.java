@@ -11,22 +11,34 @@ package org.eclipse.hawkbit.repository.jpa.scheduler;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.repository.RolloutExecutor;
 import org.eclipse.hawkbit.repository.RolloutHandler;
 import org.eclipse.hawkbit.repository.RolloutManagement;
+import org.eclipse.hawkbit.repository.jpa.management.JpaRolloutManagement;
+import org.eclipse.hawkbit.repository.jpa.rollout.BlockWhenFullPolicy;
 import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
 import org.eclipse.hawkbit.tenancy.DefaultTenantConfiguration;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * JPA implementation of {@link RolloutHandler}.
+ * <p/>
+ * Every active rollout is a separate work item claimed via its own lock obtained from the {@link LockRegistry}. With a distributed lock
+ * registry the lock is a lease (expiring if not refreshed), so the rollouts of a tenant are partitioned between the cluster nodes - every
+ * node handles the rollouts it could claim and skips the ones claimed by others. If a thread pool is configured the claimed rollouts
+ * are handled in parallel.
  */
 @Slf4j
 public class JpaRolloutHandler implements RolloutHandler {
@@ -37,6 +49,8 @@ public class JpaRolloutHandler implements RolloutHandler {
     private final LockRegistry lockRegistry;
     private final PlatformTransactionManager txManager;
     private final Optional<MeterRegistry> meterRegistry;
+    // if null the rollouts are handled sequentially in the calling thread
+    private final ThreadPoolTaskExecutor rolloutTaskExecutor;
 
     /**
      * Constructor
@@ -50,12 +64,31 @@ public class JpaRolloutHandler implements RolloutHandler {
     public JpaRolloutHandler(final TenantAware tenantAware, final RolloutManagement rolloutManagement,
             final RolloutExecutor rolloutExecutor, final LockRegistry lockRegistry,
             final PlatformTransactionManager txManager, final Optional<MeterRegistry> meterRegistry) {
+        this(tenantAware, rolloutManagement, rolloutExecutor, lockRegistry, txManager, meterRegistry, 1);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param tenantAware the {@link TenantAware} bean holding the tenant information
+     * @param rolloutManagement to fetch rollout related information from the datasource
+     * @param rolloutExecutor to trigger executions for a specific rollout
+     * @param lockRegistry to lock processes
+     * @param txManager transaction manager interface
+     * @param threadPoolSize number of threads handling the rollouts in parallel, if not greater than 1 they are handled sequentially
+     */
+    @SuppressWarnings("java:S107")
+    public JpaRolloutHandler(final TenantAware tenantAware, final RolloutManagement rolloutManagement,
+            final RolloutExecutor rolloutExecutor, final LockRegistry lockRegistry,
+            final PlatformTransactionManager txManager, final Optional<MeterRegistry> meterRegistry,
+            final int threadPoolSize) {
         this.tenantAware = tenantAware;
         this.rolloutManagement = rolloutManagement;
         this.rolloutExecutor = rolloutExecutor;
         this.lockRegistry = lockRegistry;
         this.txManager = txManager;
         this.meterRegistry = meterRegistry;
+        rolloutTaskExecutor = threadPoolTaskExecutor(threadPoolSize);
     }
 
     @Override
@@ -65,31 +98,56 @@ public class JpaRolloutHandler implements RolloutHandler {
             return;
         }
 
-        final String handlerId = createRolloutLockKey(tenantAware.getCurrentTenant());
+        log.debug("Trigger handling {} rollouts.", rollouts.size());
+
+        final String tenant = tenantAware.getCurrentTenant();
+        final long startNano = System.nanoTime();
+        if (rolloutTaskExecutor == null) {
+            rollouts.forEach(rolloutId -> handleRollout(tenant, rolloutId));
+        } else {
+            final SecurityContext securityContext = SecurityContextHolder.getContext();
+            CompletableFuture.allOf(rollouts.stream()
+                            .map(rolloutId -> CompletableFuture.runAsync(() -> {
+                                SecurityContextHolder.setContext(securityContext);
+                                try {
+                                    handleRollout(tenant, rolloutId);
+                                } finally {
+                                    SecurityContextHolder.clearContext();
+                                }
+                            }, rolloutTaskExecutor))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        }
+        meterRegistry
+                .map(mReg -> mReg.timer("hawkbit.rollout.handler.all", DefaultTenantConfiguration.TENANT_TAG, tenant))
+                .ifPresent(timer -> timer.record(System.nanoTime() - startNano, TimeUnit.NANOSECONDS));
+
+        log.debug("Finished handling of the rollouts.");
+    }
+
+    @Override
+    public void handle(final long rolloutId) {
+        handleRollout(tenantAware.getCurrentTenant(), rolloutId);
+    }
+
+    private void handleRollout(final String tenant, final long rolloutId) {
+        final String handlerId = JpaRolloutManagement.createRolloutLockKey(tenant, rolloutId);
         final Lock lock = lockRegistry.obtain(handlerId);
         if (!lock.tryLock()) {
+            // claimed by another node (or still handled since the previous run)
             if (log.isTraceEnabled()) {
                 log.trace("Could not perform lock {}", lock);
             }
+            meterRegistry
+                    .map(mReg -> mReg.counter("hawkbit.rollout.handler.skipped", DefaultTenantConfiguration.TENANT_TAG, tenant))
+                    .ifPresent(Counter::increment);
             return;
         }
 
         try {
-            log.debug("Trigger handling {} rollouts.", rollouts.size());
-
-            final long startNano = System.nanoTime();
-            rollouts.forEach(rolloutId -> {
-                try {
-                    handleRolloutInNewTransaction(rolloutId, handlerId);
-                } catch (final Throwable throwable) {
-                    log.error("Failed to process rollout with id {}", rolloutId, throwable);
-                }
-            });
-            meterRegistry
-                    .map(mReg -> mReg.timer("hawkbit.rollout.handler.all", DefaultTenantConfiguration.TENANT_TAG, tenantAware.getCurrentTenant()))
-                    .ifPresent(timer -> timer.record(System.nanoTime() - startNano, TimeUnit.NANOSECONDS));
-
-            log.debug("Finished handling of the rollouts.");
+            handleRolloutInNewTransaction(rolloutId, handlerId);
+        } catch (final Throwable throwable) {
+            log.error("Failed to process rollout with id {}", rolloutId, throwable);
         } finally {
             if (log.isTraceEnabled()) {
                 log.trace("Unlock lock {}", lock);
@@ -98,15 +156,11 @@ public class JpaRolloutHandler implements RolloutHandler {
         }
     }
 
-    private static String createRolloutLockKey(final String tenant) {
-        return tenant + "-rollout";
-    }
-
     // run in a tenant context, i.e. contextAware.getCurrentTenant() returns the tenant the rollout is made for
     private void handleRolloutInNewTransaction(final long rolloutId, final String handlerId) {
         final long startNano = System.nanoTime();
 
-        DeploymentHelper.runInNewTransaction(txManager, handlerId + "-" + rolloutId, status -> {
+        DeploymentHelper.runInNewTransaction(txManager, handlerId, status -> {
             rolloutManagement.find(rolloutId).ifPresentOrElse(
                     rolloutExecutor::execute,
                     () -> log.error("Could not retrieve rollout with id {}. Will not continue with execution.", rolloutId));
@@ -120,4 +174,23 @@ public class JpaRolloutHandler implements RolloutHandler {
                         "rollout", String.valueOf(rolloutId)))
                 .ifPresent(timer -> timer.record(System.nanoTime() - startNano, TimeUnit.NANOSECONDS));
     }
-}
\ No newline at end of file
+
+    private static ThreadPoolTaskExecutor threadPoolTaskExecutor(final int threadPoolSize) {
+        if (threadPoolSize <= 1) {
+            return null;
+        }
+
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threadPoolSize);
+        executor.setMaxPoolSize(threadPoolSize);
+        executor.setQueueCapacity(0); // forces a Synchronous Queue
+        // This policy will block the submitter until a worker thread is free
+        executor.setRejectedExecutionHandler(new BlockWhenFullPolicy());
+        executor.setThreadNamePrefix("rollout-handler-");
+        // idle threads terminate and don't block the shutdown, so there is no need to shut down the executor
+        executor.setDaemon(true);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.initialize();
+        return executor;
+    }
+}
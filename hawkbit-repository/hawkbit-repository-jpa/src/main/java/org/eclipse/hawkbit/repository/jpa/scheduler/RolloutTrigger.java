@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.scheduler;
+
+import java.util.EnumSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.RolloutHandler;
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.eclipse.hawkbit.tenancy.DefaultTenantConfiguration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Triggers the handling of a rollout ({@link RolloutHandler#handle(long)}) when its actions are updated, so that a rollout progresses
+ * (e.g. starts the next group when the success threshold of a group is reached) without waiting for the next run of the
+ * {@link RolloutScheduler}. The scheduler still handles all rollouts periodically.
+ * <p/>
+ * Only the updates to a status counted by the group conditions (finished, downloaded, error or canceled) trigger. The triggers are
+ * debounced - the first one of a rollout schedules its handling after the debounce delay and all further ones until then are coalesced
+ * into this single handling. The delay is scheduled on the shared scheduler, while the handling runs in an own thread pool.
+ * <p/>
+ * The action events are remote events, so every node schedules a handling. The rollout lock of the {@link RolloutHandler} lets only one
+ * of them handle the rollout at a time, the others skip it.
+ */
+@Slf4j
+public class RolloutTrigger {
+
+    // the statuses counted by the success and error conditions of the groups or finishing an action (i.e. possibly its group)
+    private static final Set<Action.Status> GROUP_EVALUATION_STATUSES = EnumSet.of(
+            Action.Status.FINISHED, Action.Status.DOWNLOADED, Action.Status.ERROR, Action.Status.CANCELED);
+
+    private final RolloutHandler rolloutHandler;
+    private final SystemSecurityContext systemSecurityContext;
+    private final ScheduledExecutorService executorService;
+    private final ThreadPoolTaskExecutor handlerExecutor;
+    private final long debounceMS;
+    private final Optional<MeterRegistry> meterRegistry;
+
+    // tenant and id of the rollouts which handling is scheduled
+    private final Set<Trigger> scheduled = ConcurrentHashMap.newKeySet();
+
+    public RolloutTrigger(
+            final RolloutHandler rolloutHandler, final SystemSecurityContext systemSecurityContext,
+            final ScheduledExecutorService executorService, final int threadPoolSize, final long debounceMS,
+            final Optional<MeterRegistry> meterRegistry) {
+        this.rolloutHandler = rolloutHandler;
+        this.systemSecurityContext = systemSecurityContext;
+        this.executorService = executorService;
+        handlerExecutor = threadPoolTaskExecutor(threadPoolSize);
+        this.debounceMS = debounceMS;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @EventListener(classes = ActionUpdatedEvent.class)
+    public void onActionUpdated(final ActionUpdatedEvent event) {
+        if (event.getRolloutId() != null && GROUP_EVALUATION_STATUSES.contains(event.getStatus())) {
+            trigger(event.getTenant(), event.getRolloutId());
+        }
+    }
+
+    /**
+     * Schedules the handling of the rollout, if not already scheduled.
+     *
+     * @param tenant the tenant of the rollout
+     * @param rolloutId the id of the rollout
+     */
+    public void trigger(final String tenant, final long rolloutId) {
+        final Trigger trigger = new Trigger(tenant, rolloutId);
+        if (scheduled.add(trigger)) {
+            // the shared scheduler only waits for the delay, the handling could take long
+            executorService.schedule(() -> handlerExecutor.execute(() -> handle(trigger)), debounceMS, TimeUnit.MILLISECONDS);
+        } else {
+            meterRegistry
+                    .map(mReg -> mReg.counter("hawkbit.rollout.trigger.coalesced", DefaultTenantConfiguration.TENANT_TAG, tenant))
+                    .ifPresent(Counter::increment);
+        }
+    }
+
+    private void handle(final Trigger trigger) {
+        // removed before the handling, so the updates made meanwhile trigger a new handling
+        scheduled.remove(trigger);
+        log.debug("Handle rollout {} of tenant {} triggered by action updates", trigger.rolloutId(), trigger.tenant());
+        try {
+            systemSecurityContext.runAsSystemAsTenant(() -> {
+                rolloutHandler.handle(trigger.rolloutId());
+                return null;
+            }, trigger.tenant());
+        } catch (final RuntimeException e) {
+            log.error("Error handling rollout {} of tenant {}", trigger.rolloutId(), trigger.tenant(), e);
+        }
+        meterRegistry
+                .map(mReg -> mReg.counter("hawkbit.rollout.trigger", DefaultTenantConfiguration.TENANT_TAG, trigger.tenant()))
+                .ifPresent(Counter::increment);
+    }
+
+    // the queue is bounded by the number of rollouts, since a rollout is scheduled at most once at a time
+    private static ThreadPoolTaskExecutor threadPoolTaskExecutor(final int threadPoolSize) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, threadPoolSize));
+        executor.setMaxPoolSize(Math.max(1, threadPoolSize));
+        // idle threads terminate and don't block the shutdown, so there is no need to shut down the executor
+        executor.setDaemon(true);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("rollout-trigger-");
+        executor.initialize();
+        return executor;
+    }
+
+    private record Trigger(String tenant, long rolloutId) {}
+}
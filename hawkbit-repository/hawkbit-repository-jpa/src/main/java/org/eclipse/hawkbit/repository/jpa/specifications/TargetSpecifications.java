@@ -105,6 +105,26 @@ public final class TargetSpecifications {
         return (targetRoot, query, cb) -> targetRoot.get(AbstractJpaBaseEntity_.id).in(ids);
     }
 
+    /**
+     * {@link Specification} for retrieving {@link Target}s with id greater than the given one
+     *
+     * @param id the exclusive lower bound of the ids
+     * @return the {@link Target} {@link Specification}
+     */
+    public static Specification<JpaTarget> hasIdGreaterThan(final long id) {
+        return (targetRoot, query, cb) -> cb.greaterThan(targetRoot.get(AbstractJpaBaseEntity_.id), id);
+    }
+
+    /**
+     * {@link Specification} for retrieving {@link Target}s created or last modified at or after the given time
+     *
+     * @param time in ms since epoch
+     * @return the {@link Target} {@link Specification}
+     */
+    public static Specification<JpaTarget> isModifiedSince(final long time) {
+        return (targetRoot, query, cb) -> cb.greaterThanOrEqualTo(targetRoot.get(AbstractJpaBaseEntity_.lastModifiedAt), time);
+    }
+
     /**
      * {@link Specification} for retrieving {@link JpaTarget}s including {@link JpaTarget#getAssignedDistributionSet()}.
      *
@@ -126,6 +126,33 @@ class TargetManagementTest extends AbstractAccessControllerManagementTest {
         });
     }
 
+    @Test
+    void verifyScopesAreAppliedPerAuthorities() {
+        final Target target1Type1 = targetManagement.get(super.target1Type1.getId());
+        final Target target2Type2 = targetManagement.get(super.target2Type2.getId());
+        // repeated calls with alternating authorities shall apply the scopes of the current caller only
+        for (int i = 0; i < 2; i++) {
+            runAs(withAuthorities(READ_TARGET + "/type.id==" + targetType1.getId()), () -> {
+                Assertions.<Target> assertThat(targetManagement.findAll(UNPAGED)).containsExactly(target1Type1);
+                assertThat(targetManagement.getByControllerId(target1Type1.getControllerId())).isEqualTo(target1Type1);
+                final String target2Type2ControllerId = target2Type2.getControllerId();
+                assertThatThrownBy(() -> targetManagement.getByControllerId(target2Type2ControllerId))
+                        .isInstanceOf(InsufficientPermissionException.class);
+            });
+            runAs(withAuthorities(READ_TARGET + "/type.id==" + targetType2.getId()), () -> {
+                assertThat(targetManagement.findAll(UNPAGED)).extracting(Identifiable::getId)
+                        .contains(target2Type2.getId())
+                        .doesNotContain(target1Type1.getId());
+                final String target1Type1ControllerId = target1Type1.getControllerId();
+                assertThatThrownBy(() -> targetManagement.getByControllerId(target1Type1ControllerId))
+                        .isInstanceOf(InsufficientPermissionException.class);
+            });
+            runAs(withAuthorities(READ_TARGET), () ->
+                    assertThat(targetManagement.findAll(UNPAGED)).extracting(Identifiable::getId)
+                            .contains(target1Type1.getId(), target2Type2.getId()));
+        }
+    }
+
     @Test
     void verifyReadCompatibleRelated() {
         prepareFinishedUpdates(ds2Type2, target1Type1, target2Type2);
@@ -192,6 +219,25 @@ class TargetManagementTest extends AbstractAccessControllerManagementTest {
         });
     }
 
+    /**
+     * Verifies that the rollout groups are filled only with the targets which are visible and updatable for the rollout creator.
+     */
+    @Test
+    void verifyRolloutGroupsAreFilledWithVisibleAndUpdatableTargetsOnly() {
+        runAs(withAuthorities(
+                // target1Type1 and target2Type2 are visible, target2Type2 and target3Type2 are updatable
+                READ_TARGET + "/tag==" + targetTag1.getName(), UPDATE_TARGET + "/type.id==" + targetType2.getId(),
+                READ_DISTRIBUTION_SET,
+                CREATE_ROLLOUT, READ_ROLLOUT, HANDLE_ROLLOUT), () -> {
+            final Rollout rollout = testdataFactory.createRolloutByVariables("testRollout", "testDescription", 3, "id==*", ds2Type2, "50", "5");
+            assertThat(rolloutGroupManagement.findByRollout(rollout.getId(), UNPAGED).getContent().stream()
+                    .flatMap(group -> rolloutGroupManagement.findTargetsOfRolloutGroup(group.getId(), UNPAGED).get())
+                    .map(Identifiable::getId)
+                    .toList())
+                    .containsExactly(target2Type2.getId());
+        });
+    }
+
     @Test
     void verifyUpdate() {
         final TargetTag testTag = testdataFactory.createTargetTags(1, "testTag").get(0);
@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.awaitility.Awaitility;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * Feature: Unit Tests - Repository<br/>
+ * Story: Action status batching
+ */
+class ActionStatusBatcherTest {
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Verifies that multiple waiting statuses of an action are flushed in a single batch in the order they are reported.
+     */
+    @Test
+    void waitingStatusesOfAnActionAreFlushedInOrder() throws Exception {
+        final List<List<ActionStatusCreate>> flushed = new CopyOnWriteArrayList<>();
+        final ActionStatusBatcher batcher = new ActionStatusBatcher(1, 10, 10, 1, 5_000, (tenant, batch) -> {
+            flushed.add(batch.stream().map(ActionStatusBatcher.BatchedActionStatus::create).toList());
+            batch.forEach(batched -> batched.result().complete(null));
+        }, Optional.empty());
+
+        final List<ActionStatusCreate> statuses = List.of(status(Status.RUNNING), status(Status.DOWNLOADED), status(Status.FINISHED));
+        final List<Future<Action>> results = statuses.stream().map(status -> add(batcher, status, batcher.pending() + 1)).toList();
+        batcher.flush();
+        for (final Future<Action> result : results) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(flushed).containsExactly(statuses);
+        batcher.shutdown();
+    }
+
+    /**
+     * Verifies that a status waits for a flush of its shard if the shard is full, instead of bypassing the waiting statuses.
+     */
+    @Test
+    void blocksWhileShardIsFull() throws Exception {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final List<ActionStatusCreate> flushed = new CopyOnWriteArrayList<>();
+        final CountDownLatch flushing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ActionStatusBatcher batcher = new ActionStatusBatcher(1, 2, 2, 1, 5_000, (tenant, batch) -> {
+            flushing.countDown();
+            try {
+                release.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            batch.forEach(batched -> {
+                flushed.add(batched.create());
+                batched.result().complete(null);
+            });
+        }, Optional.of(meterRegistry));
+
+        final List<ActionStatusCreate> statuses = List.of(
+                status(Status.RUNNING), status(Status.DOWNLOAD), status(Status.DOWNLOADED), status(Status.RETRIEVED),
+                status(Status.FINISHED));
+        // the first two fill the batch, which is flushed and blocks the flush thread
+        final Future<Action> first = add(batcher, statuses.get(0), 1);
+        final Future<Action> second = executor.submit(() -> batcher.add("tenant", statuses.get(1)));
+        assertThat(flushing.await(5, TimeUnit.SECONDS)).isTrue();
+        // the next two fill the shard
+        final Future<Action> third = add(batcher, statuses.get(2), 1);
+        final Future<Action> fourth = add(batcher, statuses.get(3), 2);
+        final Future<Action> fifth = executor.submit(() -> batcher.add("tenant", statuses.get(4)));
+        await(() -> meterRegistry.counter("hawkbit.controller.action.status.batch.blocked").count() == 1);
+        assertThat(fifth).isNotDone();
+        assertThat(batcher.pending()).isEqualTo(2);
+
+        release.countDown();
+        await(() -> flushed.size() == 4 && batcher.pending() == 1);
+        batcher.flush();
+        for (final Future<Action> result : List.of(first, second, third, fourth, fifth)) {
+            result.get(5, TimeUnit.SECONDS);
+        }
+
+        assertThat(flushed).containsExactlyElementsOf(statuses);
+        batcher.shutdown();
+    }
+
+    /**
+     * Verifies that the caller doesn't wait endlessly for the persistence of its status.
+     */
+    @Test
+    void failsIfNotPersistedWithinTimeout() {
+        // the flusher never completes the statuses
+        final ActionStatusBatcher batcher = new ActionStatusBatcher(1, 1, 1, 1, 100, (tenant, batch) -> {}, Optional.empty());
+
+        assertThatExceptionOfType(QueryTimeoutException.class).isThrownBy(() -> batcher.add("tenant", status(Status.RUNNING)));
+        batcher.shutdown();
+    }
+
+    // adds the status in another thread, since the caller waits for the persistence, and waits until it is added
+    private Future<Action> add(final ActionStatusBatcher batcher, final ActionStatusCreate status, final int pending) {
+        final Future<Action> result = executor.submit(() -> batcher.add("tenant", status));
+        await(() -> batcher.pending() == pending);
+        return result;
+    }
+
+    private static void await(final BooleanSupplier condition) {
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(condition::getAsBoolean);
+    }
+
+    private static ActionStatusCreate status(final Status status) {
+        return ActionStatusCreate.builder().actionId(1L).status(status).build();
+    }
+}
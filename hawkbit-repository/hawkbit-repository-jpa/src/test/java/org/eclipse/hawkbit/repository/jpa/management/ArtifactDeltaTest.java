@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.awaitility.Awaitility;
+import org.eclipse.hawkbit.artifact.ArtifactStorage;
+import org.eclipse.hawkbit.artifact.delta.BinaryDelta;
+import org.eclipse.hawkbit.artifact.model.ArtifactStream;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.model.JpaArtifactDelta;
+import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModule;
+import org.eclipse.hawkbit.repository.jpa.repository.ArtifactDeltaRepository;
+import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.ArtifactDelta;
+import org.eclipse.hawkbit.repository.model.ArtifactUpload;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Feature: Component Tests - Repository<br/>
+ * Story: Artifact Deltas
+ */
+@TestPropertySource(locations = "classpath:/jpa-test.properties", properties = {
+        "hawkbit.server.repository.artifact-delta-enabled=true" })
+class ArtifactDeltaTest extends AbstractJpaIntegrationTest {
+
+    private static final String FILENAME = "firmware.bin";
+
+    @Autowired
+    private ArtifactDeltaRepository artifactDeltaRepository;
+    @Autowired
+    private ArtifactStorage artifactStorage;
+
+    /**
+     * Verifies that the delta of an artifact against the previous version of the module is generated, offered to a target which has
+     * the previous version installed and reconstructs the artifact when applied to the base.
+     */
+    @Test
+    void deltaIsGeneratedAndOfferedForInstalledPreviousVersion() throws IOException {
+        final byte[] content1 = randomBytes(256 * 1024);
+        final byte[] content2 = content1.clone();
+        System.arraycopy(randomBytes(1024), 0, content2, 100_000, 1024);
+
+        final JpaSoftwareModule sm1 = softwareModuleRepository.save(new JpaSoftwareModule(osType, "firmware", "1.0"));
+        final Artifact base = createArtifact(sm1.getId(), content1);
+        final JpaSoftwareModule sm2 = softwareModuleRepository.save(new JpaSoftwareModule(osType, "firmware", "2.0"));
+        final Artifact artifact = createArtifact(sm2.getId(), content2);
+
+        final JpaArtifactDelta delta = awaitDelta(artifact);
+        assertThat(delta.getBaseSha1Hash()).isEqualTo(base.getSha1Hash());
+        assertThat(delta.getSize()).isLessThan(content2.length / 10);
+
+        // not applicable as long as the previous version is not installed
+        final Target target = testdataFactory.createTarget();
+        assertThat(artifactManagement.findDeltasForTarget(target.getId(), List.of(sm2.getId()))).isEmpty();
+
+        final DistributionSet ds1 = testdataFactory.createDistributionSet(List.of(softwareModuleManagement.get(sm1.getId())));
+        finishAction(getFirstAssignedAction(assignDistributionSet(ds1, target)));
+        final Map<Long, ArtifactDelta> deltas = artifactManagement.findDeltasForTarget(target.getId(), List.of(sm2.getId()));
+        assertThat(deltas).containsOnlyKeys(artifact.getId());
+        assertThat(deltas.get(artifact.getId()).getSha1Hash()).isEqualTo(delta.getSha1Hash());
+        // loaded at once only for the targets which have the previous version installed
+        final Target otherTarget = testdataFactory.createTarget("otherTarget");
+        assertThat(artifactManagement.findDeltasForTargets(List.of(target.getId(), otherTarget.getId()), List.of(sm2.getId())))
+                .containsOnlyKeys(target.getId());
+
+        final ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (final ArtifactStream deltaStream = artifactManagement.getDeltaStream(artifact.getId(), base.getSha1Hash())) {
+            BinaryDelta.apply(ByteBuffer.wrap(content1), deltaStream, result);
+        }
+        assertThat(result.toByteArray()).isEqualTo(content2);
+    }
+
+    /**
+     * Verifies that the delta and its binary are deleted with the artifact.
+     */
+    @Test
+    void deltaIsDeletedWithArtifact() throws IOException {
+        final byte[] content1 = randomBytes(64 * 1024);
+        final byte[] content2 = content1.clone();
+        content2[1000]++;
+
+        final JpaSoftwareModule sm1 = softwareModuleRepository.save(new JpaSoftwareModule(osType, "firmware", "1.0"));
+        createArtifact(sm1.getId(), content1);
+        final JpaSoftwareModule sm2 = softwareModuleRepository.save(new JpaSoftwareModule(osType, "firmware", "2.0"));
+        final Artifact artifact = createArtifact(sm2.getId(), content2);
+        final String deltaSha1Hash = awaitDelta(artifact).getSha1Hash();
+        assertThat(artifactStorage.existsBySha1(tenantAware.getCurrentTenant(), deltaSha1Hash)).isTrue();
+
+        artifactManagement.delete(artifact.getId());
+
+        assertThat(artifactDeltaRepository.findSha1HashByArtifactIdIn(List.of(artifact.getId()))).isEmpty();
+        assertThat(artifactStorage.existsBySha1(tenantAware.getCurrentTenant(), deltaSha1Hash)).isFalse();
+    }
+
+    private Artifact createArtifact(final long moduleId, final byte[] content) throws IOException {
+        try (final InputStream inputStream = new ByteArrayInputStream(content)) {
+            return artifactManagement.create(new ArtifactUpload(inputStream, null, content.length, null, moduleId, FILENAME, false));
+        }
+    }
+
+    private JpaArtifactDelta awaitDelta(final Artifact artifact) {
+        // the tenant context is bound to the test thread
+        Awaitility.await().pollInSameThread().atMost(Duration.ofSeconds(10))
+                .until(() -> !artifactDeltaRepository.findSha1HashByArtifactIdIn(List.of(artifact.getId())).isEmpty());
+        return artifactDeltaRepository.findAll().stream()
+                .filter(delta -> delta.getArtifact().getId().equals(artifact.getId()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.eclipse.hawkbit.repository.exception.AssignmentQuotaExceededException;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.ActionStatusCreate;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Feature: Component Tests - Repository<br/>
+ * Story: Controller Management
+ */
+@TestPropertySource(locations = "classpath:/jpa-test.properties", properties = {
+        "hawkbit.server.repository.action-status-batch-enabled=true",
+        "hawkbit.server.repository.action-status-batch-size=10" })
+class BatchedControllerManagementTest extends AbstractJpaIntegrationTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Verifies that the statuses concurrently reported for multiple actions are persisted in shared batches. The order of multiple
+     * waiting statuses of an action is verified by {@link ActionStatusBatcherTest}.
+     */
+    @Test
+    void concurrentlyReportedStatusesArePersisted() throws Exception {
+        final DistributionSet ds = testdataFactory.createDistributionSet();
+        final List<Long> actionIds = assignDistributionSet(ds, testdataFactory.createTargets(20)).getAssignedEntity().stream()
+                .map(Action::getId)
+                .toList();
+
+        final List<Future<Action>> results = actionIds.stream()
+                .map(actionId -> submit(() -> {
+                    addUpdateActionStatusBatched(actionId, Status.RUNNING);
+                    addUpdateActionStatusBatched(actionId, Status.DOWNLOADED);
+                    return addUpdateActionStatusBatched(actionId, Status.FINISHED);
+                }))
+                .toList();
+        for (final Future<Action> result : results) {
+            assertThat(result.get().getStatus()).isEqualTo(Status.FINISHED);
+        }
+
+        for (final Long actionId : actionIds) {
+            final Action action = deploymentManagement.findAction(actionId).orElseThrow();
+            assertThat(action.isActive()).isFalse();
+            assertThat(action.getStatus()).isEqualTo(Status.FINISHED);
+            assertThat(action.getTarget().getUpdateStatus()).isEqualTo(TargetUpdateStatus.IN_SYNC);
+            // the assignment status and the three reported ones
+            assertThat(deploymentManagement.findActionStatusByAction(actionId, PAGE).getTotalElements()).isEqualTo(4);
+        }
+    }
+
+    /**
+     * Verifies that a status which could not be persisted fails only itself and not the other statuses of its batch.
+     */
+    @Test
+    void failingStatusDoesNotAffectOtherStatuses() throws Exception {
+        final DistributionSet ds = testdataFactory.createDistributionSet();
+        final List<Long> actionIds = assignDistributionSet(ds, testdataFactory.createTargets(2)).getAssignedEntity().stream()
+                .map(Action::getId)
+                .toList();
+        final Long fullActionId = actionIds.get(0);
+        final Long actionId = actionIds.get(1);
+        // any distribution set assignment causes 1 status entity to be created
+        for (int i = 1; i < quotaManagement.getMaxStatusEntriesPerAction(); i++) {
+            addUpdateActionStatusBatched(fullActionId, Status.RUNNING);
+        }
+
+        final Future<Action> failing = submit(() -> addUpdateActionStatusBatched(fullActionId, Status.RUNNING));
+        final Future<Action> succeeding = submit(() -> addUpdateActionStatusBatched(actionId, Status.FINISHED));
+
+        assertThatExceptionOfType(ExecutionException.class)
+                .isThrownBy(failing::get)
+                .withCauseInstanceOf(AssignmentQuotaExceededException.class);
+        assertThat(succeeding.get().getStatus()).isEqualTo(Status.FINISHED);
+        assertThat(deploymentManagement.findAction(actionId).orElseThrow().isActive()).isFalse();
+    }
+
+    private Action addUpdateActionStatusBatched(final Long actionId, final Status status) {
+        return controllerManagement.addUpdateActionStatusBatched(ActionStatusCreate.builder().actionId(actionId).status(status).build());
+    }
+
+    // runs in the security context of the test
+    private <T> Future<T> submit(final Callable<T> callable) {
+        final SecurityContext securityContext = SecurityContextHolder.getContext();
+        return executor.submit(() -> {
+            SecurityContextHolder.setContext(securityContext);
+            try {
+                return callable.call();
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        });
+    }
+}
@@ -30,6 +30,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.IntConsumer;
 import java.util.stream.IntStream;
 
@@ -38,6 +42,7 @@ import jakarta.validation.ConstraintViolationException;
 import org.assertj.core.api.Assertions;
 import org.eclipse.hawkbit.im.authentication.SpPermission;
 import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.TargetManagement.Update;
 import org.eclipse.hawkbit.repository.TargetTypeManagement;
 import org.eclipse.hawkbit.repository.UpdateMode;
 import org.eclipse.hawkbit.repository.event.remote.CancelTargetAssignmentEvent;
@@ -75,16 +80,21 @@ import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.DistributionSetAssignmentResult;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetRegistration;
 import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.eclipse.hawkbit.repository.test.matcher.Expect;
 import org.eclipse.hawkbit.repository.test.matcher.ExpectEvents;
 import org.eclipse.hawkbit.repository.test.util.SecurityContextSwitch;
 import org.eclipse.hawkbit.repository.test.util.TargetTestData;
 import org.eclipse.hawkbit.repository.test.util.WithUser;
+import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.AopTestUtils;
 
 /**
  * Feature: Component Tests - Repository<br/>
@@ -695,6 +705,99 @@ class ControllerManagementTest extends AbstractJpaIntegrationTest {
         assertThat(targetRepository.count()).as("Only 1 target should be registered").isEqualTo(1L);
     }
 
+    /**
+     * Register multiple controllers at once - the not existing ones are created and the existing ones are updated
+     */
+    @Test
+    @WithUser(principal = "controller", authorities = { CONTROLLER_ROLE })
+    @ExpectEvents({
+            @Expect(type = TargetTypeCreatedEvent.class, count = 1),
+            @Expect(type = TargetCreatedEvent.class, count = 3),
+            @Expect(type = TargetPollEvent.class, count = 4),
+            @Expect(type = TargetUpdatedEvent.class, count = 1) })
+    void registerOrUpdate() {
+        createTargetType("knownTargetTypeName");
+        final Target existing = controllerManagement.findOrRegisterTargetIfItDoesNotExist("AA", LOCALHOST);
+
+        final List<Target> registered = controllerManagement.registerOrUpdate(List.of(
+                new TargetRegistration("AA", LOCALHOST, "ChangedTestName", null),
+                new TargetRegistration("BB", LOCALHOST, null, "knownTargetTypeName"),
+                new TargetRegistration("CC", LOCALHOST),
+                new TargetRegistration("BB", LOCALHOST, null, "knownTargetTypeName")));
+
+        assertThat(registered).extracting(Target::getControllerId).containsExactly("AA", "BB", "CC", "BB");
+        assertThat(registered.get(0).getId()).as("Existing target should be updated").isEqualTo(existing.getId());
+        assertThat(registered.get(0).getName()).as("Target name should be changed").isEqualTo("ChangedTestName");
+        assertThat(registered.get(1).getTargetType().getName()).as("Target type should be set").isEqualTo("knownTargetTypeName");
+        assertThat(registered.get(2).getName()).as("Target name should be the controller id").isEqualTo("CC");
+        assertThat(targetRepository.count()).as("Only 3 targets should be registered").isEqualTo(3L);
+    }
+
+    /**
+     * Verifies that concurrent registrations of the same (new) controller don't fail but register a single target - the registration
+     * which clashes on the unique controller id is retried and finds the concurrently registered target.
+     */
+    @Test
+    @WithUser(principal = "controller", authorities = { CONTROLLER_ROLE })
+    void concurrentRegistrationsOfSameControllerRegisterSingleTarget() throws Exception {
+        final SecurityContext securityContext = SecurityContextHolder.getContext();
+        final int threads = 4;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int round = 0; round < 5; round++) {
+                final String controllerId = "concurrent" + round;
+                final CyclicBarrier barrier = new CyclicBarrier(threads);
+                final List<Future<List<Target>>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    results.add(executor.submit(() -> {
+                        SecurityContextHolder.setContext(securityContext);
+                        try {
+                            barrier.await();
+                            return controllerManagement.registerOrUpdate(List.of(new TargetRegistration(controllerId, LOCALHOST)));
+                        } finally {
+                            SecurityContextHolder.clearContext();
+                        }
+                    }));
+                }
+
+                final List<Long> targetIds = new ArrayList<>();
+                for (final Future<List<Target>> result : results) {
+                    targetIds.add(result.get().get(0).getId());
+                }
+                assertThat(targetIds).containsOnly(controllerManagement.findByControllerId(controllerId).orElseThrow().getId());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(targetRepository.count()).isEqualTo(5L);
+    }
+
+    /**
+     * Verifies that the polling time overrides are matched by the compiled polling time, which is compiled once per configuration
+     * value, and that a changed polling time configuration or a changed target is applied on the next poll.
+     */
+    @Test
+    void pollingTimeOverridesAreMatchedFromCompiledPollingTime() {
+        final JpaControllerManagement jpaControllerManagement = AopTestUtils.getTargetObject(controllerManagement);
+        final Target target = testdataFactory.createTarget("pollingTimeOverride");
+        tenantConfigurationManagement.addOrUpdateConfiguration(
+                TenantConfigurationKey.POLLING_TIME, "00:02:00, name == 'special' -> 00:01:00");
+
+        assertThat(controllerManagement.getPollingTime(target)).isEqualTo("00:02:00");
+        final CompiledPollingTime compiled = jpaControllerManagement.getCompiledPollingTime();
+        assertThat(jpaControllerManagement.getCompiledPollingTime()).as("Compiled once").isSameAs(compiled);
+
+        final Target renamed = targetManagement.update(Update.builder().id(target.getId()).name("special").build());
+        assertThat(controllerManagement.getPollingTime(renamed)).isEqualTo("00:01:00");
+        assertThat(jpaControllerManagement.getCompiledPollingTime()).as("Not compiled again").isSameAs(compiled);
+
+        tenantConfigurationManagement.addOrUpdateConfiguration(
+                TenantConfigurationKey.POLLING_TIME, "00:03:00, name == 'special' -> 00:00:30");
+        assertThat(controllerManagement.getPollingTime(renamed)).isEqualTo("00:00:30");
+        assertThat(controllerManagement.getPollingTime(testdataFactory.createTarget("pollingTimeDefault"))).isEqualTo("00:03:00");
+        assertThat(jpaControllerManagement.getCompiledPollingTime()).as("Compiled again").isNotSameAs(compiled);
+    }
+
     /**
      * Register a controller with name which does not exist and update its name
      */
@@ -2059,6 +2059,58 @@ class RolloutManagementTest extends AbstractJpaIntegrationTest {
                 .allMatch(action -> action.getWeight().get() == weight);
     }
 
+    /**
+     * Verifies that the (bulk created) scheduled actions of a rollout have the same state as the actions created one by one.
+     */
+    @Test
+    void scheduledActionsAreCreatedLikeAssignedActions() {
+        final int amountOfTargets = 4;
+        final Rollout rollout = testdataFactory.createSimpleTestRolloutWithTargetsAndDistributionSet(
+                amountOfTargets, 1, 2, "80", "50");
+        final Action assignedAction = getFirstAssignedAction(assignDistributionSet(
+                rollout.getDistributionSet().getId(), testdataFactory.createTarget("assigned").getControllerId()));
+
+        rolloutManagement.start(rollout.getId());
+        rolloutHandler.handleAll();
+
+        final List<JpaAction> actions = actionRepository.findAll().stream()
+                .filter(action -> action.getRollout() != null && action.getRollout().getId().equals(rollout.getId()))
+                .toList();
+        assertThat(actions).hasSize(amountOfTargets).allSatisfy(action -> {
+            assertThat(action.getTenant()).isEqualTo(((JpaAction) assignedAction).getTenant());
+            assertThat(action.getCreatedBy()).isEqualTo(assignedAction.getCreatedBy());
+            assertThat(action.getOptLockRevision()).isGreaterThanOrEqualTo(assignedAction.getOptLockRevision());
+            assertThat(action.getInitiatedBy()).isEqualTo(rollout.getCreatedBy());
+            assertThat(action.getDistributionSet().getId()).isEqualTo(rollout.getDistributionSet().getId());
+            assertThat(action.getActionType()).isEqualTo(rollout.getActionType());
+            assertThat(action.getRolloutGroup()).isNotNull();
+        });
+        // the first group is started, the second one is scheduled
+        assertThat(actions).filteredOn(Action::isActive).hasSize(amountOfTargets / 2).allMatch(action -> action.getStatus() == Status.RUNNING);
+        assertThat(actions).filteredOn(action -> !action.isActive()).hasSize(amountOfTargets / 2)
+                .allMatch(action -> action.getStatus() == Status.SCHEDULED && action.getOptLockRevision() == assignedAction.getOptLockRevision());
+    }
+
+    /**
+     * Verifies that the rollout group conditions are evaluated with the current action status counts, even if the counts of the
+     * group have already been loaded by a previous evaluation.
+     */
+    @Test
+    void groupConditionsAreEvaluatedWithCurrentActionStatusCounts() {
+        final Rollout rollout = testdataFactory.createSimpleTestRolloutWithTargetsAndDistributionSet(4, 0, 2, "50", "80");
+        rolloutManagement.start(rollout.getId());
+        rolloutHandler.handleAll();
+        final List<JpaAction> running = assertAndGetRunning(rollout, 2).getContent();
+
+        // evaluates (and loads the counts of) the first group without any finished action
+        rolloutHandler.handleAll();
+        assertAndGetRunning(rollout, 2);
+
+        finishAction(running.get(0));
+        rolloutHandler.handleAll();
+        assertAndGetRunning(rollout, 3);
+    }
+
     /**
      * Rollout can be created without weight in single assignment and be started in multi assignment
      */
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Feature: Unit Tests - Repository<br/>
+ * Story: Target poll coalescing
+ */
+class TargetPollCoalescerTest {
+
+    /**
+     * Verifies that polls of the same target are coalesced and only the latest poll time is flushed.
+     */
+    @Test
+    void keepsOnlyLatestPollPerTarget() {
+        final Map<String, Map<String, Long>> flushed = new ConcurrentHashMap<>();
+        final TargetPollCoalescer coalescer = new TargetPollCoalescer(4, 100, 1,
+                (tenant, polls) -> flushed.computeIfAbsent(tenant, k -> new ConcurrentHashMap<>()).putAll(polls), Optional.empty());
+
+        assertThat(coalescer.offer("t1", "c1", 10)).isTrue();
+        assertThat(coalescer.offer("t1", "c1", 30)).isTrue();
+        assertThat(coalescer.offer("t1", "c1", 20)).isTrue();
+        assertThat(coalescer.offer("t2", "c1", 5)).isTrue();
+        assertThat(coalescer.pending()).isEqualTo(2);
+
+        coalescer.flush();
+        Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> coalescer.pending() == 0 && flushed.size() == 2);
+        assertThat(flushed).isEqualTo(Map.of("t1", Map.of("c1", 30L), "t2", Map.of("c1", 5L)));
+        coalescer.shutdown();
+    }
+
+    /**
+     * Verifies that polls of new targets are dropped (and counted) when the buffer is full, while already buffered ones are
+     * still coalesced.
+     */
+    @Test
+    void dropsPollsWhenFull() {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // the flusher never gets anything as the buffer is not flushed
+        final TargetPollCoalescer coalescer = new TargetPollCoalescer(1, 2, 1, (tenant, polls) -> {}, Optional.of(meterRegistry));
+        coalescer.shutdown();
+
+        assertThat(coalescer.offer("t", "c1", 1)).isTrue();
+        assertThat(coalescer.offer("t", "c2", 1)).isTrue();
+        assertThat(coalescer.offer("t", "c3", 1)).isFalse();
+        assertThat(coalescer.offer("t", "c1", 2)).isTrue();
+
+        assertThat(meterRegistry.counter("hawkbit.controller.poll.dropped").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("hawkbit.controller.poll.coalesced").count()).isEqualTo(1);
+        assertThat(meterRegistry.get("hawkbit.controller.poll.pending").gauge().value()).isEqualTo(2);
+    }
+}
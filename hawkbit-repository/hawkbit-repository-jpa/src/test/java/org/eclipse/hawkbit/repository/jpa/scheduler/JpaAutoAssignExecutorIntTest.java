@@ -22,6 +22,7 @@ import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.DistributionSetManagement;
 import org.eclipse.hawkbit.repository.TargetFilterQueryManagement.AutoAssignDistributionSetUpdate;
 import org.eclipse.hawkbit.repository.TargetFilterQueryManagement.Create;
+import org.eclipse.hawkbit.repository.TargetFilterQueryManagement.Update;
 import org.eclipse.hawkbit.repository.exception.IncompleteDistributionSetException;
 import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
 import org.eclipse.hawkbit.repository.model.Action;
@@ -32,6 +33,7 @@ import org.eclipse.hawkbit.repository.model.DistributionSetAssignmentResult;
 import org.eclipse.hawkbit.repository.model.DistributionSetType;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetFilterQuery;
+import org.eclipse.hawkbit.repository.model.TargetTag;
 import org.eclipse.hawkbit.repository.model.TargetType;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.junit.jupiter.api.Test;
@@ -184,6 +186,42 @@ class JpaAutoAssignExecutorIntTest extends AbstractJpaIntegrationTest {
         verifyThatTargetsNotHaveDistributionSetAssignment(targets.subList(1, 25));
     }
 
+    /**
+     * Verifies that on a single device check only the filters matching the device assign their DS, including filters on relations of
+     * the device, and that a changed filter is matched with its new query.
+     */
+    @Test
+    void checkAutoAssignmentForDeviceMatchesFiltersOfDevice() {
+        final DistributionSet matchingDs = testdataFactory.createDistributionSet("matching");
+        final DistributionSet notMatchingDs = testdataFactory.createDistributionSet("notMatching");
+        final DistributionSet tagDs = testdataFactory.createDistributionSet("tag");
+        final List<Target> targets = testdataFactory.createTargets(2, "device");
+        final Target target = targets.get(0);
+        final TargetTag tag = testdataFactory.createTargetTags(1, "deviceTag").get(0);
+        assignTag(List.of(target), tag);
+
+        targetFilterQueryManagement.create(Create.builder()
+                .name("matching").query("controllerid==" + target.getControllerId()).autoAssignDistributionSet(matchingDs).build());
+        final TargetFilterQuery notMatching = targetFilterQueryManagement.create(Create.builder()
+                .name("notMatching").query("controllerid==" + targets.get(1).getControllerId())
+                .autoAssignDistributionSet(notMatchingDs).build());
+        targetFilterQueryManagement.create(Create.builder()
+                .name("tag").query("tag==" + tag.getName()).autoAssignDistributionSet(tagDs).build());
+
+        autoAssignChecker.checkSingleTarget(target.getControllerId());
+        assertThat(deploymentManagement.findActionsByTarget(target.getControllerId(), PAGE).getContent())
+                .extracting(action -> action.getDistributionSet().getId())
+                .containsExactlyInAnyOrder(matchingDs.getId(), tagDs.getId());
+
+        targetFilterQueryManagement.update(
+                Update.builder().id(notMatching.getId()).query("controllerid==" + target.getControllerId()).build());
+        autoAssignChecker.checkSingleTarget(target.getControllerId());
+        assertThat(deploymentManagement.findActionsByTarget(target.getControllerId(), PAGE).getContent())
+                .extracting(action -> action.getDistributionSet().getId())
+                .containsExactlyInAnyOrder(matchingDs.getId(), tagDs.getId(), notMatchingDs.getId());
+        assertThat(deploymentManagement.findActionsByTarget(targets.get(1).getControllerId(), PAGE).getContent()).isEmpty();
+    }
+
     /**
      * Test auto assignment of a DS to filtered targets with different confirmation options
      */
@@ -416,6 +454,37 @@ class JpaAutoAssignExecutorIntTest extends AbstractJpaIntegrationTest {
         assertThat(actionTargets).containsExactlyInAnyOrderElementsOf(compatibleTargets);
     }
 
+    /**
+     * Verifies that the subsequent (incremental) checks assign the newly created targets and that a change of the target filter query
+     * results in a full check, assigning also the targets which became compatible without being modified.
+     */
+    @Test
+    void subsequentChecksAssignNewTargetsAndFilterChangeResultsInFullCheck() {
+        final DistributionSet testDs = testdataFactory.createDistributionSet();
+        final TargetFilterQuery testFilter = targetFilterQueryManagement.create(
+                Create.builder().name("hwm-filter").query("name==*").autoAssignDistributionSet(testDs).build());
+        final TargetType targetType = testdataFactory.createTargetType("hwmType", Set.of());
+        final List<Target> typedTargets = testdataFactory.createTargetsWithType(2, "hwmTyped", targetType);
+
+        autoAssignChecker.checkAllTargets();
+        assertThat(deploymentManagement.findActionsAll(Pageable.unpaged())).isEmpty();
+
+        final Target newTarget = testdataFactory.createTarget("hwmNew");
+        autoAssignChecker.checkAllTargets();
+        assertThat(deploymentManagement.findActionsAll(Pageable.unpaged()).getContent())
+                .extracting(action -> action.getTarget().getId()).containsExactly(newTarget.getId());
+
+        // makes the targets compatible without modifying them
+        targetTypeManagement.assignCompatibleDistributionSetTypes(targetType.getId(), Set.of(testDs.getType().getId()));
+
+        // the filter is changed - full check
+        targetFilterQueryManagement.update(Update.builder().id(testFilter.getId()).name("hwm-filter-changed").build());
+        autoAssignChecker.checkAllTargets();
+        assertThat(deploymentManagement.findActionsAll(Pageable.unpaged()).getContent())
+                .extracting(action -> action.getTarget().getId())
+                .containsExactlyInAnyOrder(newTarget.getId(), typedTargets.get(0).getId(), typedTargets.get(1).getId());
+    }
+
     private static Stream<Arguments> confirmationOptions() {
         return Stream.of( //
                 Arguments.of(true, true, Status.WAIT_FOR_CONFIRMATION), //
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.eclipse.hawkbit.repository.RolloutExecutor;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.management.JpaRolloutManagement;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.Rollout.RolloutStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Test class for {@link JpaRolloutHandler}.
+ * <p/>
+ * Feature: Component Tests - Repository<br/>
+ * Story: Rollout handler
+ */
+@SuppressWarnings("java:S6813") // constructor injects are not possible for test classes
+class JpaRolloutHandlerTest extends AbstractJpaIntegrationTest {
+
+    @Autowired
+    private RolloutExecutor rolloutExecutor;
+    @Autowired
+    private LockRegistry lockRegistry;
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    /**
+     * Verifies that the rollouts are handled in parallel and that a rollout claimed by another node is skipped until it is released.
+     */
+    @Test
+    void claimedRolloutIsSkipped() throws Exception {
+        testdataFactory.createTargets("handler-", 0, 4);
+        final DistributionSet ds = testdataFactory.createDistributionSet();
+        final Rollout claimed = testdataFactory.createRolloutByVariables(
+                "claimed", "claimed rollout", 2, "controllerid==handler-*", ds, "50", "80");
+        final Rollout free = testdataFactory.createRolloutByVariables(
+                "free", "free rollout", 2, "controllerid==handler-*", ds, "50", "80");
+        rolloutManagement.start(claimed.getId());
+        rolloutManagement.start(free.getId());
+
+        final JpaRolloutHandler handler = new JpaRolloutHandler(
+                tenantAware, rolloutManagement, rolloutExecutor, lockRegistry, txManager, Optional.empty(), 4);
+        final Lock lock = lockRegistry.obtain(JpaRolloutManagement.createRolloutLockKey(tenantAware.getCurrentTenant(), claimed.getId()));
+        final ExecutorService otherNode = Executors.newSingleThreadExecutor();
+        final CountDownLatch locked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            final Future<?> claim = otherNode.submit(() -> {
+                lock.lock();
+                try {
+                    locked.countDown();
+                    release.await();
+                } finally {
+                    lock.unlock();
+                }
+                return null;
+            });
+            assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+            handler.handleAll();
+            assertThat(rolloutManagement.get(claimed.getId()).getStatus()).isEqualTo(RolloutStatus.STARTING);
+            assertThat(rolloutManagement.get(free.getId()).getStatus()).isEqualTo(RolloutStatus.RUNNING);
+
+            release.countDown();
+            claim.get(10, TimeUnit.SECONDS);
+
+            handler.handleAll();
+            assertThat(rolloutManagement.get(claimed.getId()).getStatus()).isEqualTo(RolloutStatus.RUNNING);
+        } finally {
+            release.countDown();
+            otherNode.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.awaitility.Awaitility;
+import org.eclipse.hawkbit.repository.RolloutHandler;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for {@link RolloutTrigger}.
+ * <p/>
+ * Feature: Component Tests - Repository<br/>
+ * Story: Rollout trigger
+ */
+class RolloutTriggerTest extends AbstractJpaIntegrationTest {
+
+    /**
+     * Verifies that the triggers of a rollout are coalesced into a single handling which starts the next group as soon as the success
+     * threshold is reached.
+     */
+    @Test
+    void triggersAreCoalescedIntoOneHandling() {
+        final Rollout rollout = testdataFactory.createSimpleTestRolloutWithTargetsAndDistributionSet(4, 0, 2, "50", "80");
+        rolloutManagement.start(rollout.getId());
+        rolloutHandler.handleAll();
+        final List<JpaAction> running = assertAndGetRunning(rollout, 2).getContent();
+        finishAction(running.get(0));
+
+        final AtomicInteger handled = new AtomicInteger();
+        final RolloutHandler countingHandler = new RolloutHandler() {
+
+            @Override
+            public void handleAll() {
+                rolloutHandler.handleAll();
+            }
+
+            @Override
+            public void handle(final long rolloutId) {
+                rolloutHandler.handle(rolloutId);
+                handled.incrementAndGet();
+            }
+        };
+        final ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
+        try {
+            final RolloutTrigger trigger = new RolloutTrigger(countingHandler, systemSecurityContext, executorService, 1, 200, Optional.empty());
+            for (int i = 0; i < 10; i++) {
+                trigger.trigger(tenantAware.getCurrentTenant(), rollout.getId());
+            }
+
+            Awaitility.await().atMost(Duration.ofSeconds(10)).until(() -> handled.get() > 0);
+            assertAndGetRunning(rollout, 3);
+            assertThat(handled.get()).isEqualTo(1);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
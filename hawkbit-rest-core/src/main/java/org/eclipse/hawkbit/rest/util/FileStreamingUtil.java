@@ -12,11 +12,15 @@ package org.eclipse.hawkbit.rest.util;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 
 import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
@@ -25,8 +29,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.io.IOUtils;
 import org.eclipse.hawkbit.artifact.model.ArtifactStream;
+import org.eclipse.hawkbit.artifact.model.FileChannelInputStream;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -40,6 +44,14 @@ import org.springframework.http.ResponseEntity;
 public final class FileStreamingUtil {
 
     private static final int BUFFER_SIZE = 0x2000; // 8k
+    // chunk size of the transfers of file backed artifacts - progress is reported (and could be throttled) at that granularity
+    private static final int CHANNEL_CHUNK_SIZE = 0x10000; // 64k
+
+    // container (e.g. tomcat) sendfile support - the container sends the file (zero-copy) after the request processing
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
 
     /**
      * <p>
@@ -49,6 +61,11 @@ public final class FileStreamingUtil {
      * <p>
      * The request supports RFC7233 range requests.
      * </p>
+     * <p>
+     * If the artifact is backed by a local file, full and single range requests are served by the container via sendfile (zero-copy,
+     * if supported and no progress listener is set), otherwise they are transferred from the file channel in chunks, without
+     * reading the file as stream (e.g. skipping to the range start).
+     * </p>
      *
      * @param artifact the artifact
      * @param filename to be written to the client response
@@ -116,10 +133,10 @@ public final class FileStreamingUtil {
             // full request - no range
             if (ranges.isEmpty() || ranges.get(0).equals(full)) {
                 log.debug("filename ({}) results into a full request: ", filename);
-                result = handleFullFileRequest(inputStream, filename, response, progressListener, full);
+                result = handleFullFileRequest(artifact, filename, request, response, progressListener, full);
             } else if (ranges.size() == 1) { // standard range request
                 log.debug("filename ({}) results into a standard range request: ", filename);
-                result = handleStandardRangeRequest(inputStream, filename, response, progressListener, ranges.get(0));
+                result = handleStandardRangeRequest(artifact, filename, request, response, progressListener, ranges.get(0));
             } else { // multipart range request
                 log.debug("filename ({}) results into a multipart range request: ", filename);
                 result = handleMultipartRangeRequest(inputStream, filename, response, progressListener, ranges);
@@ -146,14 +163,13 @@ public final class FileStreamingUtil {
     }
 
     private static ResponseEntity<InputStream> handleFullFileRequest(
-            final InputStream inputStream, final String filename, final HttpServletResponse response,
+            final ArtifactStream artifact, final String filename, final HttpServletRequest request, final HttpServletResponse response,
             final FileStreamingProgressListener progressListener, final ByteRange full) {
         response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + full.getStart() + "-" + full.getEnd() + "/" + full.getTotal());
         response.setContentLengthLong(full.getLength());
 
         try {
-            final ServletOutputStream to = response.getOutputStream();
-            copyStreams(inputStream, to, progressListener, full.getStart(), full.getLength(), filename);
+            writeRange(artifact, filename, request, response, progressListener, full);
         } catch (final IOException e) {
             throw new FileStreamingFailedException("fullfileRequest " + filename, e);
         }
@@ -249,15 +265,14 @@ public final class FileStreamingUtil {
     }
 
     private static ResponseEntity<InputStream> handleStandardRangeRequest(
-            final InputStream inputStream, final String filename, final HttpServletResponse response,
+            final ArtifactStream artifact, final String filename, final HttpServletRequest request, final HttpServletResponse response,
             final FileStreamingProgressListener progressListener, final ByteRange range) {
         response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range.getStart() + "-" + range.getEnd() + "/" + range.getTotal());
         response.setContentLengthLong(range.getLength());
         response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
 
         try {
-            final ServletOutputStream to = response.getOutputStream();
-            copyStreams(inputStream, to, progressListener, range.getStart(), range.getLength(), filename);
+            writeRange(artifact, filename, request, response, progressListener, range);
         } catch (final IOException e) {
             log.error("standardRangeRequest of file ({}) failed!", filename, e);
             throw new FileStreamingFailedException(filename);
@@ -266,6 +281,73 @@ public final class FileStreamingUtil {
         return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).build();
     }
 
+    private static void writeRange(
+            final ArtifactStream artifact, final String filename, final HttpServletRequest request, final HttpServletResponse response,
+            final FileStreamingProgressListener progressListener, final ByteRange range) throws IOException {
+        final Optional<FileChannelInputStream> fileChannelInputStream = artifact.getFileChannelInputStream();
+        if (fileChannelInputStream.isEmpty()) {
+            copyStreams(artifact, response.getOutputStream(), progressListener, range.getStart(), range.getLength(), filename);
+        } else if (progressListener == null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            // no progress to be tracked - let the container send the file
+            log.trace("Sendfile of file {} from {} to {}", filename, range.getStart(), range.getEnd());
+            request.setAttribute(SENDFILE_FILENAME_ATTR, fileChannelInputStream.get().getPath().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, range.getStart());
+            request.setAttribute(SENDFILE_END_ATTR, range.getEnd() + 1); // exclusive
+        } else {
+            copyChannel(
+                    fileChannelInputStream.get().getChannel(), response.getOutputStream(), progressListener,
+                    range.getStart(), range.getLength(), filename);
+        }
+    }
+
+    private static long copyChannel(
+            final FileChannel from, final OutputStream to,
+            final FileStreamingProgressListener progressListener,
+            final long start, final long length,
+            final String filename) throws IOException {
+        final long startMillis = System.currentTimeMillis();
+        log.trace("Start of copy-channel of file {} from {} to {}", filename, start, length);
+
+        // not closed, since this would close the response output stream
+        final WritableByteChannel toChannel = Channels.newChannel(to);
+        long total = 0;
+        int progressPercent = 1;
+        long shippedSinceLastEvent = 0;
+
+        while (total < length) {
+            // positional transfer - no need to skip to the start
+            final long r = from.transferTo(start + total, Math.min(CHANNEL_CHUNK_SIZE, length - total), toChannel);
+            if (r <= 0) {
+                break;
+            }
+
+            total += r;
+            shippedSinceLastEvent += r;
+
+            if (progressListener != null) {
+                final int newPercent = (int) Math.floor(total * 100.0 / length);
+
+                // every 10 percent an event
+                if (newPercent == 100 || newPercent > progressPercent + 10) {
+                    progressPercent = newPercent;
+                    progressListener.progress(length, shippedSinceLastEvent, total);
+                    shippedSinceLastEvent = 0;
+                }
+            }
+        }
+
+        final long totalTime = System.currentTimeMillis() - startMillis;
+
+        if (total < length) {
+            throw new FileStreamingFailedException(
+                    filename + ": " + (length - total) + " bytes could not be written to client, total time on write: !" + totalTime + " ms");
+        }
+
+        log.trace("Finished copy-channel of file {} with length {} in {} ms", filename, length, totalTime);
+
+        return total;
+    }
+
     private static long copyStreams(
             final InputStream from, final OutputStream to,
             final FileStreamingProgressListener progressListener,
@@ -280,7 +362,8 @@ public final class FileStreamingUtil {
         long total = 0;
         int progressPercent = 1;
 
-        IOUtils.skipFully(from, start);
+        // uses skip of the stream, so streams supporting it (file, cached) don't read the skipped bytes
+        from.skipNBytes(start);
 
         long toRead = length;
         boolean toContinue = true;
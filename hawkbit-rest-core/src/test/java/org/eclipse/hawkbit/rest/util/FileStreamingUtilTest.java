@@ -13,21 +13,28 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.function.Supplier;
 
 import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.eclipse.hawkbit.artifact.model.ArtifactStream;
+import org.eclipse.hawkbit.artifact.model.FileChannelInputStream;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.http.HttpHeaders;
@@ -87,4 +94,66 @@ class FileStreamingUtilTest {
         verify(outputStream, times(0)).print(anyString());
         verify(outputStream, times(0)).write(any(), anyInt(), anyInt());
     }
+
+    @Test
+    void shouldLetContainerSendFileBackedArtifact(@TempDir final Path tempDir) throws IOException {
+        final HttpServletResponse servletResponse = Mockito.mock(HttpServletResponse.class);
+        final ServletOutputStream outputStream = Mockito.mock(ServletOutputStream.class);
+        Mockito.when(servletResponse.getOutputStream()).thenReturn(outputStream);
+        final HttpServletRequest servletRequest = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(servletRequest.getHeader("Range")).thenReturn("bytes=11-15");
+        Mockito.when(servletRequest.getAttribute("org.apache.tomcat.sendfile.support")).thenReturn(Boolean.TRUE);
+        final Path file = Files.write(tempDir.resolve("artifact"), CONTENT_BYTES);
+
+        final ResponseEntity<InputStream> responseEntity = FileStreamingUtil.writeFileResponse(
+                fileArtifact(file), "test.file", System.currentTimeMillis(), servletResponse, servletRequest, null);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        verify(servletResponse).setContentLengthLong(5);
+        verify(servletRequest).setAttribute("org.apache.tomcat.sendfile.filename", file.toAbsolutePath().toString());
+        verify(servletRequest).setAttribute("org.apache.tomcat.sendfile.start", 11L);
+        verify(servletRequest).setAttribute("org.apache.tomcat.sendfile.end", 16L);
+        verify(outputStream, never()).write(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void shouldCopyFileBackedArtifactWithProgress(@TempDir final Path tempDir) throws IOException {
+        final HttpServletResponse servletResponse = Mockito.mock(HttpServletResponse.class);
+        final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        Mockito.when(servletResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(final WriteListener writeListener) {
+                // not needed
+            }
+
+            @Override
+            public void write(final int b) {
+                written.write(b);
+            }
+        });
+        final HttpServletRequest servletRequest = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(servletRequest.getAttribute("org.apache.tomcat.sendfile.support")).thenReturn(Boolean.TRUE);
+        final Path file = Files.write(tempDir.resolve("artifact"), CONTENT_BYTES);
+        final long[] shipped = new long[1];
+
+        final ResponseEntity<InputStream> responseEntity = FileStreamingUtil.writeFileResponse(
+                fileArtifact(file), "test.file", System.currentTimeMillis(), servletResponse, servletRequest,
+                (requestedBytes, shippedBytesSinceLast, shippedBytesOverall) -> shipped[0] = shippedBytesOverall);
+
+        // progress listener is set - so no sendfile
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(servletRequest, never()).setAttribute(anyString(), any());
+        assertThat(written.toByteArray()).isEqualTo(CONTENT_BYTES);
+        assertThat(shipped[0]).isEqualTo(CONTENT_BYTES.length);
+    }
+
+    private static ArtifactStream fileArtifact(final Path file) throws IOException {
+        return new ArtifactStream(new FileChannelInputStream(file), CONTENT_BYTES.length, "sha1-111");
+    }
 }
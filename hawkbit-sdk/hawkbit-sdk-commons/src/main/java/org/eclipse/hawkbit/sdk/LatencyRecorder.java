@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.sdk;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records latency histograms per endpoint (e.g. per method of a hawkBit API), used when simulating device fleets in order to measure the
+ * server under load.
+ * <p/>
+ * The histograms have power of two buckets (in microseconds), so the reported percentiles are upper bounds with up to 2x precision.
+ */
+public class LatencyRecorder {
+
+    private static final int BUCKETS = 40;
+
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Records a call of an endpoint.
+     *
+     * @param endpoint the endpoint
+     * @param nanos the duration of the call, in nanoseconds
+     * @param failed if the call has failed
+     */
+    public void record(final String endpoint, final long nanos, final boolean failed) {
+        histograms.computeIfAbsent(endpoint, k -> new Histogram()).record(nanos, failed);
+    }
+
+    /**
+     * Wraps an API (e.g. a feign client) so that the calls of its methods are recorded with endpoint
+     * <code>&lt;simple type name&gt;.&lt;method name&gt;</code>.
+     *
+     * @param type the API interface
+     * @param delegate the API to call
+     * @param <T> the type of the API
+     * @return the timed API
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T timed(final Class<T> type, final T delegate) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return method.invoke(delegate, args);
+            }
+
+            final long start = System.nanoTime();
+            boolean failed = true;
+            try {
+                final Object result = method.invoke(delegate, args);
+                failed = false;
+                return result;
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
+            } finally {
+                record(type.getSimpleName() + "." + method.getName(), System.nanoTime() - start, failed);
+            }
+        });
+    }
+
+    /**
+     * @return snapshots of the histograms, sorted by endpoint
+     */
+    public Map<String, Snapshot> snapshot() {
+        final Map<String, Snapshot> snapshot = new TreeMap<>();
+        histograms.forEach((endpoint, histogram) -> snapshot.put(endpoint, histogram.snapshot()));
+        return snapshot;
+    }
+
+    /**
+     * Clears all recorded calls.
+     */
+    public void reset() {
+        histograms.clear();
+    }
+
+    /**
+     * @return human-readable report of all endpoints
+     */
+    public String report() {
+        final StringBuilder report = new StringBuilder();
+        snapshot().forEach((endpoint, snapshot) -> report.append(String.format(
+                "%s: count=%d, errors=%d, mean=%.2fms, p50<=%.2fms, p90<=%.2fms, p99<=%.2fms, max=%.2fms%n",
+                endpoint, snapshot.count(), snapshot.errors(), snapshot.meanMillis(),
+                snapshot.p50Millis(), snapshot.p90Millis(), snapshot.p99Millis(), snapshot.maxMillis())));
+        return report.toString();
+    }
+
+    public record Snapshot(long count, long errors, double meanMillis, double p50Millis, double p90Millis, double p99Millis, double maxMillis) {}
+
+    private static class Histogram {
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder sumNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void record(final long nanos, final boolean failed) {
+            final long micros = Math.max(1, TimeUnit.NANOSECONDS.toMicros(nanos));
+            // bucket i contains the durations in (2^(i-1), 2^i] microseconds
+            buckets.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros - 1)));
+            count.increment();
+            if (failed) {
+                errors.increment();
+            }
+            sumNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        private Snapshot snapshot() {
+            final long[] counts = new long[BUCKETS];
+            long total = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            return new Snapshot(
+                    total, errors.sum(), total == 0 ? 0 : toMillis(sumNanos.sum()) / total,
+                    percentile(counts, total, 0.5), percentile(counts, total, 0.9), percentile(counts, total, 0.99),
+                    toMillis(maxNanos.get()));
+        }
+
+        private static double percentile(final long[] counts, final long total, final double percentile) {
+            final long rank = (long) Math.ceil(total * percentile);
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank && seen > 0) {
+                    return (1L << i) / 1000.0; // upper bound of the bucket
+                }
+            }
+            return 0;
+        }
+
+        private static double toMillis(final long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
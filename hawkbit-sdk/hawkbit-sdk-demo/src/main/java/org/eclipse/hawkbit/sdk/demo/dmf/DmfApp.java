@@ -11,6 +11,7 @@ package org.eclipse.hawkbit.sdk.demo.dmf;
 
 import java.util.Optional;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.sdk.Controller;
@@ -56,6 +57,9 @@ public class DmfApp {
 
         private final DmfTenant dmfTenant;
         private final UpdateHandler updateHandler;
+        // shared by all controllers, so many thousands of controllers don't need a thread each
+        private final ScheduledExecutorService executorService =
+                Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors() * 4);
 
         Shell(final DmfTenant dmfTenant, final Optional<UpdateHandler> updateHandler) {
             this.dmfTenant = dmfTenant;
@@ -65,9 +69,9 @@ public class DmfApp {
         @ShellMethod(key = "start-one")
         public void startOne(@ShellOption("--id") final String controllerId) {
             dmfTenant.getController(controllerId).ifPresentOrElse(
-                    dmfController -> dmfController.start(Executors.newSingleThreadScheduledExecutor()),
+                    dmfController -> dmfController.start(executorService, true),
                     () -> dmfTenant.createController(Controller.builder().controllerId(controllerId).build(), updateHandler)
-                            .start(Executors.newSingleThreadScheduledExecutor()));
+                            .start(executorService, true));
         }
 
         @ShellMethod(key = "stop-one")
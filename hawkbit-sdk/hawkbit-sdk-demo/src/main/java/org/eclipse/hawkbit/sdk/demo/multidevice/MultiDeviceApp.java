@@ -9,9 +9,6 @@
  */
 package org.eclipse.hawkbit.sdk.demo.multidevice;
 
-import java.util.Optional;
-import java.util.concurrent.Executors;
-
 import feign.Contract;
 import feign.codec.Decoder;
 import feign.codec.Encoder;
@@ -20,10 +17,10 @@ import org.eclipse.hawkbit.sdk.Controller;
 import org.eclipse.hawkbit.sdk.HawkbitClient;
 import org.eclipse.hawkbit.sdk.HawkbitServer;
 import org.eclipse.hawkbit.sdk.Tenant;
-import org.eclipse.hawkbit.sdk.device.DdiController;
+import org.eclipse.hawkbit.sdk.device.DdiFleet;
 import org.eclipse.hawkbit.sdk.device.DdiTenant;
-import org.eclipse.hawkbit.sdk.device.UpdateHandler;
 import org.eclipse.hawkbit.sdk.mgmt.AuthenticationSetupHelper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
@@ -54,6 +51,26 @@ public class MultiDeviceApp {
         return new DdiTenant(defaultTenant, hawkbitClient);
     }
 
+    // all devices are driven by a single shared executor, so many thousands of devices could be simulated
+    @Bean(destroyMethod = "close")
+    DdiFleet ddiFleet(
+            final DdiTenant ddiTenant,
+            @Value("${hawkbit.fleet.threads:0}") final int threads,
+            @Value("${hawkbit.fleet.poll-millis:10000}") final long pollMillis,
+            @Value("${hawkbit.fleet.poll-jitter:0.1}") final double pollJitter,
+            @Value("${hawkbit.fleet.feedback-latency-millis:0}") final long feedbackLatencyMillis,
+            @Value("${hawkbit.fleet.failure-rate:0}") final double failureRate) {
+        final DdiFleet.Simulation.SimulationBuilder simulation = DdiFleet.Simulation.builder()
+                .pollMillis(pollMillis)
+                .pollJitter(pollJitter)
+                .feedbackLatencyMillis(feedbackLatencyMillis)
+                .failureRate(failureRate);
+        if (threads > 0) {
+            simulation.threads(threads);
+        }
+        return new DdiFleet(ddiTenant, simulation.build());
+    }
+
     @Bean
     AuthenticationSetupHelper mgmtApi(final Tenant defaultTenant, final HawkbitClient hawkbitClient) {
         return new AuthenticationSetupHelper(defaultTenant, hawkbitClient);
@@ -63,15 +80,15 @@ public class MultiDeviceApp {
     public static class Shell {
 
         private final DdiTenant ddiTenant;
+        private final DdiFleet ddiFleet;
         private final AuthenticationSetupHelper mgmtApi;
-        private final UpdateHandler updateHandler;
 
         private boolean setup;
 
-        Shell(final DdiTenant ddiTenant, final AuthenticationSetupHelper mgmtApi, final Optional<UpdateHandler> updateHandler) {
+        Shell(final DdiTenant ddiTenant, final DdiFleet ddiFleet, final AuthenticationSetupHelper mgmtApi) {
             this.ddiTenant = ddiTenant;
+            this.ddiFleet = ddiFleet;
             this.mgmtApi = mgmtApi;
-            this.updateHandler = updateHandler.orElse(null);
         }
 
         @ShellMethod(key = "setup")
@@ -82,6 +99,12 @@ public class MultiDeviceApp {
 
         @ShellMethod(key = "start-one")
         public void startOne(@ShellOption("--id") final String controllerId) {
+            if (ddiTenant.getController(controllerId).isPresent()) {
+                // if already created in this execution of app, just start the poll
+                ddiFleet.start(Controller.builder().controllerId(controllerId).build());
+                return;
+            }
+
             final String securityTargetToken;
             if (setup) {
                 securityTargetToken = mgmtApi.setupTargetSecureToken(controllerId, null);
@@ -89,25 +112,15 @@ public class MultiDeviceApp {
                 securityTargetToken = null;
             }
             // Create device with security token if not yet registered in this execution
-            // if already created in this execution of app, just start the poll
-            // for each new device - separate ThreadScheduler
-            ddiTenant.getController(controllerId).ifPresentOrElse(
-                    ddiController -> ddiController.start(Executors.newSingleThreadScheduledExecutor()),
-                    () -> ddiTenant.createController(Controller.builder()
-                                    .controllerId(controllerId)
-                                    .securityToken(securityTargetToken)
-                                    .build(), updateHandler)
-                            .setOverridePollMillis(10_000)
-                            .start(Executors.newSingleThreadScheduledExecutor())
-            );
+            ddiFleet.start(Controller.builder()
+                    .controllerId(controllerId)
+                    .securityToken(securityTargetToken)
+                    .build());
         }
 
         @ShellMethod(key = "stop-one")
         public void stopOne(@ShellOption("--id") final String controllerId) {
-            ddiTenant.getController(controllerId).ifPresentOrElse(
-                    DdiController::stop,
-                    () -> log.error("Controller with id {} not found!", controllerId));
-
+            ddiFleet.stop(controllerId);
         }
 
         @ShellMethod(key = "start")
@@ -130,6 +143,15 @@ public class MultiDeviceApp {
             }
         }
 
+        @ShellMethod(key = "latency")
+        public String latency(@ShellOption(value = "--reset", defaultValue = "false") final boolean reset) {
+            final String report = ddiFleet.getLatencyRecorder().report();
+            if (reset) {
+                ddiFleet.getLatencyRecorder().reset();
+            }
+            return report;
+        }
+
         private static String toId(final String prefix, final int index) {
             return String.format("%s%03d", prefix, index);
         }
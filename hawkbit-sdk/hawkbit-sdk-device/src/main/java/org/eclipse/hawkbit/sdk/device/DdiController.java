@@ -18,6 +18,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
 import lombok.Getter;
@@ -35,6 +36,7 @@ import org.eclipse.hawkbit.ddi.rest.api.DdiRootControllerRestApi;
 import org.eclipse.hawkbit.sdk.Certificate;
 import org.eclipse.hawkbit.sdk.Controller;
 import org.eclipse.hawkbit.sdk.HawkbitClient;
+import org.eclipse.hawkbit.sdk.LatencyRecorder;
 import org.eclipse.hawkbit.sdk.Tenant;
 import org.springframework.hateoas.Link;
 import org.springframework.http.HttpStatus;
@@ -68,10 +70,19 @@ public class DdiController {
     @Setter
     @Accessors(chain = true)
     private long overridePollMillis = -1; // -1 means disabled
+    // random deviation of the poll interval, e.g. 0.1 means +/- 10%, so the polls of many devices don't come in waves
+    @Setter
+    @Accessors(chain = true)
+    private double pollJitter;
 
     // state
     @SuppressWarnings("java:S3077") // volatile used only for the reference as expected
     private volatile ScheduledExecutorService executorService;
+    // if the executor is shared between many controllers it shall not be shut down on stop
+    private volatile boolean sharedExecutor;
+    // changed on every start / stop, so the polls scheduled before don't continue on a shared executor
+    @SuppressWarnings("java:S3077") // volatile used only for the reference as expected
+    private volatile Object session;
     private volatile Long currentActionId;
 
     private volatile Long lastActionId;
@@ -84,12 +95,27 @@ public class DdiController {
      * @param hawkbitClient a factory for creating to {@link DdiRootControllerRestApi} (and used) for communication to hawkBit
      */
     public DdiController(final Tenant tenant, final Controller controller, final UpdateHandler updateHandler, final HawkbitClient hawkbitClient) {
+        this(tenant, controller, updateHandler, hawkbitClient, null);
+    }
+
+    /**
+     * Creates a new device instance which records the latency of its calls to hawkBit.
+     *
+     * @param tenant the tenant of the device belongs to
+     * @param controller the controller
+     * @param hawkbitClient a factory for creating to {@link DdiRootControllerRestApi} (and used) for communication to hawkBit
+     * @param latencyRecorder recorder of the latencies of the DDI calls, <code>null</code> if they shall not be recorded
+     */
+    public DdiController(
+            final Tenant tenant, final Controller controller, final UpdateHandler updateHandler, final HawkbitClient hawkbitClient,
+            final LatencyRecorder latencyRecorder) {
         this.tenant = tenant;
         this.controller = controller;
         this.targetSecurityToken = controller.getSecurityToken();
         this.certificate = controller.getCertificate();
         this.updateHandler = updateHandler == null ? UpdateHandler.SKIP : updateHandler;
-        ddiApi = hawkbitClient.ddiService(DdiRootControllerRestApi.class, tenant, controller);
+        final DdiRootControllerRestApi api = hawkbitClient.ddiService(DdiRootControllerRestApi.class, tenant, controller);
+        ddiApi = latencyRecorder == null ? api : latencyRecorder.timed(DdiRootControllerRestApi.class, api);
     }
 
     public String getTenantId() {
@@ -100,20 +126,35 @@ public class DdiController {
         return controller.getControllerId();
     }
 
-    // expects single threaded {@link java.util.concurrent.ScheduledExecutorService}
+    // expects single threaded {@link java.util.concurrent.ScheduledExecutorService}, owned by the controller and shut down on stop
     public void start(final ScheduledExecutorService executorService) {
+        start(executorService, false);
+    }
+
+    /**
+     * Starts the polling of the controller.
+     *
+     * @param executorService the executor to run the polling and the updates
+     * @param shared if the executor is shared by many controllers. If so, it is not shut down on {@link #stop()}, so a single executor
+     *         with a few threads could drive a whole fleet of simulated devices.
+     */
+    public void start(final ScheduledExecutorService executorService, final boolean shared) {
         stop();
 
         Objects.requireNonNull(executorService, "Require non null executor!");
         this.executorService = executorService;
-        executorService.submit(this::poll);
+        this.sharedExecutor = shared;
+        final Object pollSession = new Object();
+        session = pollSession;
+        executorService.submit(() -> poll(pollSession));
     }
 
     public void stop() {
-        if (executorService != null) {
+        if (executorService != null && !sharedExecutor) {
             executorService.shutdownNow();
         }
         executorService = null;
+        session = null;
         lastActionId = null;
         currentActionId = null;
     }
@@ -147,7 +188,11 @@ public class DdiController {
         }
     }
 
-    private void poll() {
+    private void poll(final Object pollSession) {
+        if (pollSession != session) {
+            return; // stopped or restarted meanwhile
+        }
+
         log.debug(LOG_PREFIX + " Polling ...", getTenantId(), getControllerId());
         Optional.ofNullable(executorService).ifPresent(executor ->
                 getControllerBase().ifPresentOrElse(
@@ -159,7 +204,7 @@ public class DdiController {
                                         getControllerId(), actionId);
                                 // TODO - confirmation handler
                                 sendConfirmationFeedback(actionId);
-                                executor.schedule(this::poll, IMMEDIATE_MS, TimeUnit.MILLISECONDS);
+                                executor.schedule(() -> poll(pollSession), IMMEDIATE_MS, TimeUnit.MILLISECONDS);
                             } else {
                                 getRequiredLink(controllerBase, DEPLOYMENT_BASE_LINK).flatMap(this::getActionWithDeployment)
                                         .ifPresentOrElse(actionWithDeployment -> {
@@ -191,11 +236,11 @@ public class DdiController {
                                                         getControllerId(), getCurrentActionId());
                                             }
                                         });
-                                executor.schedule(this::poll, getPollMillis(controllerBase), TimeUnit.MILLISECONDS);
+                                executor.schedule(() -> poll(pollSession), jitter(getPollMillis(controllerBase)), TimeUnit.MILLISECONDS);
                             }
                         },
                         () -> // error has occurred or no controller base hasn't been acquired
-                                executor.schedule(this::poll, DEFAULT_POLL_MS, TimeUnit.MILLISECONDS)));
+                                executor.schedule(() -> poll(pollSession), jitter(DEFAULT_POLL_MS), TimeUnit.MILLISECONDS)));
     }
 
     private Optional<DdiControllerBase> getControllerBase() {
@@ -238,6 +283,13 @@ public class DdiController {
         }
     }
 
+    private long jitter(final long pollMillis) {
+        if (pollJitter <= 0) {
+            return pollMillis;
+        }
+        return Math.max(0, Math.round(pollMillis * (1 + pollJitter * ThreadLocalRandom.current().nextDouble(-1, 1))));
+    }
+
     private Optional<Map.Entry<Long, DdiDeploymentBase>> getActionWithDeployment(final Link deploymentBaseLink) {
         final long actionId = getActionId(deploymentBaseLink);
         final ResponseEntity<DdiDeploymentBase> action = getDdiApi()
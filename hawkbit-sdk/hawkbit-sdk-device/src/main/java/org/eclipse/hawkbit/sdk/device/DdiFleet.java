@@ -0,0 +1,151 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.sdk.device;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.ddi.json.model.DdiChunk;
+import org.eclipse.hawkbit.ddi.json.model.DdiDeployment;
+import org.eclipse.hawkbit.sdk.Controller;
+import org.eclipse.hawkbit.sdk.LatencyRecorder;
+import org.eclipse.hawkbit.sdk.spi.ArtifactHandler;
+
+/**
+ * Simulates a fleet of DDI devices for load testing. All devices of the fleet share a single scheduled executor with a few threads
+ * (instead of a thread per device), so a single process could simulate hundreds of thousands of devices. The latencies of the DDI calls
+ * are recorded per endpoint in the {@link #getLatencyRecorder() latency recorder}.
+ * <p/>
+ * The behaviour of the devices is configured by the {@link Simulation}: poll jitter, the latency of the update feedback and the rate of the
+ * failed updates.
+ */
+@Slf4j
+public class DdiFleet implements AutoCloseable {
+
+    private final DdiTenant ddiTenant;
+    private final Simulation simulation;
+    private final UpdateHandler updateHandler;
+    private final ScheduledExecutorService executorService;
+    @Getter
+    private final LatencyRecorder latencyRecorder = new LatencyRecorder();
+
+    public DdiFleet(final DdiTenant ddiTenant, final Simulation simulation) {
+        this.ddiTenant = ddiTenant;
+        this.simulation = simulation;
+        updateHandler = this::getUpdateProcessor;
+        executorService = Executors.newScheduledThreadPool(simulation.getThreads(), threadFactory());
+    }
+
+    /**
+     * Starts a device. If already created it is just started again.
+     *
+     * @param controller the controller of the device
+     * @return the started device
+     */
+    public DdiController start(final Controller controller) {
+        final DdiController ddiController = ddiTenant.getController(controller.getControllerId())
+                .orElseGet(() -> ddiTenant.createController(controller, updateHandler, latencyRecorder)
+                        .setOverridePollMillis(simulation.getPollMillis())
+                        .setPollJitter(simulation.getPollJitter()));
+        ddiController.start(executorService, true);
+        return ddiController;
+    }
+
+    /**
+     * Stops a device.
+     *
+     * @param controllerId the id of the controller of the device
+     */
+    public void stop(final String controllerId) {
+        ddiTenant.getController(controllerId).ifPresentOrElse(
+                DdiController::stop,
+                () -> log.error("Controller with id {} not found!", controllerId));
+    }
+
+    @Override
+    public void close() {
+        ddiTenant.destroy();
+        executorService.shutdownNow();
+    }
+
+    private UpdateHandler.UpdateProcessor getUpdateProcessor(
+            final DdiController controller, final DdiDeployment.HandlingType updateType, final List<DdiChunk> modules) {
+        return new SimulatedUpdateProcessor(controller, updateType, modules);
+    }
+
+    private static ThreadFactory threadFactory() {
+        final AtomicLong count = new AtomicLong(0);
+        return runnable -> {
+            final Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName(String.format(Locale.ROOT, "ddi-fleet-%d", count.getAndIncrement()));
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Configuration of the simulated devices.
+     */
+    @Getter
+    @Builder
+    public static class Simulation {
+
+        // threads of the executor shared by all devices
+        @Builder.Default
+        private final int threads = Runtime.getRuntime().availableProcessors() * 4;
+        // overrides the poll interval returned by the server, -1 means disabled
+        @Builder.Default
+        private final long pollMillis = -1;
+        // random deviation of the poll interval, e.g. 0.1 means +/- 10%
+        @Builder.Default
+        private final double pollJitter = 0.1;
+        // time the device takes to process an update before reporting its result
+        @Builder.Default
+        private final long feedbackLatencyMillis = 0;
+        // probability (0 - 1) an update to fail
+        @Builder.Default
+        private final double failureRate = 0;
+    }
+
+    // processes the update after the feedback latency, without blocking a thread of the shared executor meanwhile
+    private class SimulatedUpdateProcessor extends UpdateHandler.UpdateProcessor {
+
+        private SimulatedUpdateProcessor(
+                final DdiController controller, final DdiDeployment.HandlingType updateType, final List<DdiChunk> modules) {
+            super(controller, updateType, modules, ArtifactHandler.SKIP);
+        }
+
+        @Override
+        public void run() {
+            if (simulation.getFeedbackLatencyMillis() > 0) {
+                executorService.schedule(super::run, simulation.getFeedbackLatencyMillis(), TimeUnit.MILLISECONDS);
+            } else {
+                super.run();
+            }
+        }
+
+        @Override
+        protected UpdateStatus update() {
+            if (ThreadLocalRandom.current().nextDouble() < simulation.getFailureRate()) {
+                return new UpdateStatus(UpdateStatus.Status.FAILURE, List.of("Simulated update failure."));
+            }
+            return super.update();
+        }
+    }
+}
@@ -16,6 +16,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import lombok.Getter;
 import org.eclipse.hawkbit.sdk.Controller;
 import org.eclipse.hawkbit.sdk.HawkbitClient;
+import org.eclipse.hawkbit.sdk.LatencyRecorder;
 import org.eclipse.hawkbit.sdk.Tenant;
 
 /**
@@ -42,7 +43,12 @@ public class DdiTenant {
     }
 
     public DdiController createController(final Controller controller, final UpdateHandler updateHandler) {
-        final DdiController ddiController = new DdiController(tenant, controller, updateHandler, hawkbitClient);
+        return createController(controller, updateHandler, null);
+    }
+
+    public DdiController createController(
+            final Controller controller, final UpdateHandler updateHandler, final LatencyRecorder latencyRecorder) {
+        final DdiController ddiController = new DdiController(tenant, controller, updateHandler, hawkbitClient, latencyRecorder);
         controllers.put(controller.getControllerId(), ddiController);
         return ddiController;
     }
@@ -50,6 +50,8 @@ public class DmfController {
 
     @SuppressWarnings("java:S3077") // volatile used only for the reference as expected
     private volatile ScheduledExecutorService executorService;
+    // if the executor is shared between many controllers it shall not be shut down on stop
+    private volatile boolean sharedExecutor;
 
     /**
      * Creates a new device instance.
@@ -76,8 +78,19 @@ public class DmfController {
     }
 
     public void start(ScheduledExecutorService executorService) {
+        start(executorService, false);
+    }
+
+    /**
+     * Starts the controller.
+     *
+     * @param executorService the executor to run the updates
+     * @param shared if the executor is shared by many controllers. If so, it is not shut down on {@link #stop()}.
+     */
+    public void start(final ScheduledExecutorService executorService, final boolean shared) {
         stop();
         this.executorService = executorService;
+        this.sharedExecutor = shared;
         log.debug(LOG_PREFIX + "Connecting/Polling ...", getTenantId(), getControllerId());
         dmfSender.createOrUpdateThing(getTenantId(), getControllerId());
         log.debug(LOG_PREFIX + "Done. Create thing sent.", getTenantId(), getControllerId());
@@ -90,7 +103,7 @@ public class DmfController {
     }
 
     public void stop() {
-        if (executorService != null) {
+        if (executorService != null && !sharedExecutor) {
             executorService.shutdown();
         }
         executorService = null;
@@ -31,6 +31,8 @@ public final class SpRole {
     public static final String CONTROLLER_ROLE = "ROLE_CONTROLLER";
     /** The role which contained in the spring security context in case that a controller is authenticated, but only as 'anonymous'. */
     public static final String CONTROLLER_ROLE_ANONYMOUS = "ROLE_CONTROLLER_ANONYMOUS";
+    /** The role which contains in the spring security context in case a gateway, which acts for all controllers of a tenant, is authenticated */
+    public static final String GATEWAY_ROLE = "ROLE_GATEWAY";
 
     private static final String IMPLIES = " > ";
     private static final String LINE_BREAK = "\n";
@@ -195,6 +195,10 @@ public class HawkbitSecurityProperties {
          * Maximum number of distribution set types per target types
          */
         private int maxDistributionSetTypesPerTargetType = 50;
+        /**
+         * Maximum number of targets a gateway can register with a single bulk registration request
+         */
+        private int maxTargetsPerRegistration = 999;
 
         /**
          * Configuration for hawkBits DOS prevention filter. This is usually an